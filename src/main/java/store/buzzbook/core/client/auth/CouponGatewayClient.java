@@ -0,0 +1,137 @@
+package store.buzzbook.core.client.auth;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import store.buzzbook.core.common.exception.order.CouponStatusNotUpdatedException;
+import store.buzzbook.core.dto.coupon.CouponRequest;
+import store.buzzbook.core.dto.coupon.CouponResponse;
+import store.buzzbook.core.dto.coupon.CouponStatusResponse;
+import store.buzzbook.core.dto.coupon.UpdateCouponRequest;
+import store.buzzbook.core.entity.coupon.CouponStatus;
+
+/**
+ * 주문 처리에서 쓰는 쿠폰 서버 클라이언트
+ * 요청 헤더(JWT)를 그대로 전달해야 해서 Feign 대신 풀링된 RestTemplate으로 호출하고,
+ * 엔드포인트별 응답 시간을 히스토그램으로 기록합니다.
+ */
+@Component
+public class CouponGatewayClient {
+	private static final String REQUEST_TIMER = "coupon.client.requests";
+
+	private final RestTemplate couponRestTemplate;
+	private final MeterRegistry meterRegistry;
+	private final String baseUrl;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	public CouponGatewayClient(@Qualifier("couponRestTemplate") RestTemplate couponRestTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${api.gateway.host}") String host, @Value("${api.gateway.port}") int port) {
+		this.couponRestTemplate = couponRestTemplate;
+		this.meterRegistry = meterRegistry;
+		this.baseUrl = String.format("http://%s:%d/api/coupons", host, port);
+	}
+
+	/**
+	 * 쿠폰 상태를 조회합니다.
+	 *
+	 * @param couponCode 쿠폰 코드
+	 * @param headers 전달할 요청 헤더
+	 * @return 쿠폰 상태
+	 */
+	public CouponStatus getStatus(String couponCode, HttpHeaders headers) {
+		CouponStatusResponse response = record("info", () -> couponRestTemplate.exchange(baseUrl + "/info",
+			HttpMethod.POST, new HttpEntity<>(new CouponRequest(couponCode), headers), CouponStatusResponse.class)
+			.getBody());
+
+		if (response == null) {
+			throw new IllegalStateException("쿠폰 상태 응답이 비어 있습니다.");
+		}
+		return CouponStatus.fromString(response.status());
+	}
+
+	/**
+	 * 쿠폰 상태를 가상 스레드에서 조회합니다.
+	 * 포인트 조회 같은 다른 검증과 동시에 진행할 때 씁니다.
+	 */
+	public CompletableFuture<CouponStatus> getStatusAsync(String couponCode, HttpHeaders headers) {
+		return CompletableFuture.supplyAsync(() -> getStatus(couponCode, headers), executor);
+	}
+
+	/**
+	 * 쿠폰 상태를 변경합니다.
+	 * 쿠폰 서버가 응답하지 않거나 상태가 바뀌지 않았으면 점점 간격을 늘리며 다시 시도합니다.
+	 *
+	 * @param couponCode 쿠폰 코드
+	 * @param status 변경할 상태
+	 * @param headers 전달할 요청 헤더
+	 * @return 변경된 쿠폰
+	 */
+	@Retryable(
+		retryFor = {CouponStatusNotUpdatedException.class, ResourceAccessException.class},
+		maxAttemptsExpression = "${coupon.client.retry.max-attempts:3}",
+		backoff = @Backoff(delayExpression = "${coupon.client.retry.delay-millis:200}", multiplier = 2)
+	)
+	public CouponResponse updateStatus(String couponCode, CouponStatus status, HttpHeaders headers) {
+		CouponResponse response = record("update", () -> couponRestTemplate.exchange(baseUrl, HttpMethod.PUT,
+			new HttpEntity<>(new UpdateCouponRequest(couponCode, status), headers), CouponResponse.class).getBody());
+
+		if (response == null || response.status() != status) {
+			throw new CouponStatusNotUpdatedException();
+		}
+		return response;
+	}
+
+	/**
+	 * 비동기 조회 결과를 기다립니다. 조회 중 발생한 예외는 감싸지 않고 그대로 던집니다.
+	 */
+	public static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.close();
+	}
+
+	private <T> T record(String endpoint, Supplier<T> call) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			return call.get();
+		} catch (RuntimeException e) {
+			outcome = "failure";
+			throw e;
+		} finally {
+			sample.stop(Timer.builder(REQUEST_TIMER)
+				.tag("endpoint", endpoint)
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+		}
+	}
+}
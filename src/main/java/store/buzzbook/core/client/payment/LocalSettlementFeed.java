@@ -0,0 +1,78 @@
+package store.buzzbook.core.client.payment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import store.buzzbook.core.common.exception.order.InvalidSettlementFileException;
+import store.buzzbook.core.common.exception.order.SettlementFileNotFoundException;
+import store.buzzbook.core.dto.payment.SettlementRecord;
+import store.buzzbook.core.entity.payment.BillStatus;
+
+/**
+ * 로컬 디렉터리의 정산 파일(settlement-yyyyMMdd.csv)을 읽는 정산 파일 공급자
+ * 첫 줄은 머리글(payment_key,status,approved_amount,canceled_amount)이며, 파일 전체를 읽어 두지 않고 한 줄씩 변환합니다.
+ */
+@Component
+public class LocalSettlementFeed implements SettlementFeed {
+	private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+	private final ResourceLoader resourceLoader;
+	private final String location;
+
+	public LocalSettlementFeed(ResourceLoader resourceLoader,
+		@Value("${settlement.feed.location:file:./settlement/}") String location) {
+		this.resourceLoader = resourceLoader;
+		this.location = location;
+	}
+
+	@Override
+	public Stream<SettlementRecord> read(LocalDate settlementDate) {
+		Resource resource = resourceLoader.getResource(
+			location + "settlement-" + FILE_DATE.format(settlementDate) + ".csv");
+		if (!resource.exists()) {
+			throw new SettlementFileNotFoundException();
+		}
+
+		try {
+			BufferedReader reader = new BufferedReader(
+				new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
+			return reader.lines()
+				.skip(1)
+				.filter(line -> !line.isBlank())
+				.map(LocalSettlementFeed::parse)
+				.onClose(() -> {
+					try {
+						reader.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static SettlementRecord parse(String line) {
+		String[] columns = line.split(",", -1);
+		if (columns.length != 4 || columns[0].isBlank()) {
+			throw new InvalidSettlementFileException();
+		}
+		try {
+			return new SettlementRecord(columns[0].trim(), BillStatus.valueOf(columns[1].trim()),
+				Long.parseLong(columns[2].trim()), Long.parseLong(columns[3].trim()));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidSettlementFileException();
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package store.buzzbook.core.client.payment;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import store.buzzbook.core.dto.payment.SettlementRecord;
+
+/**
+ * PG 정산 파일 공급자
+ * 정산 파일을 한 줄씩 읽는 스트림을 돌려주며, 다 쓴 스트림은 닫아야 합니다.
+ */
+public interface SettlementFeed {
+	Stream<SettlementRecord> read(LocalDate settlementDate);
+}
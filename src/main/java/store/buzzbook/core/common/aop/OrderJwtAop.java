@@ -8,23 +8,21 @@ import java.util.Objects;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import store.buzzbook.core.client.auth.AuthClient;
 import store.buzzbook.core.common.exception.auth.AuthorizeFailException;
 import store.buzzbook.core.service.auth.AuthService;
+import store.buzzbook.core.service.auth.JwtClaimResolver;
 
 @Aspect
 @RequiredArgsConstructor
 @Component
 @Slf4j
 public class OrderJwtAop {
-	private final AuthClient authClient;
+	private final JwtClaimResolver jwtClaimResolver;
 	private final HttpServletRequest request;
 
 	@Before("@annotation(store.buzzbook.core.common.annotation.JwtOrderValidate)")
@@ -83,18 +81,6 @@ public class OrderJwtAop {
 		String accessToken = request.getHeader(TOKEN_HEADER);
 		String refreshToken = request.getHeader(REFRESH_HEADER);
 
-		ResponseEntity<Map<String, Object>> responseEntity = authClient.getUserInfo(accessToken, refreshToken);
-
-		if (Objects.isNull(responseEntity.getBody())) {
-			log.debug("토큰 인증에 실패 했습니다. : null point exception");
-			throw new AuthorizeFailException("Invalid access token");
-		}
-
-		if (responseEntity.getStatusCode().equals(HttpStatus.UNAUTHORIZED)) {
-			throw new AuthorizeFailException((String)responseEntity.getBody().get(ERROR),
-				(String)responseEntity.getBody().get(MESSAGE));
-		}
-
-		return responseEntity.getBody();
+		return jwtClaimResolver.resolve(accessToken, refreshToken);
 	}
 }
@@ -22,6 +22,9 @@ public class CacheConfig {
 			new ClassPathResource("/cache/ehcache.xml").getURI(),
 			getClass().getClassLoader());
 
-		return new JCacheCacheManager(manager);
+		JCacheCacheManager cacheManager = new JCacheCacheManager(manager);
+		// 트랜잭션 안에서의 캐시 삭제는 커밋 뒤에 반영해, 커밋 전 값이 다시 캐시되지 않게 합니다.
+		cacheManager.setTransactionAware(true);
+		return cacheManager;
 	}
 }
@@ -0,0 +1,65 @@
+package store.buzzbook.core.common.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 쿠폰 서버 호출용 RestTemplate 설정
+ * 연결을 풀링해 keep-alive로 재사용하고, 연결/응답 대기 시간을 제한합니다.
+ */
+@Configuration
+public class CouponClientConfig {
+
+	@Value("${coupon.client.max-connections:50}")
+	private int maxConnections;
+
+	@Value("${coupon.client.connect-timeout-millis:1000}")
+	private long connectTimeoutMillis;
+
+	@Value("${coupon.client.read-timeout-millis:3000}")
+	private long readTimeoutMillis;
+
+	@Value("${coupon.client.keep-alive-millis:30000}")
+	private long keepAliveMillis;
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient couponHttpClient() {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxConnections)
+			.setMaxConnPerRoute(maxConnections)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+				.setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+				.setTimeToLive(TimeValue.ofMilliseconds(keepAliveMillis))
+				.build())
+			.build();
+
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+				.setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+				.build())
+			.setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMillis))
+			.evictIdleConnections(TimeValue.of(keepAliveMillis, TimeUnit.MILLISECONDS))
+			.build();
+	}
+
+	@Bean
+	public RestTemplate couponRestTemplate(CloseableHttpClient couponHttpClient) {
+		return new RestTemplate(new HttpComponentsClientHttpRequestFactory(couponHttpClient));
+	}
+}
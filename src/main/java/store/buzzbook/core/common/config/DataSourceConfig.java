@@ -57,6 +57,7 @@ public class DataSourceConfig {
 		basicDataSource.setMaxTotal(mySQLProperties.getMaxTotal());
 		basicDataSource.setInitialSize(mySQLProperties.getInitialSize());
 		basicDataSource.setMinIdle(mySQLProperties.getMinIdle());
+		basicDataSource.addConnectionProperty("rewriteBatchedStatements", "true");
 
 		basicDataSource.setValidationQuery("SELECT 1");
 		basicDataSource.setTestOnReturn(false);
@@ -1,8 +1,10 @@
 package store.buzzbook.core.common.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
@@ -21,10 +23,19 @@ public class RabbitmqConfig {
 	public static final String REQUEST_QUEUE_NAME = "aa.coupon.queue";
 	public static final String REQUEST_ROUTING_KEY = "aa.coupon.key";
 
+	public static final String BIRTHDAY_QUEUE_NAME = "aa.coupon.birthday.queue";
+	public static final String BIRTHDAY_ROUTING_KEY = "aa.coupon.birthday.key";
+
 	public static final String DLX_EXCHANGE_NAME = "aa.coupon.dlx.exchange";
 	public static final String DLQ_QUEUE_NAME = "aa.coupon.dlx.queue";
 	public static final String DLQ_ROUTING_KEY = "aa.coupon.dlx.key";
 
+	public static final String ORDER_EVENT_EXCHANGE_NAME = "aa.order.exchange";
+	public static final String ORDER_EVENT_QUEUE_NAME = "aa.order.queue";
+	public static final String ORDER_EVENT_ROUTING_KEY = "aa.order.key";
+
+	public static final String CACHE_EVICT_EXCHANGE_NAME = "aa.cache.evict.exchange";
+
 	@Value("${spring.rabbitmq.host}")
 	private String host;
 
@@ -55,6 +66,55 @@ public class RabbitmqConfig {
 		return BindingBuilder.bind(requestQueue).to(requestExchange).with(REQUEST_ROUTING_KEY);
 	}
 
+	@Bean
+	Queue birthdayQueue() {
+		return QueueBuilder.durable(BIRTHDAY_QUEUE_NAME)
+			.withArgument("x-dead-letter-exchange", DLX_EXCHANGE_NAME)
+			.withArgument("x-dead-letter-routing-key", DLQ_ROUTING_KEY)
+			.build();
+	}
+
+	@Bean
+	Binding birthdayBinding(DirectExchange requestExchange, Queue birthdayQueue) {
+		return BindingBuilder.bind(birthdayQueue).to(requestExchange).with(BIRTHDAY_ROUTING_KEY);
+	}
+
+	@Bean
+	DirectExchange orderEventExchange() {
+		return new DirectExchange(ORDER_EVENT_EXCHANGE_NAME);
+	}
+
+	@Bean
+	Queue orderEventQueue() {
+		return QueueBuilder.durable(ORDER_EVENT_QUEUE_NAME)
+			.withArgument("x-dead-letter-exchange", DLX_EXCHANGE_NAME)
+			.withArgument("x-dead-letter-routing-key", DLQ_ROUTING_KEY)
+			.build();
+	}
+
+	@Bean
+	Binding orderEventBinding(DirectExchange orderEventExchange, Queue orderEventQueue) {
+		return BindingBuilder.bind(orderEventQueue).to(orderEventExchange).with(ORDER_EVENT_ROUTING_KEY);
+	}
+
+	@Bean
+	FanoutExchange cacheEvictExchange() {
+		return new FanoutExchange(CACHE_EVICT_EXCHANGE_NAME);
+	}
+
+	/**
+	 * 캐시 삭제는 모든 노드가 받아야 하므로 노드마다 이름 없는 임시 큐를 만들어 묶습니다.
+	 */
+	@Bean
+	Queue cacheEvictQueue() {
+		return new AnonymousQueue();
+	}
+
+	@Bean
+	Binding cacheEvictBinding(FanoutExchange cacheEvictExchange, Queue cacheEvictQueue) {
+		return BindingBuilder.bind(cacheEvictQueue).to(cacheEvictExchange);
+	}
+
 	@Bean
 	DirectExchange dlxExchange() {
 		return new DirectExchange(DLX_EXCHANGE_NAME);
@@ -77,6 +137,8 @@ public class RabbitmqConfig {
 		connectionFactory.setPort(port);
 		connectionFactory.setUsername(username);
 		connectionFactory.setPassword(password);
+		// 대량 발행은 채널 단위로 발행 확인을 기다립니다.
+		connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
 		return connectionFactory;
 	}
 
@@ -0,0 +1,12 @@
+package store.buzzbook.core.common.dto;
+
+import java.util.List;
+
+/**
+ * 다른 노드에 보내는 캐시 삭제 메시지. 키는 문자열로 보내고 받는 쪽에서 캐시의 키 타입으로 바꿉니다.
+ */
+public record CacheEvictMessage(
+	String cacheName,
+	List<String> keys
+) {
+}
@@ -0,0 +1,7 @@
+package store.buzzbook.core.common.exception.cart;
+
+public class CartConflictException extends RuntimeException {
+	public CartConflictException(String uuid) {
+		super("다른 요청과 겹쳐 장바구니를 바꾸지 못했습니다. 다시 시도해 주세요. : " + uuid);
+	}
+}
@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.exception.cart.CartConflictException;
 import store.buzzbook.core.common.exception.cart.InvalidCartUuidException;
 
 @Slf4j
@@ -16,4 +17,10 @@ public class CartExceptionHandler {
 		log.debug("Handling InvalidCartUuidException : {}", e.getMessage());
 		return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 	}
+
+	@ExceptionHandler(CartConflictException.class)
+	public ResponseEntity<String> handleCartConflictException(CartConflictException e) {
+		log.debug("Handling CartConflictException : {}", e.getMessage());
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+	}
 }
@@ -16,6 +16,11 @@ import store.buzzbook.core.common.exception.order.AlreadyShippingOutException;
 import store.buzzbook.core.common.exception.order.DeliveryPolicyNotFoundException;
 import store.buzzbook.core.common.exception.order.DuplicateBillLogException;
 import store.buzzbook.core.common.exception.order.ExpiredToRefundException;
+import store.buzzbook.core.common.exception.order.IdempotencyConflictException;
+import store.buzzbook.core.common.exception.order.InvalidOrderCursorException;
+import store.buzzbook.core.common.exception.order.InvalidOrderStatusTransitionException;
+import store.buzzbook.core.common.exception.order.InvalidRevenuePeriodException;
+import store.buzzbook.core.common.exception.order.InvalidSettlementFileException;
 import store.buzzbook.core.common.exception.order.JSONParsingException;
 import store.buzzbook.core.common.exception.order.NotPaidException;
 import store.buzzbook.core.common.exception.order.OrderDetailNotFoundException;
@@ -25,6 +30,7 @@ import store.buzzbook.core.common.exception.order.OutOfCouponException;
 import store.buzzbook.core.common.exception.order.OutOfPointsException;
 import store.buzzbook.core.common.exception.order.ProductNotFoundException;
 import store.buzzbook.core.common.exception.order.ProductOutOfStockException;
+import store.buzzbook.core.common.exception.order.SettlementFileNotFoundException;
 import store.buzzbook.core.common.exception.order.WrappingNotFoundException;
 
 @Slf4j
@@ -32,7 +38,7 @@ import store.buzzbook.core.common.exception.order.WrappingNotFoundException;
 public class OrderExceptionHandler extends ResponseEntityExceptionHandler {
 	@ExceptionHandler(value = {DeliveryPolicyNotFoundException.class, OrderStatusNotFoundException.class,
 		ProductNotFoundException.class, WrappingNotFoundException.class, AddressNotFoundException.class,
-		OrderNotFoundException.class, OrderDetailNotFoundException.class})
+		OrderNotFoundException.class, OrderDetailNotFoundException.class, SettlementFileNotFoundException.class})
 	public ResponseEntity<String> handleOrderNotFound(Exception ex, WebRequest request) {
 		log.debug("Handling order exception : {}", ex.getMessage());
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
@@ -50,13 +56,16 @@ public class OrderExceptionHandler extends ResponseEntityExceptionHandler {
 		return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
 	}
 
-	@ExceptionHandler(value = {AlreadyRefundedException.class, AlreadyShippingOutException.class, AlreadyCanceledException.class})
+	@ExceptionHandler(value = {AlreadyRefundedException.class, AlreadyShippingOutException.class, AlreadyCanceledException.class,
+		IdempotencyConflictException.class})
 	public ResponseEntity<String> handleOrderAlreadyExists(Exception ex, WebRequest request) {
 		log.debug("Handling order exception : {}", ex.getMessage());
 		return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
 	}
 
-	@ExceptionHandler(value = {NotPaidException.class})
+	@ExceptionHandler(value = {NotPaidException.class, InvalidOrderCursorException.class,
+		InvalidSettlementFileException.class, InvalidRevenuePeriodException.class,
+		InvalidOrderStatusTransitionException.class})
 	public ResponseEntity<String> handleOrderIllegalRequest(Exception ex, WebRequest request) {
 		log.debug("Handling order exception : {}", ex.getMessage());
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
@@ -0,0 +1,7 @@
+package store.buzzbook.core.common.exception.order;
+
+public class IdempotencyConflictException extends RuntimeException {
+	public IdempotencyConflictException() {
+		super("request with the same idempotency key is in progress");
+	}
+}
@@ -0,0 +1,7 @@
+package store.buzzbook.core.common.exception.order;
+
+public class InvalidOrderCursorException extends RuntimeException {
+	public InvalidOrderCursorException() {
+		super("invalid order cursor");
+	}
+}
@@ -0,0 +1,7 @@
+package store.buzzbook.core.common.exception.order;
+
+public class InvalidOrderStatusTransitionException extends RuntimeException {
+	public InvalidOrderStatusTransitionException(String orderStatusName) {
+		super("order status cannot be changed in bulk : " + orderStatusName);
+	}
+}
@@ -0,0 +1,7 @@
+package store.buzzbook.core.common.exception.order;
+
+public class InvalidRevenuePeriodException extends RuntimeException {
+	public InvalidRevenuePeriodException() {
+		super("invalid revenue period");
+	}
+}
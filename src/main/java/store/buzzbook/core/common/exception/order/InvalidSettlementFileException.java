@@ -0,0 +1,7 @@
+package store.buzzbook.core.common.exception.order;
+
+public class InvalidSettlementFileException extends RuntimeException {
+	public InvalidSettlementFileException() {
+		super("invalid settlement file");
+	}
+}
@@ -0,0 +1,7 @@
+package store.buzzbook.core.common.exception.order;
+
+public class SettlementFileNotFoundException extends RuntimeException {
+	public SettlementFileNotFoundException() {
+		super("settlement file not found");
+	}
+}
@@ -0,0 +1,24 @@
+package store.buzzbook.core.common.service;
+
+import java.util.Collection;
+
+import store.buzzbook.core.common.dto.CacheEvictMessage;
+
+public interface CacheEvictionService {
+
+	/**
+	 * 이 노드의 캐시에서 키들을 지우고 다른 노드에도 지우도록 알립니다.
+	 * 트랜잭션 안에서 호출하면 커밋 뒤에 지우고 알리며, 알리지 못하면 다른 노드에는 캐시 만료 시간까지 이전 값이 남습니다.
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param keys 지울 키 목록
+	 */
+	void evict(String cacheName, Collection<?> keys);
+
+	/**
+	 * 다른 노드가 보낸 캐시 삭제를 이 노드의 캐시에 반영합니다.
+	 *
+	 * @param message 캐시 삭제 메시지
+	 */
+	void consume(CacheEvictMessage message);
+}
@@ -0,0 +1,22 @@
+package store.buzzbook.core.common.service;
+
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키로 같은 요청이 한 번만 처리되도록 보장합니다.
+ */
+public interface IdempotencyService {
+	String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	/**
+	 * 키로 처음 들어온 요청이면 작업을 실행하고 결과를 저장합니다.
+	 * 이미 완료된 키면 저장된 결과를 돌려주고, 처리 중인 키면 예외를 던집니다.
+	 * 작업이 실패하면 키를 지워 다시 시도할 수 있게 합니다.
+	 *
+	 * @param key 멱등성 키
+	 * @param responseType 응답 타입
+	 * @param action 실행할 작업
+	 * @return 작업 결과 또는 저장된 결과
+	 */
+	<T> T execute(String key, Class<T> responseType, Supplier<T> action);
+}
@@ -0,0 +1,39 @@
+package store.buzzbook.core.common.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 서버 중 한 실행만 배치 작업을 돌리도록 DB 잠금을 잡습니다.
+ * 잠금을 잡을 때마다 새 토큰을 발급하고, 늘리기와 반납은 그 토큰으로만 할 수 있습니다.
+ */
+public interface JobLockService {
+	/**
+	 * 작업 잠금을 잡습니다.
+	 * 잠금이 살아 있으면 같은 서버가 잡은 잠금이라도 잡지 못합니다.
+	 *
+	 * @param name 작업 이름
+	 * @param lease 잠금을 유지할 시간, 그동안 늘리지 않으면 다른 실행이 가져갈 수 있음
+	 * @return 잠금을 잡았으면 이번 실행의 잠금 토큰
+	 */
+	Optional<String> tryLock(String name, Duration lease);
+
+	/**
+	 * 토큰으로 잡은 작업 잠금의 만료 시각을 늘립니다.
+	 *
+	 * @param name 작업 이름
+	 * @param token 잠금을 잡을 때 받은 토큰
+	 * @param lease 지금부터 잠금을 유지할 시간
+	 * @return 아직 이 토큰의 잠금이라 늘렸으면 true
+	 */
+	boolean renew(String name, String token, Duration lease);
+
+	/**
+	 * 토큰으로 잡은 작업 잠금을 바로 만료시킵니다.
+	 * 그사이 다른 실행이 가져간 잠금은 건드리지 않습니다.
+	 *
+	 * @param name 작업 이름
+	 * @param token 잠금을 잡을 때 받은 토큰
+	 */
+	void unlock(String name, String token);
+}
@@ -0,0 +1,48 @@
+package store.buzzbook.core.common.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import store.buzzbook.core.entity.order.DeliveryPolicy;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.order.Wrapping;
+import store.buzzbook.core.entity.point.PointPolicy;
+import store.buzzbook.core.entity.user.Grade;
+import store.buzzbook.core.entity.user.GradeName;
+
+/**
+ * 주문 상태, 포장, 배송비 정책, 포인트 정책, 등급처럼 거의 바뀌지 않는 기준 데이터를 메모리에서 제공합니다.
+ * 조회 결과는 영속성 컨텍스트에 속하지 않은 엔티티이므로 수정하지 말고 연관관계 설정과 값 조회에만 사용합니다.
+ */
+public interface ReferenceDataRegistry {
+
+	OrderStatus getOrderStatus(String name);
+
+	List<OrderStatus> getOrderStatuses();
+
+	Optional<Wrapping> getWrapping(int id);
+
+	Wrapping getWrappingByPaper(String paper);
+
+	List<Wrapping> getWrappings();
+
+	Optional<DeliveryPolicy> getDeliveryPolicy(int id);
+
+	List<DeliveryPolicy> getDeliveryPolicies();
+
+	PointPolicy getPointPolicy(String name);
+
+	Optional<Grade> getGrade(GradeName name);
+
+	Optional<Grade> getGrade(int id);
+
+	/**
+	 * 기준 데이터를 다시 읽어 스냅샷을 교체합니다.
+	 */
+	void reload();
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤 기준 데이터를 다시 읽습니다. 트랜잭션이 없으면 바로 다시 읽습니다.
+	 */
+	void reloadAfterCommit();
+}
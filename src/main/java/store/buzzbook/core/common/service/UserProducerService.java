@@ -1,8 +1,19 @@
 package store.buzzbook.core.common.service;
 
+import java.util.List;
+
+import store.buzzbook.core.dto.coupon.CreateBirthdayCouponRequest;
 import store.buzzbook.core.dto.coupon.CreateWelcomeCouponRequest;
 
 public interface UserProducerService {
 
 	void sendWelcomeCouponRequest(CreateWelcomeCouponRequest request);
+
+	/**
+	 * 생일 쿠폰 발급 요청을 한 채널로 발행하고 브로커의 발행 확인을 기다립니다.
+	 * 확인을 받지 못하면 AmqpException 을 던지며, 이때 일부는 발행되었을 수 있으므로 컨슈머는 멱등하게 처리합니다.
+	 *
+	 * @param requests 생일 쿠폰 발급 요청 목록
+	 */
+	void sendBirthdayCouponRequests(List<CreateBirthdayCouponRequest> requests);
 }
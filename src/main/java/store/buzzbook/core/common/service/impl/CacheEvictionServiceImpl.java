@@ -0,0 +1,104 @@
+package store.buzzbook.core.common.service.impl;
+
+import static store.buzzbook.core.common.config.RabbitmqConfig.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import javax.cache.configuration.Configuration;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.dto.CacheEvictMessage;
+import store.buzzbook.core.common.service.CacheEvictionService;
+
+/**
+ * 노드마다 따로 두는 로컬 캐시의 삭제를 팬아웃 익스체인지로 모든 노드에 퍼뜨립니다.
+ * 보낸 노드도 자기 메시지를 받지만 이미 지운 키를 한 번 더 지울 뿐입니다.
+ */
+@Slf4j
+@Service
+public class CacheEvictionServiceImpl implements CacheEvictionService {
+	private static final String METRIC_NAME = "cache.evict.publish";
+
+	private final CacheManager cacheManager;
+	private final RabbitTemplate rabbitTemplate;
+	private final Counter publishedCounter;
+	private final Counter failedCounter;
+
+	public CacheEvictionServiceImpl(CacheManager cacheManager, RabbitTemplate rabbitTemplate,
+		MeterRegistry meterRegistry) {
+		this.cacheManager = cacheManager;
+		this.rabbitTemplate = rabbitTemplate;
+		this.publishedCounter = meterRegistry.counter(METRIC_NAME, "result", "published");
+		this.failedCounter = meterRegistry.counter(METRIC_NAME, "result", "failed");
+	}
+
+	@Override
+	public void evict(String cacheName, Collection<?> keys) {
+		List<?> targets = keys.stream().filter(Objects::nonNull).distinct().toList();
+		if (targets.isEmpty()) {
+			return;
+		}
+
+		// 트랜잭션을 인식하는 캐시라 트랜잭션 안에서는 커밋 뒤에 지워집니다.
+		Cache cache = cacheManager.getCache(cacheName);
+		if (cache != null) {
+			targets.forEach(cache::evict);
+		}
+
+		CacheEvictMessage message = new CacheEvictMessage(cacheName,
+			targets.stream().map(String::valueOf).toList());
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(message);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publish(message);
+			}
+		});
+	}
+
+	@Override
+	@RabbitListener(queues = "#{cacheEvictQueue.name}")
+	public void consume(CacheEvictMessage message) {
+		Cache cache = cacheManager.getCache(message.cacheName());
+		if (cache == null) {
+			return;
+		}
+		message.keys().forEach(key -> cache.evict(toKey(cache, key)));
+	}
+
+	private void publish(CacheEvictMessage message) {
+		try {
+			rabbitTemplate.convertAndSend(CACHE_EVICT_EXCHANGE_NAME, "", message);
+			publishedCounter.increment();
+		} catch (AmqpException e) {
+			// 이미 커밋된 변경이므로 실패를 던지지 않고, 다른 노드의 캐시는 만료 시간에 맡깁니다.
+			failedCounter.increment();
+			log.warn("캐시 삭제 전파 실패 cache={} keys={} : {}", message.cacheName(), message.keys().size(),
+				e.getMessage());
+		}
+	}
+
+	private Object toKey(Cache cache, String key) {
+		if (cache.getNativeCache() instanceof javax.cache.Cache<?, ?> nativeCache
+			&& Long.class.equals(nativeCache.getConfiguration(Configuration.class).getKeyType())) {
+			return Long.valueOf(key);
+		}
+		return key;
+	}
+}
@@ -0,0 +1,139 @@
+package store.buzzbook.core.common.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.exception.order.IdempotencyConflictException;
+import store.buzzbook.core.common.exception.order.JSONParsingException;
+import store.buzzbook.core.common.service.IdempotencyService;
+import store.buzzbook.core.entity.order.IdempotencyRecord;
+import store.buzzbook.core.repository.order.IdempotencyRecordRepository;
+
+/**
+ * 유니크 제약이 걸린 테이블로 키를 선점하고, 최근 완료된 키는 메모리 LRU에 두어 DB를 거치지 않고 응답합니다.
+ * 키 선점과 완료 기록은 별도 트랜잭션으로 바로 커밋해 동시에 들어온 요청이 즉시 볼 수 있게 합니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+	private final IdempotencyRecordRepository idempotencyRecordRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate requiresNew;
+	private final Duration lease;
+	private final Duration retention;
+	private final Map<String, String> recentResponses;
+
+	public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository, ObjectMapper objectMapper,
+		PlatformTransactionManager transactionManager,
+		@Value("${idempotency.cache-size:10000}") int cacheSize,
+		@Value("${idempotency.lease-seconds:60}") long leaseSeconds,
+		@Value("${idempotency.retention-hours:24}") long retentionHours) {
+		this.idempotencyRecordRepository = idempotencyRecordRepository;
+		this.objectMapper = objectMapper;
+		this.requiresNew = new TransactionTemplate(transactionManager);
+		this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.lease = Duration.ofSeconds(leaseSeconds);
+		this.retention = Duration.ofHours(retentionHours);
+		this.recentResponses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > cacheSize;
+			}
+		});
+	}
+
+	@Override
+	public <T> T execute(String key, Class<T> responseType, Supplier<T> action) {
+		String cached = recentResponses.get(key);
+		if (cached != null) {
+			return read(cached, responseType);
+		}
+
+		if (!claim(key)) {
+			IdempotencyRecord existing = requiresNew.execute(
+				status -> idempotencyRecordRepository.findByIdempotencyKey(key).orElse(null));
+
+			if (existing != null && existing.getStatus() == IdempotencyRecord.Status.COMPLETED) {
+				recentResponses.put(key, existing.getResponse());
+				return read(existing.getResponse(), responseType);
+			}
+			// 앞선 요청이 실패해 키가 지워졌다면 한 번 더 선점을 시도합니다.
+			if (existing != null || !claim(key)) {
+				throw new IdempotencyConflictException();
+			}
+		}
+
+		T response;
+		try {
+			response = action.get();
+		} catch (RuntimeException e) {
+			requiresNew.executeWithoutResult(status -> idempotencyRecordRepository.deleteByIdempotencyKey(key));
+			throw e;
+		}
+
+		String json = write(response);
+		requiresNew.executeWithoutResult(status -> idempotencyRecordRepository.complete(key,
+			IdempotencyRecord.Status.COMPLETED, json));
+		recentResponses.put(key, json);
+		return response;
+	}
+
+	/**
+	 * 보관 기간이 지난 키를 지웁니다.
+	 */
+	@Scheduled(cron = "${idempotency.purge-cron:0 0 4 * * *}")
+	public void purge() {
+		Integer deleted = requiresNew.execute(status -> idempotencyRecordRepository.deleteCreatedBefore(
+			LocalDateTime.now().minus(retention)));
+		log.info("보관 기간이 지난 멱등성 키 {}건 삭제", deleted);
+	}
+
+	private boolean claim(String key) {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			requiresNew.executeWithoutResult(status -> idempotencyRecordRepository.saveAndFlush(
+				IdempotencyRecord.builder()
+					.idempotencyKey(key)
+					.status(IdempotencyRecord.Status.IN_PROGRESS)
+					.createdAt(now)
+					.build()));
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			Integer reclaimed = requiresNew.execute(status -> idempotencyRecordRepository.reclaim(key,
+				IdempotencyRecord.Status.IN_PROGRESS, now.minus(lease), now));
+			return reclaimed != null && reclaimed == 1;
+		}
+	}
+
+	private String write(Object response) {
+		try {
+			return objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new JSONParsingException();
+		}
+	}
+
+	private <T> T read(String json, Class<T> responseType) {
+		try {
+			return objectMapper.readValue(json, responseType);
+		} catch (JsonProcessingException e) {
+			throw new JSONParsingException();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package store.buzzbook.core.common.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.service.JobLockService;
+import store.buzzbook.core.repository.common.JobLockRepository;
+
+/**
+ * 작업 이름마다 job_lock 행 하나를 두고 잠근 실행의 토큰과 만료 시각을 기록합니다.
+ * 토큰은 잠금을 잡을 때마다 새로 만들어, 같은 서버의 두 실행도 서로의 잠금을 늘리거나 반납하지 못합니다.
+ * 잠금 획득과 반납은 별도 트랜잭션으로 바로 커밋해 다른 서버가 즉시 볼 수 있게 하고, 서버가 내려가도 만료 시각이 지나면 다른 서버가 가져갑니다.
+ */
+@Slf4j
+@Service
+public class JobLockServiceImpl implements JobLockService {
+	private final JobLockRepository jobLockRepository;
+	private final TransactionTemplate requiresNew;
+
+	public JobLockServiceImpl(JobLockRepository jobLockRepository, PlatformTransactionManager transactionManager) {
+		this.jobLockRepository = jobLockRepository;
+		this.requiresNew = new TransactionTemplate(transactionManager);
+		this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Override
+	public Optional<String> tryLock(String name, Duration lease) {
+		String token = UUID.randomUUID().toString();
+		LocalDateTime now = LocalDateTime.now();
+		boolean acquired = Boolean.TRUE.equals(
+			requiresNew.execute(status -> jobLockRepository.acquire(name, token, now, now.plus(lease))));
+		if (!acquired) {
+			log.info("작업 {} 을 다른 실행이 잠그고 있습니다.", name);
+			return Optional.empty();
+		}
+		return Optional.of(token);
+	}
+
+	@Override
+	public boolean renew(String name, String token, Duration lease) {
+		LocalDateTime until = LocalDateTime.now().plus(lease);
+		Integer renewed = requiresNew.execute(status -> jobLockRepository.renew(name, token, until));
+		return renewed != null && renewed == 1;
+	}
+
+	@Override
+	public void unlock(String name, String token) {
+		requiresNew.executeWithoutResult(status -> jobLockRepository.release(name, token, LocalDateTime.now()));
+	}
+}
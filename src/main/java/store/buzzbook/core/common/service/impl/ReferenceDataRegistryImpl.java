@@ -0,0 +1,210 @@
+package store.buzzbook.core.common.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
+import store.buzzbook.core.entity.order.DeliveryPolicy;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.order.Wrapping;
+import store.buzzbook.core.entity.point.PointPolicy;
+import store.buzzbook.core.entity.user.Grade;
+import store.buzzbook.core.entity.user.GradeName;
+import store.buzzbook.core.repository.order.DeliveryPolicyRepository;
+import store.buzzbook.core.repository.order.OrderStatusRepository;
+import store.buzzbook.core.repository.order.WrappingRepository;
+import store.buzzbook.core.repository.point.PointPolicyRepository;
+import store.buzzbook.core.repository.user.GradeRepository;
+
+/**
+ * 기준 데이터를 불변 스냅샷으로 들고 있다가 변경 시 통째로 교체합니다.
+ * 조회는 잠금 없이 현재 스냅샷만 읽고, 이름으로 찾지 못하면 다른 노드의 변경일 수 있으므로
+ * 최소 간격을 두고 한 번 다시 읽어 봅니다.
+ */
+@Slf4j
+@Service
+public class ReferenceDataRegistryImpl implements ReferenceDataRegistry {
+	private static final long MISS_RELOAD_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+	private static final String METRIC_PREFIX = "reference.data";
+
+	private final OrderStatusRepository orderStatusRepository;
+	private final WrappingRepository wrappingRepository;
+	private final DeliveryPolicyRepository deliveryPolicyRepository;
+	private final PointPolicyRepository pointPolicyRepository;
+	private final GradeRepository gradeRepository;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+	private volatile long lastReloadAt;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Timer reloadTimer;
+
+	public ReferenceDataRegistryImpl(OrderStatusRepository orderStatusRepository,
+		WrappingRepository wrappingRepository, DeliveryPolicyRepository deliveryPolicyRepository,
+		PointPolicyRepository pointPolicyRepository, GradeRepository gradeRepository, MeterRegistry meterRegistry) {
+		this.orderStatusRepository = orderStatusRepository;
+		this.wrappingRepository = wrappingRepository;
+		this.deliveryPolicyRepository = deliveryPolicyRepository;
+		this.pointPolicyRepository = pointPolicyRepository;
+		this.gradeRepository = gradeRepository;
+		this.hitCounter = meterRegistry.counter(METRIC_PREFIX + ".lookup", "result", "hit");
+		this.missCounter = meterRegistry.counter(METRIC_PREFIX + ".lookup", "result", "miss");
+		this.reloadTimer = meterRegistry.timer(METRIC_PREFIX + ".reload");
+	}
+
+	@Override
+	public OrderStatus getOrderStatus(String name) {
+		return lookup(s -> s.orderStatusesByName().get(name));
+	}
+
+	@Override
+	public List<OrderStatus> getOrderStatuses() {
+		return current().orderStatuses();
+	}
+
+	@Override
+	public Optional<Wrapping> getWrapping(int id) {
+		return Optional.ofNullable(lookup(s -> s.wrappingsById().get(id)));
+	}
+
+	@Override
+	public Wrapping getWrappingByPaper(String paper) {
+		return lookup(s -> s.wrappingsByPaper().get(paper));
+	}
+
+	@Override
+	public List<Wrapping> getWrappings() {
+		return current().wrappings();
+	}
+
+	@Override
+	public Optional<DeliveryPolicy> getDeliveryPolicy(int id) {
+		return Optional.ofNullable(lookup(s -> s.deliveryPoliciesById().get(id)));
+	}
+
+	@Override
+	public List<DeliveryPolicy> getDeliveryPolicies() {
+		return current().deliveryPolicies();
+	}
+
+	@Override
+	public PointPolicy getPointPolicy(String name) {
+		return lookup(s -> s.pointPoliciesByName().get(name));
+	}
+
+	@Override
+	public Optional<Grade> getGrade(GradeName name) {
+		return Optional.ofNullable(lookup(s -> s.gradesByName().get(name)));
+	}
+
+	@Override
+	public Optional<Grade> getGrade(int id) {
+		return Optional.ofNullable(lookup(s -> s.gradesById().get(id)));
+	}
+
+	@Override
+	public void reload() {
+		Snapshot loaded = reloadTimer.record(this::load);
+		snapshot.set(loaded);
+		lastReloadAt = System.nanoTime();
+		log.debug("기준 데이터 스냅샷 교체 : 주문 상태 {}, 포장 {}, 배송비 정책 {}, 포인트 정책 {}, 등급 {}",
+			loaded.orderStatuses().size(), loaded.wrappings().size(), loaded.deliveryPolicies().size(),
+			loaded.pointPoliciesByName().size(), loaded.gradesByName().size());
+	}
+
+	@Override
+	public void reloadAfterCommit() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			reload();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				reload();
+			}
+		});
+	}
+
+	private <T> T lookup(Function<Snapshot, T> finder) {
+		T found = finder.apply(current());
+		if (found != null) {
+			hitCounter.increment();
+			return found;
+		}
+
+		missCounter.increment();
+		if (System.nanoTime() - lastReloadAt > MISS_RELOAD_INTERVAL_NANOS) {
+			reload();
+			found = finder.apply(current());
+		}
+		return found;
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot.get();
+		if (current == null) {
+			synchronized (this) {
+				current = snapshot.get();
+				if (current == null) {
+					reload();
+					current = snapshot.get();
+				}
+			}
+		}
+		return current;
+	}
+
+	private Snapshot load() {
+		List<OrderStatus> orderStatuses = List.copyOf(orderStatusRepository.findAll());
+		List<Wrapping> wrappings = List.copyOf(wrappingRepository.findAll());
+		List<DeliveryPolicy> deliveryPolicies = List.copyOf(deliveryPolicyRepository.findAll());
+		List<PointPolicy> pointPolicies = pointPolicyRepository.findAll();
+		List<Grade> grades = gradeRepository.findAll();
+
+		return new Snapshot(
+			orderStatuses,
+			index(orderStatuses, OrderStatus::getName),
+			wrappings,
+			index(wrappings, Wrapping::getId),
+			index(wrappings, Wrapping::getPaper),
+			deliveryPolicies,
+			index(deliveryPolicies, DeliveryPolicy::getId),
+			pointPolicies.stream().collect(Collectors.toUnmodifiableMap(PointPolicy::getName, Function.identity(),
+				(a, b) -> a.isDeleted() ? b : a)),
+			index(grades, Grade::getName),
+			index(grades, Grade::getId));
+	}
+
+	private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+		return values.stream().collect(Collectors.toUnmodifiableMap(key, Function.identity(), (a, b) -> a));
+	}
+
+	private record Snapshot(
+		List<OrderStatus> orderStatuses,
+		Map<String, OrderStatus> orderStatusesByName,
+		List<Wrapping> wrappings,
+		Map<Integer, Wrapping> wrappingsById,
+		Map<String, Wrapping> wrappingsByPaper,
+		List<DeliveryPolicy> deliveryPolicies,
+		Map<Integer, DeliveryPolicy> deliveryPoliciesById,
+		Map<String, PointPolicy> pointPoliciesByName,
+		Map<GradeName, Grade> gradesByName,
+		Map<Integer, Grade> gradesById) {
+	}
+}
@@ -2,23 +2,46 @@ package store.buzzbook.core.common.service.impl;
 
 import static store.buzzbook.core.common.config.RabbitmqConfig.*;
 
+import java.util.List;
+
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import store.buzzbook.core.common.service.UserProducerService;
+import store.buzzbook.core.dto.coupon.CreateBirthdayCouponRequest;
 import store.buzzbook.core.dto.coupon.CreateWelcomeCouponRequest;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UserProducerServiceImpl implements UserProducerService {
 
 	private final RabbitTemplate rabbitTemplate;
+	private final long confirmTimeoutMillis;
+
+	public UserProducerServiceImpl(RabbitTemplate rabbitTemplate,
+		@Value("${coupon.birthday.confirm-timeout-millis:10000}") long confirmTimeoutMillis) {
+		this.rabbitTemplate = rabbitTemplate;
+		this.confirmTimeoutMillis = confirmTimeoutMillis;
+	}
 
 	@Override
 	public void sendWelcomeCouponRequest(CreateWelcomeCouponRequest request) {
 		rabbitTemplate.convertAndSend(REQUEST_EXCHANGE_NAME, REQUEST_ROUTING_KEY, request);
 	}
+
+	@Override
+	public void sendBirthdayCouponRequests(List<CreateBirthdayCouponRequest> requests) {
+		if (requests.isEmpty()) {
+			return;
+		}
+		rabbitTemplate.invoke(operations -> {
+			for (CreateBirthdayCouponRequest request : requests) {
+				operations.convertAndSend(REQUEST_EXCHANGE_NAME, BIRTHDAY_ROUTING_KEY, request);
+			}
+			operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+			return null;
+		});
+	}
 }
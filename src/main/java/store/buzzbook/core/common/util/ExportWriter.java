@@ -0,0 +1,192 @@
+package store.buzzbook.core.common.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회 결과를 한 행씩 CSV 또는 NDJSON으로 출력 스트림에 씁니다.
+ * 행을 모으지 않고 버퍼가 차는 대로 내보내므로 내보내는 행 수와 상관없이 메모리 사용량이 일정합니다.
+ */
+public class ExportWriter implements RowCallbackHandler, AutoCloseable {
+	private static final String MYSQL = "MySQL";
+
+	private final Format format;
+	private final Writer writer;
+	private final JsonGenerator generator;
+	private String[] columns;
+	@Getter
+	private long rows;
+
+	public ExportWriter(Format format, OutputStream outputStream, ObjectMapper objectMapper) {
+		this.format = format;
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		if (format == Format.NDJSON) {
+			try {
+				// 행마다 줄바꿈을 직접 쓰므로 최상위 값 사이의 기본 구분자(공백)는 쓰지 않습니다.
+				this.generator = objectMapper.getFactory().createGenerator(writer).setRootValueSeparator(null);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		} else {
+			this.generator = null;
+		}
+	}
+
+	/**
+	 * 내보내기 조회문을 전진 전용, 읽기 전용으로 준비합니다.
+	 * MySQL 드라이버는 커넥션 설정(useCursorFetch) 없이는 양수 fetch size를 무시하고 결과 전체를 메모리에 올리므로,
+	 * 이 조회문에만 행 단위 스트리밍(fetch size {@link Integer#MIN_VALUE})을 켭니다. 다른 드라이버에는 fetch size를 그대로 씁니다.
+	 *
+	 * @param connection 커넥션
+	 * @param sql 조회문
+	 * @param args 조회문 파라미터
+	 * @param fetchSize MySQL이 아닌 드라이버에 쓸 fetch size
+	 * @return 준비한 조회문
+	 * @throws SQLException 조회문을 준비하지 못한 경우
+	 */
+	public static PreparedStatement prepareStreaming(Connection connection, String sql, List<Object> args,
+		int fetchSize) throws SQLException {
+		PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+			ResultSet.CONCUR_READ_ONLY);
+		boolean mysql = MYSQL.equals(connection.getMetaData().getDatabaseProductName());
+		ps.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+		for (int i = 0; i < args.size(); i++) {
+			ps.setObject(i + 1, args.get(i));
+		}
+		return ps;
+	}
+
+	@Override
+	public void processRow(ResultSet rs) throws SQLException {
+		if (columns == null) {
+			columns = columns(rs.getMetaData());
+			if (format == Format.CSV) {
+				writeCsv(columns);
+			}
+		}
+
+		Object[] values = new Object[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			values[i] = value(rs.getObject(i + 1));
+		}
+		if (format == Format.CSV) {
+			writeCsv(values);
+		} else {
+			writeJson(values);
+		}
+		rows++;
+	}
+
+	@Override
+	public void close() {
+		try {
+			if (generator != null) {
+				generator.flush();
+			}
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeCsv(Object[] values) {
+		try {
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writer.write(escape(values[i]));
+			}
+			writer.write("\r\n");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeJson(Object[] values) {
+		try {
+			generator.writeStartObject();
+			for (int i = 0; i < values.length; i++) {
+				writeJsonField(columns[i], values[i]);
+			}
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// writeObjectField는 값마다 ObjectMapper를 거치며 출력 스트림을 flush 하므로 타입별로 직접 씁니다.
+	private void writeJsonField(String column, Object value) throws IOException {
+		switch (value) {
+			case null -> generator.writeNullField(column);
+			case Integer number -> generator.writeNumberField(column, number);
+			case Long number -> generator.writeNumberField(column, number);
+			case BigDecimal number -> generator.writeNumberField(column, number);
+			case Number number -> generator.writeNumberField(column, number.doubleValue());
+			case Boolean bool -> generator.writeBooleanField(column, bool);
+			default -> generator.writeStringField(column, value.toString());
+		}
+	}
+
+	private static String[] columns(ResultSetMetaData metaData) throws SQLException {
+		String[] columns = new String[metaData.getColumnCount()];
+		for (int i = 0; i < columns.length; i++) {
+			columns[i] = metaData.getColumnLabel(i + 1).toLowerCase();
+		}
+		return columns;
+	}
+
+	private static Object value(Object value) {
+		if (value instanceof Timestamp timestamp) {
+			return timestamp.toLocalDateTime().toString();
+		}
+		if (value instanceof Date date) {
+			return date.toLocalDate().toString();
+		}
+		return value;
+	}
+
+	private static String escape(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return text;
+		}
+		return '"' + text.replace("\"", "\"\"") + '"';
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum Format {
+		CSV("text/csv", "csv"),
+		NDJSON("application/x-ndjson", "ndjson");
+
+		private final String contentType;
+		private final String extension;
+	}
+}
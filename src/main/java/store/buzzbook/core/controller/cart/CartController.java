@@ -80,7 +80,7 @@ public class CartController {
 	@Operation(summary = "장바구니 내용 변경", description = "장바구니 내용을 변경한다. Create와 유사하다.")
 	public ResponseEntity<Void> updateCartDetail(@RequestParam String uuid,
 		@PathVariable Long detailId, @RequestParam Integer quantity) {
-		cartService.updateCartDetail(detailId, quantity);
+		cartService.updateCartDetail(uuid, detailId, quantity);
 
 		return ResponseEntity.ok().build();
 	}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import store.buzzbook.core.common.annotation.JwtOrderValidate;
 import store.buzzbook.core.common.annotation.JwtValidate;
 import store.buzzbook.core.dto.cart.CartDetailResponse;
+import store.buzzbook.core.dto.coupon.BirthdayCouponDispatchResult;
 import store.buzzbook.core.dto.coupon.CreateUserCouponRequest;
 import store.buzzbook.core.dto.coupon.DownloadCouponRequest;
 import store.buzzbook.core.dto.coupon.OrderCouponDetailResponse;
@@ -53,6 +55,14 @@ public class CouponController {
 		return ResponseEntity.ok(couponService.getUserInfoByCurrentBirthday());
 	}
 
+	@PostMapping("/birthday")
+	@Operation(summary = "생일 쿠폰 발급 요청 발행",
+		description = "현재 월에 생일이 해당하는 유저의 생일 쿠폰 발급 요청을 메시지 큐로 발행합니다. 중단되었으면 afterUserId 다음부터 이어서 발행합니다.")
+	public ResponseEntity<BirthdayCouponDispatchResult> dispatchBirthdayCoupons(
+		@RequestParam(defaultValue = "0") long afterUserId) {
+		return ResponseEntity.ok(couponService.dispatchBirthdayCoupons(afterUserId));
+	}
+
 	@JwtOrderValidate
 	@PostMapping("/order")
 	@Operation(summary = "유저 주문 쿠폰 요청", description = "유저의 주문 목록에서 적용 가능한 쿠폰을 요청합니다.")
@@ -1,8 +1,10 @@
 package store.buzzbook.core.controller.order;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,20 +12,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.NotAuthorizedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import store.buzzbook.core.common.annotation.JwtOrderAdminValidate;
 import store.buzzbook.core.common.annotation.JwtOrderValidate;
+import store.buzzbook.core.common.service.IdempotencyService;
+import store.buzzbook.core.common.util.ExportWriter;
 import store.buzzbook.core.dto.order.CreateDeliveryPolicyRequest;
 import store.buzzbook.core.dto.order.CreateOrderRequest;
 import store.buzzbook.core.dto.order.CreateWrappingRequest;
+import store.buzzbook.core.dto.order.ExportOrdersRequest;
+import store.buzzbook.core.dto.order.MyOrderSummaryCheckResult;
+import store.buzzbook.core.dto.order.OrderArchiveResult;
 import store.buzzbook.core.dto.order.ReadDeliveryPolicyRequest;
 import store.buzzbook.core.dto.order.ReadDeliveryPolicyResponse;
 import store.buzzbook.core.dto.order.ReadOrderRequest;
@@ -37,9 +46,15 @@ import store.buzzbook.core.dto.order.ReadWrappingRequest;
 import store.buzzbook.core.dto.order.ReadWrappingResponse;
 import store.buzzbook.core.dto.order.UpdateOrderDetailRequest;
 import store.buzzbook.core.dto.order.UpdateOrderRequest;
+import store.buzzbook.core.dto.order.UpdateOrderStatusResult;
+import store.buzzbook.core.dto.order.UpdateOrdersRequest;
 import store.buzzbook.core.dto.user.UserInfo;
 import store.buzzbook.core.service.auth.AuthService;
+import store.buzzbook.core.service.order.MyOrderSummaryService;
+import store.buzzbook.core.service.order.OrderArchiveService;
+import store.buzzbook.core.service.order.OrderExportService;
 import store.buzzbook.core.service.order.OrderService;
+import store.buzzbook.core.service.order.OrderStatusBulkService;
 import store.buzzbook.core.service.user.UserService;
 
 /**
@@ -59,6 +74,11 @@ public class OrderController {
 
 	private final OrderService orderService;
 	private final UserService userService;
+	private final IdempotencyService idempotencyService;
+	private final MyOrderSummaryService myOrderSummaryService;
+	private final OrderStatusBulkService orderStatusBulkService;
+	private final OrderArchiveService orderArchiveService;
+	private final OrderExportService orderExportService;
 
 	@JwtOrderValidate
 	@Operation(summary = "주문 리스트 조회", description = "주문 리스트 조회")
@@ -77,14 +97,20 @@ public class OrderController {
 	@JwtOrderValidate
 	@Operation(summary = "주문 등록", description = "주문하기")
 	@PostMapping("/register")
-	public ResponseEntity<ReadOrderResponse> createOrder(@RequestBody CreateOrderRequest createOrderRequest, HttpServletRequest request) {
+	public ResponseEntity<ReadOrderResponse> createOrder(@RequestBody CreateOrderRequest createOrderRequest,
+		@RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+		HttpServletRequest request) {
 		String loginId = (String)request.getAttribute(AuthService.LOGIN_ID);
-		if (loginId == null) {
+		if (loginId != null) {
+			UserInfo userInfo = userService.getUserInfoByLoginId(loginId);
+			createOrderRequest.setLoginId(userInfo.loginId());
+		}
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
 			return ResponseEntity.ok(orderService.createOrder(createOrderRequest));
 		}
-		UserInfo userInfo = userService.getUserInfoByLoginId(loginId);
-		createOrderRequest.setLoginId(userInfo.loginId());
-		return ResponseEntity.ok(orderService.createOrder(createOrderRequest));
+		String key = "order:" + (loginId == null ? "guest" : loginId) + ":" + idempotencyKey;
+		return ResponseEntity.ok(idempotencyService.execute(key, ReadOrderResponse.class,
+			() -> orderService.createOrder(createOrderRequest)));
 	}
 
 	@JwtOrderAdminValidate
@@ -100,6 +126,18 @@ public class OrderController {
 		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
 	}
 
+	@JwtOrderAdminValidate
+	@Operation(summary = "주문 상태 일괄 수정", description = "여러 주문의 상태를 전이 규칙에 따라 한 번에 변경")
+	@PutMapping("/bulk")
+	public ResponseEntity<List<UpdateOrderStatusResult>> updateOrders(@RequestBody UpdateOrdersRequest updateOrdersRequest,
+		HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(orderStatusBulkService.updateOrders(updateOrdersRequest));
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
 	@JwtOrderValidate
 	@Operation(summary = "주문 상세 상태 수정", description = "주문 상세 상태 변경")
 	@PutMapping("/detail")
@@ -118,6 +156,9 @@ public class OrderController {
 	@PostMapping("/id")
 	public ResponseEntity<ReadOrderResponse> getOrder(@RequestBody ReadOrderRequest readOrderRequest, HttpServletRequest request) {
 		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(orderService.readOrderWithAdmin(readOrderRequest));
+		}
 		ReadOrderResponse response = orderService.readOrder(readOrderRequest, userInfo.loginId());
 		return ResponseEntity.ok(response);
 	}
@@ -214,4 +255,55 @@ public class OrderController {
 		}
 		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
 	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "내 주문 목록 읽기 모델 재생성", description = "모든 회원 주문의 마이페이지 주문 목록 읽기 모델 재생성")
+	@PostMapping("/summaries/rebuild")
+	public ResponseEntity<Long> rebuildMyOrderSummaries(HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(myOrderSummaryService.rebuild());
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "내 주문 목록 읽기 모델 검사", description = "마이페이지 주문 목록 읽기 모델 정합성 검사 및 복구")
+	@PostMapping("/summaries/check")
+	public ResponseEntity<MyOrderSummaryCheckResult> checkMyOrderSummaries(HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(myOrderSummaryService.check());
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "주문 보관", description = "파손 환불 기간이 지난 주문을 보관 테이블로 이동")
+	@PostMapping("/archive")
+	public ResponseEntity<OrderArchiveResult> archiveOrders(HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(orderArchiveService.archive());
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "주문 내보내기", description = "조건에 맞는 주문 전체를 CSV 또는 NDJSON으로 내려받기 - 관리자")
+	@PostMapping("/export")
+	public void exportOrders(@RequestBody ExportOrdersRequest exportOrdersRequest, HttpServletRequest request,
+		HttpServletResponse response) throws IOException {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			ExportWriter.Format format = OrderExportService.formatOf(exportOrdersRequest.getFormat());
+			response.setContentType(format.getContentType());
+			response.setCharacterEncoding("UTF-8");
+			response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"orders." + format.getExtension() + "\"");
+			orderExportService.exportOrders(exportOrdersRequest, response.getOutputStream());
+			return;
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
 }
@@ -1,33 +1,52 @@
 package store.buzzbook.core.controller.payment;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
 import org.json.simple.JSONObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.NotAuthorizedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import store.buzzbook.core.common.annotation.JwtOrderAdminValidate;
 import store.buzzbook.core.common.annotation.JwtOrderValidate;
+import store.buzzbook.core.common.service.IdempotencyService;
+import store.buzzbook.core.common.util.ExportWriter;
+import store.buzzbook.core.dto.payment.CategoryRevenueResponse;
 import store.buzzbook.core.dto.payment.CreateCancelBillLogRequest;
+import store.buzzbook.core.dto.payment.DailyRevenueResponse;
+import store.buzzbook.core.dto.payment.ExportBillLogsRequest;
 import store.buzzbook.core.dto.payment.PayInfo;
+import store.buzzbook.core.dto.payment.PaymentRevenueResponse;
 import store.buzzbook.core.dto.payment.ReadBillLogsRequest;
 import store.buzzbook.core.dto.payment.ReadBillLogWithoutOrderResponse;
 import store.buzzbook.core.dto.payment.ReadPaymentKeyRequest;
 import store.buzzbook.core.dto.payment.ReadBillLogRequest;
 import store.buzzbook.core.dto.payment.ReadPaymentKeyWithOrderDetailRequest;
+import store.buzzbook.core.dto.payment.RevenueBackfillResult;
+import store.buzzbook.core.dto.payment.SettlementReconciliationResult;
 import store.buzzbook.core.dto.user.UserInfo;
 import store.buzzbook.core.service.auth.AuthService;
+import store.buzzbook.core.service.order.OrderExportService;
 import store.buzzbook.core.service.order.OrderService;
 import store.buzzbook.core.service.order.PaymentService;
+import store.buzzbook.core.service.order.RevenueRollupService;
+import store.buzzbook.core.service.order.SettlementReconciliationService;
 import store.buzzbook.core.service.user.UserService;
 
 /**
@@ -43,10 +62,15 @@ import store.buzzbook.core.service.user.UserService;
 @RequiredArgsConstructor
 public class PaymentController {
 	private static final String CANCELED = "Canceled";
+	private static final String PAID = "Paid";
 
 	private final PaymentService paymentService;
 	private final UserService userService;
 	private final OrderService orderService;
+	private final IdempotencyService idempotencyService;
+	private final OrderExportService orderExportService;
+	private final SettlementReconciliationService settlementReconciliationService;
+	private final RevenueRollupService revenueRollupService;
 
 	@JwtOrderValidate
 	@Operation(summary = "주문 하나에 딸린 결제 내역들 조회", description = "결제 내역 단건 조회")
@@ -79,10 +103,101 @@ public class PaymentController {
 		return ResponseEntity.ok(data);
 	}
 
+	@JwtOrderAdminValidate
+	@Operation(summary = "관리자의 결제 내역 내보내기", description = "조건에 맞는 결제 내역 전체를 CSV 또는 NDJSON으로 내려받기 - 관리자")
+	@PostMapping("/admin/bill-logs/export")
+	public void exportBillLogs(@RequestBody ExportBillLogsRequest exportBillLogsRequest, HttpServletRequest request,
+		HttpServletResponse response) throws IOException {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			ExportWriter.Format format = OrderExportService.formatOf(exportBillLogsRequest.getFormat());
+			response.setContentType(format.getContentType());
+			response.setCharacterEncoding("UTF-8");
+			response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"bill-logs." + format.getExtension() + "\"");
+			orderExportService.exportBillLogs(exportBillLogsRequest, response.getOutputStream());
+			return;
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "PG 정산 대사", description = "정산일의 PG 정산 파일과 결제 내역 대사 - 관리자")
+	@PostMapping("/admin/settlements/reconcile")
+	public ResponseEntity<SettlementReconciliationResult> reconcileSettlement(
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate settlementDate,
+		HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(settlementReconciliationService.reconcile(settlementDate));
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "일별 매출 조회", description = "기간의 일별 결제, 취소, 반품 금액과 순매출 조회 - 관리자")
+	@GetMapping("/admin/revenues/daily")
+	public ResponseEntity<List<DailyRevenueResponse>> getDailyRevenues(
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+		HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(revenueRollupService.getDailyRevenues(startDate, endDate));
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "결제 수단별 매출 조회", description = "기간의 결제 수단별 결제, 취소, 반품 금액과 건수 조회 - 관리자")
+	@GetMapping("/admin/revenues/payments")
+	public ResponseEntity<List<PaymentRevenueResponse>> getPaymentRevenues(
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+		HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(revenueRollupService.getPaymentRevenues(startDate, endDate));
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "카테고리별 매출 조회", description = "기간의 카테고리별 판매, 취소, 반품 금액과 수량 조회 - 관리자")
+	@GetMapping("/admin/revenues/categories")
+	public ResponseEntity<List<CategoryRevenueResponse>> getCategoryRevenues(
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+		HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(revenueRollupService.getCategoryRevenues(startDate, endDate));
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
+	@JwtOrderAdminValidate
+	@Operation(summary = "매출 집계 재구성", description = "기간의 매출 집계를 결제 내역으로 다시 만들기 - 관리자")
+	@PostMapping("/admin/revenues/backfill")
+	public ResponseEntity<RevenueBackfillResult> backfillRevenues(
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+		HttpServletRequest request) {
+		UserInfo userInfo = userService.getUserInfoByLoginId((String)request.getAttribute(AuthService.LOGIN_ID));
+		if (userInfo.isAdmin()) {
+			return ResponseEntity.ok(revenueRollupService.backfill(startDate, endDate));
+		}
+		throw new NotAuthorizedException("관리자 계정으로 접속해주세요.");
+	}
+
 	@Operation(summary = "주문 결제", description = "주문 결제")
 	@PostMapping("/order")
 	public ResponseEntity<String> order(@RequestBody PayInfo paymentInfo, HttpServletRequest request) {
-		paymentService.order(paymentInfo, request);
+		// 같은 결제 키로 재전송된 승인 콜백은 한 번만 처리합니다.
+		idempotencyService.execute("payment:" + paymentInfo.getPaymentKey(), String.class, () -> {
+			paymentService.order(paymentInfo, request);
+			return PAID;
+		});
 		return ResponseEntity.ok().build();
 	}
 
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -14,15 +15,24 @@ import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.common.annotation.JwtAdminValidate;
 import store.buzzbook.core.common.annotation.JwtOrderValidate;
 import store.buzzbook.core.common.annotation.JwtValidate;
+import store.buzzbook.core.dto.point.CreatePointCampaignRequest;
 import store.buzzbook.core.dto.point.CreatePointLogRequest;
 import store.buzzbook.core.dto.point.CreatePointPolicyRequest;
 import store.buzzbook.core.dto.point.DeletePointPolicyRequest;
+import store.buzzbook.core.dto.point.PointBalanceReconciliationResult;
+import store.buzzbook.core.dto.point.PointCampaignResponse;
+import store.buzzbook.core.dto.point.PointExpirationResult;
 import store.buzzbook.core.dto.point.PointPolicyResponse;
 import store.buzzbook.core.dto.point.UpdatePointPolicyRequest;
 import store.buzzbook.core.service.auth.AuthService;
+import store.buzzbook.core.service.point.PointBalanceReconciliationService;
+import store.buzzbook.core.service.point.PointCampaignService;
+import store.buzzbook.core.service.point.PointExpirationService;
 import store.buzzbook.core.service.point.PointService;
 
 @Tag(name = "회원의 포인트 관련 컨트롤러", description = "유저의 포인트 조회, 추가 관리")
@@ -32,6 +42,9 @@ import store.buzzbook.core.service.point.PointService;
 public class PointController {
 
 	private final PointService pointService;
+	private final PointBalanceReconciliationService pointBalanceReconciliationService;
+	private final PointCampaignService pointCampaignService;
+	private final PointExpirationService pointExpirationService;
 
 	@JwtValidate
 	@GetMapping
@@ -56,6 +69,46 @@ public class PointController {
 		return ResponseEntity.ok().build();
 	}
 
+	@JwtAdminValidate
+	@PostMapping("/balances/reconcile")
+	@Operation(summary = "포인트 잔액 대사 요청", description = "회원별 포인트 잔액을 포인트 내역과 대사합니다.")
+	public ResponseEntity<PointBalanceReconciliationResult> reconcileBalances() {
+		return ResponseEntity.ok(pointBalanceReconciliationService.reconcile());
+	}
+
+	@JwtAdminValidate
+	@PostMapping("/expirations")
+	@Operation(summary = "포인트 소멸 요청", description = "유효 기간이 지난 적립 포인트를 소멸합니다.")
+	public ResponseEntity<PointExpirationResult> expirePoints() {
+		return ResponseEntity.ok(pointExpirationService.expire());
+	}
+
+	@JwtAdminValidate
+	@PostMapping("/campaigns")
+	@Operation(summary = "포인트 캠페인 생성 요청", description = "대상 회원에게 포인트를 일괄 지급하는 캠페인을 만들고 지급을 시작합니다.")
+	public ResponseEntity<PointCampaignResponse> createPointCampaign(
+		@Valid @RequestBody CreatePointCampaignRequest request) {
+		PointCampaignResponse response = pointCampaignService.create(request);
+		pointCampaignService.start(response.id());
+		return ResponseEntity.ok(response);
+	}
+
+	@JwtAdminValidate
+	@GetMapping("/campaigns/{id}")
+	@Operation(summary = "포인트 캠페인 조회 요청", description = "포인트 캠페인의 진행 상황을 조회합니다.")
+	public ResponseEntity<PointCampaignResponse> getPointCampaign(@PathVariable long id) {
+		return ResponseEntity.ok(pointCampaignService.getCampaign(id));
+	}
+
+	@JwtAdminValidate
+	@PostMapping("/campaigns/{id}/resume")
+	@Operation(summary = "포인트 캠페인 재개 요청", description = "멈춘 포인트 캠페인을 마지막으로 지급한 회원 다음부터 이어서 지급합니다.")
+	public ResponseEntity<PointCampaignResponse> resumePointCampaign(@PathVariable long id) {
+		PointCampaignResponse response = pointCampaignService.getCampaign(id);
+		pointCampaignService.start(id);
+		return ResponseEntity.ok(response);
+	}
+
 	@JwtValidate
 	@PostMapping
 	@Operation(summary = "포인트 정책 생성 요청", description = "포인트 정책을 생성 합니다.")
@@ -4,11 +4,14 @@ import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.dto.user.GradeRecalculationResult;
 import store.buzzbook.core.dto.user.UserRealBill;
+import store.buzzbook.core.service.user.GradeRecalculationService;
 import store.buzzbook.core.service.user.UserService;
 
 @RestController
@@ -16,9 +19,15 @@ import store.buzzbook.core.service.user.UserService;
 @RequiredArgsConstructor
 public class UserBatchController {
 	private final UserService userService;
+	private final GradeRecalculationService gradeRecalculationService;
 
 	@GetMapping("/3month")
 	ResponseEntity<List<UserRealBill>> get3MonthBills() {
 		return ResponseEntity.ok(userService.getUserRealBills());
 	}
+
+	@PostMapping("/grades")
+	ResponseEntity<GradeRecalculationResult> recalculateGrades() {
+		return ResponseEntity.ok(gradeRecalculationService.recalculate());
+	}
 }
@@ -0,0 +1,14 @@
+package store.buzzbook.core.dto.coupon;
+
+/**
+ * 생일 쿠폰 발급 요청 발행 결과
+ *
+ * @param month 생일 월
+ * @param completed 대상 회원을 끝까지 발행했으면 true, 발행 확인을 받지 못해 멈췄으면 false
+ * @param users 발행 확인을 받은 회원 수
+ * @param lastUserId 발행 확인을 받은 마지막 회원 아이디. 멈췄으면 이 아이디 다음부터 다시 발행
+ * @param elapsedMillis 걸린 시간(ms)
+ */
+public record BirthdayCouponDispatchResult(int month, boolean completed, long users, long lastUserId,
+	long elapsedMillis) {
+}
@@ -0,0 +1,21 @@
+package store.buzzbook.core.dto.coupon;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+
+/**
+ * 생일 쿠폰 발급 요청
+ *
+ * @param userId 회원 아이디
+ * @param yearMonth 발급 대상 년월(yyyy-MM). 쿠폰 서버는 회원 아이디와 이 값으로 같은 달의 중복 요청을 거름
+ */
+@Builder
+public record CreateBirthdayCouponRequest(
+	@Min(1)
+	long userId,
+
+	@NotBlank
+	String yearMonth
+) {
+}
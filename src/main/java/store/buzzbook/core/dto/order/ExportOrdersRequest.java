@@ -0,0 +1,30 @@
+package store.buzzbook.core.dto.order;
+
+import java.time.LocalDate;
+
+import org.springframework.lang.Nullable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.buzzbook.core.common.util.ExportWriter;
+
+/**
+ * 주문 내보내기 요청
+ * 희망 배송일 범위(시작일 포함, 종료일 포함), 주문 상태 이름, 로그인 아이디로 거를 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportOrdersRequest {
+	@Nullable
+	private ExportWriter.Format format;
+	@Nullable
+	private LocalDate startDate;
+	@Nullable
+	private LocalDate endDate;
+	@Nullable
+	private String orderStatusName;
+	@Nullable
+	private String loginId;
+}
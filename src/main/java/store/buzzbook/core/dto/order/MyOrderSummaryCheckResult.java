@@ -0,0 +1,11 @@
+package store.buzzbook.core.dto.order;
+
+/**
+ * 마이페이지 주문 목록 읽기 모델 정합성 검사 결과
+ *
+ * @param checked 검사한 회원 주문 수
+ * @param missing 읽기 모델에 없던 주문 수
+ * @param stale 원본과 내용이 달랐던 주문 수
+ */
+public record MyOrderSummaryCheckResult(long checked, long missing, long stale) {
+}
@@ -0,0 +1,14 @@
+package store.buzzbook.core.dto.order;
+
+/**
+ * 주문 보관 결과
+ *
+ * @param orders 옮긴 주문 수
+ * @param orderDetails 옮긴 주문 상세 수
+ * @param billLogs 옮긴 결제 내역 수
+ * @param elapsedMillis 걸린 시간(ms)
+ * @param rowsPerSecond 초당 옮긴 행 수
+ */
+public record OrderArchiveResult(long orders, long orderDetails, long billLogs, long elapsedMillis,
+	double rowsPerSecond) {
+}
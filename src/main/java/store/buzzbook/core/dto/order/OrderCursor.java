@@ -0,0 +1,37 @@
+package store.buzzbook.core.dto.order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import store.buzzbook.core.common.exception.order.InvalidOrderCursorException;
+
+/**
+ * 주문 목록 keyset 페이지네이션 커서
+ * (desiredDeliveryDate, id) 내림차순에서 마지막으로 읽은 주문의 위치를 불투명한 문자열로 주고받습니다.
+ *
+ * @param desiredDeliveryDate 마지막 주문의 희망 배송일
+ * @param id 마지막 주문의 아이디
+ */
+public record OrderCursor(LocalDate desiredDeliveryDate, long id) {
+	private static final String DELIMITER = ":";
+
+	public String encode() {
+		String raw = desiredDeliveryDate + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static OrderCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split(DELIMITER);
+			if (parts.length != 2) {
+				throw new InvalidOrderCursorException();
+			}
+			return new OrderCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidOrderCursorException();
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package store.buzzbook.core.dto.order;
+
+import store.buzzbook.core.entity.order.OrderOutbox;
+
+public record OrderOutboxMessage(
+	long outboxId,
+	long orderId,
+	OrderOutbox.Type type
+) {
+}
@@ -1,5 +1,7 @@
 package store.buzzbook.core.dto.order;
 
+import org.springframework.lang.Nullable;
+
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import store.buzzbook.core.common.dto.PageRequestInfo;
@@ -7,7 +9,15 @@ import store.buzzbook.core.common.dto.PageRequestInfo;
 @Getter
 @NoArgsConstructor
 public class ReadOrdersRequest extends PageRequestInfo {
+	@Nullable
+	private String cursor;
+
 	public ReadOrdersRequest(Integer page, Integer size) {
 		super(page, size);
 	}
+
+	public ReadOrdersRequest(Integer page, Integer size, String cursor) {
+		super(page, size);
+		this.cursor = cursor;
+	}
 }
@@ -0,0 +1,13 @@
+package store.buzzbook.core.dto.order;
+
+/**
+ * 주문 상태 일괄 변경의 주문별 결과
+ *
+ * @param orderId 주문 문자열(코드)
+ * @param result 변경 결과
+ */
+public record UpdateOrderStatusResult(String orderId, Result result) {
+	public enum Result {
+		UPDATED, NOT_FOUND, INVALID_TRANSITION
+	}
+}
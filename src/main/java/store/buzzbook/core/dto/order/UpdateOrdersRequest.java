@@ -0,0 +1,15 @@
+package store.buzzbook.core.dto.order;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UpdateOrdersRequest {
+	private List<String> orderIds;
+	private String orderStatusName;
+}
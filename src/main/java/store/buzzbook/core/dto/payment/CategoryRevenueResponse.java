@@ -0,0 +1,18 @@
+package store.buzzbook.core.dto.payment;
+
+/**
+ * 카테고리별 매출
+ *
+ * @param categoryId 카테고리 아이디
+ * @param categoryName 카테고리명
+ * @param paidAmount 판매 금액
+ * @param paidQuantity 판매 수량
+ * @param canceledAmount 결제 취소 금액
+ * @param canceledQuantity 결제 취소 수량
+ * @param refundedAmount 반품 금액
+ * @param refundedQuantity 반품 수량
+ * @param netAmount 순매출(판매 - 취소 - 반품)
+ */
+public record CategoryRevenueResponse(int categoryId, String categoryName, long paidAmount, long paidQuantity,
+	long canceledAmount, long canceledQuantity, long refundedAmount, long refundedQuantity, long netAmount) {
+}
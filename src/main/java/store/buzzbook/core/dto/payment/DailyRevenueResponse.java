@@ -0,0 +1,16 @@
+package store.buzzbook.core.dto.payment;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 매출
+ *
+ * @param salesDate 결제일
+ * @param paidAmount 결제 금액
+ * @param canceledAmount 결제 취소 금액
+ * @param refundedAmount 반품 금액
+ * @param netAmount 순매출(결제 - 취소 - 반품)
+ */
+public record DailyRevenueResponse(LocalDate salesDate, long paidAmount, long canceledAmount, long refundedAmount,
+	long netAmount) {
+}
@@ -0,0 +1,31 @@
+package store.buzzbook.core.dto.payment;
+
+import java.time.LocalDateTime;
+
+import org.springframework.lang.Nullable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.buzzbook.core.common.util.ExportWriter;
+import store.buzzbook.core.entity.payment.BillStatus;
+
+/**
+ * 결제 내역 내보내기 요청
+ * 결제일 범위(시작 포함, 종료 미포함), 결제 상태, 로그인 아이디로 거를 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportBillLogsRequest {
+	@Nullable
+	private ExportWriter.Format format;
+	@Nullable
+	private LocalDateTime startPayAt;
+	@Nullable
+	private LocalDateTime endPayAt;
+	@Nullable
+	private BillStatus status;
+	@Nullable
+	private String loginId;
+}
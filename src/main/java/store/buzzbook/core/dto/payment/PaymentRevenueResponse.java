@@ -0,0 +1,17 @@
+package store.buzzbook.core.dto.payment;
+
+/**
+ * 결제 수단별 매출
+ *
+ * @param payment 결제 수단(쿠폰은 COUPON)
+ * @param paidAmount 결제 금액
+ * @param paidCount 결제 건수
+ * @param canceledAmount 결제 취소 금액
+ * @param canceledCount 결제 취소 건수
+ * @param refundedAmount 반품 금액
+ * @param refundedCount 반품 건수
+ * @param netAmount 순매출(결제 - 취소 - 반품)
+ */
+public record PaymentRevenueResponse(String payment, long paidAmount, long paidCount, long canceledAmount,
+	long canceledCount, long refundedAmount, long refundedCount, long netAmount) {
+}
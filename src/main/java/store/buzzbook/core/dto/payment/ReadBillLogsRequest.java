@@ -1,10 +1,32 @@
 package store.buzzbook.core.dto.payment;
 
+import java.time.LocalDateTime;
+
+import org.springframework.lang.Nullable;
+
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import store.buzzbook.core.common.dto.PageRequestInfo;
+import store.buzzbook.core.entity.payment.BillStatus;
 
 @Getter
 @NoArgsConstructor
 public class ReadBillLogsRequest extends PageRequestInfo {
+	@Nullable
+	private Long cursor;
+	@Nullable
+	private LocalDateTime startPayAt;
+	@Nullable
+	private LocalDateTime endPayAt;
+	@Nullable
+	private BillStatus status;
+
+	public ReadBillLogsRequest(Integer page, Integer size, Long cursor, LocalDateTime startPayAt,
+		LocalDateTime endPayAt, BillStatus status) {
+		super(page, size);
+		this.cursor = cursor;
+		this.startPayAt = startPayAt;
+		this.endPayAt = endPayAt;
+		this.status = status;
+	}
 }
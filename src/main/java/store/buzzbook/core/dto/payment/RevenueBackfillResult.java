@@ -0,0 +1,17 @@
+package store.buzzbook.core.dto.payment;
+
+import java.time.LocalDate;
+
+/**
+ * 매출 집계 재구성 결과
+ *
+ * @param startDate 재구성 시작일
+ * @param endDate 재구성 종료일(오늘은 실시간 집계 중이므로 어제까지로 줄임)
+ * @param chunks 병렬로 처리한 기간 청크 수
+ * @param paymentRows 다시 만든 결제 수단별 집계 행 수
+ * @param categoryRows 다시 만든 카테고리별 집계 행 수
+ * @param elapsedMillis 걸린 시간(ms)
+ */
+public record RevenueBackfillResult(LocalDate startDate, LocalDate endDate, int chunks, long paymentRows,
+	long categoryRows, long elapsedMillis) {
+}
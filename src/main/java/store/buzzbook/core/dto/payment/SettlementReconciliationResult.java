@@ -0,0 +1,17 @@
+package store.buzzbook.core.dto.payment;
+
+import java.time.LocalDate;
+
+/**
+ * PG 정산 대사 결과
+ *
+ * @param reconciliationId 대사 실행 아이디(불일치 조회 기준)
+ * @param settlementDate 정산일
+ * @param settlementRows 정산 파일의 결제 수
+ * @param matched 결제 내역과 일치한 결제 수
+ * @param mismatched 불일치 건수
+ * @param elapsedMillis 걸린 시간(ms)
+ */
+public record SettlementReconciliationResult(long reconciliationId, LocalDate settlementDate, long settlementRows,
+	long matched, long mismatched, long elapsedMillis) {
+}
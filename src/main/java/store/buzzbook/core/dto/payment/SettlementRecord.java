@@ -0,0 +1,14 @@
+package store.buzzbook.core.dto.payment;
+
+import store.buzzbook.core.entity.payment.BillStatus;
+
+/**
+ * PG 정산 파일의 결제 한 건
+ *
+ * @param paymentKey 결제 키
+ * @param status 정산 시점의 결제 상태
+ * @param approvedAmount 승인 금액
+ * @param canceledAmount 취소(환불) 금액
+ */
+public record SettlementRecord(String paymentKey, BillStatus status, long approvedAmount, long canceledAmount) {
+}
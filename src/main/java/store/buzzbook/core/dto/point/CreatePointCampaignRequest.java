@@ -0,0 +1,31 @@
+package store.buzzbook.core.dto.point;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import store.buzzbook.core.entity.user.UserStatus;
+
+/**
+ * 포인트 캠페인 생성 요청
+ *
+ * @param inquiry 포인트 내역에 남길 사유
+ * @param point 회원마다 지급할 포인트
+ * @param userIds 대상 회원 아이디 목록, 비어 있으면 회원 상태로 대상을 고름
+ * @param userStatus 대상 회원 상태, 비어 있으면 모든 회원
+ */
+public record CreatePointCampaignRequest(
+
+	@NotBlank(message = "포인트 캠페인의 사유가 비어 있을 수 없습니다.")
+	String inquiry,
+
+	@Max(value = 50000, message = "캠페인 지급 포인트가 50000 보다 클 수 없습니다.")
+	@Min(value = 1, message = "캠페인 지급 포인트가 1 보다 작을 수 없습니다.")
+	int point,
+
+	List<Long> userIds,
+
+	UserStatus userStatus
+) {
+}
@@ -0,0 +1,14 @@
+package store.buzzbook.core.dto.point;
+
+/**
+ * 포인트 잔액 대사 결과
+ *
+ * @param users 확인한 회원 수
+ * @param seeded 잔액 행이 없어 새로 만든 회원 수
+ * @param corrected 마지막 포인트 내역과 잔액이 달라 고친 회원 수
+ * @param skipped 대사 중 잔액이 바뀌어 다음 대사로 넘긴 회원 수
+ * @param elapsedMillis 걸린 시간(ms)
+ */
+public record PointBalanceReconciliationResult(long users, long seeded, long corrected, long skipped,
+	long elapsedMillis) {
+}
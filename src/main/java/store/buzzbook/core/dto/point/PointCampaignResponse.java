@@ -0,0 +1,23 @@
+package store.buzzbook.core.dto.point;
+
+import java.time.LocalDateTime;
+
+import store.buzzbook.core.entity.point.PointCampaign;
+
+/**
+ * 포인트 캠페인 진행 상황
+ *
+ * @param targetUsers 대상 회원 수
+ * @param grantedUsers 지금까지 지급한 회원 수
+ * @param lastUserId 마지막으로 지급한 회원 아이디, 이어서 지급할 때 이 다음부터 지급
+ */
+public record PointCampaignResponse(long id, String inquiry, int point, PointCampaign.Status status,
+	long targetUsers, long grantedUsers, long lastUserId, LocalDateTime createdAt, LocalDateTime updatedAt,
+	LocalDateTime finishedAt) {
+
+	public static PointCampaignResponse from(PointCampaign campaign) {
+		return new PointCampaignResponse(campaign.getId(), campaign.getInquiry(), campaign.getPoint(),
+			campaign.getStatus(), campaign.getTargetUsers(), campaign.getGrantedUsers(), campaign.getLastUserId(),
+			campaign.getCreatedAt(), campaign.getUpdatedAt(), campaign.getFinishedAt());
+	}
+}
@@ -0,0 +1,15 @@
+package store.buzzbook.core.dto.point;
+
+/**
+ * 포인트 캠페인 한 번 실행한 결과
+ *
+ * @param campaignId 캠페인 아이디
+ * @param grantedUsers 이번 실행에서 지급한 회원 수
+ * @param chunks 이번 실행에서 지급한 청크 수
+ * @param done 캠페인 대상을 모두 지급했으면 true, 다른 서버가 지급 중이라 멈췄으면 false
+ * @param elapsedMillis 걸린 시간(ms)
+ * @param usersPerMinute 분당 지급 회원 수
+ */
+public record PointCampaignRunResult(long campaignId, long grantedUsers, long chunks, boolean done,
+	long elapsedMillis, double usersPerMinute) {
+}
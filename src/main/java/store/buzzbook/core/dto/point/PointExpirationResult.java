@@ -0,0 +1,17 @@
+package store.buzzbook.core.dto.point;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 소멸 결과
+ *
+ * @param locked 작업 잠금을 잡아 소멸을 돌렸으면 true, 다른 서버가 돌리고 있었으면 false
+ * @param earnedBefore 이 시각 이전에 적립한 포인트 중 남은 포인트를 소멸
+ * @param users 확인한 회원 수
+ * @param expiredUsers 포인트가 소멸한 회원 수
+ * @param expiredPoints 소멸한 포인트 합계
+ * @param elapsedMillis 걸린 시간(ms)
+ */
+public record PointExpirationResult(boolean locked, LocalDateTime earnedBefore, long users, long expiredUsers,
+	long expiredPoints, long elapsedMillis) {
+}
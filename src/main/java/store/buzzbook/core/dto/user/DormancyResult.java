@@ -0,0 +1,16 @@
+package store.buzzbook.core.dto.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * 휴면 전환 결과
+ *
+ * @param locked 작업 잠금을 잡아 휴면 전환을 돌렸으면 true, 다른 서버가 돌리고 있었으면 false
+ * @param inactiveBefore 이 시각 이전에 마지막으로 로그인한(로그인한 적 없으면 가입한) 회원을 휴면 전환
+ * @param scanned 확인한 회원 수
+ * @param dormantUsers 휴면 전환한 회원 수
+ * @param elapsedMillis 걸린 시간(ms)
+ */
+public record DormancyResult(boolean locked, LocalDateTime inactiveBefore, long scanned, long dormantUsers,
+	long elapsedMillis) {
+}
@@ -0,0 +1,16 @@
+package store.buzzbook.core.dto.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * 등급 재산정 결과
+ *
+ * @param locked 작업 잠금을 잡아 재산정을 돌렸으면 true, 다른 서버가 돌리고 있었으면 false
+ * @param paidFrom 이 시각 이후 결제 내역의 순결제 금액으로 산정
+ * @param users 확인한 회원 수
+ * @param changedUsers 등급이 바뀌어 등급 내역을 남긴 회원 수
+ * @param elapsedMillis 걸린 시간(ms)
+ */
+public record GradeRecalculationResult(boolean locked, LocalDateTime paidFrom, long users, long changedUsers,
+	long elapsedMillis) {
+}
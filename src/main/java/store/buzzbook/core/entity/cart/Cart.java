@@ -1,5 +1,7 @@
 package store.buzzbook.core.entity.cart;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -33,4 +35,11 @@ public class Cart {
 	@Column(name = "`uuid`", nullable = false, unique = true, columnDefinition = "binary(16)")
 	private byte[] uuid;
 
+	/**
+	 * 비회원 장바구니 내용의 버전. 여러 서버가 메모리에 든 장바구니를 저장할 때 비교 후 교체로 올립니다.
+	 */
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long version;
+
 }
@@ -0,0 +1,35 @@
+package store.buzzbook.core.entity.common;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 잠금
+ * 작업 이름마다 한 행을 두고, 잠근 실행의 토큰과 잠금 만료 시각을 남깁니다.
+ * 만료 시각이 지나면 잠근 실행이 멈춘 것으로 보고 다른 실행이 가져갑니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "job_lock")
+public class JobLock {
+	@Id
+	@Column(length = 100)
+	private String name;
+
+	@Column(nullable = false, length = 100)
+	private String owner;
+
+	@Column(name = "locked_until", nullable = false)
+	private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,53 @@
+package store.buzzbook.core.entity.order;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멱등성 키와 처리 결과
+ * 키의 유니크 제약으로 같은 요청이 동시에 두 번 처리되지 않도록 하고, 완료된 응답을 재시도에 돌려줍니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "idempotency_key", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_idempotency_key", columnNames = "idempotency_key")
+})
+public class IdempotencyRecord {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(name = "idempotency_key", nullable = false, length = 200)
+	private String idempotencyKey;
+
+	@Column(nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private Status status;
+
+	@Lob
+	private String response;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	public enum Status {
+		IN_PROGRESS, COMPLETED
+	}
+}
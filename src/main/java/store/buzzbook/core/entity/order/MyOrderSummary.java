@@ -0,0 +1,53 @@
+package store.buzzbook.core.entity.order;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마이페이지 주문 목록 읽기 모델
+ * 회원 주문 한 건의 목록 응답을 직렬화해 두고, (로그인 아이디, 희망 배송일, 주문 아이디) 인덱스 범위 스캔 한 번으로 조회합니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "my_order_summary", indexes = {
+	@Index(name = "idx_my_order_summary_login_id", columnList = "login_id, desired_delivery_date, order_id")
+})
+public class MyOrderSummary {
+	@Id
+	@Column(name = "order_id")
+	private long orderId;
+
+	@Column(name = "login_id", nullable = false)
+	private String loginId;
+
+	@Column(name = "desired_delivery_date", nullable = false)
+	private LocalDate desiredDeliveryDate;
+
+	@Lob
+	@Column(nullable = false)
+	private String summary;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	public void update(String loginId, LocalDate desiredDeliveryDate, String summary) {
+		this.loginId = loginId;
+		this.desiredDeliveryDate = desiredDeliveryDate;
+		this.summary = summary;
+		this.updatedAt = LocalDateTime.now();
+	}
+}
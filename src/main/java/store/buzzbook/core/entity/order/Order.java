@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -29,7 +30,10 @@ import store.buzzbook.core.entity.user.User;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "`order`")
+@Table(name = "`order`", indexes = {
+	@Index(name = "idx_order_desired_delivery_date_id", columnList = "desired_delivery_date, id"),
+	@Index(name = "idx_order_user_desired_delivery_date_id", columnList = "user_id, desired_delivery_date, id")
+})
 public class Order {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,59 @@
+package store.buzzbook.core.entity.order;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 주문
+ * 파손 환불 기간이 지난 주문을 주문 상세까지 포함한 단건 응답으로 직렬화해 두고, 주문 문자열(코드)로 조회합니다.
+ * 회원 아이디와 배송비는 등급 산정에서 보관된 주문의 결제 금액을 회원별로 묶을 수 있도록 따로 둡니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "order_archive", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_order_archive_order_str", columnNames = "order_str")
+}, indexes = {
+	@Index(name = "idx_order_archive_user_id", columnList = "user_id")
+})
+public class OrderArchive {
+	@Id
+	@Column(name = "order_id")
+	private long orderId;
+
+	@Column(name = "order_str", nullable = false, length = 50)
+	private String orderStr;
+
+	@Column(name = "login_id")
+	private String loginId;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "delivery_rate", nullable = false)
+	private int deliveryRate;
+
+	@Column(name = "desired_delivery_date", nullable = false)
+	private LocalDate desiredDeliveryDate;
+
+	@Lob
+	@Column(nullable = false)
+	private String document;
+
+	@Column(nullable = false)
+	private LocalDateTime archivedAt;
+}
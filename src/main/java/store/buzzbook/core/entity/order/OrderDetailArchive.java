@@ -0,0 +1,65 @@
+package store.buzzbook.core.entity.order;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 주문 상세
+ * 보관 주문의 주문 상세를 원래 아이디 그대로 옮겨 둡니다. 보관된 주문 상세의 리뷰는 이 행을 참조합니다.
+ * 회원 아이디는 리뷰를 회원별로 찾을 수 있도록 주문에서 옮겨 둡니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "order_detail_archive", indexes = {
+	@Index(name = "idx_order_detail_archive_order_id", columnList = "order_id"),
+	@Index(name = "idx_order_detail_archive_product_id", columnList = "product_id")
+})
+public class OrderDetailArchive {
+	@Id
+	private long id;
+
+	@Column(name = "order_id", nullable = false)
+	private long orderId;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "product_id", nullable = false)
+	private int productId;
+
+	@Column(nullable = false)
+	private int price;
+
+	@Column(nullable = false)
+	private int quantity;
+
+	@Column(nullable = false, columnDefinition = "TINYINT(1)")
+	private boolean wrap;
+
+	@Column(name = "order_status_id", nullable = false)
+	private int orderStatusId;
+
+	@Column(name = "wrapping_id")
+	private Integer wrappingId;
+
+	@Column(nullable = false)
+	private LocalDateTime createAt;
+
+	@Column(nullable = false)
+	private LocalDateTime updateAt;
+
+	@Column(nullable = false)
+	private LocalDateTime archivedAt;
+}
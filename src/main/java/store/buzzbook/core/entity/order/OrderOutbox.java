@@ -0,0 +1,72 @@
+package store.buzzbook.core.entity.order;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 후처리(포인트 적립, 쿠폰 사용 처리, 알림) 아웃박스
+ * 결제 내역과 같은 트랜잭션에서 저장되고, 릴레이가 메시지 큐로 발행한 뒤 컨슈머가 처리합니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "order_outbox", indexes = {
+	@Index(name = "idx_order_outbox_status_id", columnList = "status, id"),
+	@Index(name = "idx_order_outbox_order_id", columnList = "order_id")
+})
+public class OrderOutbox {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(name = "order_id", nullable = false)
+	private long orderId;
+
+	@Column(nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private Type type;
+
+	@Column(nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private Status status;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	private LocalDateTime publishedAt;
+
+	// 발행한 횟수. 최대 횟수만큼 발행해도 처리되지 않으면 실패로 멈춥니다.
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private int attempts;
+
+	// 쿠폰 서버는 호출한 사용자의 토큰으로 인증하므로 쿠폰 사용 처리에만 액세스 토큰을 저장하고,
+	// 처리 완료나 실패로 바꿀 때 함께 지웁니다. 리프레시 토큰은 저장하지 않습니다.
+	@Column(length = 2000)
+	private String accessToken;
+
+	public enum Type {
+		EARN_POINT, USE_COUPON, NOTIFY
+	}
+
+	public enum Status {
+		PENDING, PUBLISHED, DONE, FAILED
+	}
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,11 @@ import store.buzzbook.core.entity.order.Order;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table
+@Table(indexes = {
+	@Index(name = "idx_bill_log_order_status_pay_at", columnList = "order_id, status, pay_at"),
+	@Index(name = "idx_bill_log_payment_key", columnList = "payment_key"),
+	@Index(name = "idx_bill_log_pay_at", columnList = "pay_at")
+})
 public class BillLog {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
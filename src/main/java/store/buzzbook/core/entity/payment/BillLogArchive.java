@@ -0,0 +1,55 @@
+package store.buzzbook.core.entity.payment;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 결제 내역
+ * 보관 주문의 결제 내역을 원래 아이디 그대로 옮겨 둡니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "bill_log_archive", indexes = {
+	@Index(name = "idx_bill_log_archive_order_id", columnList = "order_id")
+})
+public class BillLogArchive {
+	@Id
+	private long id;
+
+	@Column(nullable = false, length = 20)
+	private String payment;
+
+	@Column(nullable = false)
+	private int price;
+
+	@Column(nullable = false)
+	private LocalDateTime payAt;
+
+	@Column(name = "order_id", nullable = false)
+	private long orderId;
+
+	@Column(nullable = false)
+	@Enumerated(value = EnumType.STRING)
+	private BillStatus status;
+
+	private String paymentKey;
+
+	private String cancelReason;
+
+	@Column(nullable = false)
+	private LocalDateTime archivedAt;
+}
@@ -0,0 +1,58 @@
+package store.buzzbook.core.entity.payment;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 카테고리별 매출 집계
+ * PG 결제, 취소, 반품 내역이 쌓일 때 주문 상세를 상품 카테고리별로 나눠 판매가 합계와 수량을 더해 둡니다.
+ * 포인트와 쿠폰 결제 내역은 같은 주문을 두 번 세지 않도록 더하지 않습니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "revenue_daily_category", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_revenue_daily_category", columnNames = {"sales_date", "category_id"})
+})
+public class RevenueDailyCategory {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(name = "sales_date", nullable = false)
+	private LocalDate salesDate;
+
+	@Column(name = "category_id", nullable = false)
+	private int categoryId;
+
+	@Column(nullable = false)
+	private long paidAmount;
+
+	@Column(nullable = false)
+	private long paidQuantity;
+
+	@Column(nullable = false)
+	private long canceledAmount;
+
+	@Column(nullable = false)
+	private long canceledQuantity;
+
+	@Column(nullable = false)
+	private long refundedAmount;
+
+	@Column(nullable = false)
+	private long refundedQuantity;
+}
@@ -0,0 +1,58 @@
+package store.buzzbook.core.entity.payment;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 결제 수단별 매출 집계
+ * 결제 내역이 쌓일 때마다 결제일과 결제 수단 행에 결제, 취소, 반품 금액과 건수를 더해 둡니다.
+ * 쿠폰 결제 내역은 쿠폰 코드 대신 COUPON 으로 묶습니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "revenue_daily_payment", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_revenue_daily_payment", columnNames = {"sales_date", "payment"})
+})
+public class RevenueDailyPayment {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(name = "sales_date", nullable = false)
+	private LocalDate salesDate;
+
+	@Column(nullable = false, length = 20)
+	private String payment;
+
+	@Column(nullable = false)
+	private long paidAmount;
+
+	@Column(nullable = false)
+	private long paidCount;
+
+	@Column(nullable = false)
+	private long canceledAmount;
+
+	@Column(nullable = false)
+	private long canceledCount;
+
+	@Column(nullable = false)
+	private long refundedAmount;
+
+	@Column(nullable = false)
+	private long refundedCount;
+}
@@ -0,0 +1,37 @@
+package store.buzzbook.core.entity.payment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 정산 파일 적재 테이블
+ * 대사 중에만 정산 파일의 결제 키를 담아 두고, 결제 내역에는 있는데 정산 파일에 없는 결제를 찾는 데 씁니다. 대사가 끝나면 지웁니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "settlement_entry", indexes = {
+	@Index(name = "idx_settlement_entry_reconciliation_key", columnList = "reconciliation_id, payment_key")
+})
+public class SettlementEntry {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(name = "reconciliation_id", nullable = false)
+	private long reconciliationId;
+
+	@Column(name = "payment_key", nullable = false)
+	private String paymentKey;
+}
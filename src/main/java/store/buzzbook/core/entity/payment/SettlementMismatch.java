@@ -0,0 +1,69 @@
+package store.buzzbook.core.entity.payment;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 정산 불일치
+ * 정산 파일과 결제 내역의 승인, 취소 금액과 상태를 결제 키 단위로 비교해 다른 건을 남깁니다.
+ * 한쪽에만 있는 결제는 없는 쪽의 값이 비어 있습니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "settlement_mismatch", indexes = {
+	@Index(name = "idx_settlement_mismatch_reconciliation", columnList = "reconciliation_id, type")
+})
+public class SettlementMismatch {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(name = "reconciliation_id", nullable = false)
+	private long reconciliationId;
+
+	@Column(name = "payment_key", nullable = false)
+	private String paymentKey;
+
+	@Column(nullable = false, length = 30)
+	@Enumerated(EnumType.STRING)
+	private Type type;
+
+	@Column(length = 20)
+	@Enumerated(EnumType.STRING)
+	private BillStatus settlementStatus;
+
+	private Long settlementApprovedAmount;
+
+	private Long settlementCanceledAmount;
+
+	@Column(length = 20)
+	@Enumerated(EnumType.STRING)
+	private BillStatus billStatus;
+
+	private Long billApprovedAmount;
+
+	private Long billCanceledAmount;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	public enum Type {
+		MISSING_IN_BILL_LOG, MISSING_IN_SETTLEMENT, AMOUNT_MISMATCH, STATUS_MISMATCH
+	}
+}
@@ -0,0 +1,71 @@
+package store.buzzbook.core.entity.payment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 정산 대사 실행 기록
+ * 정산일마다 한 번씩 실행하며, 불일치 건은 정산 불일치 테이블에 이 실행의 아이디로 남깁니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "settlement_reconciliation", indexes = {
+	@Index(name = "idx_settlement_reconciliation_date", columnList = "settlement_date")
+})
+public class SettlementReconciliation {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(name = "settlement_date", nullable = false)
+	private LocalDate settlementDate;
+
+	@Column(nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private Status status;
+
+	private long settlementRows;
+
+	private long matched;
+
+	private long mismatched;
+
+	@Column(nullable = false)
+	private LocalDateTime startedAt;
+
+	private LocalDateTime finishedAt;
+
+	public void complete(long settlementRows, long matched, long mismatched) {
+		this.status = Status.COMPLETED;
+		this.settlementRows = settlementRows;
+		this.matched = matched;
+		this.mismatched = mismatched;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public void fail() {
+		this.status = Status.FAILED;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public enum Status {
+		RUNNING, COMPLETED, FAILED
+	}
+}
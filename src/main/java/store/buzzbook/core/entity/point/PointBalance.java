@@ -0,0 +1,42 @@
+package store.buzzbook.core.entity.point;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 포인트 잔액
+ * 포인트 내역을 남길 때 같은 트랜잭션에서 잔액을 더하고 버전을 올려, 잔액은 회원 아이디 한 번의 조회로 읽습니다.
+ * 잔액이 바뀔 때마다 버전이 오르므로 대사 작업은 읽은 버전 그대로일 때만 잔액을 고칩니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Entity
+@Table(name = "point_balance")
+public class PointBalance {
+
+	@Id
+	@Column(name = "user_id")
+	private long userId;
+
+	@Column(nullable = false)
+	private int balance;
+
+	@Version
+	@Column(nullable = false)
+	private long version;
+
+	@Column(nullable = false, name = "updated_at")
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,80 @@
+package store.buzzbook.core.entity.point;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.buzzbook.core.entity.user.UserStatus;
+
+/**
+ * 포인트 일괄 지급 캠페인
+ * 대상 회원을 회원 아이디 순으로 청크 단위로 지급하고, 청크마다 지급과 같은 트랜잭션에서 마지막 회원 아이디와 지급 회원 수를 남깁니다.
+ * 중간에 멈추면 마지막 회원 아이디 다음부터 이어서 지급합니다.
+ * 회원 아이디 목록으로 만든 캠페인은 대상을 point_campaign_target 에 두고, 회원 상태로 만든 캠페인은 만들 때의 마지막 회원 아이디까지만 지급합니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "point_campaign", indexes = {
+	@Index(name = "idx_point_campaign_status", columnList = "status, updated_at")
+})
+public class PointCampaign {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(nullable = false)
+	private String inquiry;
+
+	@Column(nullable = false)
+	private int point;
+
+	@Column(name = "target_listed", nullable = false)
+	private boolean targetListed;
+
+	@Column(name = "user_status", length = 20)
+	@Enumerated(EnumType.STRING)
+	private UserStatus userStatus;
+
+	@Column(name = "max_user_id", nullable = false)
+	private long maxUserId;
+
+	@Column(name = "target_users", nullable = false)
+	private long targetUsers;
+
+	@Column(name = "granted_users", nullable = false)
+	private long grantedUsers;
+
+	@Column(name = "last_user_id", nullable = false)
+	private long lastUserId;
+
+	@Column(nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private Status status;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+	public enum Status {
+		RUNNING, DONE
+	}
+}
@@ -0,0 +1,37 @@
+package store.buzzbook.core.entity.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 아이디 목록으로 만든 포인트 캠페인의 대상 회원
+ * (캠페인, 회원) 유니크 인덱스로 대상을 회원 아이디 순으로 키셋 조회합니다.
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "point_campaign_target", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_point_campaign_target", columnNames = {"campaign_id", "user_id"})
+})
+public class PointCampaignTarget {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(name = "campaign_id", nullable = false)
+	private long campaignId;
+
+	@Column(name = "user_id", nullable = false)
+	private long userId;
+}
@@ -15,6 +15,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import store.buzzbook.core.entity.order.OrderDetail;
+import store.buzzbook.core.entity.order.OrderDetailArchive;
 
 @Getter
 @Table(name = "review")
@@ -38,10 +39,17 @@ public class Review {
 	@Column(nullable = false)
 	private LocalDateTime reviewCreatedAt;
 
+	/**
+	 * 리뷰한 주문 상세. 주문이 보관되면 비우고 archivedOrderDetail로 옮깁니다.
+	 */
 	@OneToOne
-	@JoinColumn(name = "order_detail_id", unique = true, nullable = false)
+	@JoinColumn(name = "order_detail_id", unique = true)
 	private OrderDetail orderDetail;
 
+	@OneToOne
+	@JoinColumn(name = "order_detail_archive_id", unique = true)
+	private OrderDetailArchive archivedOrderDetail;
+
 	public Review(String content, String picturePath, int reviewScore, OrderDetail orderDetail) {
 		this.content = content;
 		this.picturePath = picturePath;
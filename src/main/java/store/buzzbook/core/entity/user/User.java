@@ -11,9 +11,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
@@ -33,7 +37,9 @@ import store.buzzbook.core.dto.user.UserInfo;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "`user`")
+@Table(name = "`user`", indexes = {
+	@Index(name = "idx_user_birth_month", columnList = "birth_month, id"),
+	@Index(name = "idx_user_status_last_login_at", columnList = "status, last_login_at, id")})
 public class User {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -89,6 +95,21 @@ public class User {
 	@ColumnDefault("false")
 	private boolean isAdmin;
 
+	/**
+	 * 현재 등급. 등급 내역을 남길 때 함께 바꿔 등급 내역을 정렬하지 않고 읽습니다.
+	 */
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "grade_id")
+	private Grade grade;
+
+	/**
+	 * 생일의 월. 생일 쿠폰 대상을 인덱스로 찾습니다.
+	 * DB가 생일에서 계산하는 생성 컬럼이라 컬럼을 추가할 때 기존 회원도 채워지고, 애플리케이션은 쓰지 않습니다.
+	 */
+	@Column(name = "birth_month", insertable = false, updatable = false,
+		columnDefinition = "INT GENERATED ALWAYS AS (MONTH(birthday))")
+	private Integer birthMonth;
+
 	public void deactivate() {
 		this.status = UserStatus.WITHDRAW;
 	}
@@ -97,6 +118,10 @@ public class User {
 		this.status = UserStatus.ACTIVE;
 	}
 
+	public void changeGrade(Grade grade) {
+		this.grade = grade;
+	}
+
 	public void updateLastLoginAt() {
 		this.lastLoginAt = LocalDateTime.now();
 	}
@@ -2,6 +2,7 @@ package store.buzzbook.core.mapper.payment;
 
 import store.buzzbook.core.dto.payment.ReadBillLogWithoutOrderResponse;
 import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.payment.BillLogArchive;
 
 public class BillLogMapper {
 	public static ReadBillLogWithoutOrderResponse toDtoWithoutOrder(BillLog billLog) {
@@ -15,4 +16,16 @@ public class BillLogMapper {
 			.cancelReason(billLog.getCancelReason())
 			.build();
 	}
+
+	public static ReadBillLogWithoutOrderResponse toDtoWithoutOrder(BillLogArchive billLog) {
+		return ReadBillLogWithoutOrderResponse.builder()
+			.id(billLog.getId())
+			.price(billLog.getPrice())
+			.payAt(billLog.getPayAt())
+			.paymentKey(billLog.getPaymentKey())
+			.status(billLog.getStatus())
+			.payment(billLog.getPayment())
+			.cancelReason(billLog.getCancelReason())
+			.build();
+	}
 }
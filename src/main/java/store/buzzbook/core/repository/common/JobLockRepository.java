@@ -0,0 +1,8 @@
+package store.buzzbook.core.repository.common;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import store.buzzbook.core.entity.common.JobLock;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String>, JobLockRepositoryCustom {
+}
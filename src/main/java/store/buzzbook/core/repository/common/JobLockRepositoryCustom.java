@@ -0,0 +1,11 @@
+package store.buzzbook.core.repository.common;
+
+import java.time.LocalDateTime;
+
+public interface JobLockRepositoryCustom {
+	boolean acquire(String name, String token, LocalDateTime now, LocalDateTime lockedUntil);
+
+	int renew(String name, String token, LocalDateTime lockedUntil);
+
+	int release(String name, String token, LocalDateTime now);
+}
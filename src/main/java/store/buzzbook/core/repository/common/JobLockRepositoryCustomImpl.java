@@ -0,0 +1,48 @@
+package store.buzzbook.core.repository.common;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배치 작업 잠금 획득과 반납
+ * 만료된 잠금일 때만 UPDATE 로 가져가고, 작업 행이 없으면 INSERT 하므로 여러 실행 중 한 실행만 잠금을 얻습니다.
+ * 동시에 처음 INSERT 한 실행끼리는 기본 키 중복으로 한 실행만 성공합니다.
+ * 늘리기와 반납은 owner 가 잠금을 잡을 때 받은 토큰과 같은 행만 바꿉니다.
+ */
+@RequiredArgsConstructor
+public class JobLockRepositoryCustomImpl implements JobLockRepositoryCustom {
+	private static final String ACQUIRE =
+		"UPDATE job_lock SET owner = ?, locked_until = ? WHERE name = ? AND locked_until <= ?";
+	private static final String INSERT = "INSERT INTO job_lock (name, owner, locked_until) VALUES (?, ?, ?)";
+	private static final String SET_LOCKED_UNTIL = "UPDATE job_lock SET locked_until = ? WHERE name = ? AND owner = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public boolean acquire(String name, String token, LocalDateTime now, LocalDateTime lockedUntil) {
+		Timestamp until = Timestamp.valueOf(lockedUntil);
+		if (jdbcTemplate.update(ACQUIRE, token, until, name, Timestamp.valueOf(now)) == 1) {
+			return true;
+		}
+		try {
+			return jdbcTemplate.update(INSERT, name, token, until) == 1;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public int renew(String name, String token, LocalDateTime lockedUntil) {
+		return jdbcTemplate.update(SET_LOCKED_UNTIL, Timestamp.valueOf(lockedUntil), name, token);
+	}
+
+	@Override
+	public int release(String name, String token, LocalDateTime now) {
+		return jdbcTemplate.update(SET_LOCKED_UNTIL, Timestamp.valueOf(now), name, token);
+	}
+}
@@ -0,0 +1,37 @@
+package store.buzzbook.core.repository.order;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import store.buzzbook.core.entity.order.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+	Optional<IdempotencyRecord> findByIdempotencyKey(String idempotencyKey);
+
+	@Modifying
+	@Query("update IdempotencyRecord r set r.status = :completed, r.response = :response "
+		+ "where r.idempotencyKey = :idempotencyKey")
+	int complete(@Param("idempotencyKey") String idempotencyKey,
+		@Param("completed") IdempotencyRecord.Status completed, @Param("response") String response);
+
+	// 처리 중인 채로 오래 남은 키(서버 중단 등)는 새 요청이 이어받습니다.
+	@Modifying
+	@Query("update IdempotencyRecord r set r.createdAt = :now "
+		+ "where r.idempotencyKey = :idempotencyKey and r.status = :inProgress and r.createdAt < :expiredBefore")
+	int reclaim(@Param("idempotencyKey") String idempotencyKey,
+		@Param("inProgress") IdempotencyRecord.Status inProgress,
+		@Param("expiredBefore") LocalDateTime expiredBefore, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("delete from IdempotencyRecord r where r.idempotencyKey = :idempotencyKey")
+	int deleteByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+	@Modifying
+	@Query("delete from IdempotencyRecord r where r.createdAt < :before")
+	int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,21 @@
+package store.buzzbook.core.repository.order;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import store.buzzbook.core.entity.order.MyOrderSummary;
+
+public interface MyOrderSummaryRepository extends JpaRepository<MyOrderSummary, Long> {
+	Slice<MyOrderSummary> findAllByLoginIdOrderByDesiredDeliveryDateDescOrderIdDesc(String loginId, Pageable pageable);
+
+	@Query("select s from MyOrderSummary s where s.loginId = :loginId and (s.desiredDeliveryDate < :desiredDeliveryDate "
+		+ "or (s.desiredDeliveryDate = :desiredDeliveryDate and s.orderId < :orderId)) "
+		+ "order by s.desiredDeliveryDate desc, s.orderId desc")
+	Slice<MyOrderSummary> findAllByLoginIdAfter(@Param("loginId") String loginId,
+		@Param("desiredDeliveryDate") LocalDate desiredDeliveryDate, @Param("orderId") long orderId, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package store.buzzbook.core.repository.order;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import store.buzzbook.core.entity.order.OrderArchive;
+
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long>, OrderArchiveRepositoryCustom {
+	Optional<OrderArchive> findByOrderStr(String orderStr);
+}
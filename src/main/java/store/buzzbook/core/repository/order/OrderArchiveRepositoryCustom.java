@@ -0,0 +1,29 @@
+package store.buzzbook.core.repository.order;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import store.buzzbook.core.entity.order.OrderArchive;
+
+public interface OrderArchiveRepositoryCustom {
+	List<Long> findArchivableOrderIds(long afterOrderId, LocalDate desiredDeliveryDateBefore,
+		Collection<Integer> orderStatusIds, int limit);
+
+	int insertAll(List<OrderArchive> archives);
+
+	int copyBillLogs(Collection<Long> orderIds);
+
+	int copyOrderDetails(Collection<Long> orderIds);
+
+	/**
+	 * 주문들의 주문 상세에 달린 리뷰가 보관 주문 상세를 참조하도록 옮깁니다. copyOrderDetails 뒤에 불러야 합니다.
+	 */
+	int moveReviews(Collection<Long> orderIds);
+
+	int deleteBillLogs(Collection<Long> orderIds);
+
+	int deleteOrderDetails(Collection<Long> orderIds);
+
+	int deleteOrders(Collection<Long> orderIds);
+}
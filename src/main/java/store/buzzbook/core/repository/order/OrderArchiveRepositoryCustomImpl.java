@@ -0,0 +1,137 @@
+package store.buzzbook.core.repository.order;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.entity.order.OrderArchive;
+
+/**
+ * 주문을 보관 테이블로 옮깁니다.
+ * 주문 아이디 키셋으로 대상을 고르고, 보관 행을 배치 INSERT 한 뒤 결제 내역, 주문 상세, 주문 순으로 집합 단위 DELETE 합니다.
+ * 결제 내역과 주문 상세는 원래 아이디 그대로 보관 테이블에 복사하고, 리뷰는 지우기 전에 보관 주문 상세를 참조하도록 옮깁니다.
+ */
+@RequiredArgsConstructor
+public class OrderArchiveRepositoryCustomImpl implements OrderArchiveRepositoryCustom {
+	private static final String SELECT_ARCHIVABLE =
+		"SELECT o.id FROM `order` o WHERE o.id > ? AND o.desired_delivery_date < ? AND o.order_status_id IN (%s) "
+			+ "ORDER BY o.id LIMIT ?";
+	private static final String INSERT_ORDER_ARCHIVE =
+		"INSERT INTO order_archive (order_id, order_str, login_id, user_id, delivery_rate, desired_delivery_date, "
+			+ "document, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String COPY_BILL_LOGS =
+		"INSERT INTO bill_log_archive (id, payment, price, pay_at, order_id, status, payment_key, cancel_reason, "
+			+ "archived_at) SELECT id, payment, price, pay_at, order_id, status, payment_key, cancel_reason, ? "
+			+ "FROM bill_log WHERE order_id IN (%s)";
+	private static final String COPY_ORDER_DETAILS =
+		"INSERT INTO order_detail_archive (id, order_id, user_id, product_id, price, quantity, wrap, order_status_id, "
+			+ "wrapping_id, create_at, update_at, archived_at) SELECT d.id, d.order_id, o.user_id, d.product_id, d.price, "
+			+ "d.quantity, d.wrap, d.order_status_id, d.wrapping_id, d.create_at, d.update_at, ? "
+			+ "FROM order_detail d JOIN `order` o ON o.id = d.order_id WHERE d.order_id IN (%s)";
+	private static final String MOVE_REVIEWS =
+		"UPDATE review SET order_detail_archive_id = order_detail_id, order_detail_id = NULL "
+			+ "WHERE order_detail_id IN (SELECT id FROM order_detail WHERE order_id IN (%s))";
+	private static final String DELETE_BILL_LOGS = "DELETE FROM bill_log WHERE order_id IN (%s)";
+	private static final String DELETE_ORDER_DETAILS = "DELETE FROM order_detail WHERE order_id IN (%s)";
+	private static final String DELETE_ORDERS = "DELETE FROM `order` WHERE id IN (%s)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Long> findArchivableOrderIds(long afterOrderId, LocalDate desiredDeliveryDateBefore,
+		Collection<Integer> orderStatusIds, int limit) {
+		if (orderStatusIds.isEmpty()) {
+			return List.of();
+		}
+		List<Object> args = new ArrayList<>(3 + orderStatusIds.size());
+		args.add(afterOrderId);
+		args.add(Date.valueOf(desiredDeliveryDateBefore));
+		args.addAll(orderStatusIds);
+		args.add(limit);
+
+		return jdbcTemplate.queryForList(SELECT_ARCHIVABLE.formatted(placeholders(orderStatusIds.size())),
+			Long.class, args.toArray());
+	}
+
+	@Override
+	public int insertAll(List<OrderArchive> archives) {
+		if (archives.isEmpty()) {
+			return 0;
+		}
+		jdbcTemplate.batchUpdate(INSERT_ORDER_ARCHIVE, archives, archives.size(), (ps, archive) -> {
+			ps.setLong(1, archive.getOrderId());
+			ps.setString(2, archive.getOrderStr());
+			ps.setString(3, archive.getLoginId());
+			ps.setObject(4, archive.getUserId(), Types.BIGINT);
+			ps.setInt(5, archive.getDeliveryRate());
+			ps.setDate(6, Date.valueOf(archive.getDesiredDeliveryDate()));
+			ps.setString(7, archive.getDocument());
+			ps.setTimestamp(8, Timestamp.valueOf(archive.getArchivedAt()));
+		});
+		return archives.size();
+	}
+
+	@Override
+	public int copyBillLogs(Collection<Long> orderIds) {
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+		List<Object> args = new ArrayList<>(1 + orderIds.size());
+		args.add(Timestamp.valueOf(LocalDateTime.now()));
+		args.addAll(orderIds);
+
+		return jdbcTemplate.update(COPY_BILL_LOGS.formatted(placeholders(orderIds.size())), args.toArray());
+	}
+
+	@Override
+	public int copyOrderDetails(Collection<Long> orderIds) {
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+		List<Object> args = new ArrayList<>(1 + orderIds.size());
+		args.add(Timestamp.valueOf(LocalDateTime.now()));
+		args.addAll(orderIds);
+
+		return jdbcTemplate.update(COPY_ORDER_DETAILS.formatted(placeholders(orderIds.size())), args.toArray());
+	}
+
+	@Override
+	public int moveReviews(Collection<Long> orderIds) {
+		return updateIn(MOVE_REVIEWS, orderIds);
+	}
+
+	@Override
+	public int deleteBillLogs(Collection<Long> orderIds) {
+		return updateIn(DELETE_BILL_LOGS, orderIds);
+	}
+
+	@Override
+	public int deleteOrderDetails(Collection<Long> orderIds) {
+		return updateIn(DELETE_ORDER_DETAILS, orderIds);
+	}
+
+	@Override
+	public int deleteOrders(Collection<Long> orderIds) {
+		return updateIn(DELETE_ORDERS, orderIds);
+	}
+
+	private int updateIn(String sql, Collection<Long> orderIds) {
+		if (orderIds.isEmpty()) {
+			return 0;
+		}
+		return jdbcTemplate.update(sql.formatted(placeholders(orderIds.size())), orderIds.toArray());
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
@@ -10,7 +10,7 @@ import org.springframework.data.repository.query.Param;
 
 import store.buzzbook.core.entity.order.OrderDetail;
 
-public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long> {
+public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long>, OrderDetailRepositoryCustom {
 	List<OrderDetail> findAllByOrder_IdAndOrder_User_LoginId(long orderId, String loginId);
 	List<OrderDetail> findAllByOrder_IdAndOrder_OrderEmail(long orderId, String orderEmail);
 
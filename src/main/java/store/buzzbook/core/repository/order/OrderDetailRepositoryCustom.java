@@ -0,0 +1,9 @@
+package store.buzzbook.core.repository.order;
+
+import java.util.List;
+
+import store.buzzbook.core.entity.order.OrderDetail;
+
+public interface OrderDetailRepositoryCustom {
+	List<OrderDetail> saveAllInBatch(List<OrderDetail> orderDetails);
+}
@@ -0,0 +1,91 @@
+package store.buzzbook.core.repository.order;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.entity.order.OrderDetail;
+
+/**
+ * 주문 상세를 JDBC 배치로 저장합니다.
+ * IDENTITY 전략에서는 Hibernate 배치 insert가 동작하지 않으므로 직접 배치로 전송하고 생성된 키를 돌려받습니다.
+ */
+
+@RequiredArgsConstructor
+public class OrderDetailRepositoryCustomImpl implements OrderDetailRepositoryCustom {
+	private static final String INSERT_ORDER_DETAIL =
+		"INSERT INTO order_detail (price, quantity, wrap, order_status_id, wrapping_id, product_id, order_id, create_at, update_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<OrderDetail> saveAllInBatch(List<OrderDetail> orderDetails) {
+		if (orderDetails.isEmpty()) {
+			return List.of();
+		}
+
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+
+		jdbcTemplate.batchUpdate(
+			connection -> connection.prepareStatement(INSERT_ORDER_DETAIL, Statement.RETURN_GENERATED_KEYS),
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					OrderDetail orderDetail = orderDetails.get(i);
+					ps.setInt(1, orderDetail.getPrice());
+					ps.setInt(2, orderDetail.getQuantity());
+					ps.setBoolean(3, orderDetail.isWrap());
+					ps.setInt(4, orderDetail.getOrderStatus().getId());
+					if (orderDetail.getWrapping() != null) {
+						ps.setInt(5, orderDetail.getWrapping().getId());
+					} else {
+						ps.setNull(5, Types.INTEGER);
+					}
+					ps.setInt(6, orderDetail.getProduct().getId());
+					ps.setLong(7, orderDetail.getOrder().getId());
+					ps.setTimestamp(8, Timestamp.valueOf(orderDetail.getCreateAt()));
+					ps.setTimestamp(9, Timestamp.valueOf(orderDetail.getUpdateAt()));
+				}
+
+				@Override
+				public int getBatchSize() {
+					return orderDetails.size();
+				}
+			}, keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		List<OrderDetail> saved = new ArrayList<>(orderDetails.size());
+
+		for (int i = 0; i < orderDetails.size(); i++) {
+			OrderDetail orderDetail = orderDetails.get(i);
+			long id = ((Number)keys.get(i).values().iterator().next()).longValue();
+
+			saved.add(OrderDetail.builder()
+				.id(id)
+				.price(orderDetail.getPrice())
+				.quantity(orderDetail.getQuantity())
+				.wrap(orderDetail.isWrap())
+				.orderStatus(orderDetail.getOrderStatus())
+				.wrapping(orderDetail.getWrapping())
+				.product(orderDetail.getProduct())
+				.order(orderDetail.getOrder())
+				.createAt(orderDetail.getCreateAt())
+				.updateAt(orderDetail.getUpdateAt())
+				.build());
+		}
+
+		return saved;
+	}
+}
@@ -0,0 +1,52 @@
+package store.buzzbook.core.repository.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import store.buzzbook.core.entity.order.OrderOutbox;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+	// 여러 서버의 릴레이가 같은 행을 동시에 발행하지 않도록 잠긴 행은 건너뜁니다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("select o from OrderOutbox o where o.status = :pending "
+		+ "or (o.status = :published and o.publishedAt < :republishBefore) order by o.id")
+	List<OrderOutbox> findRelayTargets(@Param("pending") OrderOutbox.Status pending,
+		@Param("published") OrderOutbox.Status published,
+		@Param("republishBefore") LocalDateTime republishBefore, Pageable pageable);
+
+	List<OrderOutbox> findAllByOrderIdAndStatusNotOrderById(long orderId, OrderOutbox.Status status);
+
+	@Query("select o.accessToken from OrderOutbox o where o.id = :id")
+	Optional<String> findAccessTokenById(@Param("id") long id);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update OrderOutbox o set o.status = :published, o.publishedAt = :publishedAt, o.attempts = o.attempts + 1 "
+		+ "where o.id in :ids and o.status <> :done")
+	int markPublished(@Param("ids") Collection<Long> ids, @Param("published") OrderOutbox.Status published,
+		@Param("done") OrderOutbox.Status done, @Param("publishedAt") LocalDateTime publishedAt);
+
+	// 처리 완료로 바꾼 행이 없으면 이미 다른 컨슈머가 처리한 것입니다.
+	@Modifying
+	@Query("update OrderOutbox o set o.status = :done, o.accessToken = null where o.id = :id and o.status <> :done")
+	int markDone(@Param("id") long id, @Param("done") OrderOutbox.Status done);
+
+	// 그사이 처리된 행은 실패로 바꾸지 않습니다.
+	@Modifying(clearAutomatically = true)
+	@Query("update OrderOutbox o set o.status = :failed, o.accessToken = null "
+		+ "where o.id in :ids and o.status = :published")
+	int markFailed(@Param("ids") Collection<Long> ids, @Param("published") OrderOutbox.Status published,
+		@Param("failed") OrderOutbox.Status failed);
+}
@@ -1,5 +1,8 @@
 package store.buzzbook.core.repository.order;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -10,6 +13,7 @@ import store.buzzbook.core.dto.payment.ReadBillLogsRequest;
 
 public interface OrderQuerydslRepository {
 	Slice<ReadOrdersResponse> findAll(ReadOrdersRequest request, Pageable pageable);
-	Slice<ReadOrdersResponse> findAllByUser_LoginId(ReadOrdersRequest request, String loginId, Pageable pageable);
+	List<ReadOrdersResponse> findAllByIdIn(Collection<Long> orderIds);
+	List<Long> findMemberOrderIdsAfter(long lastOrderId, int limit);
 	Slice<ReadOrderWithBillLogsResponse> readOrdersWithBillLogs(ReadBillLogsRequest request, Pageable pageable);
 }
@@ -2,22 +2,28 @@ package store.buzzbook.core.repository.order;
 
 import static store.buzzbook.core.entity.order.QOrder.*;
 import static store.buzzbook.core.entity.order.QOrderDetail.*;
+import static store.buzzbook.core.entity.order.QWrapping.*;
 import static store.buzzbook.core.entity.payment.QBillLog.*;
 import static store.buzzbook.core.entity.user.QUser.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.dto.order.OrderCursor;
 import store.buzzbook.core.dto.order.ReadOrderDetailProjectionResponse;
 import store.buzzbook.core.dto.order.ReadOrderWithBillLogsResponse;
 import store.buzzbook.core.dto.order.ReadOrdersRequest;
@@ -31,86 +37,74 @@ public class OrderQuerydslRepositoryImpl implements OrderQuerydslRepository {
 
 	@Override
 	public Slice<ReadOrdersResponse> findAll(ReadOrdersRequest request, Pageable pageable) {
-		List<ReadOrdersResponse> results = jpaQueryFactory
-			.select(order)
+		List<Long> orderIds = jpaQueryFactory
+			.select(order.id)
 			.from(order)
-			.join(order.user).on(order.user.id.eq(user.id))
-			.leftJoin(order.details, orderDetail)
-			.orderBy(order.desiredDeliveryDate.desc())
+			.join(order.user, user)
+			.where(afterCursor(request.getCursor()))
+			.orderBy(order.desiredDeliveryDate.desc(), order.id.desc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize() + 1)
-			.transform(GroupBy.groupBy(order.orderStr).list(Projections.constructor(
-				ReadOrdersResponse.class,
-				order.id.as("id"),
-				order.orderStr.as("orderStr"),
-				order.user.loginId.as("loginId"),
-				order.price.as("price"),
-				order.request.as("request"),
-				order.address.as("address"),
-				order.addressDetail.as("addressDetail"),
-				order.zipcode.as("zipcode"),
-				order.desiredDeliveryDate.as("desiredDeliveryDate"),
-				order.receiver.as("receiver"),
-				GroupBy.list(Projections.fields(
-					ReadOrderDetailProjectionResponse.class,
-					orderDetail.id.as("orderDetailId"),
-					orderDetail.price.as("orderDetailPrice"),
-					orderDetail.quantity.as("orderDetailQuantity"),
-					ExpressionUtils.as(
-						Expressions.stringTemplate(
-							"CASE WHEN {0} = true THEN 'true' ELSE 'false' END",
-							orderDetail.wrap
-						),
-						"orderDetailWrap"
-					),
-					orderDetail.createAt.as("orderDetailCreatedAt"),
-					orderDetail.orderStatus.name.as("orderDetailStatusName"),
-					orderDetail.wrapping.paper.as("orderDetailWrappingPaper"),
-					orderDetail.product.productName.as("orderDetailProductName"),
-					orderDetail.updateAt.as("orderDetailUpdatedAt")
-				)),
-				order.sender.as("sender"),
-				order.receiverContactNumber.as("receiverContactNumber"),
-				order.senderContactNumber.as("senderContactNumber"),
-				order.couponCode.as("couponCode"),
-				order.deliveryRate.as("deliveryRate"),
-				order.orderEmail.as("orderEmail"),
-				order.orderStatus.name.as("orderStatus"),
-				order.deductedPoints.as("deductedPoints"),
-				order.earnedPoints.as("earnedPoints"),
-				order.deductedCouponPrice.as("deductedCouponPrice")
-			)));
+			.fetch();
+
+		return checkEndPage(orderIds, pageable);
+	}
+
+	@Override
+	public List<ReadOrdersResponse> findAllByIdIn(Collection<Long> orderIds) {
+		return readOrdersByIds(orderIds);
+	}
 
-		return checkEndPage(results, pageable);
+	@Override
+	public List<Long> findMemberOrderIdsAfter(long lastOrderId, int limit) {
+		return jpaQueryFactory
+			.select(order.id)
+			.from(order)
+			.where(order.user.isNotNull(), order.id.gt(lastOrderId))
+			.orderBy(order.id.asc())
+			.limit(limit)
+			.fetch();
 	}
 
-	private Slice<ReadOrdersResponse> checkEndPage(List<ReadOrdersResponse> orders, Pageable pageable) {
+	private BooleanExpression afterCursor(String cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		OrderCursor orderCursor = OrderCursor.decode(cursor);
+
+		return order.desiredDeliveryDate.lt(orderCursor.desiredDeliveryDate())
+			.or(order.desiredDeliveryDate.eq(orderCursor.desiredDeliveryDate())
+				.and(order.id.lt(orderCursor.id())));
+	}
+
+	private Slice<ReadOrdersResponse> checkEndPage(List<Long> orderIds, Pageable pageable) {
 		boolean hasNext = false;
-		if (orders.size() > pageable.getPageSize()) {
+		if (orderIds.size() > pageable.getPageSize()) {
 			hasNext = true;
-			orders.remove(pageable.getPageSize());
+			orderIds = orderIds.subList(0, pageable.getPageSize());
 		}
 
-		return new SliceImpl<>(orders, pageable, hasNext);
+		return new SliceImpl<>(readOrdersByIds(orderIds), pageable, hasNext);
 	}
 
-	@Override
-	public Slice<ReadOrdersResponse> findAllByUser_LoginId(ReadOrdersRequest request, String loginId,
-		Pageable pageable) {
-		List<ReadOrdersResponse> results = jpaQueryFactory
+	private List<ReadOrdersResponse> readOrdersByIds(Collection<Long> orderIds) {
+		if (orderIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		return jpaQueryFactory
 			.select(order)
 			.from(order)
-			.join(order.user).on(order.user.id.eq(user.id))
+			.leftJoin(order.user, user)
 			.leftJoin(order.details, orderDetail)
-			.where(order.user.loginId.eq(loginId))
-			.orderBy(order.desiredDeliveryDate.desc())
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize() + 1)
-			.transform(GroupBy.groupBy(order.orderStr).list(Projections.constructor(
+			.leftJoin(orderDetail.wrapping, wrapping)
+			.where(order.id.in(orderIds))
+			.orderBy(order.desiredDeliveryDate.desc(), order.id.desc(), orderDetail.id.asc())
+			.transform(GroupBy.groupBy(order.id).list(Projections.constructor(
 				ReadOrdersResponse.class,
 				order.id.as("id"),
 				order.orderStr.as("orderStr"),
-				order.user.loginId.as("loginId"),
+				user.loginId.as("loginId"),
 				order.price.as("price"),
 				order.request.as("request"),
 				order.address.as("address"),
@@ -132,7 +126,7 @@ public class OrderQuerydslRepositoryImpl implements OrderQuerydslRepository {
 					),
 					orderDetail.createAt.as("orderDetailCreatedAt"),
 					orderDetail.orderStatus.name.as("orderDetailStatusName"),
-					orderDetail.wrapping.paper.as("orderDetailWrappingPaper"),
+					wrapping.paper.as("orderDetailWrappingPaper"),
 					orderDetail.product.productName.as("orderDetailProductName"),
 					orderDetail.updateAt.as("orderDetailUpdatedAt")
 				)),
@@ -147,21 +141,37 @@ public class OrderQuerydslRepositoryImpl implements OrderQuerydslRepository {
 				order.earnedPoints.as("earnedPoints"),
 				order.deductedCouponPrice.as("deductedCouponPrice")
 			)));
-
-		return checkEndPage(results, pageable);
 	}
 
 	@Override
 	public Slice<ReadOrderWithBillLogsResponse> readOrdersWithBillLogs(ReadBillLogsRequest request, Pageable pageable) {
+		List<Long> orderIds = jpaQueryFactory
+			.select(billLog.order.id)
+			.from(billLog)
+			.where(billLogFilters(request), orderIdBefore(request.getCursor()))
+			.groupBy(billLog.order.id)
+			.orderBy(billLog.order.id.desc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize() + 1)
+			.fetch();
+
+		boolean hasNext = orderIds.size() > pageable.getPageSize();
+		if (hasNext) {
+			orderIds = orderIds.subList(0, pageable.getPageSize());
+		}
+
+		if (orderIds.isEmpty()) {
+			return new SliceImpl<>(new ArrayList<>(), pageable, false);
+		}
+
 		List<ReadOrderWithBillLogsResponse> results = jpaQueryFactory
 			.select(order)
 			.from(order)
 			.leftJoin(order.user, user)
-			.leftJoin(billLog).on(billLog.order.eq(order))
-			.orderBy(order.desiredDeliveryDate.desc())
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize() * 2)
-			.transform(GroupBy.groupBy(order.orderStr).list(
+			.join(billLog).on(billLog.order.eq(order))
+			.where(order.id.in(orderIds), billLogFilters(request))
+			.orderBy(order.id.desc(), billLog.id.asc())
+			.transform(GroupBy.groupBy(order.id).list(
 				Projections.constructor(ReadOrderWithBillLogsResponse.class,
 					order.id.as("orderId"),
 					order.orderStr.as("orderStr"),
@@ -195,12 +205,24 @@ public class OrderQuerydslRepositoryImpl implements OrderQuerydslRepository {
 					)
 				)));
 
-		boolean hasNext = results.size() > pageable.getPageSize();
+		return new SliceImpl<>(results, pageable, hasNext);
+	}
 
-		if (hasNext) {
-			results.subList(0, pageable.getPageSize());
-		}
+	private BooleanExpression orderIdBefore(Long cursor) {
+		return cursor == null ? null : billLog.order.id.lt(cursor);
+	}
 
-		return new SliceImpl<>(results, pageable, hasNext);
+	private BooleanBuilder billLogFilters(ReadBillLogsRequest request) {
+		BooleanBuilder builder = new BooleanBuilder();
+		if (request.getStartPayAt() != null) {
+			builder.and(billLog.payAt.goe(request.getStartPayAt()));
+		}
+		if (request.getEndPayAt() != null) {
+			builder.and(billLog.payAt.lt(request.getEndPayAt()));
+		}
+		if (request.getStatus() != null) {
+			builder.and(billLog.status.eq(request.getStatus()));
+		}
+		return builder;
 	}
 }
@@ -1,10 +1,40 @@
 package store.buzzbook.core.repository.order;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import store.buzzbook.core.entity.order.Order;
 
-public interface OrderRepository extends JpaRepository<Order, Long>, OrderQuerydslRepository {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderQuerydslRepository, OrderRepositoryCustom {
 	Order findByOrderStr(String orderStr);
+
+	//주문 조회 시 주문 상세, 상태, 포장, 상품, 카테고리를 한 번에 조회
+	@Query("SELECT DISTINCT o FROM Order o " +
+		"JOIN FETCH o.orderStatus " +
+		"LEFT JOIN FETCH o.user " +
+		"LEFT JOIN FETCH o.details d " +
+		"LEFT JOIN FETCH d.orderStatus " +
+		"LEFT JOIN FETCH d.wrapping " +
+		"LEFT JOIN FETCH d.product p " +
+		"LEFT JOIN FETCH p.category " +
+		"WHERE o.orderStr = :orderStr")
+	Optional<Order> findWithDetailsByOrderStr(@Param("orderStr") String orderStr);
+
+	//주문 보관 시 여러 주문을 주문 상세, 상태, 포장, 상품, 카테고리와 함께 한 번에 조회
+	@Query("SELECT DISTINCT o FROM Order o " +
+		"JOIN FETCH o.orderStatus " +
+		"LEFT JOIN FETCH o.user " +
+		"LEFT JOIN FETCH o.details d " +
+		"LEFT JOIN FETCH d.orderStatus " +
+		"LEFT JOIN FETCH d.wrapping " +
+		"LEFT JOIN FETCH d.product p " +
+		"LEFT JOIN FETCH p.category " +
+		"WHERE o.id IN :ids " +
+		"ORDER BY o.id")
+	List<Order> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,21 @@
+package store.buzzbook.core.repository.order;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import store.buzzbook.core.dto.order.ExportOrdersRequest;
+
+public interface OrderRepositoryCustom {
+	List<OrderStatusRow> findStatusesByOrderStrIn(Collection<String> orderStrs);
+
+	int updateOrderStatus(Collection<Long> orderIds, Collection<Integer> fromStatusIds, int toStatusId);
+
+	int updateOrderDetailStatus(Collection<Long> orderIds, Collection<Integer> fromStatusIds, int toStatusId);
+
+	void exportOrders(ExportOrdersRequest request, int fetchSize, RowCallbackHandler handler);
+
+	record OrderStatusRow(long id, String orderStr, int orderStatusId) {
+	}
+}
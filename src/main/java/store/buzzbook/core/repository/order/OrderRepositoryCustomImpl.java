@@ -0,0 +1,110 @@
+package store.buzzbook.core.repository.order;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.common.util.ExportWriter;
+import store.buzzbook.core.dto.order.ExportOrdersRequest;
+
+/**
+ * 주문 상태를 집합 단위 UPDATE로 변경합니다.
+ * 현재 상태가 허용된 출발 상태일 때만 바꾸므로, 조회 후 다른 요청이 먼저 상태를 바꿨다면 그 주문은 건너뜁니다.
+ * 주문 내보내기는 전진 전용 스트리밍 조회로 읽어 한 행씩 넘깁니다.
+ */
+
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+	private static final String SELECT_STATUSES =
+		"SELECT id, order_str, order_status_id FROM `order` WHERE order_str IN (%s)";
+	private static final String UPDATE_ORDER_STATUS =
+		"UPDATE `order` SET order_status_id = ? WHERE id IN (%s) AND order_status_id IN (%s)";
+	private static final String UPDATE_ORDER_DETAIL_STATUS =
+		"UPDATE order_detail SET order_status_id = ?, update_at = ? WHERE order_id IN (%s) AND order_status_id IN (%s)";
+
+	private static final String EXPORT_ORDERS =
+		"SELECT o.id, o.order_str, u.login_id, s.name AS order_status, o.price, o.delivery_rate, o.deducted_points, "
+			+ "o.earned_points, o.deducted_coupon_price, o.coupon_code, o.desired_delivery_date "
+			+ "FROM `order` o JOIN order_status s ON s.id = o.order_status_id LEFT JOIN `user` u ON u.id = o.user_id "
+			+ "WHERE 1 = 1";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<OrderStatusRow> findStatusesByOrderStrIn(Collection<String> orderStrs) {
+		if (orderStrs.isEmpty()) {
+			return List.of();
+		}
+		return jdbcTemplate.query(SELECT_STATUSES.formatted(placeholders(orderStrs.size())),
+			(rs, rowNum) -> new OrderStatusRow(rs.getLong("id"), rs.getString("order_str"),
+				rs.getInt("order_status_id")),
+			orderStrs.toArray());
+	}
+
+	@Override
+	public int updateOrderStatus(Collection<Long> orderIds, Collection<Integer> fromStatusIds, int toStatusId) {
+		if (orderIds.isEmpty() || fromStatusIds.isEmpty()) {
+			return 0;
+		}
+		List<Object> args = new ArrayList<>(1 + orderIds.size() + fromStatusIds.size());
+		args.add(toStatusId);
+		args.addAll(orderIds);
+		args.addAll(fromStatusIds);
+
+		return jdbcTemplate.update(UPDATE_ORDER_STATUS.formatted(placeholders(orderIds.size()),
+			placeholders(fromStatusIds.size())), args.toArray());
+	}
+
+	@Override
+	public int updateOrderDetailStatus(Collection<Long> orderIds, Collection<Integer> fromStatusIds, int toStatusId) {
+		if (orderIds.isEmpty() || fromStatusIds.isEmpty()) {
+			return 0;
+		}
+		List<Object> args = new ArrayList<>(2 + orderIds.size() + fromStatusIds.size());
+		args.add(toStatusId);
+		args.add(Timestamp.valueOf(LocalDateTime.now()));
+		args.addAll(orderIds);
+		args.addAll(fromStatusIds);
+
+		return jdbcTemplate.update(UPDATE_ORDER_DETAIL_STATUS.formatted(placeholders(orderIds.size()),
+			placeholders(fromStatusIds.size())), args.toArray());
+	}
+
+	@Override
+	public void exportOrders(ExportOrdersRequest request, int fetchSize, RowCallbackHandler handler) {
+		StringBuilder sql = new StringBuilder(EXPORT_ORDERS);
+		List<Object> args = new ArrayList<>();
+		if (request.getStartDate() != null) {
+			sql.append(" AND o.desired_delivery_date >= ?");
+			args.add(Date.valueOf(request.getStartDate()));
+		}
+		if (request.getEndDate() != null) {
+			sql.append(" AND o.desired_delivery_date <= ?");
+			args.add(Date.valueOf(request.getEndDate()));
+		}
+		if (request.getOrderStatusName() != null) {
+			sql.append(" AND s.name = ?");
+			args.add(request.getOrderStatusName());
+		}
+		if (request.getLoginId() != null) {
+			sql.append(" AND u.login_id = ?");
+			args.add(request.getLoginId());
+		}
+		sql.append(" ORDER BY o.id");
+
+		jdbcTemplate.query(connection -> ExportWriter.prepareStreaming(connection, sql.toString(), args, fetchSize),
+			handler);
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
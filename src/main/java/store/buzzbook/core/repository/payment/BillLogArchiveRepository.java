@@ -0,0 +1,19 @@
+package store.buzzbook.core.repository.payment;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import store.buzzbook.core.entity.payment.BillLogArchive;
+
+public interface BillLogArchiveRepository extends JpaRepository<BillLogArchive, Long> {
+	@Query("SELECT b FROM BillLogArchive b JOIN OrderArchive o ON o.orderId = b.orderId "
+		+ "WHERE o.orderStr = :orderStr ORDER BY b.id")
+	List<BillLogArchive> findByOrderStr(@Param("orderStr") String orderStr);
+
+	@Query("SELECT b FROM BillLogArchive b JOIN OrderArchive o ON o.orderId = b.orderId "
+		+ "WHERE o.orderStr = :orderStr AND o.userId = :userId ORDER BY b.id")
+	List<BillLogArchive> findByUserIdAndOrderStr(@Param("userId") long userId, @Param("orderStr") String orderStr);
+}
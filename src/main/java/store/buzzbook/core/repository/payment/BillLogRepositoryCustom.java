@@ -0,0 +1,9 @@
+package store.buzzbook.core.repository.payment;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import store.buzzbook.core.dto.payment.ExportBillLogsRequest;
+
+public interface BillLogRepositoryCustom {
+	void exportBillLogs(ExportBillLogsRequest request, int fetchSize, RowCallbackHandler handler);
+}
@@ -0,0 +1,51 @@
+package store.buzzbook.core.repository.payment;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.common.util.ExportWriter;
+import store.buzzbook.core.dto.payment.ExportBillLogsRequest;
+
+/**
+ * 결제 내역 내보내기는 전진 전용 스트리밍 조회로 읽어 한 행씩 넘깁니다.
+ */
+@RequiredArgsConstructor
+public class BillLogRepositoryCustomImpl implements BillLogRepositoryCustom {
+	private static final String EXPORT_BILL_LOGS =
+		"SELECT b.id, o.order_str, u.login_id, b.payment, b.price, b.pay_at, b.status, b.payment_key, "
+			+ "b.cancel_reason FROM bill_log b JOIN `order` o ON o.id = b.order_id "
+			+ "LEFT JOIN `user` u ON u.id = o.user_id WHERE 1 = 1";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void exportBillLogs(ExportBillLogsRequest request, int fetchSize, RowCallbackHandler handler) {
+		StringBuilder sql = new StringBuilder(EXPORT_BILL_LOGS);
+		List<Object> args = new ArrayList<>();
+		if (request.getStartPayAt() != null) {
+			sql.append(" AND b.pay_at >= ?");
+			args.add(Timestamp.valueOf(request.getStartPayAt()));
+		}
+		if (request.getEndPayAt() != null) {
+			sql.append(" AND b.pay_at < ?");
+			args.add(Timestamp.valueOf(request.getEndPayAt()));
+		}
+		if (request.getStatus() != null) {
+			sql.append(" AND b.status = ?");
+			args.add(request.getStatus().name());
+		}
+		if (request.getLoginId() != null) {
+			sql.append(" AND u.login_id = ?");
+			args.add(request.getLoginId());
+		}
+		sql.append(" ORDER BY b.id");
+
+		jdbcTemplate.query(connection -> ExportWriter.prepareStreaming(connection, sql.toString(), args, fetchSize),
+			handler);
+	}
+}
@@ -0,0 +1,8 @@
+package store.buzzbook.core.repository.payment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import store.buzzbook.core.entity.payment.RevenueDailyPayment;
+
+public interface RevenueRollupRepository extends JpaRepository<RevenueDailyPayment, Long>, RevenueRollupRepositoryCustom {
+}
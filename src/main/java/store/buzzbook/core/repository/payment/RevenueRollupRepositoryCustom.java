@@ -0,0 +1,27 @@
+package store.buzzbook.core.repository.payment;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import store.buzzbook.core.dto.payment.CategoryRevenueResponse;
+import store.buzzbook.core.dto.payment.DailyRevenueResponse;
+import store.buzzbook.core.dto.payment.PaymentRevenueResponse;
+import store.buzzbook.core.entity.payment.RevenueDailyCategory;
+import store.buzzbook.core.entity.payment.RevenueDailyPayment;
+
+public interface RevenueRollupRepositoryCustom {
+	int addPayments(List<RevenueDailyPayment> deltas);
+
+	int addCategories(List<RevenueDailyCategory> deltas);
+
+	List<DailyRevenueResponse> findDailyRevenues(LocalDate startDate, LocalDate endDate);
+
+	List<PaymentRevenueResponse> findPaymentRevenues(LocalDate startDate, LocalDate endDate);
+
+	List<CategoryRevenueResponse> findCategoryRevenues(LocalDate startDate, LocalDate endDate);
+
+	int rebuildPayments(LocalDate from, LocalDate to, Collection<String> payments);
+
+	int rebuildCategories(LocalDate from, LocalDate to, Collection<String> pgPayments);
+}
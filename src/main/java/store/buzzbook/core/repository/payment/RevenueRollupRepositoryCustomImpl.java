@@ -0,0 +1,213 @@
+package store.buzzbook.core.repository.payment;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.dto.payment.CategoryRevenueResponse;
+import store.buzzbook.core.dto.payment.DailyRevenueResponse;
+import store.buzzbook.core.dto.payment.PaymentRevenueResponse;
+import store.buzzbook.core.entity.payment.RevenueDailyCategory;
+import store.buzzbook.core.entity.payment.RevenueDailyPayment;
+
+/**
+ * 매출 집계 테이블 갱신과 조회
+ * 결제 내역이 쌓일 때는 INSERT ... ON DUPLICATE KEY UPDATE 로 일자 행에 더하고, 조회는 기간의 일자 행만 합산합니다.
+ * 재구성은 기간의 집계 행을 지우고 결제 내역(보관분 포함)을 GROUP BY 한 INSERT ... SELECT 로 다시 채웁니다.
+ */
+@RequiredArgsConstructor
+public class RevenueRollupRepositoryCustomImpl implements RevenueRollupRepositoryCustom {
+	private static final String COUPON = "COUPON";
+	private static final String PAID_STATUS = "'DONE'";
+	private static final String CANCELED_STATUS = "'CANCELED', 'PARTIAL_CANCELED'";
+	private static final String REFUNDED_STATUS = "'REFUND'";
+
+	private static final String UPSERT_PAYMENT =
+		"INSERT INTO revenue_daily_payment (sales_date, payment, paid_amount, paid_count, canceled_amount, "
+			+ "canceled_count, refunded_amount, refunded_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+			+ "ON DUPLICATE KEY UPDATE paid_amount = paid_amount + VALUES(paid_amount), "
+			+ "paid_count = paid_count + VALUES(paid_count), "
+			+ "canceled_amount = canceled_amount + VALUES(canceled_amount), "
+			+ "canceled_count = canceled_count + VALUES(canceled_count), "
+			+ "refunded_amount = refunded_amount + VALUES(refunded_amount), "
+			+ "refunded_count = refunded_count + VALUES(refunded_count)";
+	private static final String UPSERT_CATEGORY =
+		"INSERT INTO revenue_daily_category (sales_date, category_id, paid_amount, paid_quantity, canceled_amount, "
+			+ "canceled_quantity, refunded_amount, refunded_quantity) VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+			+ "ON DUPLICATE KEY UPDATE paid_amount = paid_amount + VALUES(paid_amount), "
+			+ "paid_quantity = paid_quantity + VALUES(paid_quantity), "
+			+ "canceled_amount = canceled_amount + VALUES(canceled_amount), "
+			+ "canceled_quantity = canceled_quantity + VALUES(canceled_quantity), "
+			+ "refunded_amount = refunded_amount + VALUES(refunded_amount), "
+			+ "refunded_quantity = refunded_quantity + VALUES(refunded_quantity)";
+
+	private static final String SELECT_DAILY =
+		"SELECT sales_date, SUM(paid_amount) AS paid_amount, SUM(canceled_amount) AS canceled_amount, "
+			+ "SUM(refunded_amount) AS refunded_amount FROM revenue_daily_payment "
+			+ "WHERE sales_date >= ? AND sales_date <= ? GROUP BY sales_date ORDER BY sales_date";
+	private static final String SELECT_PAYMENTS =
+		"SELECT payment, SUM(paid_amount) AS paid_amount, SUM(paid_count) AS paid_count, "
+			+ "SUM(canceled_amount) AS canceled_amount, SUM(canceled_count) AS canceled_count, "
+			+ "SUM(refunded_amount) AS refunded_amount, SUM(refunded_count) AS refunded_count "
+			+ "FROM revenue_daily_payment WHERE sales_date >= ? AND sales_date <= ? GROUP BY payment ORDER BY payment";
+	private static final String SELECT_CATEGORIES =
+		"SELECT r.category_id, c.name, SUM(r.paid_amount) AS paid_amount, SUM(r.paid_quantity) AS paid_quantity, "
+			+ "SUM(r.canceled_amount) AS canceled_amount, SUM(r.canceled_quantity) AS canceled_quantity, "
+			+ "SUM(r.refunded_amount) AS refunded_amount, SUM(r.refunded_quantity) AS refunded_quantity "
+			+ "FROM revenue_daily_category r LEFT JOIN category c ON c.id = r.category_id "
+			+ "WHERE r.sales_date >= ? AND r.sales_date <= ? GROUP BY r.category_id, c.name ORDER BY r.category_id";
+
+	private static final String DELETE_PAYMENTS =
+		"DELETE FROM revenue_daily_payment WHERE sales_date >= ? AND sales_date < ?";
+	private static final String NORMALIZED_PAYMENT =
+		"CASE WHEN payment IN (%1$s) THEN payment ELSE '" + COUPON + "' END AS payment";
+	private static final String INSERT_PAYMENTS =
+		"INSERT INTO revenue_daily_payment (sales_date, payment, paid_amount, paid_count, canceled_amount, "
+			+ "canceled_count, refunded_amount, refunded_count) "
+			+ "SELECT b.sales_date, b.payment, " + sums("b.price", "1")
+			+ " FROM (SELECT CAST(pay_at AS DATE) AS sales_date, " + NORMALIZED_PAYMENT + ", price, status "
+			+ "FROM bill_log WHERE pay_at >= ? AND pay_at < ? "
+			+ "UNION ALL SELECT CAST(pay_at AS DATE) AS sales_date, " + NORMALIZED_PAYMENT + ", price, status "
+			+ "FROM bill_log_archive WHERE pay_at >= ? AND pay_at < ?) b "
+			+ "WHERE b.status IN (" + PAID_STATUS + ", " + CANCELED_STATUS + ", " + REFUNDED_STATUS + ") "
+			+ "GROUP BY b.sales_date, b.payment";
+	// 보관된 주문은 주문 상세가 지워져 다시 나눌 수 없으므로, 보관된 결제가 있는 날은 기존 카테고리 집계를 그대로 둡니다.
+	private static final String ARCHIVED_DAYS =
+		"SELECT CAST(a.pay_at AS DATE) FROM bill_log_archive a WHERE a.pay_at >= ? AND a.pay_at < ? "
+			+ "AND a.payment IN (%1$s)";
+	private static final String DELETE_CATEGORIES =
+		"DELETE FROM revenue_daily_category WHERE sales_date >= ? AND sales_date < ? AND sales_date NOT IN ("
+			+ ARCHIVED_DAYS + ")";
+	private static final String INSERT_CATEGORIES =
+		"INSERT INTO revenue_daily_category (sales_date, category_id, paid_amount, paid_quantity, canceled_amount, "
+			+ "canceled_quantity, refunded_amount, refunded_quantity) "
+			+ "SELECT CAST(b.pay_at AS DATE), p.category_id, "
+			+ sums("d.price * d.quantity", "d.quantity")
+			+ " FROM bill_log b JOIN order_detail d ON d.order_id = b.order_id JOIN product p ON p.id = d.product_id "
+			+ "WHERE b.pay_at >= ? AND b.pay_at < ? AND b.payment IN (%1$s) "
+			+ "AND b.status IN (" + PAID_STATUS + ", " + CANCELED_STATUS + ", " + REFUNDED_STATUS + ") "
+			+ "AND CAST(b.pay_at AS DATE) NOT IN (" + ARCHIVED_DAYS + ") "
+			+ "GROUP BY CAST(b.pay_at AS DATE), p.category_id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public int addPayments(List<RevenueDailyPayment> deltas) {
+		if (deltas.isEmpty()) {
+			return 0;
+		}
+		jdbcTemplate.batchUpdate(UPSERT_PAYMENT, deltas, deltas.size(), (ps, delta) -> {
+			ps.setDate(1, Date.valueOf(delta.getSalesDate()));
+			ps.setString(2, delta.getPayment());
+			ps.setLong(3, delta.getPaidAmount());
+			ps.setLong(4, delta.getPaidCount());
+			ps.setLong(5, delta.getCanceledAmount());
+			ps.setLong(6, delta.getCanceledCount());
+			ps.setLong(7, delta.getRefundedAmount());
+			ps.setLong(8, delta.getRefundedCount());
+		});
+		return deltas.size();
+	}
+
+	@Override
+	public int addCategories(List<RevenueDailyCategory> deltas) {
+		if (deltas.isEmpty()) {
+			return 0;
+		}
+		jdbcTemplate.batchUpdate(UPSERT_CATEGORY, deltas, deltas.size(), (ps, delta) -> {
+			ps.setDate(1, Date.valueOf(delta.getSalesDate()));
+			ps.setInt(2, delta.getCategoryId());
+			ps.setLong(3, delta.getPaidAmount());
+			ps.setLong(4, delta.getPaidQuantity());
+			ps.setLong(5, delta.getCanceledAmount());
+			ps.setLong(6, delta.getCanceledQuantity());
+			ps.setLong(7, delta.getRefundedAmount());
+			ps.setLong(8, delta.getRefundedQuantity());
+		});
+		return deltas.size();
+	}
+
+	@Override
+	public List<DailyRevenueResponse> findDailyRevenues(LocalDate startDate, LocalDate endDate) {
+		return jdbcTemplate.query(SELECT_DAILY, (rs, rowNum) -> {
+			long paid = rs.getLong("paid_amount");
+			long canceled = rs.getLong("canceled_amount");
+			long refunded = rs.getLong("refunded_amount");
+			return new DailyRevenueResponse(rs.getDate("sales_date").toLocalDate(), paid, canceled, refunded,
+				paid - canceled - refunded);
+		}, Date.valueOf(startDate), Date.valueOf(endDate));
+	}
+
+	@Override
+	public List<PaymentRevenueResponse> findPaymentRevenues(LocalDate startDate, LocalDate endDate) {
+		return jdbcTemplate.query(SELECT_PAYMENTS, (rs, rowNum) -> {
+			long paid = rs.getLong("paid_amount");
+			long canceled = rs.getLong("canceled_amount");
+			long refunded = rs.getLong("refunded_amount");
+			return new PaymentRevenueResponse(rs.getString("payment"), paid, rs.getLong("paid_count"), canceled,
+				rs.getLong("canceled_count"), refunded, rs.getLong("refunded_count"), paid - canceled - refunded);
+		}, Date.valueOf(startDate), Date.valueOf(endDate));
+	}
+
+	@Override
+	public List<CategoryRevenueResponse> findCategoryRevenues(LocalDate startDate, LocalDate endDate) {
+		return jdbcTemplate.query(SELECT_CATEGORIES, (rs, rowNum) -> {
+			long paid = rs.getLong("paid_amount");
+			long canceled = rs.getLong("canceled_amount");
+			long refunded = rs.getLong("refunded_amount");
+			return new CategoryRevenueResponse(rs.getInt("category_id"), rs.getString("name"), paid,
+				rs.getLong("paid_quantity"), canceled, rs.getLong("canceled_quantity"), refunded,
+				rs.getLong("refunded_quantity"), paid - canceled - refunded);
+		}, Date.valueOf(startDate), Date.valueOf(endDate));
+	}
+
+	@Override
+	public int rebuildPayments(LocalDate from, LocalDate to, Collection<String> payments) {
+		Timestamp fromAt = Timestamp.valueOf(from.atStartOfDay());
+		Timestamp toAt = Timestamp.valueOf(to.atStartOfDay());
+		jdbcTemplate.update(DELETE_PAYMENTS, Date.valueOf(from), Date.valueOf(to));
+
+		List<Object> args = new ArrayList<>(payments);
+		args.addAll(List.of(fromAt, toAt));
+		args.addAll(payments);
+		args.addAll(List.of(fromAt, toAt));
+		return jdbcTemplate.update(INSERT_PAYMENTS.formatted(placeholders(payments.size())), args.toArray());
+	}
+
+	@Override
+	public int rebuildCategories(LocalDate from, LocalDate to, Collection<String> pgPayments) {
+		Timestamp fromAt = Timestamp.valueOf(from.atStartOfDay());
+		Timestamp toAt = Timestamp.valueOf(to.atStartOfDay());
+		String placeholders = placeholders(pgPayments.size());
+
+		List<Object> deleteArgs = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to), fromAt, toAt));
+		deleteArgs.addAll(pgPayments);
+		jdbcTemplate.update(DELETE_CATEGORIES.formatted(placeholders), deleteArgs.toArray());
+
+		List<Object> args = new ArrayList<>(List.of(fromAt, toAt));
+		args.addAll(pgPayments);
+		args.addAll(List.of(fromAt, toAt));
+		args.addAll(pgPayments);
+		return jdbcTemplate.update(INSERT_CATEGORIES.formatted(placeholders), args.toArray());
+	}
+
+	private static String sums(String amount, String count) {
+		return "SUM(CASE WHEN b.status IN (" + PAID_STATUS + ") THEN " + amount + " ELSE 0 END), "
+			+ "SUM(CASE WHEN b.status IN (" + PAID_STATUS + ") THEN " + count + " ELSE 0 END), "
+			+ "SUM(CASE WHEN b.status IN (" + CANCELED_STATUS + ") THEN " + amount + " ELSE 0 END), "
+			+ "SUM(CASE WHEN b.status IN (" + CANCELED_STATUS + ") THEN " + count + " ELSE 0 END), "
+			+ "SUM(CASE WHEN b.status IN (" + REFUNDED_STATUS + ") THEN " + amount + " ELSE 0 END), "
+			+ "SUM(CASE WHEN b.status IN (" + REFUNDED_STATUS + ") THEN " + count + " ELSE 0 END)";
+	}
+
+	private static String placeholders(int size) {
+		return String.join(", ", Collections.nCopies(size, "?"));
+	}
+}
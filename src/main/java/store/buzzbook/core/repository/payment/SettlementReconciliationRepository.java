@@ -0,0 +1,9 @@
+package store.buzzbook.core.repository.payment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import store.buzzbook.core.entity.payment.SettlementReconciliation;
+
+public interface SettlementReconciliationRepository
+	extends JpaRepository<SettlementReconciliation, Long>, SettlementReconciliationRepositoryCustom {
+}
@@ -0,0 +1,27 @@
+package store.buzzbook.core.repository.payment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.entity.payment.SettlementMismatch;
+
+public interface SettlementReconciliationRepositoryCustom {
+	int insertEntries(long reconciliationId, List<String> paymentKeys);
+
+	int deleteEntries(long reconciliationId);
+
+	List<BillSettlementRow> findBillSettlements(Collection<String> paymentKeys, Collection<String> payments);
+
+	List<UnsettledBillLogRow> findUnsettledBillLogs(long reconciliationId, Collection<String> payments,
+		LocalDateTime from, LocalDateTime to, long afterId, int limit);
+
+	int insertMismatches(List<SettlementMismatch> mismatches);
+
+	record BillSettlementRow(String paymentKey, BillStatus status, long approvedAmount, long canceledAmount) {
+	}
+
+	record UnsettledBillLogRow(long id, String paymentKey) {
+	}
+}
@@ -0,0 +1,122 @@
+package store.buzzbook.core.repository.payment;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.entity.payment.SettlementMismatch;
+
+/**
+ * PG 정산 대사용 집합 단위 조회와 배치 INSERT
+ * 결제 내역은 결제 키 IN 목록으로 묶어 승인, 취소 금액을 합산하고, 정산 파일에 없는 결제는 적재 테이블과 NOT EXISTS로 찾습니다.
+ */
+@RequiredArgsConstructor
+public class SettlementReconciliationRepositoryCustomImpl implements SettlementReconciliationRepositoryCustom {
+	private static final String INSERT_ENTRY =
+		"INSERT INTO settlement_entry (reconciliation_id, payment_key) VALUES (?, ?)";
+	private static final String DELETE_ENTRIES = "DELETE FROM settlement_entry WHERE reconciliation_id = ?";
+	private static final String SELECT_BILL_SETTLEMENTS =
+		"SELECT payment_key, "
+			+ "SUM(CASE WHEN status = 'DONE' THEN price ELSE 0 END) AS approved_amount, "
+			+ "SUM(CASE WHEN status IN ('CANCELED', 'REFUND') THEN price ELSE 0 END) AS canceled_amount, "
+			+ "MAX(CASE WHEN status IN ('CANCELED', 'REFUND') THEN status END) AS cancel_status "
+			+ "FROM bill_log WHERE payment_key IN (%s) AND payment IN (%s) GROUP BY payment_key";
+	private static final String SELECT_UNSETTLED =
+		"SELECT b.id, b.payment_key FROM bill_log b WHERE b.status = 'DONE' AND b.payment IN (%s) "
+			+ "AND b.pay_at >= ? AND b.pay_at < ? AND b.id > ? AND NOT EXISTS (SELECT 1 FROM settlement_entry s "
+			+ "WHERE s.reconciliation_id = ? AND s.payment_key = b.payment_key) ORDER BY b.id LIMIT ?";
+	private static final String INSERT_MISMATCH =
+		"INSERT INTO settlement_mismatch (reconciliation_id, payment_key, type, settlement_status, "
+			+ "settlement_approved_amount, settlement_canceled_amount, bill_status, bill_approved_amount, "
+			+ "bill_canceled_amount, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public int insertEntries(long reconciliationId, List<String> paymentKeys) {
+		if (paymentKeys.isEmpty()) {
+			return 0;
+		}
+		jdbcTemplate.batchUpdate(INSERT_ENTRY, paymentKeys, paymentKeys.size(), (ps, paymentKey) -> {
+			ps.setLong(1, reconciliationId);
+			ps.setString(2, paymentKey);
+		});
+		return paymentKeys.size();
+	}
+
+	@Override
+	public int deleteEntries(long reconciliationId) {
+		return jdbcTemplate.update(DELETE_ENTRIES, reconciliationId);
+	}
+
+	@Override
+	public List<BillSettlementRow> findBillSettlements(Collection<String> paymentKeys, Collection<String> payments) {
+		if (paymentKeys.isEmpty() || payments.isEmpty()) {
+			return List.of();
+		}
+		List<Object> args = new ArrayList<>(paymentKeys.size() + payments.size());
+		args.addAll(paymentKeys);
+		args.addAll(payments);
+
+		return jdbcTemplate.query(
+			SELECT_BILL_SETTLEMENTS.formatted(placeholders(paymentKeys.size()), placeholders(payments.size())),
+			(rs, rowNum) -> {
+				String cancelStatus = rs.getString("cancel_status");
+				return new BillSettlementRow(rs.getString("payment_key"),
+					cancelStatus == null ? BillStatus.DONE : BillStatus.valueOf(cancelStatus),
+					rs.getLong("approved_amount"), rs.getLong("canceled_amount"));
+			},
+			args.toArray());
+	}
+
+	@Override
+	public List<UnsettledBillLogRow> findUnsettledBillLogs(long reconciliationId, Collection<String> payments,
+		LocalDateTime from, LocalDateTime to, long afterId, int limit) {
+		if (payments.isEmpty()) {
+			return List.of();
+		}
+		List<Object> args = new ArrayList<>(payments.size() + 5);
+		args.addAll(payments);
+		args.add(Timestamp.valueOf(from));
+		args.add(Timestamp.valueOf(to));
+		args.add(afterId);
+		args.add(reconciliationId);
+		args.add(limit);
+
+		return jdbcTemplate.query(SELECT_UNSETTLED.formatted(placeholders(payments.size())),
+			(rs, rowNum) -> new UnsettledBillLogRow(rs.getLong("id"), rs.getString("payment_key")),
+			args.toArray());
+	}
+
+	@Override
+	public int insertMismatches(List<SettlementMismatch> mismatches) {
+		if (mismatches.isEmpty()) {
+			return 0;
+		}
+		jdbcTemplate.batchUpdate(INSERT_MISMATCH, mismatches, mismatches.size(), (ps, mismatch) -> {
+			ps.setLong(1, mismatch.getReconciliationId());
+			ps.setString(2, mismatch.getPaymentKey());
+			ps.setString(3, mismatch.getType().name());
+			ps.setString(4, mismatch.getSettlementStatus() == null ? null : mismatch.getSettlementStatus().name());
+			ps.setObject(5, mismatch.getSettlementApprovedAmount(), Types.BIGINT);
+			ps.setObject(6, mismatch.getSettlementCanceledAmount(), Types.BIGINT);
+			ps.setString(7, mismatch.getBillStatus() == null ? null : mismatch.getBillStatus().name());
+			ps.setObject(8, mismatch.getBillApprovedAmount(), Types.BIGINT);
+			ps.setObject(9, mismatch.getBillCanceledAmount(), Types.BIGINT);
+			ps.setTimestamp(10, Timestamp.valueOf(mismatch.getCreatedAt()));
+		});
+		return mismatches.size();
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
@@ -0,0 +1,8 @@
+package store.buzzbook.core.repository.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import store.buzzbook.core.entity.point.PointBalance;
+
+public interface PointBalanceRepository extends JpaRepository<PointBalance, Long>, PointBalanceRepositoryCustom {
+}
@@ -0,0 +1,47 @@
+package store.buzzbook.core.repository.point;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface PointBalanceRepositoryCustom {
+	int addBalance(long userId, int delta);
+
+	/**
+	 * 잔액이 충분할 때만 포인트를 뺍니다.
+	 *
+	 * @param userId 회원 아이디
+	 * @param points 뺄 포인트
+	 * @return 뺀 뒤의 잔액, 잔액이 모자라면 빈 값
+	 */
+	Optional<Integer> deductBalance(long userId, int points);
+
+	int findBalance(long userId);
+
+	List<PointBalanceRow> findBalanceRows(long afterUserId, int limit);
+
+	int insertMissing(List<PointBalanceRow> rows);
+
+	int correctBalance(long userId, int balance, long version);
+
+	int seedBalances(Collection<Long> userIds);
+
+	int addBalances(Collection<Long> userIds, int delta);
+
+	List<Long> findPositiveBalanceUserIds(long afterUserId, int limit);
+
+	Map<Long, Integer> lockPositiveBalances(Collection<Long> userIds);
+
+	int updateBalances(Map<Long, Integer> balances);
+
+	/**
+	 * 대사용 회원별 잔액 행과 마지막 포인트 내역의 잔액
+	 *
+	 * @param balance 잔액 행이 없으면 null
+	 * @param version 잔액 행이 없으면 null
+	 * @param logBalance 포인트 내역이 없으면 null
+	 */
+	record PointBalanceRow(long userId, Integer balance, Long version, Integer logBalance) {
+	}
+}
@@ -0,0 +1,185 @@
+package store.buzzbook.core.repository.point;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 잔액 갱신과 조회
+ * 잔액은 UPDATE ... SET balance = balance + ? 로 더해 동시에 남기는 포인트 내역끼리 행 잠금 순서대로 쌓이고, 더한 뒤의 잔액을 같은 트랜잭션에서 읽습니다.
+ * 잔액 행이 없는 회원은 마지막 포인트 내역의 잔액으로 행을 만들면서 더합니다.
+ * 포인트 사용은 UPDATE ... WHERE balance >= ? 로 잔액이 충분할 때만 빼므로 동시에 써도 잔액보다 많이 쓰지 않습니다.
+ * 여러 회원에게 같은 변동량을 더할 때는 잔액 행을 집합 단위로 만들고 UPDATE ... WHERE user_id IN 한 번으로 더합니다.
+ */
+@RequiredArgsConstructor
+public class PointBalanceRepositoryCustomImpl implements PointBalanceRepositoryCustom {
+	private static final String LAST_LOG_BALANCE =
+		"SELECT l.balance FROM point_log l WHERE l.user_id = ? ORDER BY l.id DESC LIMIT 1";
+	private static final String ADD_BALANCE =
+		"UPDATE point_balance SET balance = balance + ?, version = version + 1, updated_at = ? WHERE user_id = ?";
+	private static final String SEED_AND_ADD_BALANCE =
+		"INSERT INTO point_balance (user_id, balance, version, updated_at) "
+			+ "VALUES (?, COALESCE((" + LAST_LOG_BALANCE + "), 0) + ?, 0, ?) "
+			+ "ON DUPLICATE KEY UPDATE balance = balance + ?, version = version + 1, updated_at = ?";
+	private static final String DEDUCT_BALANCE =
+		"UPDATE point_balance SET balance = balance - ?, version = version + 1, updated_at = ? "
+			+ "WHERE user_id = ? AND balance >= ?";
+	private static final String SEED_BALANCE =
+		"INSERT INTO point_balance (user_id, balance, version, updated_at) "
+			+ "VALUES (?, COALESCE((" + LAST_LOG_BALANCE + "), 0), 0, ?) ON DUPLICATE KEY UPDATE user_id = user_id";
+	private static final String SELECT_BALANCE = "SELECT balance FROM point_balance WHERE user_id = ?";
+	private static final String SELECT_BALANCE_ROWS =
+		"SELECT u.id, b.balance, b.version, (SELECT l.balance FROM point_log l WHERE l.user_id = u.id "
+			+ "ORDER BY l.id DESC LIMIT 1) AS log_balance FROM `user` u "
+			+ "LEFT JOIN point_balance b ON b.user_id = u.id WHERE u.id > ? ORDER BY u.id LIMIT ?";
+	private static final String INSERT_MISSING =
+		"INSERT INTO point_balance (user_id, balance, version, updated_at) VALUES (?, ?, 0, ?) "
+			+ "ON DUPLICATE KEY UPDATE user_id = user_id";
+	private static final String CORRECT_BALANCE =
+		"UPDATE point_balance SET balance = ?, version = version + 1, updated_at = ? WHERE user_id = ? AND version = ?";
+	private static final String SEED_BALANCES =
+		"INSERT INTO point_balance (user_id, balance, version, updated_at) "
+			+ "SELECT u.id, COALESCE((SELECT l.balance FROM point_log l WHERE l.user_id = u.id "
+			+ "ORDER BY l.id DESC LIMIT 1), 0), 0, ? FROM `user` u WHERE u.id IN (%s) "
+			+ "AND NOT EXISTS (SELECT 1 FROM point_balance b WHERE b.user_id = u.id) "
+			+ "ON DUPLICATE KEY UPDATE user_id = user_id";
+	private static final String ADD_BALANCES =
+		"UPDATE point_balance SET balance = balance + ?, version = version + 1, updated_at = ? WHERE user_id IN (%s)";
+	private static final String SELECT_POSITIVE_BALANCE_USER_IDS =
+		"SELECT user_id FROM point_balance WHERE user_id > ? AND balance > 0 ORDER BY user_id LIMIT ?";
+	private static final String LOCK_POSITIVE_BALANCES =
+		"SELECT user_id, balance FROM point_balance WHERE user_id IN (%s) AND balance > 0 ORDER BY user_id FOR UPDATE";
+	private static final String UPDATE_BALANCE =
+		"UPDATE point_balance SET balance = ?, version = version + 1, updated_at = ? WHERE user_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public int addBalance(long userId, int delta) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		if (jdbcTemplate.update(ADD_BALANCE, delta, now, userId) == 0) {
+			jdbcTemplate.update(SEED_AND_ADD_BALANCE, userId, userId, delta, now, delta, now);
+		}
+		return jdbcTemplate.queryForObject(SELECT_BALANCE, Integer.class, userId);
+	}
+
+	@Override
+	public Optional<Integer> deductBalance(long userId, int points) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		if (jdbcTemplate.update(DEDUCT_BALANCE, points, now, userId, points) == 0) {
+			// 잔액 행이 없어서일 수 있으므로 행을 만들고 한 번 더 뺍니다.
+			jdbcTemplate.update(SEED_BALANCE, userId, userId, now);
+			if (jdbcTemplate.update(DEDUCT_BALANCE, points, now, userId, points) == 0) {
+				return Optional.empty();
+			}
+		}
+		return Optional.of(jdbcTemplate.queryForObject(SELECT_BALANCE, Integer.class, userId));
+	}
+
+	@Override
+	public int findBalance(long userId) {
+		List<Integer> balances = jdbcTemplate.queryForList(SELECT_BALANCE, Integer.class, userId);
+		if (balances.isEmpty()) {
+			balances = jdbcTemplate.queryForList(LAST_LOG_BALANCE, Integer.class, userId);
+		}
+		return balances.isEmpty() ? 0 : balances.getFirst();
+	}
+
+	@Override
+	public List<PointBalanceRow> findBalanceRows(long afterUserId, int limit) {
+		return jdbcTemplate.query(SELECT_BALANCE_ROWS, (rs, rowNum) -> new PointBalanceRow(rs.getLong("id"),
+				rs.getObject("balance", Integer.class), rs.getObject("version", Long.class),
+				rs.getObject("log_balance", Integer.class)),
+			afterUserId, limit);
+	}
+
+	@Override
+	public int insertMissing(List<PointBalanceRow> rows) {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_MISSING, rows, rows.size(), (ps, row) -> {
+			ps.setLong(1, row.userId());
+			ps.setInt(2, row.logBalance() == null ? 0 : row.logBalance());
+			ps.setTimestamp(3, now);
+		});
+		return rows.size();
+	}
+
+	@Override
+	public int correctBalance(long userId, int balance, long version) {
+		return jdbcTemplate.update(CORRECT_BALANCE, balance, Timestamp.valueOf(LocalDateTime.now()), userId, version);
+	}
+
+	@Override
+	public int seedBalances(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		List<Object> args = new ArrayList<>(1 + userIds.size());
+		args.add(Timestamp.valueOf(LocalDateTime.now()));
+		args.addAll(userIds);
+
+		return jdbcTemplate.update(SEED_BALANCES.formatted(placeholders(userIds.size())), args.toArray());
+	}
+
+	@Override
+	public int addBalances(Collection<Long> userIds, int delta) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		List<Object> args = new ArrayList<>(2 + userIds.size());
+		args.add(delta);
+		args.add(Timestamp.valueOf(LocalDateTime.now()));
+		args.addAll(userIds);
+
+		return jdbcTemplate.update(ADD_BALANCES.formatted(placeholders(userIds.size())), args.toArray());
+	}
+
+	@Override
+	public List<Long> findPositiveBalanceUserIds(long afterUserId, int limit) {
+		return jdbcTemplate.queryForList(SELECT_POSITIVE_BALANCE_USER_IDS, Long.class, afterUserId, limit);
+	}
+
+	@Override
+	public Map<Long, Integer> lockPositiveBalances(Collection<Long> userIds) {
+		Map<Long, Integer> balances = new LinkedHashMap<>();
+		if (userIds.isEmpty()) {
+			return balances;
+		}
+		jdbcTemplate.query(LOCK_POSITIVE_BALANCES.formatted(placeholders(userIds.size())),
+			rs -> {
+				balances.put(rs.getLong("user_id"), rs.getInt("balance"));
+			}, userIds.toArray());
+		return balances;
+	}
+
+	@Override
+	public int updateBalances(Map<Long, Integer> balances) {
+		if (balances.isEmpty()) {
+			return 0;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(UPDATE_BALANCE, balances.entrySet(), balances.size(), (ps, entry) -> {
+			ps.setInt(1, entry.getValue());
+			ps.setTimestamp(2, now);
+			ps.setLong(3, entry.getKey());
+		});
+		return balances.size();
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
@@ -0,0 +1,13 @@
+package store.buzzbook.core.repository.point;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import store.buzzbook.core.entity.point.PointCampaign;
+
+public interface PointCampaignRepository extends JpaRepository<PointCampaign, Long>, PointCampaignRepositoryCustom {
+	// 진행 기록이 오래 멈춘 캠페인은 지급하던 서버가 내려간 것으로 보고 이어서 지급합니다.
+	List<PointCampaign> findAllByStatusAndUpdatedAtBefore(PointCampaign.Status status, LocalDateTime updatedAt);
+}
@@ -0,0 +1,30 @@
+package store.buzzbook.core.repository.point;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import store.buzzbook.core.entity.point.PointCampaign;
+import store.buzzbook.core.entity.user.UserStatus;
+
+public interface PointCampaignRepositoryCustom {
+	long insertCampaign(PointCampaign campaign);
+
+	int insertTargets(long campaignId, Collection<Long> userIds);
+
+	int updateTargetUsers(long campaignId, long targetUsers);
+
+	long findMaxUserId();
+
+	long countUsers(UserStatus userStatus, long maxUserId);
+
+	List<Long> findUserIds(UserStatus userStatus, long afterUserId, long maxUserId, int limit);
+
+	List<Long> findTargetUserIds(long campaignId, long afterUserId, int limit);
+
+	int claimChunk(long campaignId, long afterUserId, long lastUserId, int users);
+
+	int insertPointLogs(Collection<Long> userIds, String inquiry, int point, LocalDateTime createdAt);
+
+	int markDone(long campaignId);
+}
@@ -0,0 +1,148 @@
+package store.buzzbook.core.repository.point;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.entity.point.PointCampaign;
+import store.buzzbook.core.entity.user.UserStatus;
+
+/**
+ * 포인트 캠페인 대상 조회와 진행 기록
+ * 대상 회원은 회원 아이디 키셋으로 청크만큼 고르고, 청크의 포인트 내역은 갱신한 잔액 행에서 INSERT ... SELECT 한 번으로 남깁니다.
+ * 청크 진행은 읽은 마지막 회원 아이디 그대로일 때만 넘기므로, 같은 캠페인을 두 서버가 돌려도 한 청크는 한 번만 지급합니다.
+ */
+@RequiredArgsConstructor
+public class PointCampaignRepositoryCustomImpl implements PointCampaignRepositoryCustom {
+	private static final String INSERT_CAMPAIGN =
+		"INSERT INTO point_campaign (inquiry, point, target_listed, user_status, max_user_id, target_users, "
+			+ "granted_users, last_user_id, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, 0, ?, ?, ?)";
+	private static final String INSERT_TARGETS =
+		"INSERT INTO point_campaign_target (campaign_id, user_id) SELECT ?, u.id FROM `user` u WHERE u.id IN (%s)";
+	private static final String UPDATE_TARGET_USERS = "UPDATE point_campaign SET target_users = ? WHERE id = ?";
+	private static final String SELECT_MAX_USER_ID = "SELECT COALESCE(MAX(id), 0) FROM `user`";
+	private static final String COUNT_USERS = "SELECT COUNT(*) FROM `user` u WHERE u.id <= ?";
+	private static final String SELECT_USER_IDS = "SELECT u.id FROM `user` u WHERE u.id > ? AND u.id <= ?";
+	private static final String USER_STATUS_CONDITION = " AND u.status = ?";
+	private static final String ORDER_BY_USER_ID = " ORDER BY u.id LIMIT ?";
+	private static final String SELECT_TARGET_USER_IDS =
+		"SELECT t.user_id FROM point_campaign_target t WHERE t.campaign_id = ? AND t.user_id > ? "
+			+ "ORDER BY t.user_id LIMIT ?";
+	private static final String CLAIM_CHUNK =
+		"UPDATE point_campaign SET last_user_id = ?, granted_users = granted_users + ?, updated_at = ? "
+			+ "WHERE id = ? AND last_user_id = ? AND status = 'RUNNING'";
+	private static final String INSERT_POINT_LOGS =
+		"INSERT INTO point_log (user_id, created_at, inquiry, delta, balance) "
+			+ "SELECT b.user_id, ?, ?, ?, b.balance FROM point_balance b WHERE b.user_id IN (%s)";
+	private static final String MARK_DONE =
+		"UPDATE point_campaign SET status = 'DONE', finished_at = ?, updated_at = ? "
+			+ "WHERE id = ? AND status = 'RUNNING'";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public long insertCampaign(PointCampaign campaign) {
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(INSERT_CAMPAIGN, Statement.RETURN_GENERATED_KEYS);
+			ps.setString(1, campaign.getInquiry());
+			ps.setInt(2, campaign.getPoint());
+			ps.setBoolean(3, campaign.isTargetListed());
+			ps.setString(4, campaign.getUserStatus() == null ? null : campaign.getUserStatus().name());
+			ps.setLong(5, campaign.getMaxUserId());
+			ps.setLong(6, campaign.getTargetUsers());
+			ps.setString(7, campaign.getStatus().name());
+			ps.setTimestamp(8, Timestamp.valueOf(campaign.getCreatedAt()));
+			ps.setTimestamp(9, Timestamp.valueOf(campaign.getUpdatedAt()));
+			return ps;
+		}, keyHolder);
+		return Objects.requireNonNull(keyHolder.getKey()).longValue();
+	}
+
+	@Override
+	public int insertTargets(long campaignId, Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		List<Object> args = new ArrayList<>(1 + userIds.size());
+		args.add(campaignId);
+		args.addAll(userIds);
+
+		return jdbcTemplate.update(INSERT_TARGETS.formatted(placeholders(userIds.size())), args.toArray());
+	}
+
+	@Override
+	public int updateTargetUsers(long campaignId, long targetUsers) {
+		return jdbcTemplate.update(UPDATE_TARGET_USERS, targetUsers, campaignId);
+	}
+
+	@Override
+	public long findMaxUserId() {
+		return jdbcTemplate.queryForObject(SELECT_MAX_USER_ID, Long.class);
+	}
+
+	@Override
+	public long countUsers(UserStatus userStatus, long maxUserId) {
+		if (userStatus == null) {
+			return jdbcTemplate.queryForObject(COUNT_USERS, Long.class, maxUserId);
+		}
+		return jdbcTemplate.queryForObject(COUNT_USERS + USER_STATUS_CONDITION, Long.class, maxUserId,
+			userStatus.name());
+	}
+
+	@Override
+	public List<Long> findUserIds(UserStatus userStatus, long afterUserId, long maxUserId, int limit) {
+		if (userStatus == null) {
+			return jdbcTemplate.queryForList(SELECT_USER_IDS + ORDER_BY_USER_ID, Long.class, afterUserId, maxUserId,
+				limit);
+		}
+		return jdbcTemplate.queryForList(SELECT_USER_IDS + USER_STATUS_CONDITION + ORDER_BY_USER_ID, Long.class,
+			afterUserId, maxUserId, userStatus.name(), limit);
+	}
+
+	@Override
+	public List<Long> findTargetUserIds(long campaignId, long afterUserId, int limit) {
+		return jdbcTemplate.queryForList(SELECT_TARGET_USER_IDS, Long.class, campaignId, afterUserId, limit);
+	}
+
+	@Override
+	public int claimChunk(long campaignId, long afterUserId, long lastUserId, int users) {
+		return jdbcTemplate.update(CLAIM_CHUNK, lastUserId, users, Timestamp.valueOf(LocalDateTime.now()),
+			campaignId, afterUserId);
+	}
+
+	@Override
+	public int insertPointLogs(Collection<Long> userIds, String inquiry, int point, LocalDateTime createdAt) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		List<Object> args = new ArrayList<>(3 + userIds.size());
+		args.add(Timestamp.valueOf(createdAt));
+		args.add(inquiry);
+		args.add(point);
+		args.addAll(userIds);
+
+		return jdbcTemplate.update(INSERT_POINT_LOGS.formatted(placeholders(userIds.size())), args.toArray());
+	}
+
+	@Override
+	public int markDone(long campaignId) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		return jdbcTemplate.update(MARK_DONE, now, now, campaignId);
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
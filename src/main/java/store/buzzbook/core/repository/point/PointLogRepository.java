@@ -8,14 +8,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import store.buzzbook.core.entity.point.PointLog;
 
-public interface PointLogRepository extends JpaRepository<PointLog, Long> {
+public interface PointLogRepository extends JpaRepository<PointLog, Long>, PointLogRepositoryCustom {
 
 	Boolean existsByUserId(Long userId);
 
 	List<PointLog> findByUserId(long userId);
 
 	Page<PointLog> findByUserId(long userId, Pageable pageable);
-
-	//balance값을 알기위해 userId로 user의 가장 최근의 포인트 로그값 조회
-	PointLog findFirstByUserIdOrderByCreatedAtDesc(long userId);
 }
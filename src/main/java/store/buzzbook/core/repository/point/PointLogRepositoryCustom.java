@@ -0,0 +1,29 @@
+package store.buzzbook.core.repository.point;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PointLogRepositoryCustom {
+	List<PointUsage> sumUsages(Collection<Long> userIds, LocalDateTime earnedBefore);
+
+	int insertExpirations(List<PointExpiration> expirations, String inquiry, LocalDateTime createdAt);
+
+	/**
+	 * 회원의 포인트 적립과 사용 합계
+	 *
+	 * @param earnedBefore 기준 시각 이전에 적립한 포인트
+	 * @param consumed 지금까지 사용하거나 소멸한 포인트
+	 */
+	record PointUsage(long userId, long earnedBefore, long consumed) {
+	}
+
+	/**
+	 * 소멸 포인트 내역
+	 *
+	 * @param amount 소멸할 포인트
+	 * @param balance 소멸한 뒤의 잔액
+	 */
+	record PointExpiration(long userId, int amount, int balance) {
+	}
+}
@@ -0,0 +1,63 @@
+package store.buzzbook.core.repository.point;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 소멸 계산과 소멸 내역 저장
+ * 청크의 회원별 적립, 사용 합계를 GROUP BY 한 번으로 구하고, 소멸 내역은 배치 INSERT 합니다.
+ */
+@RequiredArgsConstructor
+public class PointLogRepositoryCustomImpl implements PointLogRepositoryCustom {
+	private static final String SUM_USAGES =
+		"SELECT l.user_id, SUM(CASE WHEN l.delta > 0 AND l.created_at < ? THEN l.delta ELSE 0 END) AS earned_before, "
+			+ "SUM(CASE WHEN l.delta < 0 THEN -l.delta ELSE 0 END) AS consumed "
+			+ "FROM point_log l WHERE l.user_id IN (%s) GROUP BY l.user_id";
+	private static final String INSERT_POINT_LOG =
+		"INSERT INTO point_log (user_id, created_at, inquiry, delta, balance) VALUES (?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<PointUsage> sumUsages(Collection<Long> userIds, LocalDateTime earnedBefore) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+		List<Object> args = new ArrayList<>(1 + userIds.size());
+		args.add(Timestamp.valueOf(earnedBefore));
+		args.addAll(userIds);
+
+		return jdbcTemplate.query(SUM_USAGES.formatted(placeholders(userIds.size())),
+			(rs, rowNum) -> new PointUsage(rs.getLong("user_id"), rs.getLong("earned_before"),
+				rs.getLong("consumed")),
+			args.toArray());
+	}
+
+	@Override
+	public int insertExpirations(List<PointExpiration> expirations, String inquiry, LocalDateTime createdAt) {
+		if (expirations.isEmpty()) {
+			return 0;
+		}
+		Timestamp timestamp = Timestamp.valueOf(createdAt);
+		jdbcTemplate.batchUpdate(INSERT_POINT_LOG, expirations, expirations.size(), (ps, expiration) -> {
+			ps.setLong(1, expiration.userId());
+			ps.setTimestamp(2, timestamp);
+			ps.setString(3, inquiry);
+			ps.setInt(4, -expiration.amount());
+			ps.setInt(5, expiration.balance());
+		});
+		return expirations.size();
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
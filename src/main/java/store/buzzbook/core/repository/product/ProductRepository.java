@@ -1,5 +1,6 @@
 package store.buzzbook.core.repository.product;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -7,10 +8,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import store.buzzbook.core.entity.product.Product;
 
-public interface ProductRepository extends JpaRepository<Product, Integer> {
+public interface ProductRepository extends JpaRepository<Product, Integer>, ProductRepositoryCustom {
 
 	Product findByThumbnailPath(String thumbnailPath);
 
@@ -18,15 +20,17 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
 
 	List<Product> findAllByProductNameContaining(String productName);
 
-	//조건으로 검색한 상품을 리뷰수가 많은 순서대로 정렬
+	//조건으로 검색한 상품을 리뷰수가 많은 순서대로 정렬 (보관된 주문 상세의 리뷰 포함)
 	@Query("SELECT p FROM Product p " +
 		"LEFT JOIN OrderDetail od ON p.id = od.product.id " +
 		"LEFT JOIN Review r ON od.id = r.orderDetail.id " +
+		"LEFT JOIN OrderDetailArchive a ON p.id = a.productId " +
+		"LEFT JOIN Review ar ON a.id = ar.archivedOrderDetail.id " +
 		"WHERE (:name IS NULL OR p.productName LIKE %:name%) " +
 		"AND (:status IS NULL OR p.stockStatus = :status) " +
 		"AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
 		"GROUP BY p.id " +
-		"ORDER BY COUNT(r.id) DESC")
+		"ORDER BY COUNT(DISTINCT r.id) + COUNT(DISTINCT ar.id) DESC")
 	Page<Product> findProductsByCriteriaOrderByReviewCountDesc(Product.StockStatus status, String name,
 		Integer categoryId, Pageable pageable);
 
@@ -37,5 +41,13 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
 
 	//특정 ID 리스트에 해당하는 제품을 페이징으로 조회
 	Page<Product> findByIdIn(List<Integer> productIds, Pageable pageable);
+
+	//주문 생성 시 상품, 카테고리, 태그를 한 번에 조회
+	@Query("SELECT DISTINCT p FROM Product p " +
+		"JOIN FETCH p.category " +
+		"LEFT JOIN FETCH p.productTags pt " +
+		"LEFT JOIN FETCH pt.tag " +
+		"WHERE p.id IN :productIds")
+	List<Product> findAllWithTagsByIdIn(@Param("productIds") Collection<Integer> productIds);
 }
 
@@ -0,0 +1,7 @@
+package store.buzzbook.core.repository.product;
+
+public interface ProductRepositoryCustom {
+	int decreaseStock(int productId, int quantity);
+
+	int increaseStock(int productId, int quantity);
+}
@@ -0,0 +1,37 @@
+package store.buzzbook.core.repository.product;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 재고를 조건부 UPDATE 한 문장으로 변경합니다.
+ * 엔티티를 읽어 고친 뒤 dirty checking에 맡기면 동시에 결제될 때 갱신이 유실되므로,
+ * 재고 확인과 차감, 품절 상태 변경을 DB에서 원자적으로 처리합니다.
+ */
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+	// stock_status를 먼저 계산해야 MySQL에서도 차감 전 재고로 비교합니다.
+	private static final String DECREASE_STOCK =
+		"UPDATE product SET stock_status = CASE WHEN stock = ? THEN 'OUT_OF_STOCK' ELSE stock_status END, "
+			+ "stock = stock - ? WHERE id = ? AND stock >= ?";
+	private static final String INCREASE_STOCK = "UPDATE product SET stock = stock + ? WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 재고가 충분할 때만 재고를 차감합니다.
+	 *
+	 * @return 차감된 행 수, 재고가 부족하거나 상품이 없으면 0
+	 */
+	@Override
+	public int decreaseStock(int productId, int quantity) {
+		return jdbcTemplate.update(DECREASE_STOCK, quantity, quantity, productId, quantity);
+	}
+
+	@Override
+	public int increaseStock(int productId, int quantity) {
+		return jdbcTemplate.update(INCREASE_STOCK, quantity, productId);
+	}
+}
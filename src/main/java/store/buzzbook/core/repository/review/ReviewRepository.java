@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import store.buzzbook.core.entity.review.Review;
@@ -14,14 +16,25 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
 
 	Page<Review> findAllByOrderDetailProductId(long orderDetailId, Pageable pageable);
 
-	List<Review> findAllByOrderDetail_ProductId(long orderDetailId);
+	// 보관된 주문 상세의 리뷰도 함께 조회
+	@Query("SELECT r FROM Review r LEFT JOIN r.orderDetail od LEFT JOIN r.archivedOrderDetail a "
+		+ "WHERE od.product.id = :productId OR a.productId = :productId")
+	List<Review> findAllByOrderDetail_ProductId(@Param("productId") long productId);
 
-	Review findByOrderDetailId(long orderDetailId);
+	@Query("SELECT r FROM Review r LEFT JOIN r.orderDetail od LEFT JOIN r.archivedOrderDetail a "
+		+ "WHERE od.id = :orderDetailId OR a.id = :orderDetailId")
+	Review findByOrderDetailId(@Param("orderDetailId") long orderDetailId);
 
-	Page<Review> findAllByOrderDetail_ProductIdOrderByReviewCreatedAtDesc(int productId, Pageable pageable);
+	@Query("SELECT r FROM Review r LEFT JOIN r.orderDetail od LEFT JOIN r.archivedOrderDetail a "
+		+ "WHERE od.product.id = :productId OR a.productId = :productId ORDER BY r.reviewCreatedAt DESC")
+	Page<Review> findAllByOrderDetail_ProductIdOrderByReviewCreatedAtDesc(@Param("productId") int productId,
+		Pageable pageable);
 
 	//사용자가 가장 최근 작성한 리뷰부터 조회
-	Page<Review> findAllByOrderDetail_Order_User_IdOrderByReviewCreatedAtDesc(long userId, Pageable pageable);
+	@Query("SELECT r FROM Review r LEFT JOIN r.orderDetail od LEFT JOIN od.order o LEFT JOIN r.archivedOrderDetail a "
+		+ "WHERE o.user.id = :userId OR a.userId = :userId ORDER BY r.reviewCreatedAt DESC")
+	Page<Review> findAllByOrderDetail_Order_User_IdOrderByReviewCreatedAtDesc(@Param("userId") long userId,
+		Pageable pageable);
 
 	boolean existsByOrderDetailId(long orderDetailId);
 }
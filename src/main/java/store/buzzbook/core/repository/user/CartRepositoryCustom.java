@@ -9,4 +9,45 @@ public interface CartRepositoryCustom {
 	Optional<List<CartDetailResponse>> findCartDetailByCartId(Long cartId);
 
 	Optional<List<CartDetailResponse>> findCartDetailByUuid(byte[] uuid);
+
+	/**
+	 * 빈 비회원 장바구니 행을 만듭니다.
+	 *
+	 * @param uuid 장바구니 uuid
+	 * @return 장바구니 id
+	 */
+	long createGuestCart(byte[] uuid);
+
+	/**
+	 * 비회원 장바구니와 담긴 상품을 읽습니다.
+	 *
+	 * @param uuid 장바구니 uuid
+	 * @return 장바구니가 없거나 회원 장바구니면 빈 값
+	 */
+	Optional<GuestCartRow> findGuestCart(byte[] uuid);
+
+	/**
+	 * 비회원 장바구니의 버전만 읽습니다.
+	 *
+	 * @param cartId 장바구니 id
+	 * @return 장바구니가 없거나 회원 장바구니가 되었으면 빈 값
+	 */
+	Optional<Long> findGuestCartVersion(long cartId);
+
+	/**
+	 * 비회원 장바구니 버전이 읽은 버전일 때만 버전을 올리고 내용을 통째로 바꿉니다.
+	 *
+	 * @param cartId 장바구니 id
+	 * @param version 내용을 읽은 버전
+	 * @param productIds 상품 id
+	 * @param quantities productIds와 같은 순서의 수량
+	 * @return 다른 서버가 먼저 바꿨거나 장바구니가 없으면 false
+	 */
+	boolean saveGuestCart(long cartId, long version, int[] productIds, int[] quantities);
+
+	/**
+	 * 비회원 장바구니 id, 버전과 상품 id, 수량 목록
+	 */
+	record GuestCartRow(long cartId, long version, int[] productIds, int[] quantities) {
+	}
 }
@@ -5,6 +5,9 @@ import static store.buzzbook.core.entity.cart.QCartDetail.*;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -14,7 +17,22 @@ import store.buzzbook.core.entity.cart.CartDetail;
 
 @RequiredArgsConstructor
 public class CartRepositoryCustomImpl implements CartRepositoryCustom {
+	private static final String SELECT_GUEST_CART =
+		"SELECT id, version FROM cart WHERE `uuid` = ? AND user_id IS NULL";
+	private static final String SELECT_GUEST_CART_VERSION =
+		"SELECT version FROM cart WHERE id = ? AND user_id IS NULL";
+	private static final String SELECT_CART_ID = "SELECT id FROM cart WHERE `uuid` = ?";
+	private static final String SELECT_CART_LINES =
+		"SELECT product_id, quantity FROM cart_detail WHERE cart_id = ? ORDER BY id";
+	private static final String INSERT_CART = "INSERT INTO cart (`uuid`, version) VALUES (?, 0)";
+	private static final String BUMP_GUEST_CART_VERSION =
+		"UPDATE cart SET version = version + 1 WHERE id = ? AND version = ? AND user_id IS NULL";
+	private static final String DELETE_CART_LINES = "DELETE FROM cart_detail WHERE cart_id = ?";
+	private static final String INSERT_CART_LINE =
+		"INSERT INTO cart_detail (cart_id, product_id, quantity) VALUES (?, ?, ?)";
+
 	private final JPAQueryFactory jpaQueryFactory;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public Optional<List<CartDetailResponse>> findCartDetailByCartId(Long cartId) {
@@ -51,6 +69,52 @@ public class CartRepositoryCustomImpl implements CartRepositoryCustom {
 		return Optional.of(cartResponseList);
 	}
 
+	@Override
+	public long createGuestCart(byte[] uuid) {
+		jdbcTemplate.update(INSERT_CART, (Object)uuid);
+		return jdbcTemplate.queryForObject(SELECT_CART_ID, Long.class, (Object)uuid);
+	}
+
+	@Override
+	public Optional<GuestCartRow> findGuestCart(byte[] uuid) {
+		List<long[]> carts = jdbcTemplate.query(SELECT_GUEST_CART,
+			(rs, rowNum) -> new long[] {rs.getLong("id"), rs.getLong("version")}, (Object)uuid);
+
+		if (carts.isEmpty()) {
+			return Optional.empty();
+		}
+
+		long cartId = carts.getFirst()[0];
+		List<int[]> lines = jdbcTemplate.query(SELECT_CART_LINES,
+			(rs, rowNum) -> new int[] {rs.getInt("product_id"), rs.getInt("quantity")}, cartId);
+
+		int[] productIds = new int[lines.size()];
+		int[] quantities = new int[lines.size()];
+		for (int i = 0; i < lines.size(); i++) {
+			productIds[i] = lines.get(i)[0];
+			quantities[i] = lines.get(i)[1];
+		}
+		return Optional.of(new GuestCartRow(cartId, carts.getFirst()[1], productIds, quantities));
+	}
+
+	@Override
+	public Optional<Long> findGuestCartVersion(long cartId) {
+		return jdbcTemplate.queryForList(SELECT_GUEST_CART_VERSION, Long.class, cartId).stream().findFirst();
+	}
+
+	@Override
+	public boolean saveGuestCart(long cartId, long version, int[] productIds, int[] quantities) {
+		if (jdbcTemplate.update(BUMP_GUEST_CART_VERSION, cartId, version) == 0) {
+			return false;
+		}
+
+		jdbcTemplate.update(DELETE_CART_LINES, cartId);
+		jdbcTemplate.batchUpdate(INSERT_CART_LINE, IntStream.range(0, productIds.length)
+			.mapToObj(i -> new Object[] {cartId, productIds[i], quantities[i]})
+			.toList());
+		return true;
+	}
+
 	private void toResponseList(List<CartDetail> cartDetailList, List<CartDetailResponse> cartResponseList) {
 		List<Long> forDeleteIds = new LinkedList<>();
 
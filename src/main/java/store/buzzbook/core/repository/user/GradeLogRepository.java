@@ -4,5 +4,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import store.buzzbook.core.entity.user.GradeLog;
 
-public interface GradeLogRepository extends JpaRepository<GradeLog, Long> {
+public interface GradeLogRepository extends JpaRepository<GradeLog, Long>, GradeLogRepositoryCustom {
 }
@@ -0,0 +1,24 @@
+package store.buzzbook.core.repository.user;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface GradeLogRepositoryCustom {
+	List<Long> findGradedUserIds(long afterUserId, int limit);
+
+	Map<Long, Long> sumNetSpends(long fromUserId, long toUserId, LocalDateTime paidFrom, Collection<String> payments);
+
+	Map<Long, Integer> findCurrentGradeIds(long fromUserId, long toUserId);
+
+	int insertAll(List<GradeChange> changes, LocalDateTime changeAt);
+
+	/**
+	 * 등급이 바뀐 회원
+	 *
+	 * @param gradeId 새 등급 아이디
+	 */
+	record GradeChange(long userId, int gradeId) {
+	}
+}
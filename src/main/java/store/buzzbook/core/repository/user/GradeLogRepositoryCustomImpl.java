@@ -0,0 +1,100 @@
+package store.buzzbook.core.repository.user;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 등급 산정용 회원별 순결제 금액과 현재 등급 조회, 등급 변경 내역 저장
+ * 회원 아이디 구간마다 주문별 순결제 금액(결제 - 취소 - 반품 - 배송비)을 GROUP BY 로 구하고 다시 회원별로 더해, 결제 내역을 애플리케이션으로 가져오지 않습니다.
+ * 보관된 주문의 결제 내역도 같은 방식으로 더합니다.
+ * 현재 등급은 회원의 등급 포인터로 읽고, 등급 내역을 남길 때 포인터도 함께 바꿉니다.
+ */
+@RequiredArgsConstructor
+public class GradeLogRepositoryCustomImpl implements GradeLogRepositoryCustom {
+	private static final String NET_PRICE =
+		"SUM(CASE WHEN b.status = 'DONE' THEN b.price "
+			+ "WHEN b.status IN ('CANCELED', 'PARTIAL_CANCELED', 'REFUND') THEN -b.price ELSE 0 END)";
+	private static final String SELECT_GRADED_USER_IDS =
+		"SELECT u.id FROM `user` u WHERE u.id > ? AND u.status <> 'WITHDRAW' ORDER BY u.id LIMIT ?";
+	private static final String SUM_NET_SPENDS =
+		"SELECT s.user_id, SUM(GREATEST(s.net_price - s.delivery_rate, 0)) AS net_spend FROM ("
+			+ "SELECT o.user_id, o.id, o.delivery_rate, " + NET_PRICE + " AS net_price "
+			+ "FROM `order` o JOIN bill_log b ON b.order_id = o.id "
+			+ "WHERE o.user_id BETWEEN ? AND ? AND b.pay_at >= ? AND b.payment IN (%1$s) "
+			+ "GROUP BY o.user_id, o.id, o.delivery_rate "
+			+ "UNION ALL "
+			+ "SELECT a.user_id, a.order_id, a.delivery_rate, " + NET_PRICE + " AS net_price "
+			+ "FROM order_archive a JOIN bill_log_archive b ON b.order_id = a.order_id "
+			+ "WHERE a.user_id BETWEEN ? AND ? AND b.pay_at >= ? AND b.payment IN (%1$s) "
+			+ "GROUP BY a.user_id, a.order_id, a.delivery_rate) s "
+			+ "GROUP BY s.user_id";
+	private static final String SELECT_CURRENT_GRADE_IDS =
+		"SELECT u.id, u.grade_id FROM `user` u WHERE u.id BETWEEN ? AND ? AND u.grade_id IS NOT NULL";
+	private static final String INSERT_GRADE_LOG = "INSERT INTO grade_log (change_at, grade_id, user_id) VALUES (?, ?, ?)";
+	private static final String UPDATE_USER_GRADE = "UPDATE `user` SET grade_id = ? WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Long> findGradedUserIds(long afterUserId, int limit) {
+		return jdbcTemplate.queryForList(SELECT_GRADED_USER_IDS, Long.class, afterUserId, limit);
+	}
+
+	@Override
+	public Map<Long, Long> sumNetSpends(long fromUserId, long toUserId, LocalDateTime paidFrom,
+		Collection<String> payments) {
+		Timestamp from = Timestamp.valueOf(paidFrom);
+		List<Object> args = new ArrayList<>(6 + payments.size() * 2);
+		args.addAll(List.of(fromUserId, toUserId, from));
+		args.addAll(payments);
+		args.addAll(List.of(fromUserId, toUserId, from));
+		args.addAll(payments);
+
+		Map<Long, Long> netSpends = new HashMap<>();
+		jdbcTemplate.query(SUM_NET_SPENDS.formatted(placeholders(payments.size())), rs -> {
+			netSpends.put(rs.getLong("user_id"), rs.getLong("net_spend"));
+		}, args.toArray());
+		return netSpends;
+	}
+
+	@Override
+	public Map<Long, Integer> findCurrentGradeIds(long fromUserId, long toUserId) {
+		Map<Long, Integer> gradeIds = new HashMap<>();
+		jdbcTemplate.query(SELECT_CURRENT_GRADE_IDS, rs -> {
+			gradeIds.put(rs.getLong("id"), rs.getInt("grade_id"));
+		}, fromUserId, toUserId);
+		return gradeIds;
+	}
+
+	@Override
+	public int insertAll(List<GradeChange> changes, LocalDateTime changeAt) {
+		if (changes.isEmpty()) {
+			return 0;
+		}
+		Timestamp timestamp = Timestamp.valueOf(changeAt);
+		jdbcTemplate.batchUpdate(INSERT_GRADE_LOG, changes, changes.size(), (ps, change) -> {
+			ps.setTimestamp(1, timestamp);
+			ps.setInt(2, change.gradeId());
+			ps.setLong(3, change.userId());
+		});
+		jdbcTemplate.batchUpdate(UPDATE_USER_GRADE, changes, changes.size(), (ps, change) -> {
+			ps.setInt(1, change.gradeId());
+			ps.setLong(2, change.userId());
+		});
+		return changes.size();
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
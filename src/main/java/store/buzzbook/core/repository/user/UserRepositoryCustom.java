@@ -1,5 +1,7 @@
 package store.buzzbook.core.repository.user;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +17,30 @@ public interface UserRepositoryCustom {
 
 	List<User> findUsersByBirthdayInCurrentMonth();
 
+	List<Long> findUserIdsByBirthMonth(int month, long afterUserId, int limit);
+
 	List<UserRealBill> findUserRealBillsIn3Month();
 
 	Optional<LoginUserResponse> findLoginUserResponseByUserAuth(String provider, byte[] provideId);
+
+	Optional<UserWithPoint> findWithPointByLoginId(String loginId);
+
+	List<DormancyCandidate> findDormancyCandidates(LocalDateTime lastLoginBefore, LocalDateTime afterLastLoginAt,
+		long afterUserId, int limit);
+
+	List<Long> findNeverLoggedInUserIds(LocalDateTime createdBefore, long afterUserId, int limit);
+
+	int markDormant(Collection<Long> userIds, LocalDateTime inactiveBefore);
+
+	/**
+	 * 회원과 포인트 잔액. 잔액 행이 없으면 0
+	 */
+	record UserWithPoint(User user, int point) {
+	}
+
+	/**
+	 * 휴면 전환 대상 회원과 키셋 커서로 쓸 마지막 로그인 일시
+	 */
+	record DormancyCandidate(long userId, LocalDateTime lastLoginAt) {
+	}
 }
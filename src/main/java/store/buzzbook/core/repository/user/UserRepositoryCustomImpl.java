@@ -2,13 +2,18 @@ package store.buzzbook.core.repository.user;
 
 import static store.buzzbook.core.entity.order.QOrder.*;
 import static store.buzzbook.core.entity.payment.QBillLog.*;
+import static store.buzzbook.core.entity.point.QPointBalance.*;
 import static store.buzzbook.core.entity.user.QGrade.*;
 import static store.buzzbook.core.entity.user.QGradeLog.*;
 import static store.buzzbook.core.entity.user.QUser.*;
 import static store.buzzbook.core.entity.user.QUserAuth.*;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -16,6 +21,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.JdbcTemplate;
+
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -28,10 +35,28 @@ import store.buzzbook.core.dto.user.UserRealBillInfoDetail;
 import store.buzzbook.core.entity.payment.BillStatus;
 import store.buzzbook.core.entity.user.Grade;
 import store.buzzbook.core.entity.user.User;
+import store.buzzbook.core.entity.user.UserStatus;
 
+/**
+ * 회원 조회
+ * 휴면 전환은 상태, 마지막 로그인 일시, 회원 아이디 인덱스를 키셋으로 청크만큼 읽고, 청크마다 UPDATE 한 번으로 상태를 바꿉니다.
+ * UPDATE 에서 조건을 다시 확인하므로 읽은 뒤 로그인한 회원은 바꾸지 않습니다.
+ */
 @RequiredArgsConstructor
 public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+	private static final String SELECT_DORMANCY_CANDIDATES =
+		"SELECT u.id, u.last_login_at FROM `user` u WHERE u.status = 'ACTIVE' AND u.last_login_at < ? "
+			+ "AND (u.last_login_at > ? OR (u.last_login_at = ? AND u.id > ?)) "
+			+ "ORDER BY u.last_login_at, u.id LIMIT ?";
+	private static final String SELECT_NEVER_LOGGED_IN_USER_IDS =
+		"SELECT u.id FROM `user` u WHERE u.status = 'ACTIVE' AND u.last_login_at IS NULL AND u.created_at < ? "
+			+ "AND u.id > ? ORDER BY u.id LIMIT ?";
+	private static final String MARK_DORMANT =
+		"UPDATE `user` SET status = 'DORMANT', modify_at = ? WHERE id IN (%s) AND status = 'ACTIVE' "
+			+ "AND (last_login_at < ? OR (last_login_at IS NULL AND created_at < ?))";
+
 	private final JPAQueryFactory jpaQueryFactory;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
 	public Optional<Grade> findGradeByLoginId(String loginId) {
@@ -70,7 +95,19 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
 		return jpaQueryFactory.select(user)
 			.from(user)
-			.where(user.birthday.month().eq(currentMonth))
+			.where(user.birthMonth.eq(currentMonth))
+			.fetch();
+	}
+
+	@Override
+	public List<Long> findUserIdsByBirthMonth(int month, long afterUserId, int limit) {
+		return jpaQueryFactory.select(user.id)
+			.from(user)
+			.where(user.birthMonth.eq(month)
+				.and(user.id.gt(afterUserId))
+				.and(user.status.eq(UserStatus.ACTIVE)))
+			.orderBy(user.id.asc())
+			.limit(limit)
 			.fetch();
 	}
 
@@ -96,6 +133,7 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 			.fetch();
 
 		Map<Long, UserRealBill> userRealBillMap = new HashMap<>();
+		Map<BillInfoKey, UserRealBillInfo> billInfoMap = new HashMap<>();
 
 		for (Tuple tuple : results) {
 			Long userId = tuple.get(user.id);
@@ -115,18 +153,14 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 				.price(price)
 				.build();
 
-			UserRealBillInfo billInfo = userRealBill.getUserRealBillInfoList().stream()
-				.filter(info -> info.getDeliveryRate() == deliveryRate)
-				.findFirst()
-				.orElse(null);
-
-			if (billInfo == null) {
-				billInfo = UserRealBillInfo.builder()
+			UserRealBillInfo billInfo = billInfoMap.computeIfAbsent(new BillInfoKey(userId, deliveryRate), key -> {
+				UserRealBillInfo info = UserRealBillInfo.builder()
 					.deliveryRate(deliveryRate)
 					.detailList(new LinkedList<>())
 					.build();
-				userRealBill.getUserRealBillInfoList().add(billInfo);
-			}
+				userRealBill.getUserRealBillInfoList().add(info);
+				return info;
+			});
 
 			billInfo.getDetailList().add(detail);
 		}
@@ -146,4 +180,57 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
 		return Optional.ofNullable(loginUserResponse);
 	}
+
+	@Override
+	public Optional<UserWithPoint> findWithPointByLoginId(String loginId) {
+		Tuple result = jpaQueryFactory.select(user, pointBalance.balance)
+			.from(user)
+			.leftJoin(pointBalance)
+			.on(pointBalance.userId.eq(user.id))
+			.where(user.loginId.eq(loginId))
+			.fetchOne();
+
+		if (result == null) {
+			return Optional.empty();
+		}
+		Integer balance = result.get(pointBalance.balance);
+		return Optional.of(new UserWithPoint(result.get(user), balance == null ? 0 : balance));
+	}
+
+	@Override
+	public List<DormancyCandidate> findDormancyCandidates(LocalDateTime lastLoginBefore,
+		LocalDateTime afterLastLoginAt, long afterUserId, int limit) {
+		Timestamp after = Timestamp.valueOf(afterLastLoginAt);
+		return jdbcTemplate.query(SELECT_DORMANCY_CANDIDATES,
+			(rs, rowNum) -> new DormancyCandidate(rs.getLong("id"), rs.getTimestamp("last_login_at").toLocalDateTime()),
+			Timestamp.valueOf(lastLoginBefore), after, after, afterUserId, limit);
+	}
+
+	@Override
+	public List<Long> findNeverLoggedInUserIds(LocalDateTime createdBefore, long afterUserId, int limit) {
+		return jdbcTemplate.queryForList(SELECT_NEVER_LOGGED_IN_USER_IDS, Long.class, Timestamp.valueOf(createdBefore),
+			afterUserId, limit);
+	}
+
+	@Override
+	public int markDormant(Collection<Long> userIds, LocalDateTime inactiveBefore) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		Timestamp before = Timestamp.valueOf(inactiveBefore);
+		List<Object> args = new ArrayList<>(userIds.size() + 3);
+		args.add(Timestamp.valueOf(LocalDateTime.now()));
+		args.addAll(userIds);
+		args.add(before);
+		args.add(before);
+
+		return jdbcTemplate.update(MARK_DORMANT.formatted(placeholders(userIds.size())), args.toArray());
+	}
+
+	private String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+
+	private record BillInfoKey(Long userId, int deliveryRate) {
+	}
 }
@@ -1,23 +1,16 @@
 package store.buzzbook.core.service.auth;
 
 import java.util.Map;
-import java.util.Objects;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import store.buzzbook.core.client.auth.AuthClient;
-import store.buzzbook.core.common.exception.auth.AuthorizeFailException;
 
-@Slf4j
 @RequiredArgsConstructor
 @Service
 public class AuthServiceImpl implements AuthService {
-	private final AuthClient authClient;
+	private final JwtClaimResolver jwtClaimResolver;
 
 	@Override
 	public Map<String, Object> getInfoMapFromJwt(HttpServletRequest request) {
@@ -26,19 +19,7 @@ public class AuthServiceImpl implements AuthService {
 		accessToken = wrapToken(accessToken);
 		refreshToken = wrapToken(refreshToken);
 
-		ResponseEntity<Map<String, Object>> responseEntity = authClient.getUserInfo(accessToken, refreshToken);
-
-		if (Objects.isNull(responseEntity.getBody())) {
-			log.debug("토큰 인증에 실패 했습니다. : null point exception");
-			throw new AuthorizeFailException("Invalid access token");
-		}
-
-		if (responseEntity.getStatusCode().equals(HttpStatus.UNAUTHORIZED)) {
-			throw new AuthorizeFailException((String)responseEntity.getBody().get(ERROR),
-				(String)responseEntity.getBody().get(MESSAGE));
-		}
-
-		return responseEntity.getBody();
+		return jwtClaimResolver.resolve(accessToken, refreshToken);
 	}
 
 	@Override
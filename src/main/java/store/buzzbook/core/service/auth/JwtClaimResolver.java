@@ -0,0 +1,282 @@
+package store.buzzbook.core.service.auth;
+
+import static store.buzzbook.core.service.auth.AuthService.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.client.auth.AuthClient;
+import store.buzzbook.core.common.exception.auth.AuthorizeFailException;
+
+/**
+ * 요청 헤더의 토큰으로 사용자 정보(userId, loginId, role)를 구합니다.
+ * 서명 키를 알고 있는 토큰은 직접 검증하고, 모르는 키이거나 만료되어 재발급이 필요할 때만 인증 서버에 묻습니다.
+ * 결과는 토큰 해시를 키로 짧게 캐시하고, 같은 토큰으로 동시에 들어온 요청은 한 번의 조회 결과를 함께 씁니다.
+ * 캐시는 락 하나로 지키는 접근 순서 LinkedHashMap이라 가득 차면 가장 오래 쓰지 않은 토큰부터 내보냅니다.
+ * 직접 검증한 토큰은 만료 시각까지 유효하므로 로그아웃이나 권한 변경을 토큰 수명 전에 반영하지 않습니다.
+ * 캐시도 따로 무효화하지 않으며, 인증 서버에 물은 결과는 캐시 수명(기본 30초)이 지나야 다시 묻습니다.
+ */
+@Slf4j
+@Component
+public class JwtClaimResolver {
+	static final String LOOKUP_COUNTER = "auth.claims.lookup";
+	static final String SOURCE_COUNTER = "auth.claims.source";
+	static final String REMOTE_TIMER = "auth.claims.remote";
+
+	private static final String BEARER = "Bearer ";
+	private static final String SIGNING_ALGORITHM = "HS256";
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+	};
+
+	private final AuthClient authClient;
+	private final JwtKeySet keySet;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+	private final long ttlMillis;
+	private final int maxEntries;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final LinkedHashMap<String, CachedClaims> cache = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, CompletableFuture<CachedClaims>> inFlight = new ConcurrentHashMap<>();
+
+	@Autowired
+	public JwtClaimResolver(AuthClient authClient, JwtKeySet keySet, MeterRegistry meterRegistry,
+		@Value("${auth.claims.cache.ttl-seconds:30}") long ttlSeconds,
+		@Value("${auth.claims.cache.max-entries:10000}") int maxEntries) {
+		this(authClient, keySet, meterRegistry, Clock.systemUTC(), Duration.ofSeconds(ttlSeconds), maxEntries);
+	}
+
+	JwtClaimResolver(AuthClient authClient, JwtKeySet keySet, MeterRegistry meterRegistry, Clock clock,
+		Duration ttl, int maxEntries) {
+		this.authClient = authClient;
+		this.keySet = keySet;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+		this.ttlMillis = ttl.toMillis();
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * 토큰의 사용자 정보를 구합니다.
+	 *
+	 * @param accessToken 인증 서버에 보낼 형태 그대로의 access token 헤더 값
+	 * @param refreshToken 인증 서버에 보낼 형태 그대로의 refresh token 헤더 값
+	 * @return 호출마다 새로 만든 사용자 정보 맵
+	 * @throws AuthorizeFailException 서명이 맞지 않거나 인증 서버가 거절한 경우
+	 */
+	public Map<String, Object> resolve(String accessToken, String refreshToken) {
+		String key = hash(accessToken, refreshToken);
+		long now = clock.millis();
+
+		CachedClaims cached = find(key, now);
+		if (Objects.nonNull(cached)) {
+			count("hit");
+			return new HashMap<>(cached.claims());
+		}
+
+		CompletableFuture<CachedClaims> mine = new CompletableFuture<>();
+		CompletableFuture<CachedClaims> running = inFlight.putIfAbsent(key, mine);
+		if (Objects.nonNull(running)) {
+			count("shared");
+			return new HashMap<>(join(running).claims());
+		}
+
+		count("miss");
+		try {
+			CachedClaims loaded = load(accessToken, refreshToken, now);
+			store(key, loaded);
+			mine.complete(loaded);
+			return new HashMap<>(loaded.claims());
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	private CachedClaims load(String accessToken, String refreshToken, long now) {
+		Optional<CachedClaims> local = verifyLocally(accessToken, now);
+		if (local.isPresent()) {
+			meterRegistry.counter(SOURCE_COUNTER, "source", "local").increment();
+			return local.get();
+		}
+
+		meterRegistry.counter(SOURCE_COUNTER, "source", "remote").increment();
+		return new CachedClaims(Collections.unmodifiableMap(new HashMap<>(requestRemote(accessToken, refreshToken))),
+			now + ttlMillis);
+	}
+
+	/**
+	 * 알고 있는 키로 서명된 토큰이면 직접 검증합니다.
+	 * 키를 모르거나, 만료되었거나, 필요한 클레임이 없으면 인증 서버가 판단하도록 빈 값을 돌려줍니다.
+	 */
+	private Optional<CachedClaims> verifyLocally(String accessToken, long now) {
+		if (Objects.isNull(accessToken)) {
+			return Optional.empty();
+		}
+		String token = accessToken.startsWith(BEARER) ? accessToken.substring(BEARER.length()) : accessToken;
+		String[] parts = token.split("\\.");
+		if (parts.length != 3) {
+			return Optional.empty();
+		}
+
+		try {
+			Map<String, Object> header = readJson(parts[0]);
+			if (!SIGNING_ALGORITHM.equals(header.get("alg")) || !(header.get("kid") instanceof String kid)) {
+				return Optional.empty();
+			}
+			Optional<SecretKey> key = keySet.find(kid);
+			if (key.isEmpty()) {
+				return Optional.empty();
+			}
+
+			Mac mac = Mac.getInstance(JwtKeySet.ALGORITHM);
+			mac.init(key.get());
+			byte[] expected = mac.doFinal((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+			if (!MessageDigest.isEqual(expected, Base64.getUrlDecoder().decode(parts[2]))) {
+				throw new AuthorizeFailException("Invalid access token");
+			}
+
+			Map<String, Object> claims = readJson(parts[1]);
+			if (!(claims.get("exp") instanceof Number exp) || exp.longValue() * 1000 <= now
+				|| !(claims.get(USER_ID) instanceof Integer)
+				|| !(claims.get(LOGIN_ID) instanceof String)
+				|| !(claims.get(ROLE) instanceof String)) {
+				return Optional.empty();
+			}
+
+			Map<String, Object> userInfo = Map.of(USER_ID, claims.get(USER_ID), LOGIN_ID, claims.get(LOGIN_ID),
+				ROLE, claims.get(ROLE));
+			return Optional.of(new CachedClaims(userInfo, Math.min(now + ttlMillis, exp.longValue() * 1000)));
+		} catch (IOException | IllegalArgumentException e) {
+			log.debug("토큰을 직접 해석하지 못해 인증 서버에 확인합니다. : {}", e.getMessage());
+			return Optional.empty();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private Map<String, Object> requestRemote(String accessToken, String refreshToken) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			ResponseEntity<Map<String, Object>> responseEntity = authClient.getUserInfo(accessToken, refreshToken);
+
+			if (Objects.isNull(responseEntity.getBody())) {
+				log.debug("토큰 인증에 실패 했습니다. : null point exception");
+				throw new AuthorizeFailException("Invalid access token");
+			}
+
+			if (responseEntity.getStatusCode().equals(HttpStatus.UNAUTHORIZED)) {
+				throw new AuthorizeFailException((String)responseEntity.getBody().get(ERROR),
+					(String)responseEntity.getBody().get(MESSAGE));
+			}
+
+			return responseEntity.getBody();
+		} catch (RuntimeException e) {
+			outcome = "failure";
+			throw e;
+		} finally {
+			sample.stop(Timer.builder(REMOTE_TIMER)
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+		}
+	}
+
+	private CachedClaims find(String key, long now) {
+		lock.lock();
+		try {
+			CachedClaims cached = cache.get(key);
+			if (Objects.nonNull(cached) && cached.expiresAt() <= now) {
+				cache.remove(key);
+				return null;
+			}
+			return cached;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void store(String key, CachedClaims claims) {
+		lock.lock();
+		try {
+			cache.put(key, claims);
+			Iterator<CachedClaims> eldest = cache.values().iterator();
+			while (cache.size() > maxEntries && eldest.hasNext()) {
+				eldest.next();
+				eldest.remove();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void count(String result) {
+		meterRegistry.counter(LOOKUP_COUNTER, "result", result).increment();
+	}
+
+	private static Map<String, Object> readJson(String part) throws IOException {
+		return OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(part), CLAIMS_TYPE);
+	}
+
+	private static String hash(String accessToken, String refreshToken) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(String.valueOf(accessToken).getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)'\n');
+			digest.update(String.valueOf(refreshToken).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static CachedClaims join(CompletableFuture<CachedClaims> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private record CachedClaims(Map<String, Object> claims, long expiresAt) {
+	}
+}
@@ -0,0 +1,96 @@
+package store.buzzbook.core.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 서명 검증에 쓰는 키 묶음
+ * {@code auth.jwt.keys}에 {@code kid:base64 비밀키} 목록을 쉼표로 구분해 적습니다.
+ * 키 교체 중에는 이전 키와 새 키를 함께 두고, 설정이 바뀌면 키 묶음 전체를 한 번에 바꿉니다.
+ */
+@Slf4j
+@Component
+public class JwtKeySet {
+	public static final String ALGORITHM = "HmacSHA256";
+	static final String KEYS_PROPERTY = "auth.jwt.keys";
+
+	private final Environment environment;
+	private final AtomicReference<Map<String, SecretKey>> keys;
+
+	@Autowired
+	public JwtKeySet(Environment environment) {
+		this.environment = environment;
+		this.keys = new AtomicReference<>(parse(environment.getProperty(KEYS_PROPERTY, "")));
+	}
+
+	JwtKeySet(String encodedKeys) {
+		this.environment = null;
+		this.keys = new AtomicReference<>(parse(encodedKeys));
+	}
+
+	/**
+	 * kid에 해당하는 키를 찾습니다.
+	 *
+	 * @param kid 토큰 헤더의 키 식별자
+	 * @return 등록되지 않은 kid면 빈 값
+	 */
+	public Optional<SecretKey> find(String kid) {
+		if (Objects.isNull(kid)) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(keys.get().get(kid));
+	}
+
+	/**
+	 * 키 묶음을 새 목록으로 바꿉니다.
+	 *
+	 * @param encodedKeys {@code kid:base64 비밀키} 목록
+	 */
+	public void rotate(String encodedKeys) {
+		Map<String, SecretKey> rotated = parse(encodedKeys);
+		keys.set(rotated);
+		log.info("JWT 서명 키를 교체했습니다. kids: {}", rotated.keySet());
+	}
+
+	@EventListener
+	public void onEnvironmentChange(EnvironmentChangeEvent event) {
+		if (Objects.nonNull(environment) && event.getKeys().contains(KEYS_PROPERTY)) {
+			rotate(environment.getProperty(KEYS_PROPERTY, ""));
+		}
+	}
+
+	private static Map<String, SecretKey> parse(String encodedKeys) {
+		Map<String, SecretKey> parsed = new HashMap<>();
+		if (Objects.isNull(encodedKeys) || encodedKeys.isBlank()) {
+			return Map.of();
+		}
+
+		for (String entry : encodedKeys.split(",")) {
+			int separator = entry.indexOf(':');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("JWT 키는 kid:secret 형식이어야 합니다.");
+			}
+			String kid = entry.substring(0, separator).trim();
+			byte[] secret = Base64.getDecoder()
+				.decode(entry.substring(separator + 1).trim().getBytes(StandardCharsets.US_ASCII));
+			parsed.put(kid, new SecretKeySpec(secret, ALGORITHM));
+		}
+		return Map.copyOf(parsed);
+	}
+}
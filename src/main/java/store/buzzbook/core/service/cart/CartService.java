@@ -24,6 +24,8 @@ public interface CartService {
 
 	void updateCartDetail(Long detailId, Integer quantity);
 
+	void updateCartDetail(String uuid, Long detailId, Integer quantity);
+
 	boolean isValidUUID(String uuid);
 
 	boolean isValidUUID(String uuid, Long userId);
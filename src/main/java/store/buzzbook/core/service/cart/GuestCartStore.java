@@ -0,0 +1,465 @@
+package store.buzzbook.core.service.cart;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.exception.cart.CartConflictException;
+import store.buzzbook.core.common.util.UuidUtil;
+import store.buzzbook.core.repository.user.CartRepository;
+import store.buzzbook.core.repository.user.CartRepositoryCustom.GuestCartRow;
+
+/**
+ * 비회원 장바구니 변경을 DB에 바로 저장하고, 메모리에는 읽기 캐시만 두는 저장소
+ * 16바이트 uuid를 두 long으로 바꾼 키로 샤드를 나누고, 샤드마다 접근 순서 LinkedHashMap과 락 하나를 둡니다.
+ * 장바구니 내용은 (상품 id, 수량) 두 int 배열로만 들고, 캐시한 내용은 바꾸지 않고 저장할 때마다 새 내용으로 교체합니다.
+ * 같은 장바구니 요청이 여러 서버로 나뉘어 올 수 있으므로 저장은 cart.version 비교 후 교체로 하고,
+ * 읽을 때마다 cart.version만 확인해 다른 서버가 바꿨으면 DB에서 다시 읽습니다.
+ * 그래서 어느 서버에서 읽어도 마지막으로 저장된 내용이 보이며, 게이트웨이에서 uuid별로 서버를 고정하지 않아도 됩니다.
+ * 트랜잭션 안에서 바꾼 내용은 커밋된 뒤에 저장합니다.
+ * 용량을 넘거나 오래 쓰이지 않은 장바구니는 메모리에서 내립니다.
+ */
+@Slf4j
+@Component
+public class GuestCartStore {
+	static final String LOOKUP_COUNTER = "cart.guest.lookup";
+	static final String WRITE_COUNTER = "cart.guest.write";
+	static final String SIZE_GAUGE = "cart.guest.size";
+	private static final int MAX_WRITE_ATTEMPTS = 3;
+
+	private final CartRepository cartRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+	private final Shard[] shards;
+	private final int shardCapacity;
+	private final long idleMillis;
+
+	@Autowired
+	public GuestCartStore(CartRepository cartRepository, PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${cart.guest.shards:64}") int shardCount,
+		@Value("${cart.guest.max-carts:100000}") int maxCarts,
+		@Value("${cart.guest.idle-minutes:30}") long idleMinutes) {
+		this(cartRepository, transactionManager, meterRegistry, Clock.systemUTC(), shardCount, maxCarts,
+			Duration.ofMinutes(idleMinutes));
+	}
+
+	GuestCartStore(CartRepository cartRepository, PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry, Clock clock, int shardCount, int maxCarts, Duration idle) {
+		this.cartRepository = cartRepository;
+		// 요청 트랜잭션 안이나 커밋 뒤에 저장해도 요청 트랜잭션과 따로 커밋되도록 새 트랜잭션으로 저장
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+		this.shards = new Shard[shardCount <= 1 ? 1 : Integer.highestOneBit(shardCount - 1) << 1];
+		for (int i = 0; i < shards.length; i++) {
+			shards[i] = new Shard();
+		}
+		this.shardCapacity = Math.max(1, maxCarts / shards.length);
+		this.idleMillis = idle.toMillis();
+		meterRegistry.gauge(SIZE_GAUGE, this, GuestCartStore::size);
+	}
+
+	/**
+	 * 빈 비회원 장바구니를 만듭니다. 다른 서버에서도 찾을 수 있도록 DB 행을 바로 만듭니다.
+	 *
+	 * @return 새 장바구니 uuid
+	 */
+	public byte[] create() {
+		byte[] uuid = UuidUtil.createUuidToByte();
+		Long cartId = transactionTemplate.execute(status -> cartRepository.createGuestCart(uuid));
+		cache(CartKey.of(uuid), GuestCart.created(Objects.requireNonNull(cartId), clock.millis()));
+		return uuid;
+	}
+
+	/**
+	 * 메모리에 올라와 있는 비회원 장바구니인지 확인합니다. DB는 조회하지 않습니다.
+	 */
+	public boolean contains(byte[] uuid) {
+		CartKey key = CartKey.of(uuid);
+		Shard shard = shardOf(key);
+		shard.lock.lock();
+		try {
+			return shard.carts.containsKey(key);
+		} finally {
+			shard.lock.unlock();
+		}
+	}
+
+	/**
+	 * 비회원 장바구니 내용을 읽습니다. 메모리에 있으면 버전만 확인하고, 없거나 버전이 다르면 DB에서 읽어 올립니다.
+	 *
+	 * @return 장바구니가 없거나 회원 장바구니면 빈 값
+	 */
+	public Optional<Lines> find(byte[] uuid) {
+		CartKey key = CartKey.of(uuid);
+		GuestCart cached = cached(key);
+
+		if (Objects.nonNull(cached)) {
+			Optional<Long> version = cartRepository.findGuestCartVersion(cached.cartId);
+			if (version.isPresent() && version.get() == cached.rowVersion) {
+				meterRegistry.counter(LOOKUP_COUNTER, "result", "hit").increment();
+				return Optional.of(cached.lines());
+			}
+			meterRegistry.counter(LOOKUP_COUNTER, "result", "stale").increment();
+			invalidate(key, cached);
+			if (version.isEmpty()) {
+				return Optional.empty();
+			}
+		} else {
+			meterRegistry.counter(LOOKUP_COUNTER, "result", "miss").increment();
+		}
+
+		return load(key, uuid).map(GuestCart::lines);
+	}
+
+	/**
+	 * 상품을 담습니다. 이미 담긴 상품이면 수량을 더합니다.
+	 */
+	public void add(byte[] uuid, int productId, int quantity) {
+		change(uuid, cart -> cart.add(productId, quantity));
+	}
+
+	/**
+	 * 담긴 상품의 수량을 바꿉니다.
+	 */
+	public void changeQuantity(byte[] uuid, int productId, int quantity) {
+		change(uuid, cart -> cart.changeQuantity(productId, quantity));
+	}
+
+	/**
+	 * 담긴 상품을 뺍니다.
+	 */
+	public void remove(byte[] uuid, int productId) {
+		change(uuid, cart -> cart.remove(productId));
+	}
+
+	/**
+	 * 담긴 상품을 모두 뺍니다.
+	 */
+	public void clear(byte[] uuid) {
+		change(uuid, GuestCart::clear);
+	}
+
+	/**
+	 * 오래 쓰이지 않은 장바구니를 메모리에서 내립니다. 내용은 이미 DB에 있으므로 저장하지 않습니다.
+	 */
+	@Scheduled(fixedDelayString = "${cart.guest.evict-interval-millis:60000}")
+	public void evictIdle() {
+		long idleBefore = clock.millis() - idleMillis;
+
+		for (Shard shard : shards) {
+			shard.lock.lock();
+			try {
+				shard.carts.values().removeIf(cart -> cart.lastAccessAt < idleBefore);
+			} finally {
+				shard.lock.unlock();
+			}
+		}
+	}
+
+	int size() {
+		int size = 0;
+		for (Shard shard : shards) {
+			shard.lock.lock();
+			try {
+				size += shard.carts.size();
+			} finally {
+				shard.lock.unlock();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋된 뒤에 저장해, 롤백된 요청의 변경이 남지 않게 합니다.
+	 */
+	private void change(byte[] uuid, UnaryOperator<GuestCart> change) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			write(uuid, change);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				write(uuid, change);
+			}
+		});
+	}
+
+	/**
+	 * 캐시한 내용에 변경을 적용해 그 내용을 읽은 버전일 때만 저장합니다.
+	 * 다른 서버가 먼저 저장했으면 DB에서 다시 읽어 변경을 다시 적용합니다.
+	 */
+	private void write(byte[] uuid, UnaryOperator<GuestCart> change) {
+		CartKey key = CartKey.of(uuid);
+		GuestCart base = cached(key);
+
+		for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+			if (Objects.isNull(base)) {
+				Optional<GuestCart> loaded = load(key, uuid);
+				if (loaded.isEmpty()) {
+					// 지워졌거나 회원 장바구니가 된 장바구니는 바꾸지 않음
+					return;
+				}
+				base = loaded.get();
+			}
+
+			GuestCart next = change.apply(base.copy(clock.millis()));
+			if (!next.changed) {
+				return;
+			}
+
+			GuestCart read = base;
+			Lines lines = next.lines();
+			Boolean saved = transactionTemplate.execute(status -> cartRepository.saveGuestCart(read.cartId,
+				read.rowVersion, lines.productIds(), lines.quantities()));
+
+			if (Boolean.TRUE.equals(saved)) {
+				next.rowVersion = read.rowVersion + 1;
+				cache(key, next);
+				meterRegistry.counter(WRITE_COUNTER, "result", "success").increment();
+				return;
+			}
+
+			meterRegistry.counter(WRITE_COUNTER, "result", "conflict").increment();
+			invalidate(key, read);
+			base = null;
+		}
+
+		meterRegistry.counter(WRITE_COUNTER, "result", "failure").increment();
+		log.warn("비회원 장바구니 저장이 다른 요청과 계속 겹쳤습니다. : {}", UuidUtil.uuidByteToString(uuid));
+		throw new CartConflictException(UuidUtil.uuidByteToString(uuid));
+	}
+
+	private GuestCart cached(CartKey key) {
+		Shard shard = shardOf(key);
+		shard.lock.lock();
+		try {
+			GuestCart cart = shard.carts.get(key);
+			if (Objects.nonNull(cart)) {
+				cart.lastAccessAt = clock.millis();
+			}
+			return cart;
+		} finally {
+			shard.lock.unlock();
+		}
+	}
+
+	private Optional<GuestCart> load(CartKey key, byte[] uuid) {
+		Optional<GuestCartRow> row = cartRepository.findGuestCart(uuid);
+		if (row.isEmpty()) {
+			return Optional.empty();
+		}
+
+		GuestCart loaded = GuestCart.loaded(row.get(), clock.millis());
+		cache(key, loaded);
+		return Optional.of(loaded);
+	}
+
+	/**
+	 * 장바구니를 샤드에 올립니다. 이미 더 새 버전이 올라와 있으면 그대로 둡니다.
+	 * 샤드 용량을 넘으면 가장 오래 쓰이지 않은 장바구니를 내립니다.
+	 */
+	private void cache(CartKey key, GuestCart cart) {
+		Shard shard = shardOf(key);
+		shard.lock.lock();
+		try {
+			GuestCart current = shard.carts.get(key);
+			if (Objects.isNull(current) || current.rowVersion <= cart.rowVersion) {
+				shard.carts.put(key, cart);
+			}
+
+			Iterator<GuestCart> eldest = shard.carts.values().iterator();
+			while (shard.carts.size() > shardCapacity && eldest.hasNext()) {
+				eldest.next();
+				eldest.remove();
+			}
+		} finally {
+			shard.lock.unlock();
+		}
+	}
+
+	private void invalidate(CartKey key, GuestCart cart) {
+		Shard shard = shardOf(key);
+		shard.lock.lock();
+		try {
+			shard.carts.remove(key, cart);
+		} finally {
+			shard.lock.unlock();
+		}
+	}
+
+	private Shard shardOf(CartKey key) {
+		long hash = key.high() ^ key.low();
+		int spread = (int)(hash ^ (hash >>> 32));
+		return shards[(spread ^ (spread >>> 16)) & (shards.length - 1)];
+	}
+
+	/**
+	 * 장바구니에 담긴 상품 id와 수량. 두 배열은 같은 순서입니다.
+	 */
+	public record Lines(int[] productIds, int[] quantities) {
+		public int size() {
+			return productIds.length;
+		}
+
+		public boolean contains(int productId) {
+			for (int id : productIds) {
+				if (id == productId) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * 상품을 뺀 목록을 돌려줍니다.
+		 */
+		public Lines without(int productId) {
+			int[] ids = new int[productIds.length];
+			int[] counts = new int[productIds.length];
+			int size = 0;
+			for (int i = 0; i < productIds.length; i++) {
+				if (productIds[i] != productId) {
+					ids[size] = productIds[i];
+					counts[size] = quantities[i];
+					size++;
+				}
+			}
+			return new Lines(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size));
+		}
+	}
+
+	record CartKey(long high, long low) {
+		static CartKey of(byte[] uuid) {
+			ByteBuffer buffer = ByteBuffer.wrap(uuid);
+			return new CartKey(buffer.getLong(), buffer.getLong());
+		}
+
+		byte[] toBytes() {
+			return ByteBuffer.allocate(16).putLong(high).putLong(low).array();
+		}
+	}
+
+	private static final class Shard {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<CartKey, GuestCart> carts = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * 메모리의 비회원 장바구니. 캐시에 올린 뒤에는 lastAccessAt만 샤드 락을 잡고 바꿉니다.
+	 * 바꿀 때는 copy로 만든 사본에 적용하고, rowVersion은 그 내용이 저장된 cart.version입니다.
+	 */
+	private static final class GuestCart {
+		private final long cartId;
+		private int[] productIds;
+		private int[] quantities;
+		private int size;
+		private long rowVersion;
+		private long lastAccessAt;
+		private boolean changed;
+
+		private GuestCart(long cartId, long rowVersion, int[] productIds, int[] quantities, int size,
+			long lastAccessAt) {
+			this.cartId = cartId;
+			this.rowVersion = rowVersion;
+			this.productIds = productIds;
+			this.quantities = quantities;
+			this.size = size;
+			this.lastAccessAt = lastAccessAt;
+		}
+
+		static GuestCart created(long cartId, long now) {
+			return new GuestCart(cartId, 0, new int[0], new int[0], 0, now);
+		}
+
+		static GuestCart loaded(GuestCartRow row, long now) {
+			return new GuestCart(row.cartId(), row.version(), row.productIds(), row.quantities(),
+				row.productIds().length, now);
+		}
+
+		GuestCart copy(long now) {
+			return new GuestCart(cartId, rowVersion, Arrays.copyOf(productIds, size), Arrays.copyOf(quantities, size),
+				size, now);
+		}
+
+		Lines lines() {
+			return new Lines(Arrays.copyOf(productIds, size), Arrays.copyOf(quantities, size));
+		}
+
+		GuestCart add(int productId, int quantity) {
+			int index = indexOf(productId);
+			if (index >= 0) {
+				quantities[index] += quantity;
+			} else {
+				if (size == productIds.length) {
+					productIds = Arrays.copyOf(productIds, Math.max(4, size * 2));
+					quantities = Arrays.copyOf(quantities, productIds.length);
+				}
+				productIds[size] = productId;
+				quantities[size] = quantity;
+				size++;
+			}
+			changed = true;
+			return this;
+		}
+
+		GuestCart changeQuantity(int productId, int quantity) {
+			int index = indexOf(productId);
+			if (index >= 0) {
+				quantities[index] = quantity;
+				changed = true;
+			}
+			return this;
+		}
+
+		GuestCart remove(int productId) {
+			int index = indexOf(productId);
+			if (index >= 0) {
+				size--;
+				productIds[index] = productIds[size];
+				quantities[index] = quantities[size];
+				changed = true;
+			}
+			return this;
+		}
+
+		GuestCart clear() {
+			changed = size > 0;
+			size = 0;
+			return this;
+		}
+
+		private int indexOf(int productId) {
+			for (int i = 0; i < size; i++) {
+				if (productIds[i] == productId) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
@@ -1,8 +1,13 @@
 package store.buzzbook.core.service.cart.implement;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +29,7 @@ import store.buzzbook.core.repository.user.CartDetailRepository;
 import store.buzzbook.core.repository.user.CartRepository;
 import store.buzzbook.core.repository.user.UserRepository;
 import store.buzzbook.core.service.cart.CartService;
+import store.buzzbook.core.service.cart.GuestCartStore;
 
 @Service
 @RequiredArgsConstructor
@@ -33,12 +39,19 @@ public class CartServiceImpl implements CartService {
 	private final UserRepository userRepository;
 	private final ProductRepository productRepository;
 	private final CartDetailRepository cartDetailRepository;
+	private final GuestCartStore guestCartStore;
 
 	@Transactional(readOnly = true)
 	@Override
 	public List<CartDetailResponse> getCartByUuId(String uuid) {
-		Optional<List<CartDetailResponse>> cartResponseOptional = cartRepository.findCartDetailByUuid(
-			UuidUtil.stringToByte(uuid));
+		byte[] uuidBytes = UuidUtil.stringToByte(uuid);
+		Optional<GuestCartStore.Lines> guestCart = guestCartStore.find(uuidBytes);
+
+		if (guestCart.isPresent()) {
+			return toGuestResponses(uuidBytes, guestCart.get());
+		}
+
+		Optional<List<CartDetailResponse>> cartResponseOptional = cartRepository.findCartDetailByUuid(uuidBytes);
 
 		if (cartResponseOptional.isEmpty()) {
 			log.debug("존재하지 않는 장바구니 id로 조회를 요청했습니다. id : {}", uuid);
@@ -78,21 +91,23 @@ public class CartServiceImpl implements CartService {
 	@Transactional
 	@Override
 	public void createCartDetail(String uuid, CreateCartDetailRequest createCartDetailRequest) {
-		Optional<Cart> cart = cartRepository.findCartByUuid(UuidUtil.stringToByte(uuid));
+		byte[] uuidBytes = UuidUtil.stringToByte(uuid);
 		int productId = createCartDetailRequest.productId();
 
-		if (cart.isEmpty()) {
-			throw new CartNotExistsException(uuid);
+		if (guestCartStore.find(uuidBytes).isPresent()) {
+			checkStock(productId);
+			guestCartStore.add(uuidBytes, productId, createCartDetailRequest.quantity());
+			return;
 		}
 
-		Product product = productRepository.findById(productId)
-			.orElseThrow(() -> new DataNotFoundException("도서", productId));
+		Optional<Cart> cart = cartRepository.findCartByUuid(uuidBytes);
 
-		if (product.getStock() <= 0) {
-			log.debug("상품의 재고가 부족합니다.");
-			throw new NotEnoughProductStockException();
+		if (cart.isEmpty()) {
+			throw new CartNotExistsException(uuid);
 		}
 
+		Product product = checkStock(productId);
+
 		Optional<CartDetail> existDetailOptional = cartDetailRepository.findByProductIdAndCartId(productId,
 			cart.get().getId());
 
@@ -109,10 +124,20 @@ public class CartServiceImpl implements CartService {
 	@Transactional
 	@Override
 	public List<CartDetailResponse> deleteCartDetail(String uuid, Long cartDetailId) {
+		byte[] uuidBytes = UuidUtil.stringToByte(uuid);
+
+		Optional<GuestCartStore.Lines> guestCart = guestCartStore.find(uuidBytes);
+
+		if (guestCart.isPresent()) {
+			int productId = cartDetailId.intValue();
+			// 비회원 장바구니는 커밋된 뒤에 바뀌므로 뺀 내용으로 응답함
+			guestCartStore.remove(uuidBytes, productId);
+			return toGuestResponses(uuidBytes, guestCart.get().without(productId));
+		}
+
 		cartDetailRepository.deleteById(cartDetailId);
 
-		Optional<List<CartDetailResponse>> cartResponse = cartRepository.findCartDetailByUuid(
-			UuidUtil.stringToByte(uuid));
+		Optional<List<CartDetailResponse>> cartResponse = cartRepository.findCartDetailByUuid(uuidBytes);
 
 		List<CartDetailResponse> cartDetailResponses = cartResponse.orElseGet(List::of);
 
@@ -126,7 +151,14 @@ public class CartServiceImpl implements CartService {
 	@Transactional
 	@Override
 	public void deleteAll(String uuid) {
-		Optional<Cart> cart = cartRepository.findCartByUuid(UuidUtil.stringToByte(uuid));
+		byte[] uuidBytes = UuidUtil.stringToByte(uuid);
+
+		if (guestCartStore.find(uuidBytes).isPresent()) {
+			guestCartStore.clear(uuidBytes);
+			return;
+		}
+
+		Optional<Cart> cart = cartRepository.findCartByUuid(uuidBytes);
 
 		if (cart.isEmpty()) {
 			throw new CartNotExistsException(uuid);
@@ -154,9 +186,36 @@ public class CartServiceImpl implements CartService {
 		cartDetailRepository.save(cartDetailOptional.get());
 	}
 
+	@Transactional
+	@Override
+	public void updateCartDetail(String uuid, Long detailId, Integer quantity) {
+		byte[] uuidBytes = UuidUtil.stringToByte(uuid);
+		Optional<GuestCartStore.Lines> guestCart = guestCartStore.find(uuidBytes);
+
+		if (guestCart.isEmpty()) {
+			updateCartDetail(detailId, quantity);
+			return;
+		}
+
+		int productId = detailId.intValue();
+		if (!guestCart.get().contains(productId)) {
+			log.debug("존재하지 않는 장바구니 상세 id의 업데이트 요청 : {}", detailId);
+			throw new CartNotExistsException(detailId);
+		}
+
+		Product product = productRepository.findById(productId)
+			.orElseThrow(() -> new DataNotFoundException("도서", productId));
+		if (product.getStock() < quantity) {
+			throw new NotEnoughProductStockException();
+		}
+
+		guestCartStore.changeQuantity(uuidBytes, productId, quantity);
+	}
+
 	@Override
 	public boolean isValidUUID(String uuid) {
-		return cartRepository.existsByUuid(UuidUtil.stringToByte(uuid));
+		byte[] uuidBytes = UuidUtil.stringToByte(uuid);
+		return guestCartStore.contains(uuidBytes) || cartRepository.existsByUuid(uuidBytes);
 	}
 
 	@Override
@@ -184,13 +243,9 @@ public class CartServiceImpl implements CartService {
 		return UuidUtil.uuidByteToString(savedCart.getUuid());
 	}
 
-	@Transactional
 	@Override
 	public String createCart() {
-		Cart savedCart = cartRepository.save(
-			Cart.builder().user(null).uuid(UuidUtil.createUuidToByte()).build());
-
-		return UuidUtil.uuidByteToString(savedCart.getUuid());
+		return UuidUtil.uuidByteToString(guestCartStore.create());
 	}
 
 	@Transactional
@@ -206,6 +261,47 @@ public class CartServiceImpl implements CartService {
 		}
 	}
 
+	private Product checkStock(int productId) {
+		Product product = productRepository.findById(productId)
+			.orElseThrow(() -> new DataNotFoundException("도서", productId));
+
+		if (product.getStock() <= 0) {
+			log.debug("상품의 재고가 부족합니다.");
+			throw new NotEnoughProductStockException();
+		}
+		return product;
+	}
+
+	/**
+	 * 비회원 장바구니 내용을 응답으로 바꿉니다. 비회원 장바구니 상세 id는 상품 id입니다.
+	 * 회원 장바구니처럼 재고가 없거나 사라진 상품은 장바구니에서 뺍니다.
+	 */
+	private List<CartDetailResponse> toGuestResponses(byte[] uuid, GuestCartStore.Lines lines) {
+		Map<Integer, Product> products = productRepository.findAllById(
+				Arrays.stream(lines.productIds()).boxed().toList()).stream()
+			.collect(Collectors.toMap(Product::getId, Function.identity()));
+
+		List<CartDetailResponse> cartDetailResponses = new ArrayList<>(lines.size());
+		for (int i = 0; i < lines.size(); i++) {
+			Product product = products.get(lines.productIds()[i]);
+
+			if (Objects.isNull(product) || product.getStock() <= 0) {
+				guestCartStore.remove(uuid, lines.productIds()[i]);
+				continue;
+			}
+
+			cartDetailResponses.add(CartDetail.builder()
+				.id(product.getId())
+				.product(product)
+				.quantity(lines.quantities()[i])
+				.build()
+				.toResponse());
+		}
+
+		orderByPrice(cartDetailResponses);
+		return cartDetailResponses;
+	}
+
 	private void orderByPrice(List<CartDetailResponse> cartList) {
 		cartList.sort((cartA, cartB) -> {
 			int priceA = cartA.getPrice() * cartA.getQuantity();
@@ -3,6 +3,7 @@ package store.buzzbook.core.service.coupon;
 import java.util.List;
 
 import store.buzzbook.core.dto.cart.CartDetailResponse;
+import store.buzzbook.core.dto.coupon.BirthdayCouponDispatchResult;
 import store.buzzbook.core.dto.coupon.CouponResponse;
 import store.buzzbook.core.dto.coupon.CreateUserCouponRequest;
 import store.buzzbook.core.dto.coupon.DownloadCouponRequest;
@@ -20,4 +21,14 @@ public interface CouponService {
 	List<OrderCouponDetailResponse> getOrderCoupons(Long userId, List<CartDetailResponse> responses);
 
 	List<UserInfo> getUserInfoByCurrentBirthday();
+
+	/**
+	 * 이번 달 생일인 활성 회원의 생일 쿠폰 발급 요청을 회원 아이디 순으로 페이지마다 발행합니다.
+	 * 페이지마다 브로커의 발행 확인을 받은 뒤 다음 페이지를 읽으며, 확인을 받지 못하면 멈추고 마지막으로 확인받은 회원 아이디를 돌려줍니다.
+	 * 요청마다 이번 년월을 담으므로 이어서 발행하다 다시 보낸 요청은 쿠폰 서버가 걸러 냅니다.
+	 *
+	 * @param afterUserId 이 회원 아이디 다음부터 발행
+	 * @return 발행 결과
+	 */
+	BirthdayCouponDispatchResult dispatchBirthdayCoupons(long afterUserId);
 }
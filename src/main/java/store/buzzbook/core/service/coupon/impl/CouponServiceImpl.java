@@ -1,22 +1,28 @@
 package store.buzzbook.core.service.coupon.impl;
 
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 
+import org.springframework.amqp.AmqpException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import store.buzzbook.core.client.auth.CouponClient;
 import store.buzzbook.core.common.exception.coupon.UserCouponAlreadyExistsException;
 import store.buzzbook.core.common.exception.coupon.UserCouponNotFoundException;
 import store.buzzbook.core.common.exception.user.UserNotFoundException;
+import store.buzzbook.core.common.service.UserProducerService;
 import store.buzzbook.core.dto.cart.CartDetailResponse;
+import store.buzzbook.core.dto.coupon.BirthdayCouponDispatchResult;
 import store.buzzbook.core.dto.coupon.CouponLogRequest;
 import store.buzzbook.core.dto.coupon.CouponResponse;
 import store.buzzbook.core.dto.coupon.CreateCouponRequest;
+import store.buzzbook.core.dto.coupon.CreateBirthdayCouponRequest;
 import store.buzzbook.core.dto.coupon.CreateCouponResponse;
 import store.buzzbook.core.dto.coupon.CreateUserCouponRequest;
 import store.buzzbook.core.dto.coupon.DownloadCouponRequest;
@@ -29,6 +35,7 @@ import store.buzzbook.core.repository.user.UserCouponRepository;
 import store.buzzbook.core.repository.user.UserRepository;
 import store.buzzbook.core.service.coupon.CouponService;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponServiceImpl implements CouponService {
@@ -38,9 +45,13 @@ public class CouponServiceImpl implements CouponService {
 	@Value("${api.gateway.port}")
 	private int port;
 
+	@Value("${coupon.birthday.page-size:1000}")
+	private int birthdayPageSize;
+
 	private final UserRepository userRepository;
 	private final UserCouponRepository userCouponRepository;
 	private final CouponClient couponClient;
+	private final UserProducerService userProducerService;
 
 	@Transactional
 	@Override
@@ -159,4 +170,39 @@ public class CouponServiceImpl implements CouponService {
 				.build())
 			.toList();
 	}
+
+	@Override
+	public BirthdayCouponDispatchResult dispatchBirthdayCoupons(long afterUserId) {
+		// 이어서 발행해도 같은 달이면 같은 년월을 보내 쿠폰 서버가 중복 발급을 거르게 함
+		YearMonth yearMonth = YearMonth.now();
+		int month = yearMonth.getMonthValue();
+		long start = System.nanoTime();
+		long users = 0;
+		long lastUserId = afterUserId;
+		boolean completed = true;
+
+		List<Long> userIds;
+		while (!(userIds = userRepository.findUserIdsByBirthMonth(month, lastUserId, birthdayPageSize)).isEmpty()) {
+			try {
+				userProducerService.sendBirthdayCouponRequests(userIds.stream()
+					.map(userId -> CreateBirthdayCouponRequest.builder()
+						.userId(userId)
+						.yearMonth(yearMonth.toString())
+						.build())
+					.toList());
+			} catch (AmqpException e) {
+				log.warn("생일 쿠폰 발급 요청 발행 확인 실패, 회원 {} 다음부터 다시 발행해야 합니다. : {}", lastUserId,
+					e.getMessage());
+				completed = false;
+				break;
+			}
+			users += userIds.size();
+			lastUserId = userIds.getLast();
+		}
+
+		BirthdayCouponDispatchResult result = new BirthdayCouponDispatchResult(month, completed, users, lastUserId,
+			(System.nanoTime() - start) / 1_000_000);
+		log.info("생일 쿠폰 발급 요청 발행 {}", result);
+		return result;
+	}
 }
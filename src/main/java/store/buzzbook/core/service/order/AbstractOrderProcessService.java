@@ -1,27 +1,23 @@
 package store.buzzbook.core.service.order;
 
-import org.springframework.http.HttpHeaders;
+import java.util.HashMap;
+import java.util.Map;
 
-import store.buzzbook.core.common.exception.order.OrderNotFoundException;
-import store.buzzbook.core.common.exception.order.ProductNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
+import store.buzzbook.core.entity.coupon.CouponStatus;
 import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderDetail;
 import store.buzzbook.core.entity.order.OrderStatus;
-import store.buzzbook.core.entity.product.Product;
-import store.buzzbook.core.entity.user.User;
-import store.buzzbook.core.repository.order.OrderRepository;
-import store.buzzbook.core.repository.order.OrderStatusRepository;
-import store.buzzbook.core.repository.product.ProductRepository;
+import store.buzzbook.core.service.product.StockService;
 
 public abstract class AbstractOrderProcessService implements OrderStrategy {
-	protected OrderRepository orderRepository;
-	protected OrderStatusRepository orderStatusRepository;
-	protected ProductRepository productRepository;
-
-	protected AbstractOrderProcessService(OrderRepository orderRepository, OrderStatusRepository orderStatusRepository,
-		ProductRepository productRepository) {
-		this.orderRepository = orderRepository;
-		this.orderStatusRepository = orderStatusRepository;
-		this.productRepository = productRepository;
+	protected ReferenceDataRegistry referenceDataRegistry;
+	protected StockService stockService;
+
+	protected AbstractOrderProcessService(ReferenceDataRegistry referenceDataRegistry,
+		StockService stockService) {
+		this.referenceDataRegistry = referenceDataRegistry;
+		this.stockService = stockService;
 	}
 
 	// - 회원해당
@@ -38,16 +34,18 @@ public abstract class AbstractOrderProcessService implements OrderStrategy {
 	// 검증
 	abstract boolean validateStock(int productId, int quantity);
 	abstract boolean validatePoints(int deductedPoints, int holdingPoints);
-	abstract boolean validateCoupon(User user, String couponCode, HttpHeaders headers);
+	abstract boolean validateCoupon(CouponStatus couponStatus);
 
 	// 재고 처리
-	void decreaseStock(int productId, int quantity) {
-		Product product = productRepository.findById(productId).orElseThrow(ProductNotFoundException::new);
-		product.decreaseStock(quantity);
+	void decreaseStocks(Order order) {
+		Map<Integer, Integer> quantities = new HashMap<>();
+		for (OrderDetail detail : order.getDetails()) {
+			quantities.merge(detail.getProduct().getId(), detail.getQuantity(), Integer::sum);
+		}
+		stockService.decreaseStocks(quantities);
 	}
 	// 주문 상태 변경
-	void updateOrderStatus(long orderId, OrderStatus orderStatus) {
-		Order order = orderRepository.findById(orderId).orElseThrow(OrderNotFoundException::new);
+	void updateOrderStatus(Order order, OrderStatus orderStatus) {
 		order.changeOrderStatus(orderStatus);
 	}
 
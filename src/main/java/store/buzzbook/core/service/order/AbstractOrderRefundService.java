@@ -2,26 +2,20 @@ package store.buzzbook.core.service.order;
 
 import org.springframework.http.HttpHeaders;
 
-import store.buzzbook.core.common.exception.order.OrderNotFoundException;
-import store.buzzbook.core.common.exception.order.ProductNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.entity.order.Order;
 import store.buzzbook.core.entity.order.OrderStatus;
-import store.buzzbook.core.entity.product.Product;
 import store.buzzbook.core.entity.user.User;
-import store.buzzbook.core.repository.order.OrderRepository;
-import store.buzzbook.core.repository.order.OrderStatusRepository;
-import store.buzzbook.core.repository.product.ProductRepository;
+import store.buzzbook.core.service.product.StockService;
 
 public abstract class AbstractOrderRefundService implements OrderStrategy {
-	protected OrderRepository orderRepository;
-	protected OrderStatusRepository orderStatusRepository;
-	protected ProductRepository productRepository;
-
-	protected AbstractOrderRefundService(OrderRepository orderRepository, OrderStatusRepository orderStatusRepository,
-		ProductRepository productRepository) {
-		this.orderRepository = orderRepository;
-		this.orderStatusRepository = orderStatusRepository;
-		this.productRepository = productRepository;
+	protected ReferenceDataRegistry referenceDataRegistry;
+	protected StockService stockService;
+
+	protected AbstractOrderRefundService(ReferenceDataRegistry referenceDataRegistry,
+		StockService stockService) {
+		this.referenceDataRegistry = referenceDataRegistry;
+		this.stockService = stockService;
 	}
 
 	// - 회원해당
@@ -41,12 +35,10 @@ public abstract class AbstractOrderRefundService implements OrderStrategy {
 
 	// 재고 처리
 	void increaseStock(int productId, int quantity) {
-		Product product = productRepository.findById(productId).orElseThrow(ProductNotFoundException::new);
-		product.increaseStock(quantity);
+		stockService.increaseStock(productId, quantity);
 	}
 	// 주문 상태 변경
-	void updateOrderStatus(long orderId, OrderStatus orderStatus) {
-		Order order = orderRepository.findById(orderId).orElseThrow(OrderNotFoundException::new);
+	void updateOrderStatus(Order order, OrderStatus orderStatus) {
 		order.changeOrderStatus(orderStatus);
 	}
 
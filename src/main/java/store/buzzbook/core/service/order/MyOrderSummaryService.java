@@ -0,0 +1,216 @@
+package store.buzzbook.core.service.order;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.exception.order.JSONParsingException;
+import store.buzzbook.core.dto.order.MyOrderSummaryCheckResult;
+import store.buzzbook.core.dto.order.OrderCursor;
+import store.buzzbook.core.dto.order.ReadOrdersRequest;
+import store.buzzbook.core.dto.order.ReadOrdersResponse;
+import store.buzzbook.core.entity.order.MyOrderSummary;
+import store.buzzbook.core.repository.order.MyOrderSummaryRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+
+/**
+ * 마이페이지 주문 목록 읽기 모델 서비스
+ * 주문이 바뀌는 트랜잭션 안에서 해당 주문의 목록 응답을 다시 만들어 저장하므로, 조회는 조인 없이 읽기 모델만 읽습니다.
+ */
+@Slf4j
+@Service
+public class MyOrderSummaryService {
+	private final MyOrderSummaryRepository myOrderSummaryRepository;
+	private final OrderRepository orderRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public MyOrderSummaryService(MyOrderSummaryRepository myOrderSummaryRepository, OrderRepository orderRepository,
+		ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+		@Value("${order.summary.chunk-size:500}") int chunkSize) {
+		this.myOrderSummaryRepository = myOrderSummaryRepository;
+		this.orderRepository = orderRepository;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 내 주문 목록을 읽기 모델에서 조회합니다.
+	 * 커서가 있으면 커서 이후의 주문을, 없으면 페이지 번호에 해당하는 주문을 조회합니다.
+	 *
+	 * @param request 주문 조회 요청 객체
+	 * @param loginId 로그인 아이디
+	 * @param pageable 페이지 정보
+	 * @return 내 주문 목록
+	 */
+	@Transactional(readOnly = true)
+	public Slice<ReadOrdersResponse> readMyOrders(ReadOrdersRequest request, String loginId, Pageable pageable) {
+		Slice<MyOrderSummary> summaries;
+		if (request.getCursor() == null) {
+			summaries = myOrderSummaryRepository.findAllByLoginIdOrderByDesiredDeliveryDateDescOrderIdDesc(loginId,
+				pageable);
+		} else {
+			OrderCursor cursor = OrderCursor.decode(request.getCursor());
+			summaries = myOrderSummaryRepository.findAllByLoginIdAfter(loginId, cursor.desiredDeliveryDate(),
+				cursor.id(), pageable);
+		}
+
+		return summaries.map(summary -> read(summary.getSummary()));
+	}
+
+	/**
+	 * 주문의 읽기 모델을 원본에서 다시 만듭니다.
+	 * 비회원 주문이거나 주문이 없으면 읽기 모델에서 지웁니다.
+	 *
+	 * @param orderId 주문 아이디
+	 */
+	@Transactional
+	public void refresh(long orderId) {
+		refresh(List.of(orderId));
+	}
+
+	@Transactional
+	public void refresh(Collection<Long> orderIds) {
+		if (orderIds.isEmpty()) {
+			return;
+		}
+		Map<Long, MyOrderSummary> stored = myOrderSummaryRepository.findAllById(orderIds).stream()
+			.collect(Collectors.toMap(MyOrderSummary::getOrderId, Function.identity()));
+
+		Set<Long> remaining = new HashSet<>(orderIds);
+		List<MyOrderSummary> created = new ArrayList<>();
+		for (ReadOrdersResponse response : orderRepository.findAllByIdIn(orderIds)) {
+			if (response.getLoginId() == null) {
+				continue;
+			}
+			remaining.remove(response.getId());
+
+			String summary = write(response);
+			MyOrderSummary existing = stored.get(response.getId());
+			if (existing == null) {
+				created.add(MyOrderSummary.builder()
+					.orderId(response.getId())
+					.loginId(response.getLoginId())
+					.desiredDeliveryDate(response.getDesiredDeliveryDate())
+					.summary(summary)
+					.updatedAt(LocalDateTime.now())
+					.build());
+			} else {
+				existing.update(response.getLoginId(), response.getDesiredDeliveryDate(), summary);
+			}
+		}
+		myOrderSummaryRepository.saveAll(created);
+
+		for (Long orderId : remaining) {
+			if (stored.containsKey(orderId)) {
+				myOrderSummaryRepository.deleteById(orderId);
+			}
+		}
+	}
+
+	/**
+	 * 모든 회원 주문의 읽기 모델을 다시 만듭니다.
+	 * 주문 아이디 순으로 청크마다 트랜잭션을 나눠 처리합니다.
+	 *
+	 * @return 다시 만든 주문 수
+	 */
+	public long rebuild() {
+		long rebuilt = 0;
+		long lastOrderId = 0;
+		List<Long> orderIds;
+		while (!(orderIds = orderRepository.findMemberOrderIdsAfter(lastOrderId, chunkSize)).isEmpty()) {
+			List<Long> chunk = orderIds;
+			transactionTemplate.executeWithoutResult(status -> refresh(chunk));
+			rebuilt += chunk.size();
+			lastOrderId = chunk.get(chunk.size() - 1);
+		}
+		log.info("마이페이지 주문 목록 읽기 모델 재생성 {}건", rebuilt);
+		return rebuilt;
+	}
+
+	/**
+	 * 읽기 모델이 원본과 같은지 검사하고, 다르거나 빠진 주문은 다시 만듭니다.
+	 *
+	 * @return 검사 결과
+	 */
+	@Scheduled(cron = "${order.summary.check-cron:0 30 3 * * *}")
+	public MyOrderSummaryCheckResult check() {
+		long checked = 0;
+		long missing = 0;
+		long stale = 0;
+		long lastOrderId = 0;
+		List<Long> orderIds;
+		while (!(orderIds = orderRepository.findMemberOrderIdsAfter(lastOrderId, chunkSize)).isEmpty()) {
+			List<Long> chunk = orderIds;
+			long[] counts = transactionTemplate.execute(status -> checkChunk(chunk));
+			checked += chunk.size();
+			missing += counts[0];
+			stale += counts[1];
+			lastOrderId = chunk.get(chunk.size() - 1);
+		}
+
+		MyOrderSummaryCheckResult result = new MyOrderSummaryCheckResult(checked, missing, stale);
+		if (missing > 0 || stale > 0) {
+			log.warn("마이페이지 주문 목록 읽기 모델 불일치 {}", result);
+		}
+		return result;
+	}
+
+	private long[] checkChunk(List<Long> orderIds) {
+		Map<Long, MyOrderSummary> stored = myOrderSummaryRepository.findAllById(orderIds).stream()
+			.collect(Collectors.toMap(MyOrderSummary::getOrderId, Function.identity()));
+
+		List<Long> mismatched = new ArrayList<>();
+		long missing = 0;
+		long stale = 0;
+		for (ReadOrdersResponse response : orderRepository.findAllByIdIn(orderIds)) {
+			MyOrderSummary summary = stored.get(response.getId());
+			if (summary == null) {
+				missing++;
+				mismatched.add(response.getId());
+			} else if (!summary.getSummary().equals(write(response))) {
+				stale++;
+				mismatched.add(response.getId());
+			}
+		}
+		refresh(mismatched);
+		return new long[] {missing, stale};
+	}
+
+	private String write(ReadOrdersResponse response) {
+		try {
+			return objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new JSONParsingException();
+		}
+	}
+
+	private ReadOrdersResponse read(String summary) {
+		try {
+			return objectMapper.readValue(summary, ReadOrdersResponse.class);
+		} catch (JsonProcessingException e) {
+			throw new JSONParsingException();
+		}
+	}
+}
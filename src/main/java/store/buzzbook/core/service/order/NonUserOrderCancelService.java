@@ -3,40 +3,37 @@ package store.buzzbook.core.service.order;
 import static store.buzzbook.core.common.listener.OrderStatusListener.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 import store.buzzbook.core.common.exception.order.NotPaidException;
-import store.buzzbook.core.common.exception.order.OrderNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.payment.PayInfo;
 import store.buzzbook.core.entity.order.Order;
 import store.buzzbook.core.entity.order.OrderDetail;
-import store.buzzbook.core.entity.order.OrderStatus;
 import store.buzzbook.core.entity.payment.BillLog;
 import store.buzzbook.core.entity.payment.BillStatus;
-import store.buzzbook.core.entity.product.Product;
 import store.buzzbook.core.entity.user.User;
-import store.buzzbook.core.repository.order.OrderRepository;
-import store.buzzbook.core.repository.order.OrderStatusRepository;
 import store.buzzbook.core.repository.payment.BillLogRepository;
-import store.buzzbook.core.repository.product.ProductRepository;
+import store.buzzbook.core.service.product.StockService;
 
 @Service
 public class NonUserOrderCancelService extends AbstractOrderCancelService {
 	private BillLogRepository billLogRepository;
+	private RevenueRollupService revenueRollupService;
 
-	protected NonUserOrderCancelService(OrderRepository orderRepository,
-		OrderStatusRepository orderStatusRepository,
-		ProductRepository productRepository, BillLogRepository billLogRepository) {
-		super(orderRepository, orderStatusRepository, productRepository);
+	protected NonUserOrderCancelService(ReferenceDataRegistry referenceDataRegistry,
+		StockService stockService, BillLogRepository billLogRepository,
+		RevenueRollupService revenueRollupService) {
+		super(referenceDataRegistry, stockService);
 		this.billLogRepository = billLogRepository;
+		this.revenueRollupService = revenueRollupService;
 	}
 
 	@Override
 	boolean validateOrderStatus(Order order) {
-		return (!order.getOrderStatus().equals(orderStatusRepository.findByName(PAID)));
+		return order.getOrderStatus().getId() != referenceDataRegistry.getOrderStatus(PAID).getId();
 	}
 
 	@Override
@@ -45,7 +42,7 @@ public class NonUserOrderCancelService extends AbstractOrderCancelService {
 	}
 
 	void saveCancelPayment(Order order, PayInfo payInfo) {
-		billLogRepository.save(
+		revenueRollupService.record(billLogRepository.save(
 			BillLog.builder()
 				.price(payInfo.getPrice())
 				.paymentKey(
@@ -55,35 +52,34 @@ public class NonUserOrderCancelService extends AbstractOrderCancelService {
 				.payment(payInfo.getPayType().name())
 				.payAt(
 					LocalDateTime.now())
-				.build());
+				.build()));
 	}
 
-	public void nonUserProcess(long orderId, PayInfo payInfo) {
-		OrderStatus orderStatus = orderStatusRepository.findByName(CANCELED);
-
-		Order order = orderRepository.findById(orderId).orElseThrow(OrderNotFoundException::new);
-		List<OrderDetail> details = order.getDetails();
-
-		if (validateOrderStatus(order)) {
+	// 1. 검증
+	@Override
+	public void validate(OrderContext context) {
+		if (validateOrderStatus(context.getOrder())) {
 			throw new NotPaidException();
 		}
+	}
 
-		for (OrderDetail detail : details) {
-			Product product = detail.getProduct();
-			// 1. 검증
-
-			// 2. 재고 처리
-			increaseStock(product.getId(), detail.getQuantity());
+	// 2. 재고 처리
+	@Override
+	public void reserve(OrderContext context) {
+		for (OrderDetail detail : context.getOrder().getDetails()) {
+			increaseStock(detail.getProduct().getId(), detail.getQuantity());
 		}
+	}
 
-		saveCancelPayment(order, payInfo);
-
-		// 6. 주문 상태 변경
-		updateOrderStatus(order.getId(), orderStatus);
+	// 3. 결제 취소
+	@Override
+	public void pay(OrderContext context) {
+		saveCancelPayment(context.getOrder(), context.getPayInfo());
 	}
 
+	// 4. 주문 상태 변경
 	@Override
-	public void process(long orderId, PayInfo payInfo, HttpHeaders headers) {
-		return;
+	public void status(OrderContext context) {
+		updateOrderStatus(context.getOrder(), referenceDataRegistry.getOrderStatus(CANCELED));
 	}
 }
@@ -3,41 +3,39 @@ package store.buzzbook.core.service.order;
 import static store.buzzbook.core.common.listener.OrderStatusListener.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
-import store.buzzbook.core.common.exception.order.OrderNotFoundException;
-import store.buzzbook.core.common.exception.order.ProductNotFoundException;
 import store.buzzbook.core.common.exception.order.ProductOutOfStockException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.payment.PayInfo;
+import store.buzzbook.core.entity.coupon.CouponStatus;
 import store.buzzbook.core.entity.order.Order;
 import store.buzzbook.core.entity.order.OrderDetail;
-import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.order.OrderOutbox;
 import store.buzzbook.core.entity.payment.BillLog;
 import store.buzzbook.core.entity.payment.BillStatus;
-import store.buzzbook.core.entity.product.Product;
-import store.buzzbook.core.entity.user.User;
-import store.buzzbook.core.repository.order.OrderRepository;
-import store.buzzbook.core.repository.order.OrderStatusRepository;
 import store.buzzbook.core.repository.payment.BillLogRepository;
-import store.buzzbook.core.repository.product.ProductRepository;
+import store.buzzbook.core.service.product.StockService;
 
 @Service
 public class NonUserOrderProcessService extends AbstractOrderProcessService {
 	private BillLogRepository billLogRepository;
+	private RevenueRollupService revenueRollupService;
+	private OrderOutboxService orderOutboxService;
 
-	protected NonUserOrderProcessService(OrderRepository orderRepository,
-		OrderStatusRepository orderStatusRepository, ProductRepository productRepository, BillLogRepository billLogRepository) {
-		super(orderRepository, orderStatusRepository, productRepository);
+	protected NonUserOrderProcessService(ReferenceDataRegistry referenceDataRegistry,
+		StockService stockService, BillLogRepository billLogRepository, RevenueRollupService revenueRollupService,
+		OrderOutboxService orderOutboxService) {
+		super(referenceDataRegistry, stockService);
 		this.billLogRepository = billLogRepository;
+		this.revenueRollupService = revenueRollupService;
+		this.orderOutboxService = orderOutboxService;
 	}
 
 	@Override
 	boolean validateStock(int productId, int quantity) {
-		Product product = productRepository.findById(productId).orElseThrow(ProductNotFoundException::new);
-		return (product.getStock() < quantity);
+		return stockService.isSoldOut(productId);
 	}
 
 	@Override
@@ -46,12 +44,12 @@ public class NonUserOrderProcessService extends AbstractOrderProcessService {
 	}
 
 	@Override
-	boolean validateCoupon(User user, String couponCode, HttpHeaders headers) {
+	boolean validateCoupon(CouponStatus couponStatus) {
 		return false;
 	}
 
 	void savePayment(Order order, PayInfo payInfo) {
-		billLogRepository.save(
+		revenueRollupService.record(billLogRepository.save(
 			BillLog.builder()
 				.price(payInfo.getPrice())
 				.paymentKey(
@@ -61,7 +59,7 @@ public class NonUserOrderProcessService extends AbstractOrderProcessService {
 				.payment(payInfo.getPayType().name())
 				.payAt(
 					LocalDateTime.now())
-				.build());
+				.build()));
 	}
 
 	// @Override
@@ -69,33 +67,32 @@ public class NonUserOrderProcessService extends AbstractOrderProcessService {
 	//
 	// }
 
-	public void nonUserProcess(long orderId, PayInfo payInfo) {
-		OrderStatus orderStatus = orderStatusRepository.findByName(PAID);
-
-		Order order = orderRepository.findById(orderId).orElseThrow(OrderNotFoundException::new);
-		List<OrderDetail> details = order.getDetails();
-
-		for (OrderDetail detail : details) {
-			Product product = detail.getProduct();
-			// 1. 검증
-			if (validateStock(product.getId(), detail.getQuantity())) {
+	// 1. 검증
+	@Override
+	public void validate(OrderContext context) {
+		for (OrderDetail detail : context.getOrder().getDetails()) {
+			if (validateStock(detail.getProduct().getId(), detail.getQuantity())) {
 				throw new ProductOutOfStockException();
 			}
-
-			// 2. 재고 처리
-			decreaseStock(product.getId(), detail.getQuantity());
 		}
+	}
 
-		savePayment(order, payInfo);
+	// 2. 재고 처리
+	@Override
+	public void reserve(OrderContext context) {
+		decreaseStocks(context.getOrder());
+	}
 
-		// 6. 주문 상태 변경
-		updateOrderStatus(order.getId(), orderStatus);
-		// 7. 고객 알림
-		// notify(order.getId(), order.getUser().getId(), "Order successful");
+	// 3. 결제
+	@Override
+	public void pay(OrderContext context) {
+		savePayment(context.getOrder(), context.getPayInfo());
 	}
 
+	// 4. 주문 상태 변경
 	@Override
-	public void process(long orderId, PayInfo payInfo, HttpHeaders headers) {
-		return;
+	public void status(OrderContext context) {
+		updateOrderStatus(context.getOrder(), referenceDataRegistry.getOrderStatus(PAID));
+		orderOutboxService.append(context.getOrder(), OrderOutbox.Type.NOTIFY);
 	}
 }
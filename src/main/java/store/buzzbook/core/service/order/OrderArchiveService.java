@@ -0,0 +1,155 @@
+package store.buzzbook.core.service.order;
+
+import static store.buzzbook.core.common.listener.OrderStatusListener.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.exception.order.JSONParsingException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
+import store.buzzbook.core.dto.order.OrderArchiveResult;
+import store.buzzbook.core.dto.order.ReadOrderResponse;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderArchive;
+import store.buzzbook.core.repository.order.OrderArchiveRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+
+/**
+ * 주문 보관 서비스
+ * 희망 배송일로부터 파손 환불 기간과 여유 일수가 지나고 더 바뀌지 않는 상태의 주문을 보관 테이블로 옮깁니다.
+ * 주문 아이디 키셋으로 청크를 나눠 청크마다 한 트랜잭션에서 옮기므로, 중간에 멈춰도 다시 실행하면 남은 주문부터 이어서 옮깁니다.
+ */
+@Slf4j
+@Service
+public class OrderArchiveService {
+	private static final List<String> ARCHIVABLE_STATUSES =
+		List.of(SHIPPED, PARTIAL_REFUND, REFUND, BREAKAGE_REFUND, CANCELED);
+
+	private final OrderRepository orderRepository;
+	private final OrderArchiveRepository orderArchiveRepository;
+	private final OrderResponseLoader orderResponseLoader;
+	private final ReferenceDataRegistry referenceDataRegistry;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final int marginDays;
+	private final int chunkSize;
+
+	public OrderArchiveService(OrderRepository orderRepository, OrderArchiveRepository orderArchiveRepository,
+		OrderResponseLoader orderResponseLoader, ReferenceDataRegistry referenceDataRegistry,
+		ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+		@Value("${order.archive.margin-days:30}") int marginDays,
+		@Value("${order.archive.chunk-size:500}") int chunkSize) {
+		this.orderRepository = orderRepository;
+		this.orderArchiveRepository = orderArchiveRepository;
+		this.orderResponseLoader = orderResponseLoader;
+		this.referenceDataRegistry = referenceDataRegistry;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.marginDays = marginDays;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 보관 기준일이 지난 주문을 보관 테이블로 옮깁니다.
+	 *
+	 * @return 옮긴 행 수와 초당 처리량
+	 */
+	@Scheduled(cron = "${order.archive.cron:0 0 4 * * *}")
+	public OrderArchiveResult archive() {
+		LocalDate before = LocalDate.now().minusDays(OrderService.BREAKAGE_REFUND_PERIOD + marginDays);
+		Set<Integer> statusIds = ARCHIVABLE_STATUSES.stream()
+			.map(name -> referenceDataRegistry.getOrderStatus(name).getId())
+			.collect(Collectors.toSet());
+
+		long orders = 0;
+		long orderDetails = 0;
+		long billLogs = 0;
+		long lastOrderId = 0;
+		long start = System.nanoTime();
+		while (true) {
+			long after = lastOrderId;
+			long[] counts = transactionTemplate.execute(status -> archiveChunk(after, before, statusIds));
+			if (counts[0] == 0) {
+				break;
+			}
+			lastOrderId = counts[0];
+			orders += counts[1];
+			orderDetails += counts[2];
+			billLogs += counts[3];
+		}
+
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		long rows = orders + orderDetails + billLogs;
+		double rowsPerSecond = elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis;
+		OrderArchiveResult result = new OrderArchiveResult(orders, orderDetails, billLogs, elapsedMillis,
+			rowsPerSecond);
+		log.info("주문 보관 {} (기준 희망 배송일 {} 이전)", result, before);
+		return result;
+	}
+
+	/**
+	 * 한 청크를 보관 테이블로 옮깁니다.
+	 * 청크의 주문만 영속성 컨텍스트에 올리고 트랜잭션이 끝나면 버리므로 청크 크기만큼만 메모리를 씁니다.
+	 *
+	 * @return 마지막 주문 아이디(대상이 없으면 0), 옮긴 주문 수, 옮긴 주문 상세 수, 옮긴 결제 내역 수
+	 */
+	private long[] archiveChunk(long afterOrderId, LocalDate before, Set<Integer> statusIds) {
+		List<Long> orderIds = orderArchiveRepository.findArchivableOrderIds(afterOrderId, before, statusIds,
+			chunkSize);
+		if (orderIds.isEmpty()) {
+			return new long[] {0, 0, 0, 0};
+		}
+
+		List<Order> orders = orderRepository.findAllWithDetailsByIdIn(orderIds);
+		List<ReadOrderResponse> responses = orderResponseLoader.toResponses(orders);
+		LocalDateTime now = LocalDateTime.now();
+		List<OrderArchive> archives = new ArrayList<>(orders.size());
+		for (int i = 0; i < orders.size(); i++) {
+			Order order = orders.get(i);
+			archives.add(OrderArchive.builder()
+				.orderId(order.getId())
+				.orderStr(order.getOrderStr())
+				.loginId(responses.get(i).getLoginId())
+				.userId(order.getUser() == null ? null : order.getUser().getId())
+				.deliveryRate(order.getDeliveryRate())
+				.desiredDeliveryDate(order.getDesiredDeliveryDate())
+				.document(write(responses.get(i)))
+				.archivedAt(now)
+				.build());
+		}
+		List<Long> archivedIds = archives.stream().map(OrderArchive::getOrderId).toList();
+
+		orderArchiveRepository.insertAll(archives);
+		long billLogs = orderArchiveRepository.copyBillLogs(archivedIds);
+		orderArchiveRepository.deleteBillLogs(archivedIds);
+		long orderDetails = orderArchiveRepository.copyOrderDetails(archivedIds);
+		orderArchiveRepository.moveReviews(archivedIds);
+		orderArchiveRepository.deleteOrderDetails(archivedIds);
+		long archived = orderArchiveRepository.deleteOrders(archivedIds);
+		orderResponseLoader.evict(orders.stream().map(Order::getOrderStr).toList());
+
+		return new long[] {orderIds.getLast(), archived, orderDetails, billLogs};
+	}
+
+	private String write(ReadOrderResponse response) {
+		try {
+			return objectMapper.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new JSONParsingException();
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package store.buzzbook.core.service.order;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+
+import lombok.Getter;
+import store.buzzbook.core.dto.payment.PayInfo;
+import store.buzzbook.core.entity.order.Order;
+
+/**
+ * 주문 처리 한 건의 요청 정보
+ * 요청마다 새로 만들어지며 스레드 사이에서 공유하지 않습니다.
+ */
+@Getter
+public class OrderContext {
+	private final Order order;
+	private final PayInfo payInfo;
+	private final HttpHeaders headers;
+	private final Map<OrderStage, Long> stageNanos = new EnumMap<>(OrderStage.class);
+
+	public OrderContext(Order order, PayInfo payInfo, HttpHeaders headers) {
+		this.order = order;
+		this.payInfo = payInfo;
+		this.headers = headers == null ? null : HttpHeaders.readOnlyHttpHeaders(headers);
+	}
+
+	public Map<OrderStage, Long> getStageNanos() {
+		return Collections.unmodifiableMap(stageNanos);
+	}
+
+	void recordStageTime(OrderStage stage, long nanos) {
+		stageNanos.put(stage, nanos);
+	}
+}
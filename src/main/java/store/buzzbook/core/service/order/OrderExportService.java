@@ -0,0 +1,77 @@
+package store.buzzbook.core.service.order;
+
+import java.io.OutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.util.ExportWriter;
+import store.buzzbook.core.dto.order.ExportOrdersRequest;
+import store.buzzbook.core.dto.payment.ExportBillLogsRequest;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.payment.BillLogRepository;
+
+/**
+ * 주문과 결제 내역 내보내기 서비스
+ * 읽기 전용 트랜잭션 하나에서 전진 전용 커서로 읽은 행을 바로 출력 스트림에 쓰므로, 페이지 요청을 반복하지 않고 한 번에 내려받습니다.
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+	private final OrderRepository orderRepository;
+	private final BillLogRepository billLogRepository;
+	private final ObjectMapper objectMapper;
+	private final int fetchSize;
+
+	public OrderExportService(OrderRepository orderRepository, BillLogRepository billLogRepository,
+		ObjectMapper objectMapper, @Value("${export.fetch-size:1000}") int fetchSize) {
+		this.orderRepository = orderRepository;
+		this.billLogRepository = billLogRepository;
+		this.objectMapper = objectMapper;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * 조건에 맞는 주문을 주문 아이디 순으로 내보냅니다.
+	 *
+	 * @param request 내보내기 형식과 조건
+	 * @param outputStream 출력 스트림
+	 * @return 내보낸 행 수
+	 */
+	@Transactional(readOnly = true)
+	public long exportOrders(ExportOrdersRequest request, OutputStream outputStream) {
+		long start = System.nanoTime();
+		ExportWriter writer = new ExportWriter(formatOf(request.getFormat()), outputStream, objectMapper);
+		try (writer) {
+			orderRepository.exportOrders(request, fetchSize, writer);
+		}
+		log.info("주문 내보내기 {}건 ({} ms)", writer.getRows(), (System.nanoTime() - start) / 1_000_000);
+		return writer.getRows();
+	}
+
+	/**
+	 * 조건에 맞는 결제 내역을 결제 내역 아이디 순으로 내보냅니다.
+	 *
+	 * @param request 내보내기 형식과 조건
+	 * @param outputStream 출력 스트림
+	 * @return 내보낸 행 수
+	 */
+	@Transactional(readOnly = true)
+	public long exportBillLogs(ExportBillLogsRequest request, OutputStream outputStream) {
+		long start = System.nanoTime();
+		ExportWriter writer = new ExportWriter(formatOf(request.getFormat()), outputStream, objectMapper);
+		try (writer) {
+			billLogRepository.exportBillLogs(request, fetchSize, writer);
+		}
+		log.info("결제 내역 내보내기 {}건 ({} ms)", writer.getRows(), (System.nanoTime() - start) / 1_000_000);
+		return writer.getRows();
+	}
+
+	public static ExportWriter.Format formatOf(ExportWriter.Format format) {
+		return format == null ? ExportWriter.Format.CSV : format;
+	}
+}
@@ -0,0 +1,101 @@
+package store.buzzbook.core.service.order;
+
+import static store.buzzbook.core.common.config.RabbitmqConfig.*;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.client.auth.CouponGatewayClient;
+import store.buzzbook.core.common.exception.order.OrderNotFoundException;
+import store.buzzbook.core.dto.order.OrderOutboxMessage;
+import store.buzzbook.core.entity.coupon.CouponStatus;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderOutbox;
+import store.buzzbook.core.repository.order.OrderOutboxRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.service.auth.AuthService;
+
+/**
+ * 결제 후처리 아웃박스 컨슈머
+ * 처리 완료 표시와 후처리를 한 트랜잭션에서 하므로 같은 메시지를 여러 번 받아도 한 번만 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxHandler {
+	private final OrderOutboxRepository orderOutboxRepository;
+	private final OrderRepository orderRepository;
+	private final UserOrderProcessService userOrderProcessService;
+	private final CouponGatewayClient couponGatewayClient;
+	private final MyOrderSummaryService myOrderSummaryService;
+	private final OrderResponseLoader orderResponseLoader;
+
+	@RabbitListener(queues = ORDER_EVENT_QUEUE_NAME)
+	@Transactional
+	public void consume(OrderOutboxMessage message) {
+		try {
+			String accessToken = message.type() == OrderOutbox.Type.USE_COUPON
+				? orderOutboxRepository.findAccessTokenById(message.outboxId()).orElse(null) : null;
+			apply(message.outboxId(), message.orderId(), message.type(), accessToken);
+		} catch (RuntimeException e) {
+			// 다시 넣으면 같은 실패를 반복하므로 DLQ로 보내고, 릴레이의 재발행으로 다시 시도합니다.
+			log.warn("주문 후처리 실패 outboxId={} : {}", message.outboxId(), e.getMessage());
+			throw new AmqpRejectAndDontRequeueException(e);
+		}
+	}
+
+	/**
+	 * 주문에 남은 후처리를 즉시 반영합니다.
+	 * 취소나 반품처럼 후처리 결과(적립 포인트, 쿠폰 상태)를 전제로 하는 작업 전에 호출합니다.
+	 *
+	 * @param orderId 주문 아이디
+	 */
+	@Transactional
+	public void drain(long orderId) {
+		List<OrderOutbox> outboxes = orderOutboxRepository.findAllByOrderIdAndStatusNotOrderById(orderId,
+			OrderOutbox.Status.DONE);
+		for (OrderOutbox outbox : outboxes) {
+			apply(outbox.getId(), outbox.getOrderId(), outbox.getType(), outbox.getAccessToken());
+		}
+	}
+
+	/**
+	 * 처리 완료 표시가 저장된 토큰을 지우므로 토큰은 미리 읽어 넘깁니다.
+	 */
+	private void apply(long outboxId, long orderId, OrderOutbox.Type type, String accessToken) {
+		if (orderOutboxRepository.markDone(outboxId, OrderOutbox.Status.DONE) == 0) {
+			return;
+		}
+
+		Order order = orderRepository.findById(orderId).orElseThrow(OrderNotFoundException::new);
+		switch (type) {
+			case EARN_POINT -> {
+				userOrderProcessService.earnPoints(order, order.getUser().getId(),
+					order.getPrice() - order.getDeliveryRate());
+				myOrderSummaryService.refresh(order.getId());
+				orderResponseLoader.evict(order.getOrderStr());
+			}
+			case USE_COUPON -> couponGatewayClient.updateStatus(order.getCouponCode(), CouponStatus.USED,
+				couponHeaders(accessToken));
+			case NOTIFY -> log.info("주문 결제 완료 알림 orderId={}", order.getId());
+		}
+	}
+
+	// 결제 요청 때 저장해 둔 사용자 액세스 토큰으로 쿠폰 서버를 호출합니다.
+	private HttpHeaders couponHeaders(String accessToken) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Content-Type", "application/json");
+		if (Objects.nonNull(accessToken)) {
+			headers.set(AuthService.TOKEN_HEADER, accessToken);
+		}
+		return headers;
+	}
+}
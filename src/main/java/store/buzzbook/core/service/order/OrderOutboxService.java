@@ -0,0 +1,134 @@
+package store.buzzbook.core.service.order;
+
+import static store.buzzbook.core.common.config.RabbitmqConfig.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.dto.order.OrderOutboxMessage;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderOutbox;
+import store.buzzbook.core.repository.order.OrderOutboxRepository;
+import store.buzzbook.core.service.auth.AuthService;
+
+/**
+ * 결제 후처리 아웃박스 서비스
+ * 결제 트랜잭션 안에서 후처리할 일을 기록하고, 주기적으로 메시지 큐에 발행합니다.
+ * 최대 횟수만큼 발행해도 처리되지 않은 후처리는 실패로 바꿔 더 발행하지 않습니다.
+ */
+@Slf4j
+@Service
+public class OrderOutboxService {
+	private final OrderOutboxRepository orderOutboxRepository;
+	private final RabbitTemplate rabbitTemplate;
+	private final Counter failedCounter;
+	private final int batchSize;
+	private final long republishAfterMillis;
+	private final int maxAttempts;
+
+	public OrderOutboxService(OrderOutboxRepository orderOutboxRepository, RabbitTemplate rabbitTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${order.outbox.batch-size:100}") int batchSize,
+		@Value("${order.outbox.republish-after-millis:300000}") long republishAfterMillis,
+		@Value("${order.outbox.max-attempts:5}") int maxAttempts) {
+		this.orderOutboxRepository = orderOutboxRepository;
+		this.rabbitTemplate = rabbitTemplate;
+		this.failedCounter = meterRegistry.counter("order.outbox.failed");
+		this.batchSize = batchSize;
+		this.republishAfterMillis = republishAfterMillis;
+		this.maxAttempts = maxAttempts;
+	}
+
+	/**
+	 * 후처리할 일을 기록합니다. 호출한 트랜잭션과 함께 커밋됩니다.
+	 *
+	 * @param order 결제된 주문
+	 * @param types 후처리 종류
+	 */
+	public void append(Order order, OrderOutbox.Type... types) {
+		append(order, null, types);
+	}
+
+	/**
+	 * 호출한 사용자의 액세스 토큰과 함께 후처리할 일을 기록합니다.
+	 * 쿠폰 사용 처리처럼 사용자 권한으로 다른 서버를 호출해야 하는 후처리에 씁니다. 리프레시 토큰은 저장하지 않습니다.
+	 *
+	 * @param order 결제된 주문
+	 * @param headers 결제 요청의 인증 헤더, 없으면 null
+	 * @param types 후처리 종류
+	 */
+	public void append(Order order, HttpHeaders headers, OrderOutbox.Type... types) {
+		String accessToken = Objects.isNull(headers) ? null : headers.getFirst(AuthService.TOKEN_HEADER);
+		LocalDateTime now = LocalDateTime.now();
+		List<OrderOutbox> outboxes = new ArrayList<>();
+		for (OrderOutbox.Type type : types) {
+			outboxes.add(OrderOutbox.builder()
+				.orderId(order.getId())
+				.type(type)
+				.status(OrderOutbox.Status.PENDING)
+				.createdAt(now)
+				.accessToken(accessToken)
+				.build());
+		}
+		orderOutboxRepository.saveAll(outboxes);
+	}
+
+	/**
+	 * 발행되지 않은 후처리와, 발행했지만 오래도록 처리되지 않은 후처리를 메시지 큐로 발행합니다.
+	 * 같은 메시지가 두 번 발행될 수 있으므로 컨슈머는 멱등하게 처리합니다.
+	 * 이미 최대 횟수만큼 발행한 후처리는 발행하지 않고 실패로 바꿉니다.
+	 *
+	 * @return 발행한 메시지 수
+	 */
+	@Scheduled(fixedDelayString = "${order.outbox.relay-interval-millis:1000}")
+	@Transactional
+	public int relay() {
+		LocalDateTime now = LocalDateTime.now();
+		List<OrderOutbox> targets = orderOutboxRepository.findRelayTargets(OrderOutbox.Status.PENDING,
+			OrderOutbox.Status.PUBLISHED, now.minus(Duration.ofMillis(republishAfterMillis)), PageRequest.of(0, batchSize));
+
+		List<Long> failed = targets.stream()
+			.filter(outbox -> outbox.getAttempts() >= maxAttempts)
+			.map(OrderOutbox::getId)
+			.toList();
+		if (!failed.isEmpty()) {
+			int marked = orderOutboxRepository.markFailed(failed, OrderOutbox.Status.PUBLISHED,
+				OrderOutbox.Status.FAILED);
+			failedCounter.increment(marked);
+			log.warn("주문 후처리를 {}번 발행해도 처리되지 않아 실패로 바꿉니다. outboxIds={}", maxAttempts, failed);
+		}
+
+		List<Long> published = new ArrayList<>();
+		try {
+			for (OrderOutbox outbox : targets) {
+				if (outbox.getAttempts() >= maxAttempts) {
+					continue;
+				}
+				rabbitTemplate.convertAndSend(ORDER_EVENT_EXCHANGE_NAME, ORDER_EVENT_ROUTING_KEY,
+					new OrderOutboxMessage(outbox.getId(), outbox.getOrderId(), outbox.getType()));
+				published.add(outbox.getId());
+			}
+		} catch (RuntimeException e) {
+			log.warn("주문 후처리 발행 실패, 다음 주기에 다시 발행합니다. : {}", e.getMessage());
+		}
+
+		if (!published.isEmpty()) {
+			orderOutboxRepository.markPublished(published, OrderOutbox.Status.PUBLISHED, OrderOutbox.Status.DONE, now);
+		}
+		return published.size();
+	}
+}
@@ -0,0 +1,47 @@
+package store.buzzbook.core.service.order;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 처리 파이프라인
+ * 전략의 단계를 {@link OrderStage} 순서대로 실행하고 단계별 소요 시간을 기록합니다.
+ * 상태를 가지지 않으므로 결제 콜백을 동시에 처리해도 요청끼리 섞이지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPipeline {
+	private static final String STAGE_TIMER = "order.pipeline.stage";
+
+	private final MeterRegistry meterRegistry;
+
+	public void execute(OrderStrategy strategy, OrderContext context) {
+		String strategyName = ClassUtils.getUserClass(strategy).getSimpleName();
+
+		for (OrderStage stage : OrderStage.values()) {
+			long start = System.nanoTime();
+			String outcome = "success";
+			try {
+				stage.run(strategy, context);
+			} catch (RuntimeException e) {
+				outcome = "failure";
+				throw e;
+			} finally {
+				long elapsed = System.nanoTime() - start;
+				context.recordStageTime(stage, elapsed);
+				Timer.builder(STAGE_TIMER)
+					.tag("strategy", strategyName)
+					.tag("stage", stage.name().toLowerCase())
+					.tag("outcome", outcome)
+					.register(meterRegistry)
+					.record(elapsed, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+}
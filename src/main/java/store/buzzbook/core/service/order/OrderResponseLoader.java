@@ -0,0 +1,126 @@
+package store.buzzbook.core.service.order;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import store.buzzbook.core.common.exception.order.JSONParsingException;
+import store.buzzbook.core.common.exception.order.OrderNotFoundException;
+import store.buzzbook.core.common.service.CacheEvictionService;
+import store.buzzbook.core.dto.order.ReadOrderDetailResponse;
+import store.buzzbook.core.dto.order.ReadOrderResponse;
+import store.buzzbook.core.dto.order.ReadWrappingResponse;
+import store.buzzbook.core.dto.product.ProductResponse;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderArchive;
+import store.buzzbook.core.entity.order.OrderDetail;
+import store.buzzbook.core.mapper.order.OrderDetailMapper;
+import store.buzzbook.core.mapper.order.OrderMapper;
+import store.buzzbook.core.mapper.order.WrappingMapper;
+import store.buzzbook.core.repository.order.OrderArchiveRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.product.ProductRepository;
+
+/**
+ * 주문 단건 응답 로더
+ * 주문과 주문 상세, 상태, 포장, 상품을 fetch join 한 번으로, 상품 태그를 IN 쿼리 한 번으로 읽어 응답을 만들고 주문 문자열(코드)로 캐시합니다.
+ * 주문 상태가 바뀌면 해당 주문만 모든 노드의 캐시에서 지우며, 트랜잭션 안에서 지우면 커밋 뒤에 반영됩니다.
+ * 운영 테이블에 없는 주문만 보관 테이블에서 찾습니다.
+ */
+@Component
+public class OrderResponseLoader {
+	public static final String READ_ORDER_CACHE = "readOrder";
+
+	private final OrderRepository orderRepository;
+	private final ProductRepository productRepository;
+	private final OrderArchiveRepository orderArchiveRepository;
+	private final ObjectMapper objectMapper;
+	private final CacheEvictionService cacheEvictionService;
+
+	public OrderResponseLoader(OrderRepository orderRepository, ProductRepository productRepository,
+		OrderArchiveRepository orderArchiveRepository, ObjectMapper objectMapper,
+		CacheEvictionService cacheEvictionService) {
+		this.orderRepository = orderRepository;
+		this.productRepository = productRepository;
+		this.orderArchiveRepository = orderArchiveRepository;
+		this.objectMapper = objectMapper;
+		this.cacheEvictionService = cacheEvictionService;
+	}
+
+	@Cacheable(value = READ_ORDER_CACHE, key = "#orderStr")
+	@Transactional(readOnly = true)
+	public ReadOrderResponse load(String orderStr) {
+		Optional<Order> order = orderRepository.findWithDetailsByOrderStr(orderStr);
+		if (order.isPresent()) {
+			return toResponses(List.of(order.get())).getFirst();
+		}
+		return orderArchiveRepository.findByOrderStr(orderStr)
+			.map(OrderArchive::getDocument)
+			.map(this::read)
+			.orElseThrow(OrderNotFoundException::new);
+	}
+
+	/**
+	 * 주문 상세, 상태, 포장, 상품을 fetch join 으로 읽은 주문들을 단건 응답으로 변환합니다.
+	 *
+	 * @param orders 주문 목록
+	 * @return 주문 순서대로의 단건 응답 목록
+	 */
+	public List<ReadOrderResponse> toResponses(List<Order> orders) {
+		// 주문 상세와 상품 태그는 둘 다 컬렉션이라 한 쿼리로 fetch join 할 수 없어 상품 태그만 따로 읽습니다.
+		Set<Integer> productIds = orders.stream()
+			.flatMap(order -> order.getDetails().stream())
+			.map(orderDetail -> orderDetail.getProduct().getId())
+			.collect(Collectors.toSet());
+		if (!productIds.isEmpty()) {
+			productRepository.findAllWithTagsByIdIn(productIds);
+		}
+
+		List<ReadOrderResponse> responses = new ArrayList<>(orders.size());
+		for (Order order : orders) {
+			List<OrderDetail> orderDetails = new ArrayList<>(order.getDetails());
+			orderDetails.sort(Comparator.comparingLong(OrderDetail::getId));
+
+			List<ReadOrderDetailResponse> details = new ArrayList<>(orderDetails.size());
+			for (OrderDetail orderDetail : orderDetails) {
+				ProductResponse productResponse = ProductResponse.convertToProductResponse(orderDetail.getProduct());
+				ReadWrappingResponse readWrappingResponse = null;
+				if (orderDetail.getWrapping() != null) {
+					readWrappingResponse = WrappingMapper.toDto(orderDetail.getWrapping());
+				}
+				details.add(OrderDetailMapper.toDto(orderDetail, productResponse, readWrappingResponse));
+			}
+
+			String loginId = order.getUser() == null ? null : order.getUser().getLoginId();
+			responses.add(OrderMapper.toDto(order, details, loginId));
+		}
+		return responses;
+	}
+
+	public void evict(String orderStr) {
+		cacheEvictionService.evict(READ_ORDER_CACHE, List.of(orderStr));
+	}
+
+	public void evict(Collection<String> orderStrs) {
+		cacheEvictionService.evict(READ_ORDER_CACHE, orderStrs);
+	}
+
+	private ReadOrderResponse read(String document) {
+		try {
+			return objectMapper.readValue(document, ReadOrderResponse.class);
+		} catch (JsonProcessingException e) {
+			throw new JSONParsingException();
+		}
+	}
+}
@@ -6,12 +6,15 @@ import static store.buzzbook.core.common.listener.WrappingListener.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -26,13 +29,16 @@ import store.buzzbook.core.common.exception.order.AddressNotFoundException;
 import store.buzzbook.core.common.exception.order.AlreadyShippingOutException;
 import store.buzzbook.core.common.exception.order.DeliveryPolicyNotFoundException;
 import store.buzzbook.core.common.exception.order.OrderDetailNotFoundException;
+import store.buzzbook.core.common.exception.order.OrderNotFoundException;
 import store.buzzbook.core.common.exception.order.ProductNotFoundException;
 import store.buzzbook.core.common.exception.order.WrappingNotFoundException;
 import store.buzzbook.core.common.exception.user.UserNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.order.CreateDeliveryPolicyRequest;
 import store.buzzbook.core.dto.order.CreateOrderDetailRequest;
 import store.buzzbook.core.dto.order.CreateOrderRequest;
 import store.buzzbook.core.dto.order.CreateWrappingRequest;
+import store.buzzbook.core.dto.order.OrderCursor;
 import store.buzzbook.core.dto.order.ReadDeliveryPolicyResponse;
 import store.buzzbook.core.dto.order.ReadOrderRequest;
 import store.buzzbook.core.dto.order.ReadOrderWithoutLoginRequest;
@@ -62,7 +68,6 @@ import store.buzzbook.core.mapper.order.WrappingMapper;
 import store.buzzbook.core.repository.order.DeliveryPolicyRepository;
 import store.buzzbook.core.repository.order.OrderDetailRepository;
 import store.buzzbook.core.repository.order.OrderRepository;
-import store.buzzbook.core.repository.order.OrderStatusRepository;
 import store.buzzbook.core.repository.order.WrappingRepository;
 import store.buzzbook.core.repository.point.PointPolicyRepository;
 import store.buzzbook.core.repository.product.ProductRepository;
@@ -83,7 +88,7 @@ import store.buzzbook.core.service.user.UserService;
 @Slf4j
 public class OrderService {
 	private static final int REFUND_PERIOD = 10;
-	private static final int BREAKAGE_REFUND_PERIOD = 30;
+	static final int BREAKAGE_REFUND_PERIOD = 30;
 
 	private final OrderRepository orderRepository;
 	private final OrderDetailRepository orderDetailRepository;
@@ -91,57 +96,80 @@ public class OrderService {
 	private final DeliveryPolicyRepository deliveryPolicyRepository;
 	private final WrappingRepository wrappingRepository;
 	private final ProductRepository productRepository;
-	private final OrderStatusRepository orderStatusRepository;
 	private final UserService userService;
 	private final AddressRepository addressRepository;
 	private final PointPolicyRepository pointPolicyRepository;
 	private final PointService pointService;
+	private final ReferenceDataRegistry referenceDataRegistry;
+	private final MyOrderSummaryService myOrderSummaryService;
+	private final OrderResponseLoader orderResponseLoader;
 
 	@PersistenceContext
 	private EntityManager entityManager;
 
 	/**
 	 * 모든 주문 내역을 조회합니다.
+	 * 커서가 있으면 커서 이후의 주문을, 없으면 페이지 번호에 해당하는 주문을 조회합니다.
 	 *
 	 * @param request 주문 조회 요청 객체
-	 * @return 주문 내역 리스트와 다음 페이지 유무 여부를 가진 Map 객체
+	 * @return 주문 내역 리스트와 다음 페이지 유무 여부, 다음 페이지 커서를 가진 Map 객체
 	 */
 
 	@Transactional(readOnly = true)
 	public Map<String, Object> readOrders(ReadOrdersRequest request) {
 		Map<String, Object> data = new HashMap<>();
-		PageRequest pageable = PageRequest.of(request.getPage() - 1, request.getSize());
+		PageRequest pageable = toPageable(request);
 
 		Slice<ReadOrdersResponse> responses = orderRepository.findAll(request, pageable);
 
 		data.put("responseData", responses.getContent());
 		data.put("hasNext", responses.hasNext());
+		data.put("nextCursor", nextCursor(responses));
 
 		return data;
 	}
 
 	/**
 	 * 내 주문 내역을 조회합니다.
+	 * 주문 변경 시 함께 갱신되는 읽기 모델에서 조회하므로 주문 상세, 상품, 포장과 조인하지 않습니다.
 	 *
 	 * @param request 주문 조회 요청 객체와 로그인 아이디
-	 * @return 내 주문 내역 리스트와 다음 페이지 유무 여부를 가진 Map 객체
+	 * @return 내 주문 내역 리스트와 다음 페이지 유무 여부, 다음 페이지 커서를 가진 Map 객체
 	 */
 
 	@Transactional(readOnly = true)
 	public Map<String, Object> readMyOrders(ReadOrdersRequest request, String loginId) {
 		Map<String, Object> data = new HashMap<>();
-		PageRequest pageable = PageRequest.of(request.getPage() - 1, request.getSize());
+		PageRequest pageable = toPageable(request);
 
-		Slice<ReadOrdersResponse> responses = orderRepository.findAllByUser_LoginId(request, loginId, pageable);
+		Slice<ReadOrdersResponse> responses = myOrderSummaryService.readMyOrders(request, loginId, pageable);
 
 		data.put("responseData", responses.getContent());
 		data.put("hasNext", responses.hasNext());
+		data.put("nextCursor", nextCursor(responses));
 
 		return data;
 	}
 
+	private PageRequest toPageable(ReadOrdersRequest request) {
+		if (request.getCursor() != null) {
+			return PageRequest.of(0, request.getSize());
+		}
+		return PageRequest.of(request.getPage() - 1, request.getSize());
+	}
+
+	private String nextCursor(Slice<ReadOrdersResponse> responses) {
+		if (!responses.hasNext() || responses.getContent().isEmpty()) {
+			return null;
+		}
+		ReadOrdersResponse last = responses.getContent().get(responses.getNumberOfElements() - 1);
+
+		return new OrderCursor(last.getDesiredDeliveryDate(), last.getId()).encode();
+	}
+
 	/**
 	 * 주문을 생성합니다.
+	 * 주문 상태와 포장은 기준 데이터 레지스트리에서, 상품은 IN 쿼리로 한 번에 조회하고 주문 상세는 JDBC 배치로 저장합니다.
 	 *
 	 * @param createOrderRequest 주문 생성 요청 객체
 	 * @return 생성된 주문 반환
@@ -158,8 +186,16 @@ public class OrderService {
 				.orElseThrow(() -> new UserNotFoundException(userInfo.loginId()));
 		}
 
+		Set<Integer> productIds = new HashSet<>();
+		for (CreateOrderDetailRequest detail : details) {
+			productIds.add(detail.getProductId());
+		}
+
+		Map<Integer, Product> products = productRepository.findAllWithTagsByIdIn(productIds).stream()
+			.collect(Collectors.toMap(Product::getId, Function.identity()));
+
 		Order order = null;
-		OrderStatus orderStatus = orderStatusRepository.findByName(createOrderRequest.getOrderStatus());
+		OrderStatus orderStatus = referenceDataRegistry.getOrderStatus(createOrderRequest.getOrderStatus());
 
 		if (createOrderRequest.getAddress().isEmpty()) {
 			Optional<Address> address = addressRepository.findById(Long.parseLong(createOrderRequest.getAddresses()));
@@ -173,32 +209,37 @@ public class OrderService {
 			order = orderRepository.save(OrderMapper.toEntity(createOrderRequest, orderStatus, user));
 		}
 
-		List<ReadOrderDetailResponse> readOrderDetailResponse = new ArrayList<>();
+		List<OrderDetail> orderDetails = new ArrayList<>(details.size());
 
 		for (CreateOrderDetailRequest detail : details) {
 			detail.setOrderId(order.getId());
-			OrderStatus orderDetailStatus = orderStatusRepository.findByName(detail.getOrderStatus());
 			Wrapping wrapping = null;
-			if (detail.getWrappingId() != 0) {
-				wrapping = wrappingRepository.findById(detail.getWrappingId())
-					.orElseThrow(WrappingNotFoundException::new);
+			if (isUnpackaged(detail)) {
+				wrapping = referenceDataRegistry.getWrappingByPaper(UNPACKAGED);
 			} else {
-				wrapping = wrappingRepository.findByPaper(UNPACKAGED);
+				wrapping = referenceDataRegistry.getWrapping(detail.getWrappingId())
+					.orElseThrow(WrappingNotFoundException::new);
 			}
 
-			Product product = productRepository.findById(detail.getProductId())
-				.orElseThrow(ProductNotFoundException::new);
+			Product product = products.get(detail.getProductId());
+			if (product == null) {
+				throw new ProductNotFoundException();
+			}
 
 			detail.setPrice(product.getPrice());
 
-			OrderDetail orderDetail = OrderDetailMapper.toEntity(detail, order, wrapping, product, orderDetailStatus);
-			orderDetail = orderDetailRepository.save(orderDetail);
+			orderDetails.add(OrderDetailMapper.toEntity(detail, order, wrapping, product,
+				referenceDataRegistry.getOrderStatus(detail.getOrderStatus())));
+		}
 
-			ProductResponse productResponse = ProductResponse.convertToProductResponse(product);
+		List<ReadOrderDetailResponse> readOrderDetailResponse = new ArrayList<>();
+
+		for (OrderDetail orderDetail : orderDetailRepository.saveAllInBatch(orderDetails)) {
+			ProductResponse productResponse = ProductResponse.convertToProductResponse(orderDetail.getProduct());
 
 			ReadWrappingResponse readWrappingResponse = null;
-			if (wrapping != null) {
-				readWrappingResponse = WrappingMapper.toDto(wrapping);
+			if (orderDetail.getWrapping() != null) {
+				readWrappingResponse = WrappingMapper.toDto(orderDetail.getWrapping());
 			}
 
 			readOrderDetailResponse.add(OrderDetailMapper.toDto(orderDetail, productResponse, readWrappingResponse));
@@ -206,10 +247,15 @@ public class OrderService {
 		if (user == null) {
 			return OrderMapper.toDto(order, readOrderDetailResponse, null);
 		}
+		myOrderSummaryService.refresh(order.getId());
 
 		return OrderMapper.toDto(order, readOrderDetailResponse, user.getLoginId());
 	}
 
+	private boolean isUnpackaged(CreateOrderDetailRequest detail) {
+		return detail.getWrappingId() == null || detail.getWrappingId() == 0;
+	}
+
 	/**
 	 * 관리자가 주문을 수정하는 기능입니다.
 	 *
@@ -217,18 +263,18 @@ public class OrderService {
 	 * @return 업데이트된 주문 응답 객체
 	 */
 
-	@CacheEvict(value = "readOrders", allEntries = true)
 	@Transactional(rollbackFor = Exception.class)
 	public ReadOrderResponse updateOrderWithAdmin(UpdateOrderRequest updateOrderRequest) {
 		Order order = orderRepository.findByOrderStr(updateOrderRequest.getOrderId());
 		List<OrderDetail> orderDetails = orderDetailRepository.findAllByOrder_Id(order.getId());
 
 		if (updateOrderRequest.getOrderStatusName().equals(SHIPPING_OUT)) {
-			if (order.getOrderStatus().equals(orderStatusRepository.findByName(SHIPPING_OUT))) {
+			int shippingOutId = referenceDataRegistry.getOrderStatus(SHIPPING_OUT).getId();
+			if (order.getOrderStatus().getId() == shippingOutId) {
 				throw new AlreadyShippingOutException();
 			}
 			for (OrderDetail orderDetail : orderDetails) {
-				if (orderDetail.getOrderStatus().equals(orderStatusRepository.findByName(SHIPPING_OUT))) {
+				if (orderDetail.getOrderStatus().getId() == shippingOutId) {
 					throw new AlreadyShippingOutException();
 				}
 			}
@@ -236,7 +282,7 @@ public class OrderService {
 
 		List<ReadOrderDetailResponse> readOrderDetailResponse = new ArrayList<>();
 
-		OrderStatus orderStatus = orderStatusRepository.findByName(updateOrderRequest.getOrderStatusName());
+		OrderStatus orderStatus = referenceDataRegistry.getOrderStatus(updateOrderRequest.getOrderStatusName());
 
 		order.changeOrderStatus(orderStatus);
 
@@ -247,56 +293,47 @@ public class OrderService {
 			Product product = productRepository.findById(orderDetail.getProduct().getId())
 				.orElseThrow(ProductNotFoundException::new);
 
-			Wrapping wrapping = wrappingRepository.findById(orderDetail.getWrapping().getId())
+			Wrapping wrapping = referenceDataRegistry.getWrapping(orderDetail.getWrapping().getId())
 				.orElseThrow(WrappingNotFoundException::new);
 
 			ReadWrappingResponse readWrappingResponse = WrappingMapper.toDto(wrapping);
 			ProductResponse productResponse = ProductResponse.convertToProductResponse(product);
 			readOrderDetailResponse.add(OrderDetailMapper.toDto(orderDetail, productResponse, readWrappingResponse));
 		}
+		myOrderSummaryService.refresh(order.getId());
+		orderResponseLoader.evict(order.getOrderStr());
 
 		return OrderMapper.toDto(order, readOrderDetailResponse, order.getUser().getLoginId());
 	}
 
 	/**
 	 * 회원이 주문을 조회합니다.
+	 * 주문 응답은 주문 문자열(코드)로 캐시되고, 주문 상태가 바뀔 때 해당 주문만 캐시에서 지웁니다.
+	 * 캐시된 응답에는 주문한 회원의 아이디가 들어 있으므로, 조회한 회원의 주문이 아니면 없는 주문으로 처리합니다.
 	 *
 	 * @param request 주문 조회 요청 객체
 	 * @param loginId 고객 아이디
 	 * @return 주문 응답 객체
 	 */
 
-	@Transactional(readOnly = true)
 	public ReadOrderResponse readOrder(ReadOrderRequest request, String loginId) {
-		Order order = orderRepository.findByOrderStr(request.getOrderId());
-		List<OrderDetail> orderDetails = orderDetailRepository.findAllByOrder_Id(order.getId());
+		ReadOrderResponse response = orderResponseLoader.load(request.getOrderId());
+		if (!Objects.equals(response.getLoginId(), loginId)) {
+			throw new OrderNotFoundException();
+		}
 
-		return OrderMapper.toDto(order, convertOrderDetailsToDto(orderDetails), loginId);
+		return response;
 	}
 
 	/**
-	 * 주문 상세 엔티티 리스트를 DTO 리스트로 변환합니다.
+	 * 관리자가 주문을 조회합니다.
 	 *
-	 * @param orderDetails 주문 상세 엔티티 리스트
-	 * @return 주문 상세 DTO 응답 리스트
+	 * @param request 주문 조회 요청 객체
+	 * @return 주문 응답 객체
 	 */
 
-	private List<ReadOrderDetailResponse> convertOrderDetailsToDto(List<OrderDetail> orderDetails) {
-		List<ReadOrderDetailResponse> details = new ArrayList<>();
-		for (OrderDetail orderDetail : orderDetails) {
-			Product product = productRepository.findById(orderDetail.getProduct().getId())
-				.orElseThrow(ProductNotFoundException::new);
-
-			ProductResponse productResponse = ProductResponse.convertToProductResponse(product);
-
-			Wrapping wrapping = wrappingRepository.findById(orderDetail.getWrapping().getId())
-				.orElseThrow(WrappingNotFoundException::new);
-			ReadWrappingResponse readWrappingResponse = WrappingMapper.toDto(wrapping);
-
-			details.add(OrderDetailMapper.toDto(orderDetail, productResponse, readWrappingResponse));
-		}
-
-		return details;
+	public ReadOrderResponse readOrderWithAdmin(ReadOrderRequest request) {
+		return orderResponseLoader.load(request.getOrderId());
 	}
 
 	/**
@@ -306,17 +343,16 @@ public class OrderService {
 	 * @return 주문 응답 객체
 	 */
 
-	@Transactional(readOnly = true)
 	public ReadOrderResponse readOrderWithoutLogin(ReadOrderWithoutLoginRequest request) {
-		Order order = orderRepository.findByOrderStr(request.getOrderId());
-		if (order.getUser() != null) {
+		ReadOrderResponse response = orderResponseLoader.load(request.getOrderId());
+		if (response.getLoginId() != null) {
 			throw new NotAuthorizedException("비회원 주문만 조회 가능합니다.");
 		}
+		if (!Objects.equals(response.getOrderEmail(), request.getOrderEmail())) {
+			throw new OrderNotFoundException();
+		}
 
-		List<OrderDetail> orderDetails = orderDetailRepository.findAllByOrder_IdAndOrder_OrderEmail(order.getId(),
-			request.getOrderEmail());
-
-		return OrderMapper.toDto(order, convertOrderDetailsToDto(orderDetails), null);
+		return response;
 	}
 
 	/**
@@ -328,7 +364,7 @@ public class OrderService {
 
 	@Transactional(readOnly = true)
 	public ReadOrderStatusResponse readOrderStatusByName(String orderStatusName) {
-		return OrderStatusMapper.toDto(orderStatusRepository.findByName(orderStatusName));
+		return OrderStatusMapper.toDto(referenceDataRegistry.getOrderStatus(orderStatusName));
 	}
 
 	/**
@@ -339,7 +375,7 @@ public class OrderService {
 
 	@Transactional(readOnly = true)
 	public List<ReadOrderStatusResponse> readAllOrderStatus() {
-		return orderStatusRepository.findAll().stream().map(OrderStatusMapper::toDto).toList();
+		return referenceDataRegistry.getOrderStatuses().stream().map(OrderStatusMapper::toDto).toList();
 	}
 
 	/**
@@ -351,6 +387,7 @@ public class OrderService {
 
 	@Transactional
 	public ReadDeliveryPolicyResponse createDeliveryPolicy(CreateDeliveryPolicyRequest createDeliveryPolicyRequest) {
+		referenceDataRegistry.reloadAfterCommit();
 		return DeliveryPolicyMapper.toDto(
 			deliveryPolicyRepository.save(DeliveryPolicy.builder()
 				.name(createDeliveryPolicyRequest.getName())
@@ -371,6 +408,7 @@ public class OrderService {
 		DeliveryPolicy deliveryPolicy = deliveryPolicyRepository.findById(deliveryPolicyId).orElseThrow(
 			DeliveryPolicyNotFoundException::new);
 		deliveryPolicy.delete();
+		referenceDataRegistry.reloadAfterCommit();
 	}
 
 	/**
@@ -382,7 +420,7 @@ public class OrderService {
 
 	@Transactional(readOnly = true)
 	public ReadDeliveryPolicyResponse readDeliveryPolicyById(int deliveryPolicyId) {
-		return DeliveryPolicyMapper.toDto(deliveryPolicyRepository.findById(deliveryPolicyId)
+		return DeliveryPolicyMapper.toDto(referenceDataRegistry.getDeliveryPolicy(deliveryPolicyId)
 			.orElseThrow(DeliveryPolicyNotFoundException::new));
 	}
 
@@ -394,7 +432,7 @@ public class OrderService {
 
 	@Transactional(readOnly = true)
 	public List<ReadDeliveryPolicyResponse> readAllDeliveryPolicy() {
-		return deliveryPolicyRepository.findAll().stream().filter(deliveryPolicy -> !deliveryPolicy.isDeleted()).map(DeliveryPolicyMapper::toDto).toList();
+		return referenceDataRegistry.getDeliveryPolicies().stream().filter(deliveryPolicy -> !deliveryPolicy.isDeleted()).map(DeliveryPolicyMapper::toDto).toList();
 	}
 
 	/**
@@ -406,6 +444,7 @@ public class OrderService {
 
 	@Transactional
 	public ReadWrappingResponse createWrapping(CreateWrappingRequest createWrappingRequest) {
+		referenceDataRegistry.reloadAfterCommit();
 		return WrappingMapper.toDto(wrappingRepository.save(Wrapping.builder().paper(createWrappingRequest.getPaper())
 			.price(createWrappingRequest.getPrice()).deleted(false).build()));
 	}
@@ -420,6 +459,7 @@ public class OrderService {
 	public void deleteWrapping(int wrappingId) {
 		Wrapping wrapping = wrappingRepository.findById(wrappingId).orElseThrow(WrappingNotFoundException::new);
 		wrapping.delete();
+		referenceDataRegistry.reloadAfterCommit();
 	}
 
 	/**
@@ -431,7 +471,7 @@ public class OrderService {
 
 	@Transactional(readOnly = true)
 	public ReadWrappingResponse readWrappingById(int wrappingId) {
-		return WrappingMapper.toDto(wrappingRepository.findById(wrappingId)
+		return WrappingMapper.toDto(referenceDataRegistry.getWrapping(wrappingId)
 			.orElseThrow(WrappingNotFoundException::new));
 	}
 
@@ -443,7 +483,7 @@ public class OrderService {
 
 	@Transactional(readOnly = true)
 	public List<ReadWrappingResponse> readAllWrapping() {
-		return wrappingRepository.findAll().stream().filter(wrapping -> !wrapping.isDeleted()).map(WrappingMapper::toDto).toList();
+		return referenceDataRegistry.getWrappings().stream().filter(wrapping -> !wrapping.isDeleted()).map(WrappingMapper::toDto).toList();
 	}
 
 	/**
@@ -458,7 +498,7 @@ public class OrderService {
 	public ReadOrderDetailResponse updateOrderDetail(UpdateOrderDetailRequest request, String loginId) {
 		OrderDetail orderDetail = orderDetailRepository.findByIdAndOrder_User_LoginId(request.getId(), loginId);
 		orderDetailRepository.save(OrderDetail.builder()
-			.orderStatus(orderStatusRepository.findByName(request.getOrderStatusName()))
+			.orderStatus(referenceDataRegistry.getOrderStatus(request.getOrderStatusName()))
 			.id(orderDetail.getId())
 			.wrap(orderDetail.isWrap())
 			.createAt(orderDetail.getCreateAt())
@@ -478,11 +518,13 @@ public class OrderService {
 			product.increaseStock(orderDetail.getQuantity());
 		}
 
-		Wrapping wrapping = wrappingRepository.findById(orderDetail.getWrapping().getId())
+		Wrapping wrapping = referenceDataRegistry.getWrapping(orderDetail.getWrapping().getId())
 			.orElseThrow(WrappingNotFoundException::new);
 		ReadWrappingResponse readWrappingResponse = WrappingMapper.toDto(wrapping);
 
 		ProductResponse productResponse = ProductResponse.convertToProductResponse(product);
+		myOrderSummaryService.refresh(orderDetail.getOrder().getId());
+		orderResponseLoader.evict(orderDetail.getOrder().getOrderStr());
 
 		return OrderDetailMapper.toDto(orderDetail, productResponse, readWrappingResponse);
 	}
@@ -499,7 +541,7 @@ public class OrderService {
 		OrderDetail orderDetail = orderDetailRepository.findById(request.getId())
 			.orElseThrow(OrderDetailNotFoundException::new);
 		orderDetailRepository.save(OrderDetail.builder()
-			.orderStatus(orderStatusRepository.findByName(request.getOrderStatusName()))
+			.orderStatus(referenceDataRegistry.getOrderStatus(request.getOrderStatusName()))
 			.id(orderDetail.getId())
 			.wrap(orderDetail.isWrap())
 			.createAt(orderDetail.getCreateAt())
@@ -514,11 +556,13 @@ public class OrderService {
 		Product product = productRepository.findById(orderDetail.getProduct().getId())
 			.orElseThrow(ProductNotFoundException::new);
 
-		Wrapping wrapping = wrappingRepository.findById(orderDetail.getWrapping().getId())
+		Wrapping wrapping = referenceDataRegistry.getWrapping(orderDetail.getWrapping().getId())
 			.orElseThrow(WrappingNotFoundException::new);
 		ReadWrappingResponse readWrappingResponse = WrappingMapper.toDto(wrapping);
 
 		ProductResponse productResponse = ProductResponse.convertToProductResponse(product);
+		myOrderSummaryService.refresh(orderDetail.getOrder().getId());
+		orderResponseLoader.evict(orderDetail.getOrder().getOrderStr());
 
 		return OrderDetailMapper.toDto(orderDetail, productResponse, readWrappingResponse);
 	}
@@ -0,0 +1,27 @@
+package store.buzzbook.core.service.order;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 주문 처리 파이프라인의 단계
+ * 선언 순서대로 실행됩니다.
+ */
+public enum OrderStage {
+	VALIDATE(OrderStrategy::validate),
+	RESERVE(OrderStrategy::reserve),
+	PAY(OrderStrategy::pay),
+	POINTS(OrderStrategy::points),
+	COUPON(OrderStrategy::coupon),
+	EARN(OrderStrategy::earn),
+	STATUS(OrderStrategy::status);
+
+	private final BiConsumer<OrderStrategy, OrderContext> action;
+
+	OrderStage(BiConsumer<OrderStrategy, OrderContext> action) {
+		this.action = action;
+	}
+
+	void run(OrderStrategy strategy, OrderContext context) {
+		action.accept(strategy, context);
+	}
+}
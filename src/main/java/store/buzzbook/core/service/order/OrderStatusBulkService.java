@@ -0,0 +1,126 @@
+package store.buzzbook.core.service.order;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.exception.order.InvalidOrderStatusTransitionException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
+import store.buzzbook.core.dto.order.UpdateOrderStatusResult;
+import store.buzzbook.core.dto.order.UpdateOrdersRequest;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.order.OrderRepositoryCustom.OrderStatusRow;
+
+/**
+ * 관리자 주문 상태 일괄 변경 서비스
+ * 주문 문자열을 청크로 나눠 청크마다 한 트랜잭션에서 상태를 조회하고, 전이 규칙을 통과한 주문과 주문 상세를 UPDATE 한 번씩으로 바꿉니다.
+ */
+@Slf4j
+@Service
+public class OrderStatusBulkService {
+	private final OrderRepository orderRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
+	private final MyOrderSummaryService myOrderSummaryService;
+	private final OrderResponseLoader orderResponseLoader;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public OrderStatusBulkService(OrderRepository orderRepository, ReferenceDataRegistry referenceDataRegistry,
+		MyOrderSummaryService myOrderSummaryService, OrderResponseLoader orderResponseLoader,
+		PlatformTransactionManager transactionManager,
+		@Value("${order.bulk-status.chunk-size:500}") int chunkSize) {
+		this.orderRepository = orderRepository;
+		this.referenceDataRegistry = referenceDataRegistry;
+		this.myOrderSummaryService = myOrderSummaryService;
+		this.orderResponseLoader = orderResponseLoader;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 여러 주문의 상태를 한 번에 변경합니다.
+	 * 없는 주문이나 전이 규칙에 맞지 않는 주문은 건너뛰고 결과에 사유를 남깁니다.
+	 *
+	 * @param request 주문 문자열 목록과 변경할 상태
+	 * @return 요청 순서대로의 주문별 결과
+	 * @throws InvalidOrderStatusTransitionException 배송 처리 상태(출고, 배송 완료)가 아닌 상태로 바꾸려는 경우
+	 */
+	public List<UpdateOrderStatusResult> updateOrders(UpdateOrdersRequest request) {
+		String target = request.getOrderStatusName();
+		if (!OrderStatusTransition.isBulkTarget(target)) {
+			throw new InvalidOrderStatusTransitionException(target);
+		}
+		int targetId = referenceDataRegistry.getOrderStatus(target).getId();
+
+		Map<Integer, String> statusNames = referenceDataRegistry.getOrderStatuses().stream()
+			.collect(Collectors.toMap(OrderStatus::getId, OrderStatus::getName));
+		Set<Integer> sourceIds = OrderStatusTransition.sourcesOf(target).stream()
+			.map(name -> referenceDataRegistry.getOrderStatus(name).getId())
+			.collect(Collectors.toSet());
+
+		List<String> orderStrs = new ArrayList<>(new LinkedHashSet<>(request.getOrderIds()));
+		List<UpdateOrderStatusResult> results = new ArrayList<>(orderStrs.size());
+		long start = System.nanoTime();
+
+		for (int from = 0; from < orderStrs.size(); from += chunkSize) {
+			List<String> chunk = orderStrs.subList(from, Math.min(from + chunkSize, orderStrs.size()));
+			results.addAll(transactionTemplate.execute(
+				status -> updateChunk(chunk, target, targetId, sourceIds, statusNames)));
+		}
+
+		log.info("주문 상태 일괄 변경 {}건 -> {} ({} ms)", orderStrs.size(), target,
+			(System.nanoTime() - start) / 1_000_000);
+		return results;
+	}
+
+	private List<UpdateOrderStatusResult> updateChunk(List<String> orderStrs, String target, int targetId,
+		Set<Integer> sourceIds, Map<Integer, String> statusNames) {
+		Map<String, OrderStatusRow> rows = orderRepository.findStatusesByOrderStrIn(orderStrs).stream()
+			.collect(Collectors.toMap(OrderStatusRow::orderStr, Function.identity()));
+
+		Set<Long> candidates = new LinkedHashSet<>();
+		for (OrderStatusRow row : rows.values()) {
+			if (OrderStatusTransition.canTransition(statusNames.get(row.orderStatusId()), target)) {
+				candidates.add(row.id());
+			}
+		}
+
+		Set<Long> updated = new LinkedHashSet<>(candidates);
+		if (orderRepository.updateOrderStatus(candidates, sourceIds, targetId) < candidates.size()) {
+			// 조회 이후 다른 요청이 상태를 바꾼 주문은 제외합니다.
+			updated.clear();
+			for (OrderStatusRow row : orderRepository.findStatusesByOrderStrIn(orderStrs)) {
+				if (row.orderStatusId() == targetId && candidates.contains(row.id())) {
+					updated.add(row.id());
+				}
+			}
+		}
+		orderRepository.updateOrderDetailStatus(updated, sourceIds, targetId);
+		myOrderSummaryService.refresh(updated);
+
+		List<UpdateOrderStatusResult> results = new ArrayList<>(orderStrs.size());
+		for (String orderStr : orderStrs) {
+			OrderStatusRow row = rows.get(orderStr);
+			if (row == null) {
+				results.add(new UpdateOrderStatusResult(orderStr, UpdateOrderStatusResult.Result.NOT_FOUND));
+			} else if (updated.contains(row.id())) {
+				results.add(new UpdateOrderStatusResult(orderStr, UpdateOrderStatusResult.Result.UPDATED));
+				orderResponseLoader.evict(orderStr);
+			} else {
+				results.add(new UpdateOrderStatusResult(orderStr, UpdateOrderStatusResult.Result.INVALID_TRANSITION));
+			}
+		}
+		return results;
+	}
+}
@@ -0,0 +1,54 @@
+package store.buzzbook.core.service.order;
+
+import static store.buzzbook.core.common.listener.OrderStatusListener.*;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관리자 일괄 변경으로 허용되는 주문 상태 전이 규칙
+ * 출고와 배송 완료 같은 배송 처리 전이만 정의합니다.
+ * 취소, 환불처럼 결제 금액, 포인트, 쿠폰을 되돌려야 하는 전이는
+ * {@link UserOrderCancelService}와 {@link UserOrderRefundService}에서만 처리합니다.
+ */
+public final class OrderStatusTransition {
+	private static final Map<String, Set<String>> TRANSITIONS = Map.of(
+		PAID, Set.of(SHIPPING_OUT),
+		PARTIAL_CANCELED, Set.of(SHIPPING_OUT),
+		SHIPPING_OUT, Set.of(SHIPPED)
+	);
+
+	private OrderStatusTransition() {
+	}
+
+	public static boolean canTransition(String from, String to) {
+		return TRANSITIONS.getOrDefault(from, Set.of()).contains(to);
+	}
+
+	/**
+	 * 일괄 변경의 대상 상태로 쓸 수 있는지 확인합니다.
+	 *
+	 * @param to 대상 상태 이름
+	 * @return 배송 처리 전이의 대상 상태면 true
+	 */
+	public static boolean isBulkTarget(String to) {
+		return TRANSITIONS.values().stream().anyMatch(targets -> targets.contains(to));
+	}
+
+	/**
+	 * 대상 상태로 바뀔 수 있는 상태들을 반환합니다.
+	 *
+	 * @param to 대상 상태 이름
+	 * @return 대상 상태로 전이할 수 있는 상태 이름
+	 */
+	public static Set<String> sourcesOf(String to) {
+		Set<String> sources = new HashSet<>();
+		TRANSITIONS.forEach((from, targets) -> {
+			if (targets.contains(to)) {
+				sources.add(from);
+			}
+		});
+		return sources;
+	}
+}
@@ -1,10 +1,25 @@
 package store.buzzbook.core.service.order;
 
-import org.springframework.http.HttpHeaders;
+/**
+ * 주문 처리(결제, 취소, 환불) 전략
+ * 각 메서드는 {@link OrderStage}의 한 단계이며, {@link OrderPipeline}이 순서대로 호출합니다.
+ * 요청별 상태는 모두 {@link OrderContext}에 담기므로 구현체는 상태를 가지지 않아야 합니다.
+ */
+public interface OrderStrategy {
+	void validate(OrderContext context);
 
-import store.buzzbook.core.dto.payment.PayInfo;
+	void reserve(OrderContext context);
 
-public interface OrderStrategy {
-	void process(long orderId, PayInfo payInfo, HttpHeaders headers);
-	void nonUserProcess(long orderId, PayInfo payInfo);
+	void pay(OrderContext context);
+
+	default void points(OrderContext context) {
+	}
+
+	default void coupon(OrderContext context) {
+	}
+
+	default void earn(OrderContext context) {
+	}
+
+	void status(OrderContext context);
 }
@@ -1,9 +1,10 @@
 package store.buzzbook.core.service.order;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -20,6 +21,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import store.buzzbook.core.common.exception.order.DuplicateBillLogException;
+import store.buzzbook.core.common.exception.order.OrderNotFoundException;
 import store.buzzbook.core.dto.order.ReadOrderWithBillLogsResponse;
 import store.buzzbook.core.dto.payment.CreateCancelBillLogRequest;
 import store.buzzbook.core.dto.payment.PayInfo;
@@ -27,11 +29,13 @@ import store.buzzbook.core.dto.payment.ReadBillLogWithoutOrderResponse;
 import store.buzzbook.core.dto.payment.ReadBillLogsRequest;
 import store.buzzbook.core.entity.order.Order;
 import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.payment.BillLogArchive;
 import store.buzzbook.core.mapper.payment.BillLogMapper;
 import store.buzzbook.core.repository.order.OrderDetailRepository;
 import store.buzzbook.core.repository.order.OrderRepository;
 import store.buzzbook.core.repository.order.OrderStatusRepository;
 import store.buzzbook.core.repository.order.WrappingRepository;
+import store.buzzbook.core.repository.payment.BillLogArchiveRepository;
 import store.buzzbook.core.repository.payment.BillLogRepository;
 import store.buzzbook.core.repository.product.ProductRepository;
 import store.buzzbook.core.repository.user.UserRepository;
@@ -41,6 +45,7 @@ import store.buzzbook.core.service.auth.AuthService;
 /**
  * 결제 관련 서비스
  * 결제 내역 조회, 생성, paymentKey 조회, 취소와 환불 내역 생성, 결제 내역 롤백 기능을 제공합니다.
+ * 주문 문자열로 결제 내역을 찾을 때 운영 테이블에 없으면 보관된 결제 내역에서 찾습니다.
  *
  * @author 박설
  */
@@ -69,6 +74,7 @@ public class PaymentService {
 	private static final String CANCEL_POINT_FOR_PAYMENT_ERROR_INQUIRY = "결제 오류로 인한 포인트 적립 취소";
 
 	private final BillLogRepository billLogRepository;
+	private final BillLogArchiveRepository billLogArchiveRepository;
 	private final OrderRepository orderRepository;
 	private final OrderDetailRepository orderDetailRepository;
 	private final ObjectMapper objectMapper;
@@ -77,7 +83,9 @@ public class PaymentService {
 	private final OrderStatusRepository orderStatusRepository;
 	private final UserRepository userRepository;
 	private final UserService userService;
-	private final OrderFactory orderFactory;
+	private final OrderPipeline orderPipeline;
+	private final MyOrderSummaryService myOrderSummaryService;
+	private final OrderResponseLoader orderResponseLoader;
 	private final UserOrderProcessService userOrderProcessService;
 
 	/**
@@ -103,12 +111,12 @@ public class PaymentService {
 			headers.set(AuthService.TOKEN_HEADER, request.getHeader(AuthService.TOKEN_HEADER));
 			headers.set(AuthService.REFRESH_HEADER, request.getHeader(AuthService.REFRESH_HEADER));
 
-			orderFactory.setOrderStrategy(userOrderProcessService, order.getId(), paymentInfo, headers);
-			orderFactory.process();
+			orderPipeline.execute(userOrderProcessService, new OrderContext(order, paymentInfo, headers));
+			myOrderSummaryService.refresh(order.getId());
 		} else {
-			orderFactory.setOrderStrategy(nonUserOrderProcessService, order.getId(), paymentInfo, null);
-			orderFactory.nonUserProcess();
+			orderPipeline.execute(nonUserOrderProcessService, new OrderContext(order, paymentInfo, null));
 		}
+		orderResponseLoader.evict(order.getOrderStr());
 	}
 
 	/**
@@ -129,12 +137,12 @@ public class PaymentService {
 			headers.set(AuthService.TOKEN_HEADER, request.getHeader(AuthService.TOKEN_HEADER));
 			headers.set(AuthService.REFRESH_HEADER, request.getHeader(AuthService.REFRESH_HEADER));
 
-			orderFactory.setOrderStrategy(userOrderCancelService, order.getId(), paymentInfo, headers);
-			orderFactory.process();
+			orderPipeline.execute(userOrderCancelService, new OrderContext(order, paymentInfo, headers));
+			myOrderSummaryService.refresh(order.getId());
 		} else {
-			orderFactory.setOrderStrategy(nonUserOrderCancelService, order.getId(), paymentInfo, null);
-			orderFactory.nonUserProcess();
+			orderPipeline.execute(nonUserOrderCancelService, new OrderContext(order, paymentInfo, null));
 		}
+		orderResponseLoader.evict(order.getOrderStr());
 	}
 
 	/**
@@ -154,26 +162,32 @@ public class PaymentService {
 		headers.set(AuthService.TOKEN_HEADER, request.getHeader(AuthService.TOKEN_HEADER));
 		headers.set(AuthService.REFRESH_HEADER, request.getHeader(AuthService.REFRESH_HEADER));
 
-		orderFactory.setOrderStrategy(userOrderRefundService, order.getId(), createCancelBillLogRequest.getPayInfo(), headers);
-		orderFactory.process();
+		orderPipeline.execute(userOrderRefundService,
+			new OrderContext(order, createCancelBillLogRequest.getPayInfo(), headers));
+		myOrderSummaryService.refresh(order.getId());
+		orderResponseLoader.evict(order.getOrderStr());
 	}
 
 	/**
 	 * 결제 내역과 함께 주문 내역들을 조회합니다.
+	 * 결제일 범위와 결제 상태로 필터링할 수 있고, 커서(마지막 주문 아이디)가 있으면 그 이후의 주문을 조회합니다.
 	 *
 	 * @param request 결제 내역 조회 요청 객체
-	 * @return 결제 내역이 딸린 주문 내역 리스트 객체와 다음 페이지 존재 여부를 가진 Map 객체
+	 * @return 결제 내역이 딸린 주문 내역 리스트 객체와 다음 페이지 존재 여부, 다음 페이지 커서를 가진 Map 객체
 	 */
 
 	@Transactional(readOnly = true)
 	public Map<String, Object> readBillLogs(ReadBillLogsRequest request) {
 		Map<String, Object> data = new HashMap<>();
-		PageRequest pageable = PageRequest.of(request.getPage() - 1, request.getSize());
+		PageRequest pageable = request.getCursor() == null
+			? PageRequest.of(request.getPage() - 1, request.getSize()) : PageRequest.of(0, request.getSize());
 
 		Slice<ReadOrderWithBillLogsResponse> pageBillLogs = orderRepository.readOrdersWithBillLogs(request, pageable);
 
 		data.put("responseData", pageBillLogs.getContent());
 		data.put("hasNext", pageBillLogs.hasNext());
+		data.put("nextCursor", pageBillLogs.hasNext()
+			? pageBillLogs.getContent().get(pageBillLogs.getNumberOfElements() - 1).getOrderId() : null);
 
 		return data;
 	}
@@ -188,14 +202,8 @@ public class PaymentService {
 
 	@Transactional(readOnly = true)
 	public List<ReadBillLogWithoutOrderResponse> readBillLogWithoutOrder(long userId, String orderStr) {
-		List<ReadBillLogWithoutOrderResponse> responses = new ArrayList<>();
-		List<BillLog> billLogs = billLogRepository.findByUserIdAndOrderStr(userId, orderStr);
-
-		for (BillLog newBillLog : billLogs) {
-			responses.add(BillLogMapper.toDtoWithoutOrder(newBillLog));
-		}
-
-		return responses;
+		return toResponses(billLogRepository.findByUserIdAndOrderStr(userId, orderStr),
+			() -> billLogArchiveRepository.findByUserIdAndOrderStr(userId, orderStr));
 	}
 
 	/**
@@ -207,14 +215,8 @@ public class PaymentService {
 
 	@Transactional(readOnly = true)
 	public List<ReadBillLogWithoutOrderResponse> readBillLogWithoutOrderWithAdmin(String orderId) {
-		List<ReadBillLogWithoutOrderResponse> responses = new ArrayList<>();
-		List<BillLog> billLogs = billLogRepository.findByOrder_OrderStr(orderId);
-
-		for (BillLog newBillLog : billLogs) {
-			responses.add(BillLogMapper.toDtoWithoutOrder(newBillLog));
-		}
-
-		return responses;
+		return toResponses(billLogRepository.findByOrder_OrderStr(orderId),
+			() -> billLogArchiveRepository.findByOrderStr(orderId));
 	}
 
 	/**
@@ -226,29 +228,30 @@ public class PaymentService {
 
 	@Transactional(readOnly = true)
 	public List<ReadBillLogWithoutOrderResponse> readBillLogWithoutOrderWithoutLogin(String orderId) {
-		List<ReadBillLogWithoutOrderResponse> responses = new ArrayList<>();
-		List<BillLog> billLogs = billLogRepository.findByOrder_OrderStr(orderId);
-
-		for (BillLog newBillLog : billLogs) {
-			responses.add(BillLogMapper.toDtoWithoutOrder(newBillLog));
-		}
-
-		return responses;
+		return toResponses(billLogRepository.findByOrder_OrderStr(orderId),
+			() -> billLogArchiveRepository.findByOrderStr(orderId));
 	}
 
 	/**
 	 * 비회원의 PaymentKey를 조회합니다.
+	 * 보관된 주문은 보관된 주문 응답의 이메일로 확인합니다.
 	 *
 	 * @param orderId 주문 문자열(코드)
 	 * @param orderEmail 주문 시 입력한 이메일
 	 * @return 비회원 결제 내역의 PaymentKey 문자열
+	 * @throws OrderNotFoundException 결제 내역이 없거나 이메일이 다른 경우
 	 */
 
 	@Transactional(readOnly = true)
 	public String getPaymentKeyWithoutLogin(String orderId, String orderEmail) {
-		return billLogRepository.findByOrder_OrderStrAndOrder_OrderEmail(orderId, orderEmail)
-			.getFirst()
-			.getPaymentKey();
+		List<BillLog> billLogs = billLogRepository.findByOrder_OrderStrAndOrder_OrderEmail(orderId, orderEmail);
+		if (!billLogs.isEmpty()) {
+			return billLogs.getFirst().getPaymentKey();
+		}
+		if (!Objects.equals(orderResponseLoader.load(orderId).getOrderEmail(), orderEmail)) {
+			throw new OrderNotFoundException();
+		}
+		return archivedPaymentKey(billLogArchiveRepository.findByOrderStr(orderId));
 	}
 
 	/**
@@ -257,10 +260,30 @@ public class PaymentService {
 	 * @param orderId 주문 문자열(코드)
 	 * @param userId 고객 번호
 	 * @return 회원 결제 내역의 PaymentKey 문자열
+	 * @throws OrderNotFoundException 결제 내역이 없는 경우
 	 */
 
 	@Transactional(readOnly = true)
 	public String getPaymentKey(String orderId, long userId) {
-		return billLogRepository.findByOrder_OrderStrAndOrder_User_Id(orderId, userId).getFirst().getPaymentKey();
+		List<BillLog> billLogs = billLogRepository.findByOrder_OrderStrAndOrder_User_Id(orderId, userId);
+		if (!billLogs.isEmpty()) {
+			return billLogs.getFirst().getPaymentKey();
+		}
+		return archivedPaymentKey(billLogArchiveRepository.findByUserIdAndOrderStr(userId, orderId));
+	}
+
+	private List<ReadBillLogWithoutOrderResponse> toResponses(List<BillLog> billLogs,
+		Supplier<List<BillLogArchive>> archived) {
+		if (!billLogs.isEmpty()) {
+			return billLogs.stream().map(BillLogMapper::toDtoWithoutOrder).toList();
+		}
+		return archived.get().stream().map(BillLogMapper::toDtoWithoutOrder).toList();
+	}
+
+	private String archivedPaymentKey(List<BillLogArchive> billLogs) {
+		if (billLogs.isEmpty()) {
+			throw new OrderNotFoundException();
+		}
+		return billLogs.getFirst().getPaymentKey();
 	}
 }
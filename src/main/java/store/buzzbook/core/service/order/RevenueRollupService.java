@@ -0,0 +1,296 @@
+package store.buzzbook.core.service.order;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.exception.order.InvalidRevenuePeriodException;
+import store.buzzbook.core.dto.payment.CategoryRevenueResponse;
+import store.buzzbook.core.dto.payment.DailyRevenueResponse;
+import store.buzzbook.core.dto.payment.PayInfo;
+import store.buzzbook.core.dto.payment.PaymentRevenueResponse;
+import store.buzzbook.core.dto.payment.RevenueBackfillResult;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderDetail;
+import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.entity.payment.RevenueDailyCategory;
+import store.buzzbook.core.entity.payment.RevenueDailyPayment;
+import store.buzzbook.core.repository.payment.RevenueRollupRepository;
+
+/**
+ * 매출 집계 서비스
+ * 결제 내역을 남길 때마다 일별 결제 수단별, 일별 카테고리별 집계에 더해 두고 매출 조회는 기간의 일자 행만 읽습니다.
+ * 한 트랜잭션에서 남긴 결제 내역은 모아 두었다가 커밋 직전에 키 순서대로 한 번에 더하므로, 집계 행 잠금은 커밋 동안만 잡고 교착도 생기지 않습니다.
+ * 재구성은 기간을 며칠 단위 청크로 나눠 병렬로 지우고 결제 내역에서 다시 채웁니다.
+ */
+@Slf4j
+@Service
+public class RevenueRollupService {
+	private static final String COUPON = "COUPON";
+	private static final List<String> PAYMENTS = Arrays.stream(PayInfo.PayType.values()).map(Enum::name).toList();
+	private static final List<String> PG_PAYMENTS = Arrays.stream(PayInfo.PayType.values())
+		.filter(payType -> payType != PayInfo.PayType.POINT)
+		.map(Enum::name)
+		.toList();
+
+	private final RevenueRollupRepository revenueRollupRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkDays;
+	private final int parallelism;
+
+	public RevenueRollupService(RevenueRollupRepository revenueRollupRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${revenue.backfill.chunk-days:7}") int chunkDays,
+		@Value("${revenue.backfill.parallelism:4}") int parallelism) {
+		this.revenueRollupRepository = revenueRollupRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkDays = chunkDays;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * 결제 내역을 매출 집계에 더합니다.
+	 * 트랜잭션 안이면 커밋 직전에 더하고, 롤백되면 버립니다.
+	 *
+	 * @param billLog 저장한 결제 내역
+	 */
+	public void record(BillLog billLog) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			PendingRevenue pending = new PendingRevenue();
+			pending.add(billLog);
+			pending.apply();
+			return;
+		}
+
+		PendingRevenue pending = (PendingRevenue)TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+			pending = new PendingRevenue();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+		pending.add(billLog);
+	}
+
+	/**
+	 * 기간의 일별 매출을 조회합니다.
+	 *
+	 * @param startDate 시작일
+	 * @param endDate 종료일(포함)
+	 * @return 결제일 순 일별 매출
+	 */
+	public List<DailyRevenueResponse> getDailyRevenues(LocalDate startDate, LocalDate endDate) {
+		validatePeriod(startDate, endDate);
+		return revenueRollupRepository.findDailyRevenues(startDate, endDate);
+	}
+
+	/**
+	 * 기간의 결제 수단별 매출을 조회합니다.
+	 *
+	 * @param startDate 시작일
+	 * @param endDate 종료일(포함)
+	 * @return 결제 수단별 매출
+	 */
+	public List<PaymentRevenueResponse> getPaymentRevenues(LocalDate startDate, LocalDate endDate) {
+		validatePeriod(startDate, endDate);
+		return revenueRollupRepository.findPaymentRevenues(startDate, endDate);
+	}
+
+	/**
+	 * 기간의 카테고리별 매출을 조회합니다.
+	 *
+	 * @param startDate 시작일
+	 * @param endDate 종료일(포함)
+	 * @return 카테고리별 매출
+	 */
+	public List<CategoryRevenueResponse> getCategoryRevenues(LocalDate startDate, LocalDate endDate) {
+		validatePeriod(startDate, endDate);
+		return revenueRollupRepository.findCategoryRevenues(startDate, endDate);
+	}
+
+	/**
+	 * 전날 매출 집계를 결제 내역으로 다시 맞춥니다.
+	 */
+	@Scheduled(cron = "${revenue.backfill.cron:0 30 4 * * *}")
+	public void rebuildYesterday() {
+		LocalDate yesterday = LocalDate.now().minusDays(1);
+		backfill(yesterday, yesterday);
+	}
+
+	/**
+	 * 기간의 매출 집계를 결제 내역(보관분 포함)으로 다시 만듭니다.
+	 * 오늘 집계는 결제 내역이 쌓이면서 바뀌고 있으므로 종료일은 어제까지로 줄입니다.
+	 *
+	 * @param startDate 시작일
+	 * @param endDate 종료일(포함)
+	 * @return 재구성 결과
+	 */
+	public RevenueBackfillResult backfill(LocalDate startDate, LocalDate endDate) {
+		LocalDate yesterday = LocalDate.now().minusDays(1);
+		LocalDate end = endDate.isAfter(yesterday) ? yesterday : endDate;
+		validatePeriod(startDate, end);
+
+		long start = System.nanoTime();
+		List<LocalDate> chunkStarts = new ArrayList<>();
+		for (LocalDate from = startDate; !from.isAfter(end); from = from.plusDays(chunkDays)) {
+			chunkStarts.add(from);
+		}
+
+		long paymentRows = 0;
+		long categoryRows = 0;
+		try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunkStarts.size()))) {
+			List<Future<long[]>> futures = new ArrayList<>(chunkStarts.size());
+			for (LocalDate from : chunkStarts) {
+				LocalDate to = from.plusDays(chunkDays).isAfter(end) ? end.plusDays(1) : from.plusDays(chunkDays);
+				futures.add(executor.submit(() -> transactionTemplate.execute(status -> new long[] {
+					revenueRollupRepository.rebuildPayments(from, to, PAYMENTS),
+					revenueRollupRepository.rebuildCategories(from, to, PG_PAYMENTS)})));
+			}
+			for (Future<long[]> future : futures) {
+				long[] rows = future.get();
+				paymentRows += rows[0];
+				categoryRows += rows[1];
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+
+		RevenueBackfillResult result = new RevenueBackfillResult(startDate, end, chunkStarts.size(), paymentRows,
+			categoryRows, (System.nanoTime() - start) / 1_000_000);
+		log.info("매출 집계 재구성 {}", result);
+		return result;
+	}
+
+	private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+		if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+			throw new InvalidRevenuePeriodException();
+		}
+	}
+
+	static String paymentOf(String payment) {
+		return PAYMENTS.contains(payment) ? payment : COUPON;
+	}
+
+	private record PaymentKey(LocalDate salesDate, String payment) {
+	}
+
+	private record CategoryKey(LocalDate salesDate, int categoryId) {
+	}
+
+	/**
+	 * 결제, 취소, 반품별 금액과 건수(카테고리는 수량)
+	 */
+	private static class Revenue {
+		private final long[] amounts = new long[3];
+		private final long[] counts = new long[3];
+
+		void add(int bucket, long amount, long count) {
+			amounts[bucket] += amount;
+			counts[bucket] += count;
+		}
+	}
+
+	/**
+	 * 한 트랜잭션에서 더할 집계
+	 * 키 순서로 정렬해 두어 동시에 커밋하는 트랜잭션끼리 집계 행을 같은 순서로 잠급니다.
+	 */
+	private class PendingRevenue implements TransactionSynchronization {
+		private static final int PAID = 0;
+		private static final int CANCELED = 1;
+		private static final int REFUNDED = 2;
+
+		private final Map<PaymentKey, Revenue> payments = new TreeMap<>(
+			Comparator.comparing(PaymentKey::salesDate).thenComparing(PaymentKey::payment));
+		private final Map<CategoryKey, Revenue> categories = new TreeMap<>(
+			Comparator.comparing(CategoryKey::salesDate).thenComparingInt(CategoryKey::categoryId));
+
+		void add(BillLog billLog) {
+			int bucket = bucketOf(billLog.getStatus());
+			if (bucket < 0) {
+				return;
+			}
+			LocalDate salesDate = billLog.getPayAt().toLocalDate();
+			payments.computeIfAbsent(new PaymentKey(salesDate, paymentOf(billLog.getPayment())), key -> new Revenue())
+				.add(bucket, billLog.getPrice(), 1);
+
+			Order order = billLog.getOrder();
+			if (!PG_PAYMENTS.contains(billLog.getPayment()) || order.getDetails() == null) {
+				return;
+			}
+			for (OrderDetail detail : order.getDetails()) {
+				categories.computeIfAbsent(new CategoryKey(salesDate, detail.getProduct().getCategory().getId()),
+						key -> new Revenue())
+					.add(bucket, (long)detail.getPrice() * detail.getQuantity(), detail.getQuantity());
+			}
+		}
+
+		void apply() {
+			revenueRollupRepository.addPayments(payments.entrySet().stream()
+				.map(entry -> RevenueDailyPayment.builder()
+					.salesDate(entry.getKey().salesDate())
+					.payment(entry.getKey().payment())
+					.paidAmount(entry.getValue().amounts[PAID])
+					.paidCount(entry.getValue().counts[PAID])
+					.canceledAmount(entry.getValue().amounts[CANCELED])
+					.canceledCount(entry.getValue().counts[CANCELED])
+					.refundedAmount(entry.getValue().amounts[REFUNDED])
+					.refundedCount(entry.getValue().counts[REFUNDED])
+					.build())
+				.toList());
+			revenueRollupRepository.addCategories(categories.entrySet().stream()
+				.map(entry -> RevenueDailyCategory.builder()
+					.salesDate(entry.getKey().salesDate())
+					.categoryId(entry.getKey().categoryId())
+					.paidAmount(entry.getValue().amounts[PAID])
+					.paidQuantity(entry.getValue().counts[PAID])
+					.canceledAmount(entry.getValue().amounts[CANCELED])
+					.canceledQuantity(entry.getValue().counts[CANCELED])
+					.refundedAmount(entry.getValue().amounts[REFUNDED])
+					.refundedQuantity(entry.getValue().counts[REFUNDED])
+					.build())
+				.toList());
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			apply();
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(RevenueRollupService.this);
+		}
+
+		private int bucketOf(BillStatus status) {
+			return switch (status) {
+				case DONE -> PAID;
+				case CANCELED, PARTIAL_CANCELED -> CANCELED;
+				case REFUND -> REFUNDED;
+				default -> -1;
+			};
+		}
+	}
+}
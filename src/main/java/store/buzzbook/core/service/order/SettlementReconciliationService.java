@@ -0,0 +1,206 @@
+package store.buzzbook.core.service.order;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.client.payment.SettlementFeed;
+import store.buzzbook.core.dto.payment.PayInfo;
+import store.buzzbook.core.dto.payment.SettlementReconciliationResult;
+import store.buzzbook.core.dto.payment.SettlementRecord;
+import store.buzzbook.core.entity.payment.SettlementMismatch;
+import store.buzzbook.core.entity.payment.SettlementReconciliation;
+import store.buzzbook.core.repository.payment.SettlementReconciliationRepository;
+import store.buzzbook.core.repository.payment.SettlementReconciliationRepositoryCustom.BillSettlementRow;
+import store.buzzbook.core.repository.payment.SettlementReconciliationRepositoryCustom.UnsettledBillLogRow;
+
+/**
+ * PG 정산 대사 서비스
+ * 정산 파일을 청크 단위로 읽어 청크의 결제 키로 결제 내역을 한 번에 합산해 비교하고, 결제 키는 적재 테이블에 담아 둡니다.
+ * 파일을 다 읽은 뒤 정산일에 승인됐지만 적재 테이블에 없는 결제를 아이디 키셋으로 찾아, 양쪽 모두 청크 크기만큼만 메모리에 올립니다.
+ * 포인트와 쿠폰 결제 내역은 PG를 거치지 않으므로 비교하지 않습니다.
+ */
+@Slf4j
+@Service
+public class SettlementReconciliationService {
+	private static final List<String> PG_PAYMENTS = Arrays.stream(PayInfo.PayType.values())
+		.filter(payType -> payType != PayInfo.PayType.POINT)
+		.map(Enum::name)
+		.toList();
+
+	private final SettlementFeed settlementFeed;
+	private final SettlementReconciliationRepository settlementReconciliationRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public SettlementReconciliationService(SettlementFeed settlementFeed,
+		SettlementReconciliationRepository settlementReconciliationRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${settlement.reconcile.chunk-size:1000}") int chunkSize) {
+		this.settlementFeed = settlementFeed;
+		this.settlementReconciliationRepository = settlementReconciliationRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 전날 정산 파일로 대사합니다.
+	 */
+	@Scheduled(cron = "${settlement.reconcile.cron:0 0 6 * * *}")
+	public void reconcileYesterday() {
+		reconcile(LocalDate.now().minusDays(1));
+	}
+
+	/**
+	 * 정산일의 정산 파일과 결제 내역을 대사하고 불일치 건을 정산 불일치 테이블에 남깁니다.
+	 *
+	 * @param settlementDate 정산일
+	 * @return 대사 결과
+	 */
+	public SettlementReconciliationResult reconcile(LocalDate settlementDate) {
+		long start = System.nanoTime();
+		Stream<SettlementRecord> records = settlementFeed.read(settlementDate);
+		SettlementReconciliation reconciliation = transactionTemplate.execute(
+			status -> settlementReconciliationRepository.save(SettlementReconciliation.builder()
+				.settlementDate(settlementDate)
+				.status(SettlementReconciliation.Status.RUNNING)
+				.startedAt(LocalDateTime.now())
+				.build()));
+		long reconciliationId = reconciliation.getId();
+
+		long settlementRows = 0;
+		long matched = 0;
+		long mismatched = 0;
+		try (records) {
+			Iterator<SettlementRecord> iterator = records.iterator();
+			List<SettlementRecord> chunk = new ArrayList<>(chunkSize);
+			while (iterator.hasNext()) {
+				chunk.add(iterator.next());
+				if (chunk.size() == chunkSize || !iterator.hasNext()) {
+					List<SettlementRecord> current = chunk;
+					long[] counts = transactionTemplate.execute(status -> compareChunk(reconciliationId, current));
+					settlementRows += chunk.size();
+					matched += counts[0];
+					mismatched += counts[1];
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+
+			LocalDateTime from = settlementDate.atStartOfDay();
+			LocalDateTime to = from.plusDays(1);
+			long afterId = 0;
+			List<UnsettledBillLogRow> rows;
+			while (!(rows = settlementReconciliationRepository.findUnsettledBillLogs(reconciliationId, PG_PAYMENTS,
+				from, to, afterId, chunkSize)).isEmpty()) {
+				List<UnsettledBillLogRow> unsettled = rows;
+				mismatched += transactionTemplate.execute(status -> reportUnsettled(reconciliationId, unsettled));
+				afterId = rows.getLast().id();
+			}
+		} catch (RuntimeException e) {
+			transactionTemplate.executeWithoutResult(status -> {
+				settlementReconciliationRepository.deleteEntries(reconciliationId);
+				settlementReconciliationRepository.findById(reconciliationId).ifPresent(SettlementReconciliation::fail);
+			});
+			throw e;
+		}
+
+		long rowsTotal = settlementRows;
+		long matchedTotal = matched;
+		long mismatchedTotal = mismatched;
+		transactionTemplate.executeWithoutResult(status -> {
+			settlementReconciliationRepository.deleteEntries(reconciliationId);
+			settlementReconciliationRepository.findById(reconciliationId)
+				.ifPresent(saved -> saved.complete(rowsTotal, matchedTotal, mismatchedTotal));
+		});
+
+		SettlementReconciliationResult result = new SettlementReconciliationResult(reconciliationId, settlementDate,
+			settlementRows, matched, mismatched, (System.nanoTime() - start) / 1_000_000);
+		if (mismatched > 0) {
+			log.warn("PG 정산 대사 불일치 {}", result);
+		} else {
+			log.info("PG 정산 대사 {}", result);
+		}
+		return result;
+	}
+
+	/**
+	 * 정산 파일 한 청크를 결제 내역과 비교합니다.
+	 *
+	 * @return 일치한 결제 수, 불일치 건수
+	 */
+	private long[] compareChunk(long reconciliationId, List<SettlementRecord> records) {
+		List<String> paymentKeys = records.stream().map(SettlementRecord::paymentKey).toList();
+		settlementReconciliationRepository.insertEntries(reconciliationId, paymentKeys);
+		Map<String, BillSettlementRow> bills = settlementReconciliationRepository.findBillSettlements(
+				new LinkedHashSet<>(paymentKeys), PG_PAYMENTS).stream()
+			.collect(Collectors.toMap(BillSettlementRow::paymentKey, Function.identity()));
+
+		LocalDateTime now = LocalDateTime.now();
+		List<SettlementMismatch> mismatches = new ArrayList<>();
+		long matched = 0;
+		for (SettlementRecord record : records) {
+			BillSettlementRow bill = bills.get(record.paymentKey());
+			if (bill == null) {
+				mismatches.add(mismatch(reconciliationId, record, null, SettlementMismatch.Type.MISSING_IN_BILL_LOG,
+					now));
+				continue;
+			}
+
+			boolean amountMatched = record.approvedAmount() == bill.approvedAmount()
+				&& record.canceledAmount() == bill.canceledAmount();
+			boolean statusMatched = record.status() == bill.status();
+			if (!amountMatched) {
+				mismatches.add(mismatch(reconciliationId, record, bill, SettlementMismatch.Type.AMOUNT_MISMATCH, now));
+			}
+			if (!statusMatched) {
+				mismatches.add(mismatch(reconciliationId, record, bill, SettlementMismatch.Type.STATUS_MISMATCH, now));
+			}
+			if (amountMatched && statusMatched) {
+				matched++;
+			}
+		}
+		settlementReconciliationRepository.insertMismatches(mismatches);
+		return new long[] {matched, mismatches.size()};
+	}
+
+	private long reportUnsettled(long reconciliationId, List<UnsettledBillLogRow> rows) {
+		List<String> paymentKeys = rows.stream().map(UnsettledBillLogRow::paymentKey).distinct().toList();
+		LocalDateTime now = LocalDateTime.now();
+		List<SettlementMismatch> mismatches = settlementReconciliationRepository.findBillSettlements(paymentKeys,
+				PG_PAYMENTS).stream()
+			.map(bill -> mismatch(reconciliationId, null, bill, SettlementMismatch.Type.MISSING_IN_SETTLEMENT, now))
+			.toList();
+		return settlementReconciliationRepository.insertMismatches(mismatches);
+	}
+
+	private SettlementMismatch mismatch(long reconciliationId, SettlementRecord record, BillSettlementRow bill,
+		SettlementMismatch.Type type, LocalDateTime now) {
+		return SettlementMismatch.builder()
+			.reconciliationId(reconciliationId)
+			.paymentKey(record == null ? bill.paymentKey() : record.paymentKey())
+			.type(type)
+			.settlementStatus(record == null ? null : record.status())
+			.settlementApprovedAmount(record == null ? null : record.approvedAmount())
+			.settlementCanceledAmount(record == null ? null : record.canceledAmount())
+			.billStatus(bill == null ? null : bill.status())
+			.billApprovedAmount(bill == null ? null : bill.approvedAmount())
+			.billCanceledAmount(bill == null ? null : bill.canceledAmount())
+			.createdAt(now)
+			.build();
+	}
+}
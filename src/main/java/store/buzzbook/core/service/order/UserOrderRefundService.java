@@ -3,49 +3,28 @@ package store.buzzbook.core.service.order;
 import static store.buzzbook.core.common.listener.OrderStatusListener.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import store.buzzbook.core.common.exception.order.CouponStatusNotUpdatedException;
+import store.buzzbook.core.client.auth.CouponGatewayClient;
 import store.buzzbook.core.common.exception.order.NotShippedException;
-import store.buzzbook.core.common.exception.order.OrderNotFoundException;
 import store.buzzbook.core.common.exception.order.OutOfCouponException;
-import store.buzzbook.core.dto.coupon.CouponRequest;
-import store.buzzbook.core.dto.coupon.CouponResponse;
-import store.buzzbook.core.dto.coupon.CouponStatusResponse;
-import store.buzzbook.core.dto.coupon.UpdateCouponRequest;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.payment.PayInfo;
 import store.buzzbook.core.entity.coupon.CouponStatus;
 import store.buzzbook.core.entity.order.Order;
 import store.buzzbook.core.entity.order.OrderDetail;
-import store.buzzbook.core.entity.order.OrderStatus;
 import store.buzzbook.core.entity.payment.BillLog;
 import store.buzzbook.core.entity.payment.BillStatus;
-import store.buzzbook.core.entity.product.Product;
 import store.buzzbook.core.entity.user.User;
-import store.buzzbook.core.repository.order.OrderRepository;
-import store.buzzbook.core.repository.order.OrderStatusRepository;
 import store.buzzbook.core.repository.payment.BillLogRepository;
-import store.buzzbook.core.repository.product.ProductRepository;
 import store.buzzbook.core.service.point.PointService;
+import store.buzzbook.core.service.product.StockService;
 
 @Service
 public class UserOrderRefundService extends AbstractOrderRefundService {
 
-	@Value("${api.gateway.host}")
-	private String host;
-	@Value("${api.gateway.port}")
-	private int port;
-
 	private static final String POINT = "POINT";
 	private static final String USEPOINT_CANCEL_INQUIRY = "반품 시 포인트 사용 취소";
 	private static final String POINT_REFUND_INQUIRY = "반품 시 포인트 환불";
@@ -53,39 +32,35 @@ public class UserOrderRefundService extends AbstractOrderRefundService {
 
 	private PointService pointService;
 	private BillLogRepository billLogRepository;
-
-	protected UserOrderRefundService(OrderRepository orderRepository,
-		OrderStatusRepository orderStatusRepository, ProductRepository productRepository, PointService pointService,
-		BillLogRepository billLogRepository) {
-		super(orderRepository, orderStatusRepository, productRepository);
+	private RevenueRollupService revenueRollupService;
+	private CouponGatewayClient couponGatewayClient;
+	private OrderOutboxHandler orderOutboxHandler;
+
+	protected UserOrderRefundService(ReferenceDataRegistry referenceDataRegistry,
+		StockService stockService, PointService pointService,
+		BillLogRepository billLogRepository, RevenueRollupService revenueRollupService,
+		CouponGatewayClient couponGatewayClient,
+		OrderOutboxHandler orderOutboxHandler) {
+		super(referenceDataRegistry, stockService);
 		this.pointService = pointService;
 		this.billLogRepository = billLogRepository;
+		this.revenueRollupService = revenueRollupService;
+		this.couponGatewayClient = couponGatewayClient;
+		this.orderOutboxHandler = orderOutboxHandler;
 	}
 
 	@Override
 	boolean validateOrderStatus(Order order) {
-		return (!order.getOrderStatus().equals(orderStatusRepository.findByName(SHIPPED)));
+		return order.getOrderStatus().getId() != referenceDataRegistry.getOrderStatus(SHIPPED).getId();
 	}
 
 	@Override
 	boolean validateCoupon(User user, String couponCode, HttpHeaders headers) {
-		CouponRequest couponRequest = new CouponRequest(couponCode);
-		HttpEntity<CouponRequest> couponRequestHttpEntity = new HttpEntity<>(couponRequest, headers);
-
-		RestTemplate restTemplate = new RestTemplate();
-		ResponseEntity<CouponStatusResponse> couponResponseEntity = restTemplate.exchange(
-			String.format("http://%s:%d/api/coupons/info", host, port), HttpMethod.POST, couponRequestHttpEntity,
-			CouponStatusResponse.class);
-
-		if (CouponStatus.USED == CouponStatus.fromString(couponResponseEntity.getBody().status())) {
-			return false;
-		} else {
-			return true;
-		}
+		return couponGatewayClient.getStatus(couponCode, headers) != CouponStatus.USED;
 	}
 
 	void saveRefundPayment(Order order, PayInfo payInfo) {
-		billLogRepository.save(
+		revenueRollupService.record(billLogRepository.save(
 			BillLog.builder()
 				.price(payInfo.getPrice())
 				.paymentKey(
@@ -95,13 +70,13 @@ public class UserOrderRefundService extends AbstractOrderRefundService {
 				.payment(payInfo.getPayType().name())
 				.payAt(
 					LocalDateTime.now())
-				.build());
+				.build()));
 	}
 
 	void cancelPoints(Order order, long userId, int cancelPoints, String paymentKey) {
 		pointService.createPointLogWithDelta(userId, USEPOINT_CANCEL_INQUIRY, cancelPoints);
 
-		billLogRepository.save(
+		revenueRollupService.record(billLogRepository.save(
 			BillLog.builder()
 				.price(cancelPoints)
 				.paymentKey(
@@ -111,25 +86,13 @@ public class UserOrderRefundService extends AbstractOrderRefundService {
 				.payment(POINT)
 				.payAt(
 					LocalDateTime.now())
-				.build());
+				.build()));
 	}
 
 	void cancelCoupon(Order order, long userId, String couponCode, int deductedCouponPrice, String paymentKey, HttpHeaders headers) {
-		UpdateCouponRequest updateCouponRequest = new UpdateCouponRequest(couponCode, CouponStatus.AVAILABLE);
-		HttpEntity<UpdateCouponRequest> updateCouponRequestHttpEntity = new HttpEntity<>(updateCouponRequest, headers);
-
-		RestTemplate restTemplate = new RestTemplate();
-		ResponseEntity<CouponResponse> couponResponseResponseEntity = restTemplate.exchange(
-			String.format("http://%s:%d/api/coupons", host, port), HttpMethod.PUT, updateCouponRequestHttpEntity,
-			CouponResponse.class);
-
-		CouponResponse couponResponse = couponResponseResponseEntity.getBody();
-
-		if (couponResponse == null || couponResponse.status() != CouponStatus.USED) {
-			updateCouponStatus(couponCode, headers);
-		}
+		couponGatewayClient.updateStatus(couponCode, CouponStatus.AVAILABLE, headers);
 
-		billLogRepository.save(
+		revenueRollupService.record(billLogRepository.save(
 			BillLog.builder()
 				.price(deductedCouponPrice)
 				.paymentKey(
@@ -139,28 +102,7 @@ public class UserOrderRefundService extends AbstractOrderRefundService {
 				.payment(couponCode)
 				.payAt(
 					LocalDateTime.now())
-				.build());
-	}
-
-	@Retryable(
-		retryFor = { CouponStatusNotUpdatedException.class },
-		maxAttempts = 3,
-		backoff = @Backoff(delay = 2000)
-	)
-	private void updateCouponStatus(String couponCode, HttpHeaders headers) {
-		UpdateCouponRequest updateCouponRequest = new UpdateCouponRequest(couponCode, CouponStatus.AVAILABLE);
-		HttpEntity<UpdateCouponRequest> updateCouponRequestHttpEntity = new HttpEntity<>(updateCouponRequest, headers);
-
-		RestTemplate restTemplate = new RestTemplate();
-		ResponseEntity<CouponResponse> couponResponseResponseEntity = restTemplate.exchange(
-			String.format("http://%s:%d/api/coupons", host, port), HttpMethod.PUT, updateCouponRequestHttpEntity,
-			CouponResponse.class);
-
-		CouponResponse couponResponse = couponResponseResponseEntity.getBody();
-
-		if (couponResponse == null || couponResponse.status() != CouponStatus.AVAILABLE) {
-			throw new CouponStatusNotUpdatedException();
-		}
+				.build()));
 	}
 
 	void refundPoints(long userId, int points) {
@@ -171,48 +113,72 @@ public class UserOrderRefundService extends AbstractOrderRefundService {
 		pointService.createPointLogWithDelta(userId, CANCEL_EARNED_POINT_INQUIRY, earnedPoints);
 	}
 
-	public void process(long orderId, PayInfo payInfo, HttpHeaders headers) {
-		OrderStatus orderStatus = orderStatusRepository.findByName(REFUND);
+	// 1. 검증
+	@Override
+	public void validate(OrderContext context) {
+		Order order = context.getOrder();
 
-		Order order = orderRepository.findById(orderId).orElseThrow(OrderNotFoundException::new);
-		List<OrderDetail> details = order.getDetails();
+		// 적립 포인트와 쿠폰 상태가 반영된 뒤에 되돌려야 하므로 남은 후처리를 먼저 반영합니다.
+		orderOutboxHandler.drain(order.getId());
 
-		// 1. 검증
 		if (validateOrderStatus(order)) {
 			throw new NotShippedException();
 		}
 
 		if (order.getCouponCode() != null) {
-			if (validateCoupon(order.getUser(), order.getCouponCode(), headers)) {
+			if (validateCoupon(order.getUser(), order.getCouponCode(), context.getHeaders())) {
 				throw new OutOfCouponException();
 			}
 		}
+	}
 
-		for (OrderDetail detail : details) {
-			Product product = detail.getProduct();
-
-			// 2. 재고 처리
-			increaseStock(product.getId(), detail.getQuantity());
+	// 2. 재고 처리
+	@Override
+	public void reserve(OrderContext context) {
+		for (OrderDetail detail : context.getOrder().getDetails()) {
+			increaseStock(detail.getProduct().getId(), detail.getQuantity());
 		}
+	}
 
-		saveRefundPayment(order, payInfo);
+	// 3. 결제 취소
+	@Override
+	public void pay(OrderContext context) {
+		saveRefundPayment(context.getOrder(), context.getPayInfo());
+	}
+
+	// 4. 포인트 사용 취소
+	@Override
+	public void points(OrderContext context) {
+		Order order = context.getOrder();
 
 		if (order.getDeductedPoints() != 0) {
-			cancelPoints(order, order.getUser().getId(), order.getDeductedPoints(), payInfo.getPaymentKey());
+			cancelPoints(order, order.getUser().getId(), order.getDeductedPoints(),
+				context.getPayInfo().getPaymentKey());
 		}
+	}
+
+	// 5. 쿠폰 사용 취소
+	@Override
+	public void coupon(OrderContext context) {
+		Order order = context.getOrder();
 
 		if (order.getCouponCode() != null) {
 			cancelCoupon(order, order.getUser().getId(), order.getCouponCode(), order.getDeductedCouponPrice(),
-				payInfo.getPaymentKey(), headers);
+				context.getPayInfo().getPaymentKey(), context.getHeaders());
 		}
+	}
 
+	// 6. 포인트 적립 취소
+	@Override
+	public void earn(OrderContext context) {
+		Order order = context.getOrder();
 		refundPoints(order.getUser().getId(), order.getPrice() - order.getDeliveryRate());
 		cancelEarnedPoints(order.getUser().getId(), order.getEarnedPoints());
-		updateOrderStatus(orderId, orderStatus);
 	}
 
+	// 7. 주문 상태 변경
 	@Override
-	public void nonUserProcess(long orderId, PayInfo payInfo) {
-		return;
+	public void status(OrderContext context) {
+		updateOrderStatus(context.getOrder(), referenceDataRegistry.getOrderStatus(REFUND));
 	}
 }
@@ -0,0 +1,98 @@
+package store.buzzbook.core.service.point;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.dto.point.PointBalanceReconciliationResult;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
+import store.buzzbook.core.repository.point.PointBalanceRepositoryCustom.PointBalanceRow;
+
+/**
+ * 포인트 잔액 대사 서비스
+ * 회원 아이디 키셋으로 청크를 나눠 잔액 행과 마지막 포인트 내역의 잔액을 비교합니다.
+ * 잔액 행이 없으면 마지막 포인트 내역의 잔액으로 만들고, 다르면 읽은 버전 그대로일 때만 고쳐 그 사이의 포인트 변동을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Service
+public class PointBalanceReconciliationService {
+	private final PointBalanceRepository pointBalanceRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public PointBalanceReconciliationService(PointBalanceRepository pointBalanceRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${point.balance.reconcile.chunk-size:1000}") int chunkSize) {
+		this.pointBalanceRepository = pointBalanceRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 전체 회원의 포인트 잔액을 포인트 내역과 대사합니다.
+	 *
+	 * @return 대사 결과
+	 */
+	@Scheduled(cron = "${point.balance.reconcile.cron:0 0 5 * * *}")
+	public PointBalanceReconciliationResult reconcile() {
+		long start = System.nanoTime();
+		long users = 0;
+		long seeded = 0;
+		long corrected = 0;
+		long skipped = 0;
+
+		long afterUserId = 0;
+		List<PointBalanceRow> rows;
+		while (!(rows = pointBalanceRepository.findBalanceRows(afterUserId, chunkSize)).isEmpty()) {
+			List<PointBalanceRow> chunk = rows;
+			long[] counts = transactionTemplate.execute(status -> reconcileChunk(chunk));
+			users += rows.size();
+			seeded += counts[0];
+			corrected += counts[1];
+			skipped += counts[2];
+			afterUserId = rows.getLast().userId();
+		}
+
+		PointBalanceReconciliationResult result = new PointBalanceReconciliationResult(users, seeded, corrected,
+			skipped, (System.nanoTime() - start) / 1_000_000);
+		if (corrected > 0) {
+			log.warn("포인트 잔액 대사 불일치 {}", result);
+		} else {
+			log.info("포인트 잔액 대사 {}", result);
+		}
+		return result;
+	}
+
+	/**
+	 * @return 만든 잔액 행 수, 고친 잔액 수, 넘긴 잔액 수
+	 */
+	private long[] reconcileChunk(List<PointBalanceRow> rows) {
+		List<PointBalanceRow> missing = rows.stream().filter(row -> row.balance() == null).toList();
+		pointBalanceRepository.insertMissing(missing);
+
+		long corrected = 0;
+		long skipped = 0;
+		for (PointBalanceRow row : rows) {
+			if (row.balance() == null) {
+				continue;
+			}
+			int expected = Objects.requireNonNullElse(row.logBalance(), 0);
+			if (row.balance() == expected) {
+				continue;
+			}
+			if (pointBalanceRepository.correctBalance(row.userId(), expected, row.version()) == 1) {
+				log.warn("포인트 잔액 불일치 : 회원 {} 잔액 {} -> 내역 {}", row.userId(), row.balance(), expected);
+				corrected++;
+			} else {
+				skipped++;
+			}
+		}
+		return new long[] {missing.size(), corrected, skipped};
+	}
+}
@@ -0,0 +1,210 @@
+package store.buzzbook.core.service.point;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.exception.product.DataNotFoundException;
+import store.buzzbook.core.dto.point.CreatePointCampaignRequest;
+import store.buzzbook.core.dto.point.PointCampaignResponse;
+import store.buzzbook.core.dto.point.PointCampaignRunResult;
+import store.buzzbook.core.entity.point.PointCampaign;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
+import store.buzzbook.core.repository.point.PointCampaignRepository;
+
+/**
+ * 포인트 일괄 지급 서비스
+ * 대상 회원을 회원 아이디 키셋으로 청크만큼 읽고, 청크마다 한 트랜잭션에서 진행 기록을 넘긴 뒤 잔액 행을 집합 단위로 더하고 포인트 내역을 INSERT ... SELECT 로 남깁니다.
+ * 회원마다 회원 조회, 잔액 갱신, 내역 저장을 따로 하던 것과 달리 청크마다 쿼리 수가 일정합니다.
+ * 진행 기록과 지급이 같은 트랜잭션이라 중간에 멈춰도 지급한 청크까지만 기록되고, 다시 실행하면 다음 청크부터 이어서 지급합니다.
+ */
+@Slf4j
+@Service
+public class PointCampaignService {
+	private static final String CAMPAIGN = "포인트 캠페인";
+
+	private final PointCampaignRepository pointCampaignRepository;
+	private final PointBalanceRepository pointBalanceRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final int chunkSize;
+	private final int stalledMinutes;
+
+	public PointCampaignService(PointCampaignRepository pointCampaignRepository,
+		PointBalanceRepository pointBalanceRepository, PlatformTransactionManager transactionManager,
+		@Value("${point.campaign.chunk-size:1000}") int chunkSize,
+		@Value("${point.campaign.stalled-minutes:5}") int stalledMinutes) {
+		this.pointCampaignRepository = pointCampaignRepository;
+		this.pointBalanceRepository = pointBalanceRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.stalledMinutes = stalledMinutes;
+	}
+
+	/**
+	 * 포인트 캠페인을 만듭니다.
+	 * 회원 아이디 목록이 있으면 있는 회원만 대상으로 남기고, 없으면 지금의 마지막 회원까지 회원 상태가 맞는 회원을 대상으로 합니다.
+	 *
+	 * @param request 캠페인 생성 요청
+	 * @return 만든 캠페인
+	 */
+	public PointCampaignResponse create(CreatePointCampaignRequest request) {
+		return PointCampaignResponse.from(transactionTemplate.execute(status -> createCampaign(request)));
+	}
+
+	/**
+	 * 캠페인 지급을 백그라운드에서 시작하거나 이어서 합니다.
+	 *
+	 * @param campaignId 캠페인 아이디
+	 */
+	public void start(long campaignId) {
+		executor.execute(() -> {
+			try {
+				run(campaignId);
+			} catch (RuntimeException e) {
+				log.error("포인트 캠페인 {} 지급 실패", campaignId, e);
+			}
+		});
+	}
+
+	/**
+	 * 캠페인의 진행 상황을 조회합니다.
+	 *
+	 * @param campaignId 캠페인 아이디
+	 * @return 진행 상황
+	 */
+	public PointCampaignResponse getCampaign(long campaignId) {
+		return PointCampaignResponse.from(findCampaign(campaignId));
+	}
+
+	/**
+	 * 마지막으로 지급한 회원 다음부터 캠페인 대상을 모두 지급합니다.
+	 * 다른 서버가 같은 캠페인의 청크를 먼저 넘겼으면 그 서버에 맡기고 멈춥니다.
+	 *
+	 * @param campaignId 캠페인 아이디
+	 * @return 이번 실행 결과
+	 */
+	public PointCampaignRunResult run(long campaignId) {
+		PointCampaign campaign = findCampaign(campaignId);
+		long start = System.nanoTime();
+		long lastUserId = campaign.getLastUserId();
+		long grantedUsers = 0;
+		long chunks = 0;
+		boolean done = campaign.getStatus() == PointCampaign.Status.DONE;
+
+		while (!done && !Thread.currentThread().isInterrupted()) {
+			List<Long> userIds = campaign.isTargetListed()
+				? pointCampaignRepository.findTargetUserIds(campaignId, lastUserId, chunkSize)
+				: pointCampaignRepository.findUserIds(campaign.getUserStatus(), lastUserId, campaign.getMaxUserId(),
+				chunkSize);
+			if (userIds.isEmpty()) {
+				pointCampaignRepository.markDone(campaignId);
+				done = true;
+				break;
+			}
+
+			long afterUserId = lastUserId;
+			if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> grant(campaign, afterUserId, userIds)))) {
+				log.info("포인트 캠페인 {} 회원 {} 다음 청크를 다른 서버가 지급 중이라 멈춥니다.", campaignId, afterUserId);
+				break;
+			}
+			lastUserId = userIds.getLast();
+			grantedUsers += userIds.size();
+			chunks++;
+		}
+
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		double usersPerMinute = elapsedMillis == 0 ? grantedUsers : grantedUsers * 60_000.0 / elapsedMillis;
+		PointCampaignRunResult result = new PointCampaignRunResult(campaignId, grantedUsers, chunks, done,
+			elapsedMillis, usersPerMinute);
+		log.info("포인트 캠페인 지급 {}", result);
+		return result;
+	}
+
+	/**
+	 * 진행 기록이 오래 멈춘 캠페인을 이어서 지급합니다.
+	 */
+	@Scheduled(cron = "${point.campaign.resume-cron:0 */5 * * * *}")
+	public void resumeStalled() {
+		LocalDateTime before = LocalDateTime.now().minusMinutes(stalledMinutes);
+		for (PointCampaign campaign : pointCampaignRepository.findAllByStatusAndUpdatedAtBefore(
+			PointCampaign.Status.RUNNING, before)) {
+			log.warn("멈춘 포인트 캠페인 {} 을 회원 {} 다음부터 이어서 지급합니다.", campaign.getId(), campaign.getLastUserId());
+			run(campaign.getId());
+		}
+	}
+
+	/**
+	 * 백그라운드 지급을 중단시키고 끝날 때까지 기다립니다.
+	 * 지급은 청크 사이에서 멈추고, 남은 청크는 멈춘 캠페인을 이어서 지급할 때 지급합니다.
+	 */
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+		executor.close();
+	}
+
+	private PointCampaign createCampaign(CreatePointCampaignRequest request) {
+		boolean targetListed = request.userIds() != null && !request.userIds().isEmpty();
+		long maxUserId = targetListed ? 0 : pointCampaignRepository.findMaxUserId();
+		LocalDateTime now = LocalDateTime.now();
+		PointCampaign.PointCampaignBuilder builder = PointCampaign.builder()
+			.inquiry(request.inquiry())
+			.point(request.point())
+			.targetListed(targetListed)
+			.userStatus(request.userStatus())
+			.maxUserId(maxUserId)
+			.targetUsers(targetListed ? 0 : pointCampaignRepository.countUsers(request.userStatus(), maxUserId))
+			.status(PointCampaign.Status.RUNNING)
+			.createdAt(now)
+			.updatedAt(now);
+		long campaignId = pointCampaignRepository.insertCampaign(builder.build());
+		builder.id(campaignId);
+		if (!targetListed) {
+			return builder.build();
+		}
+
+		List<Long> userIds = new ArrayList<>(new TreeSet<>(request.userIds()));
+		long targetUsers = 0;
+		for (int from = 0; from < userIds.size(); from += chunkSize) {
+			targetUsers += pointCampaignRepository.insertTargets(campaignId,
+				userIds.subList(from, Math.min(from + chunkSize, userIds.size())));
+		}
+		pointCampaignRepository.updateTargetUsers(campaignId, targetUsers);
+		return builder.targetUsers(targetUsers).build();
+	}
+
+	/**
+	 * 한 청크를 지급합니다.
+	 * 진행 기록을 먼저 넘겨 캠페인 행을 잠그므로, 같은 청크를 동시에 지급하려던 서버는 기록을 넘기지 못하고 지급하지 않습니다.
+	 *
+	 * @return 지급했으면 true
+	 */
+	private boolean grant(PointCampaign campaign, long afterUserId, List<Long> userIds) {
+		if (pointCampaignRepository.claimChunk(campaign.getId(), afterUserId, userIds.getLast(), userIds.size())
+			== 0) {
+			return false;
+		}
+		pointBalanceRepository.seedBalances(userIds);
+		pointBalanceRepository.addBalances(userIds, campaign.getPoint());
+		pointCampaignRepository.insertPointLogs(userIds, campaign.getInquiry(), campaign.getPoint(),
+			LocalDateTime.now());
+		return true;
+	}
+
+	private PointCampaign findCampaign(long campaignId) {
+		return pointCampaignRepository.findById(campaignId)
+			.orElseThrow(() -> new DataNotFoundException(CAMPAIGN, campaignId));
+	}
+}
@@ -0,0 +1,147 @@
+package store.buzzbook.core.service.point;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.service.JobLockService;
+import store.buzzbook.core.dto.point.PointExpirationResult;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
+import store.buzzbook.core.repository.point.PointLogRepository;
+import store.buzzbook.core.repository.point.PointLogRepositoryCustom.PointExpiration;
+import store.buzzbook.core.repository.point.PointLogRepositoryCustom.PointUsage;
+
+/**
+ * 포인트 소멸 서비스
+ * 적립한 포인트는 유효 기간이 지나면 소멸하고, 사용한 포인트는 먼저 적립한 포인트부터 차감(FIFO)한 것으로 봅니다.
+ * 먼저 적립한 포인트부터 쓰므로 지금까지 사용하거나 소멸한 포인트 합계가 기준 시각 이전 적립 합계보다 작으면 그 차이가 기준 시각 이전 적립분 중 남은 포인트이고, 이를 소멸합니다.
+ * 소멸도 사용에 더해지므로 같은 날 다시 돌려도 더 소멸하지 않습니다.
+ * 잔액이 있는 회원을 회원 아이디 키셋으로 청크만큼 읽어 청크마다 한 트랜잭션에서 잔액 행을 잠그고, 적립과 사용 합계는 GROUP BY 한 번으로 구해 잔액 갱신과 소멸 내역을 배치로 씁니다.
+ * DB 작업 잠금으로 여러 서버 중 한 서버만 돌립니다.
+ */
+@Slf4j
+@Service
+public class PointExpirationService {
+	static final String LOCK_NAME = "point-expiration";
+	static final String EXPIRATION_INQUIRY = "유효 기간 만료에 의한 포인트 소멸";
+
+	private final PointBalanceRepository pointBalanceRepository;
+	private final PointLogRepository pointLogRepository;
+	private final JobLockService jobLockService;
+	private final TransactionTemplate transactionTemplate;
+	private final int validDays;
+	private final int chunkSize;
+	private final Duration lease;
+
+	public PointExpirationService(PointBalanceRepository pointBalanceRepository,
+		PointLogRepository pointLogRepository, JobLockService jobLockService,
+		PlatformTransactionManager transactionManager,
+		@Value("${point.expiration.valid-days:365}") int validDays,
+		@Value("${point.expiration.chunk-size:1000}") int chunkSize,
+		@Value("${point.expiration.lease-minutes:10}") long leaseMinutes) {
+		this.pointBalanceRepository = pointBalanceRepository;
+		this.pointLogRepository = pointLogRepository;
+		this.jobLockService = jobLockService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.validDays = validDays;
+		this.chunkSize = chunkSize;
+		this.lease = Duration.ofMinutes(leaseMinutes);
+	}
+
+	/**
+	 * 유효 기간이 지난 적립 포인트 중 남은 포인트를 소멸합니다.
+	 * 오늘 0시를 기준으로 유효 기간 전까지 적립한 포인트가 대상입니다.
+	 *
+	 * @return 소멸 결과
+	 */
+	@Scheduled(cron = "${point.expiration.cron:0 0 3 * * *}")
+	public PointExpirationResult expire() {
+		return expire(LocalDate.now().minusDays(validDays).atStartOfDay());
+	}
+
+	/**
+	 * 기준 시각 이전에 적립한 포인트 중 남은 포인트를 소멸합니다.
+	 *
+	 * @param earnedBefore 기준 시각
+	 * @return 소멸 결과
+	 */
+	public PointExpirationResult expire(LocalDateTime earnedBefore) {
+		Optional<String> lock = jobLockService.tryLock(LOCK_NAME, lease);
+		if (lock.isEmpty()) {
+			return new PointExpirationResult(false, earnedBefore, 0, 0, 0, 0);
+		}
+		String token = lock.get();
+
+		long start = System.nanoTime();
+		long users = 0;
+		long expiredUsers = 0;
+		long expiredPoints = 0;
+		try {
+			long afterUserId = 0;
+			List<Long> userIds;
+			while (!(userIds = pointBalanceRepository.findPositiveBalanceUserIds(afterUserId, chunkSize)).isEmpty()) {
+				List<Long> chunk = userIds;
+				long[] counts = transactionTemplate.execute(status -> expireChunk(chunk, earnedBefore));
+				users += userIds.size();
+				expiredUsers += counts[0];
+				expiredPoints += counts[1];
+				afterUserId = userIds.getLast();
+				// 청크마다 잠금을 늘리고, 그사이 잠금을 잃었으면 가져간 서버에 맡깁니다.
+				if (!jobLockService.renew(LOCK_NAME, token, lease)) {
+					log.warn("포인트 소멸 잠금을 잃어 회원 {} 에서 멈춥니다.", afterUserId);
+					break;
+				}
+			}
+		} finally {
+			jobLockService.unlock(LOCK_NAME, token);
+		}
+
+		PointExpirationResult result = new PointExpirationResult(true, earnedBefore, users, expiredUsers,
+			expiredPoints, (System.nanoTime() - start) / 1_000_000);
+		log.info("포인트 소멸 {}", result);
+		return result;
+	}
+
+	/**
+	 * 한 청크의 회원 포인트를 소멸합니다.
+	 * 잔액 행을 먼저 잠가 그 회원들의 포인트 변동이 모두 커밋된 뒤에 적립, 사용 합계를 읽습니다.
+	 *
+	 * @return 소멸한 회원 수, 소멸한 포인트 합계
+	 */
+	private long[] expireChunk(List<Long> userIds, LocalDateTime earnedBefore) {
+		Map<Long, Integer> balances = pointBalanceRepository.lockPositiveBalances(userIds);
+		if (balances.isEmpty()) {
+			return new long[] {0, 0};
+		}
+
+		List<PointExpiration> expirations = new ArrayList<>();
+		Map<Long, Integer> updatedBalances = new LinkedHashMap<>();
+		long expiredPoints = 0;
+		for (PointUsage usage : pointLogRepository.sumUsages(balances.keySet(), earnedBefore)) {
+			Integer balance = balances.get(usage.userId());
+			int amount = (int)Math.min(balance, Math.max(0, usage.earnedBefore() - usage.consumed()));
+			if (amount == 0) {
+				continue;
+			}
+			expirations.add(new PointExpiration(usage.userId(), amount, balance - amount));
+			updatedBalances.put(usage.userId(), balance - amount);
+			expiredPoints += amount;
+		}
+
+		pointBalanceRepository.updateBalances(updatedBalances);
+		pointLogRepository.insertExpirations(expirations, EXPIRATION_INQUIRY, LocalDateTime.now());
+		return new long[] {expirations.size(), expiredPoints};
+	}
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import store.buzzbook.core.common.exception.order.OutOfPointsException;
 import store.buzzbook.core.dto.point.CreatePointPolicyRequest;
 import store.buzzbook.core.dto.point.DeletePointPolicyRequest;
 import store.buzzbook.core.dto.point.PointLogResponse;
@@ -30,4 +31,15 @@ public interface PointService {
 	PointLog createPointLogWithDelta(long userId, String inquiry, int deltaPoint);
 
 	PointLog createPointLogWithDelta(User user, String inquiry, int deltaPoint);
+
+	/**
+	 * 잔액이 충분할 때만 포인트를 쓰고 쓴 뒤의 잔액으로 포인트 내역을 남깁니다.
+	 *
+	 * @param userId 회원 아이디
+	 * @param inquiry 내역 사유
+	 * @param points 쓸 포인트
+	 * @return 남긴 포인트 내역
+	 * @throws OutOfPointsException 잔액이 모자랄 때
+	 */
+	PointLog usePoints(long userId, String inquiry, int points);
 }
@@ -9,8 +9,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import store.buzzbook.core.common.exception.order.OutOfPointsException;
 import store.buzzbook.core.common.exception.point.PointPolicyNotFoundException;
 import store.buzzbook.core.common.exception.user.UserNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.point.CreatePointPolicyRequest;
 import store.buzzbook.core.dto.point.DeletePointPolicyRequest;
 import store.buzzbook.core.dto.point.PointLogResponse;
@@ -19,6 +21,7 @@ import store.buzzbook.core.dto.point.UpdatePointPolicyRequest;
 import store.buzzbook.core.entity.point.PointLog;
 import store.buzzbook.core.entity.point.PointPolicy;
 import store.buzzbook.core.entity.user.User;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
 import store.buzzbook.core.repository.point.PointLogRepository;
 import store.buzzbook.core.repository.point.PointPolicyRepository;
 import store.buzzbook.core.repository.user.UserRepository;
@@ -30,11 +33,14 @@ public class PointServiceImpl implements PointService {
 
 	private final PointPolicyRepository pointPolicyRepository;
 	private final PointLogRepository pointLogRepository;
+	private final PointBalanceRepository pointBalanceRepository;
 	private final UserRepository userRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 
 	@Transactional
 	@Override
 	public PointPolicyResponse createPointPolicy(CreatePointPolicyRequest request) {
+		referenceDataRegistry.reloadAfterCommit();
 		return PointPolicyResponse.from(pointPolicyRepository.save(request.toEntity()));
 	}
 
@@ -49,11 +55,7 @@ public class PointServiceImpl implements PointService {
 	@Transactional(readOnly = true)
 	@Override
 	public Integer getUserPoint(Long userId) {
-		if (Boolean.FALSE.equals(pointLogRepository.existsByUserId(userId))) {
-			return 0;
-		}
-
-		return pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(userId).getBalance();
+		return pointBalanceRepository.findBalance(userId);
 	}
 
 	@Transactional
@@ -64,6 +66,7 @@ public class PointServiceImpl implements PointService {
 
 		pointPolicy.changePoint(request.point());
 		pointPolicy.changeRate(request.rate());
+		referenceDataRegistry.reloadAfterCommit();
 	}
 
 	@Transactional
@@ -73,6 +76,7 @@ public class PointServiceImpl implements PointService {
 			.orElseThrow(PointPolicyNotFoundException::new);
 
 		pointPolicy.delete();
+		referenceDataRegistry.reloadAfterCommit();
 	}
 
 	@Transactional(readOnly = true)
@@ -81,34 +85,47 @@ public class PointServiceImpl implements PointService {
 		return pointLogRepository.findByUserId(userId, pageable).map(PointLogResponse::from);
 	}
 
+	/**
+	 * 포인트 잔액에 변동량을 더하고 더한 뒤의 잔액으로 포인트 내역을 남깁니다.
+	 * 잔액 행을 먼저 갱신해 같은 회원의 동시 변동은 행 잠금 순서대로 쌓이므로 서로의 변동을 덮어쓰지 않습니다.
+	 */
+	@Transactional
+	@Override
 	public PointLog createPointLogWithDelta(long userId, String inquiry, int deltaPoint) {
 		User user = userRepository.findById(userId).orElse(null);
 		if (user == null) {
 			throw new UserNotFoundException(userId);
 		}
-		PointLog lastPointLog = pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(userId);
-		PointLog newPointLog;
-		if (lastPointLog == null) {
-			newPointLog = PointLog.builder()
-				.createdAt(LocalDateTime.now())
-				.inquiry(inquiry)
-				.delta(deltaPoint)
-				.user(user)
-				.balance(deltaPoint)
-				.build();
-		} else {
-			newPointLog = PointLog.builder()
-				.createdAt(LocalDateTime.now())
-				.inquiry(inquiry)
-				.delta(deltaPoint)
-				.user(user)
-				.balance(lastPointLog.getBalance() + deltaPoint)
-				.build();
-		}
-		return pointLogRepository.save(newPointLog);
+		int balance = pointBalanceRepository.addBalance(userId, deltaPoint);
+		return pointLogRepository.save(PointLog.builder()
+			.createdAt(LocalDateTime.now())
+			.inquiry(inquiry)
+			.delta(deltaPoint)
+			.user(user)
+			.balance(balance)
+			.build());
 	}
 
+	@Transactional
+	@Override
 	public PointLog createPointLogWithDelta(User user, String inquiry, int deltaPoint) {
 		return createPointLogWithDelta(user.getId(), inquiry, deltaPoint);
 	}
+
+	/**
+	 * 잔액 행에서 잔액이 충분할 때만 포인트를 빼므로, 미리 읽은 잔액으로 확인한 주문이 동시에 들어와도 잔액보다 많이 쓰지 않습니다.
+	 */
+	@Transactional
+	@Override
+	public PointLog usePoints(long userId, String inquiry, int points) {
+		User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+		int balance = pointBalanceRepository.deductBalance(userId, points).orElseThrow(OutOfPointsException::new);
+		return pointLogRepository.save(PointLog.builder()
+			.createdAt(LocalDateTime.now())
+			.inquiry(inquiry)
+			.delta(-points)
+			.user(user)
+			.balance(balance)
+			.build());
+	}
 }
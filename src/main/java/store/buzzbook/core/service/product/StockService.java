@@ -0,0 +1,96 @@
+package store.buzzbook.core.service.product;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import store.buzzbook.core.common.exception.order.ProductNotFoundException;
+import store.buzzbook.core.common.exception.order.ProductOutOfStockException;
+import store.buzzbook.core.repository.product.ProductRepository;
+
+/**
+ * 주문 재고 처리 서비스
+ * 재고 차감은 조건부 UPDATE로 처리하고, 여러 상품은 상품 아이디 순서로 차감해 주문끼리 교착되지 않도록 합니다.
+ * 품절이 확인된 상품은 잠시 메모리에 기록해 DB를 거치지 않고 거절합니다.
+ */
+
+@Service
+public class StockService {
+	private final ProductRepository productRepository;
+	private final boolean soldOutPrecheckEnabled;
+	private final long soldOutTtlNanos;
+	private final Map<Integer, Long> soldOutUntil = new ConcurrentHashMap<>();
+
+	public StockService(ProductRepository productRepository,
+		@Value("${stock.sold-out-precheck.enabled:true}") boolean soldOutPrecheckEnabled,
+		@Value("${stock.sold-out-precheck.ttl-millis:5000}") long soldOutTtlMillis) {
+		this.productRepository = productRepository;
+		this.soldOutPrecheckEnabled = soldOutPrecheckEnabled;
+		this.soldOutTtlNanos = TimeUnit.MILLISECONDS.toNanos(soldOutTtlMillis);
+	}
+
+	/**
+	 * 최근에 품절이 확인된 상품인지 확인합니다.
+	 * 다른 서버에서 입고된 경우를 위해 기록은 일정 시간이 지나면 만료됩니다.
+	 *
+	 * @param productId 상품 아이디
+	 * @return 품절로 기록되어 있으면 true
+	 */
+	public boolean isSoldOut(int productId) {
+		if (!soldOutPrecheckEnabled) {
+			return false;
+		}
+
+		Long until = soldOutUntil.get(productId);
+		if (until == null) {
+			return false;
+		}
+		if (System.nanoTime() - until >= 0) {
+			soldOutUntil.remove(productId, until);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 상품별 수량만큼 재고를 차감합니다.
+	 * 하나라도 재고가 부족하면 예외를 던지고, 이미 차감한 재고는 트랜잭션 롤백으로 되돌립니다.
+	 *
+	 * @param quantities 상품 아이디별 주문 수량
+	 */
+	public void decreaseStocks(Map<Integer, Integer> quantities) {
+		for (Map.Entry<Integer, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+			int productId = entry.getKey();
+			int quantity = entry.getValue();
+
+			if (isSoldOut(productId)) {
+				throw new ProductOutOfStockException();
+			}
+
+			if (productRepository.decreaseStock(productId, quantity) == 0) {
+				// 한 개도 차감하지 못했다면 재고가 0이므로 품절로 기록합니다.
+				if (quantity == 1) {
+					markSoldOut(productId);
+				}
+				throw new ProductOutOfStockException();
+			}
+		}
+	}
+
+	public void increaseStock(int productId, int quantity) {
+		if (productRepository.increaseStock(productId, quantity) == 0) {
+			throw new ProductNotFoundException();
+		}
+		soldOutUntil.remove(productId);
+	}
+
+	private void markSoldOut(int productId) {
+		if (soldOutPrecheckEnabled) {
+			soldOutUntil.put(productId, System.nanoTime() + soldOutTtlNanos);
+		}
+	}
+}
@@ -130,12 +130,13 @@ public class ReviewService {
 			review.getPicturePath(),
 			reviewReq.getReviewScore(),
 			review.getReviewCreatedAt(),
-			review.getOrderDetail());
+			review.getOrderDetail(),
+			review.getArchivedOrderDetail());
 
 		reviewRepository.save(newReview);
 
 		//리뷰 점수로 상품 점수 수정
-		updateProductScore(review.getOrderDetail().getProduct().getId());
+		updateProductScore(productIdOf(review));
 
 		return constructorReviewResponse(newReview);
 
@@ -164,15 +165,14 @@ public class ReviewService {
 			.reviewScore(review.getReviewScore())
 			.reviewCreatedAt(review.getReviewCreatedAt())
 			.userId(user.getId())
-			.orderDetailId(review.getOrderDetail().getId())
+			.orderDetailId(orderDetailIdOf(review))
 			.userName(user.getName())
-			.productId(review.getOrderDetail().getProduct().getId())
+			.productId(productIdOf(review))
 			.build();
 	}
 
 	public ReviewResponse constructorReviewResponse(Review review) {
-		User user = userRepository.findById(review.getOrderDetail().getOrder().getUser().getId()).orElseThrow(
-			UserNotFoundException::new);
+		User user = userRepository.findById(userIdOf(review)).orElseThrow(UserNotFoundException::new);
 		return constructorReviewResponse(user, review);
 	}
 
@@ -184,6 +184,26 @@ public class ReviewService {
 			OrderDetailsWithoutReviewResponse::new);
 	}
 
+	/**
+	 * 보관된 주문의 리뷰는 주문 상세 대신 보관 주문 상세를 참조합니다. 보관 주문 상세도 원래 아이디를 그대로 씁니다.
+	 */
+	private long orderDetailIdOf(Review review) {
+		OrderDetail orderDetail = review.getOrderDetail();
+		return orderDetail != null ? orderDetail.getId() : review.getArchivedOrderDetail().getId();
+	}
+
+	private int productIdOf(Review review) {
+		OrderDetail orderDetail = review.getOrderDetail();
+		return orderDetail != null ? orderDetail.getProduct().getId() :
+			review.getArchivedOrderDetail().getProductId();
+	}
+
+	private Long userIdOf(Review review) {
+		OrderDetail orderDetail = review.getOrderDetail();
+		return orderDetail != null ? orderDetail.getOrder().getUser().getId() :
+			review.getArchivedOrderDetail().getUserId();
+	}
+
 	private String buildPathString(List<String> paths) {
 		StringBuilder mergedPath = new StringBuilder();
 		for (String path : paths) {
@@ -0,0 +1,154 @@
+package store.buzzbook.core.service.user;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.service.JobLockService;
+import store.buzzbook.core.dto.user.DormancyResult;
+import store.buzzbook.core.repository.user.UserRepository;
+import store.buzzbook.core.repository.user.UserRepositoryCustom.DormancyCandidate;
+
+/**
+ * 휴면 전환 서비스
+ * 유효 기간 동안 로그인하지 않은(로그인한 적 없으면 그 전에 가입한) 활성 회원을 휴면으로 바꿉니다.
+ * 마지막 로그인 일시와 회원 아이디 키셋으로 청크만큼 읽고 청크마다 짧은 트랜잭션의 UPDATE 한 번으로 바꾸므로, 회원 테이블을 오래 잠그지 않습니다.
+ * DB 작업 잠금으로 여러 서버 중 한 서버만 돌립니다.
+ */
+@Slf4j
+@Service
+public class DormancyService {
+	static final String LOCK_NAME = "user-dormancy";
+	private static final String METRIC_PREFIX = "user.dormancy";
+	private static final LocalDateTime FIRST_LOGIN_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	private final UserRepository userRepository;
+	private final JobLockService jobLockService;
+	private final TransactionTemplate transactionTemplate;
+	private final int inactiveDays;
+	private final int chunkSize;
+	private final Duration lease;
+
+	private final Counter scannedCounter;
+	private final Counter dormantCounter;
+	private final Timer runTimer;
+
+	public DormancyService(UserRepository userRepository, JobLockService jobLockService,
+		PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Value("${user.dormancy.inactive-days:365}") int inactiveDays,
+		@Value("${user.dormancy.chunk-size:1000}") int chunkSize,
+		@Value("${user.dormancy.lease-minutes:10}") long leaseMinutes) {
+		this.userRepository = userRepository;
+		this.jobLockService = jobLockService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.inactiveDays = inactiveDays;
+		this.chunkSize = chunkSize;
+		this.lease = Duration.ofMinutes(leaseMinutes);
+		this.scannedCounter = meterRegistry.counter(METRIC_PREFIX + ".users", "result", "scanned");
+		this.dormantCounter = meterRegistry.counter(METRIC_PREFIX + ".users", "result", "dormant");
+		this.runTimer = meterRegistry.timer(METRIC_PREFIX + ".run");
+	}
+
+	/**
+	 * 오늘 0시 기준 유효 기간 동안 로그인하지 않은 회원을 휴면으로 바꿉니다.
+	 *
+	 * @return 휴면 전환 결과
+	 */
+	@Scheduled(cron = "${user.dormancy.cron:0 30 3 * * *}")
+	public DormancyResult sweep() {
+		return sweep(LocalDate.now().minusDays(inactiveDays).atStartOfDay());
+	}
+
+	/**
+	 * 기준 시각 이전에 마지막으로 로그인한 회원과, 로그인한 적 없이 기준 시각 이전에 가입한 회원을 휴면으로 바꿉니다.
+	 *
+	 * @param inactiveBefore 기준 시각
+	 * @return 휴면 전환 결과
+	 */
+	public DormancyResult sweep(LocalDateTime inactiveBefore) {
+		Optional<String> lock = jobLockService.tryLock(LOCK_NAME, lease);
+		if (lock.isEmpty()) {
+			return new DormancyResult(false, inactiveBefore, 0, 0, 0);
+		}
+		String token = lock.get();
+
+		long start = System.nanoTime();
+		long[] counts = new long[2];
+		try {
+			if (sweepLoggedIn(token, inactiveBefore, counts)) {
+				sweepNeverLoggedIn(token, inactiveBefore, counts);
+			}
+		} finally {
+			jobLockService.unlock(LOCK_NAME, token);
+		}
+
+		long elapsedNanos = System.nanoTime() - start;
+		runTimer.record(Duration.ofNanos(elapsedNanos));
+		DormancyResult result = new DormancyResult(true, inactiveBefore, counts[0], counts[1],
+			elapsedNanos / 1_000_000);
+		log.info("휴면 전환 {}", result);
+		return result;
+	}
+
+	/**
+	 * @return 잠금을 잃지 않고 끝까지 돌았으면 true
+	 */
+	private boolean sweepLoggedIn(String token, LocalDateTime inactiveBefore, long[] counts) {
+		LocalDateTime afterLastLoginAt = FIRST_LOGIN_AT;
+		long afterUserId = 0;
+		List<DormancyCandidate> candidates;
+		while (!(candidates = userRepository.findDormancyCandidates(inactiveBefore, afterLastLoginAt, afterUserId,
+			chunkSize)).isEmpty()) {
+			markDormant(candidates.stream().map(DormancyCandidate::userId).toList(), inactiveBefore, counts);
+			afterLastLoginAt = candidates.getLast().lastLoginAt();
+			afterUserId = candidates.getLast().userId();
+			if (!renewLock(token, afterUserId)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void sweepNeverLoggedIn(String token, LocalDateTime inactiveBefore, long[] counts) {
+		long afterUserId = 0;
+		List<Long> userIds;
+		while (!(userIds = userRepository.findNeverLoggedInUserIds(inactiveBefore, afterUserId, chunkSize)).isEmpty()) {
+			markDormant(userIds, inactiveBefore, counts);
+			afterUserId = userIds.getLast();
+			if (!renewLock(token, afterUserId)) {
+				return;
+			}
+		}
+	}
+
+	private void markDormant(List<Long> userIds, LocalDateTime inactiveBefore, long[] counts) {
+		Integer dormant = transactionTemplate.execute(status -> userRepository.markDormant(userIds, inactiveBefore));
+		counts[0] += userIds.size();
+		counts[1] += dormant;
+		scannedCounter.increment(userIds.size());
+		dormantCounter.increment(dormant);
+	}
+
+	/**
+	 * 청크마다 잠금을 늘리고, 그사이 잠금을 잃었으면 가져간 서버에 맡깁니다.
+	 */
+	private boolean renewLock(String token, long afterUserId) {
+		if (jobLockService.renew(LOCK_NAME, token, lease)) {
+			return true;
+		}
+		log.warn("휴면 전환 잠금을 잃어 회원 {} 에서 멈춥니다.", afterUserId);
+		return false;
+	}
+}
@@ -0,0 +1,158 @@
+package store.buzzbook.core.service.user;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.service.JobLockService;
+import store.buzzbook.core.dto.payment.PayInfo;
+import store.buzzbook.core.dto.user.GradeRecalculationResult;
+import store.buzzbook.core.entity.user.Grade;
+import store.buzzbook.core.repository.user.GradeLogRepository;
+import store.buzzbook.core.repository.user.GradeLogRepositoryCustom.GradeChange;
+import store.buzzbook.core.repository.user.GradeRepository;
+
+/**
+ * 등급 재산정 서비스
+ * 기간 동안의 순결제 금액(결제 - 취소 - 반품, 주문마다 배송비 제외)이 기준 금액 이상인 등급 중 가장 높은 등급을 줍니다.
+ * 회원 아이디 키셋으로 청크만큼 읽어 청크마다 순결제 금액은 GROUP BY 로, 현재 등급은 회원의 등급 포인터로 읽고, 등급이 바뀐 회원만 등급 내역과 포인터를 배치로 바꿉니다.
+ * 등급 포인터가 없는 기존 회원은 등급이 바뀐 것으로 보고 포인터를 채웁니다.
+ * DB 작업 잠금으로 여러 서버 중 한 서버만 돌립니다.
+ */
+@Slf4j
+@Service
+public class GradeRecalculationService {
+	static final String LOCK_NAME = "grade-recalculation";
+	private static final List<String> PAYMENTS = Arrays.stream(PayInfo.PayType.values()).map(Enum::name).toList();
+
+	private final GradeLogRepository gradeLogRepository;
+	private final GradeRepository gradeRepository;
+	private final JobLockService jobLockService;
+	private final UserInfoCache userInfoCache;
+	private final TransactionTemplate transactionTemplate;
+	private final int months;
+	private final int chunkSize;
+	private final Duration lease;
+
+	public GradeRecalculationService(GradeLogRepository gradeLogRepository, GradeRepository gradeRepository,
+		JobLockService jobLockService, UserInfoCache userInfoCache, PlatformTransactionManager transactionManager,
+		@Value("${grade.recalculation.months:3}") int months,
+		@Value("${grade.recalculation.chunk-size:1000}") int chunkSize,
+		@Value("${grade.recalculation.lease-minutes:10}") long leaseMinutes) {
+		this.gradeLogRepository = gradeLogRepository;
+		this.gradeRepository = gradeRepository;
+		this.jobLockService = jobLockService;
+		this.userInfoCache = userInfoCache;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.months = months;
+		this.chunkSize = chunkSize;
+		this.lease = Duration.ofMinutes(leaseMinutes);
+	}
+
+	/**
+	 * 오늘 0시 기준 최근 기간의 순결제 금액으로 회원 등급을 다시 산정합니다.
+	 *
+	 * @return 재산정 결과
+	 */
+	@Scheduled(cron = "${grade.recalculation.cron:0 0 4 1 * *}")
+	public GradeRecalculationResult recalculate() {
+		return recalculate(LocalDate.now().minusMonths(months).atStartOfDay());
+	}
+
+	/**
+	 * 기준 시각 이후 결제 내역의 순결제 금액으로 회원 등급을 다시 산정합니다.
+	 *
+	 * @param paidFrom 기준 시각
+	 * @return 재산정 결과
+	 */
+	public GradeRecalculationResult recalculate(LocalDateTime paidFrom) {
+		Optional<String> lock = jobLockService.tryLock(LOCK_NAME, lease);
+		if (lock.isEmpty()) {
+			return new GradeRecalculationResult(false, paidFrom, 0, 0, 0);
+		}
+		String token = lock.get();
+
+		long start = System.nanoTime();
+		long users = 0;
+		long changedUsers = 0;
+		try {
+			List<Grade> grades = gradeRepository.findAll().stream()
+				.sorted(Comparator.comparingInt(Grade::getStandard).reversed())
+				.toList();
+			if (grades.isEmpty()) {
+				return new GradeRecalculationResult(true, paidFrom, 0, 0, 0);
+			}
+
+			long afterUserId = 0;
+			List<Long> userIds;
+			while (!(userIds = gradeLogRepository.findGradedUserIds(afterUserId, chunkSize)).isEmpty()) {
+				List<Long> chunk = userIds;
+				changedUsers += transactionTemplate.execute(status -> recalculateChunk(chunk, grades, paidFrom));
+				users += userIds.size();
+				afterUserId = userIds.getLast();
+				// 청크마다 잠금을 늘리고, 그사이 잠금을 잃었으면 가져간 서버에 맡깁니다.
+				if (!jobLockService.renew(LOCK_NAME, token, lease)) {
+					log.warn("등급 재산정 잠금을 잃어 회원 {} 에서 멈춥니다.", afterUserId);
+					break;
+				}
+			}
+		} finally {
+			jobLockService.unlock(LOCK_NAME, token);
+		}
+
+		GradeRecalculationResult result = new GradeRecalculationResult(true, paidFrom, users, changedUsers,
+			(System.nanoTime() - start) / 1_000_000);
+		log.info("등급 재산정 {}", result);
+		return result;
+	}
+
+	/**
+	 * 한 청크의 회원 등급을 다시 산정합니다.
+	 *
+	 * @param grades 기준 금액 내림차순 등급
+	 * @return 등급이 바뀐 회원 수
+	 */
+	private int recalculateChunk(List<Long> userIds, List<Grade> grades, LocalDateTime paidFrom) {
+		long fromUserId = userIds.getFirst();
+		long toUserId = userIds.getLast();
+		Map<Long, Long> netSpends = gradeLogRepository.sumNetSpends(fromUserId, toUserId, paidFrom, PAYMENTS);
+		Map<Long, Integer> currentGradeIds = gradeLogRepository.findCurrentGradeIds(fromUserId, toUserId);
+
+		List<GradeChange> changes = new ArrayList<>();
+		for (Long userId : userIds) {
+			int gradeId = gradeOf(grades, netSpends.getOrDefault(userId, 0L)).getId();
+			Integer currentGradeId = currentGradeIds.get(userId);
+			if (currentGradeId == null || currentGradeId != gradeId) {
+				changes.add(new GradeChange(userId, gradeId));
+			}
+		}
+		int changed = gradeLogRepository.insertAll(changes, LocalDateTime.now());
+		userInfoCache.evict(changes.stream().map(GradeChange::userId).toList());
+		return changed;
+	}
+
+	/**
+	 * 순결제 금액이 기준 금액 이상인 가장 높은 등급, 없으면 가장 낮은 등급
+	 */
+	static Grade gradeOf(List<Grade> grades, long netSpend) {
+		for (Grade grade : grades) {
+			if (netSpend >= grade.getStandard()) {
+				return grade;
+			}
+		}
+		return grades.getLast();
+	}
+}
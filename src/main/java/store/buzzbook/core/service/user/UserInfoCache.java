@@ -0,0 +1,60 @@
+package store.buzzbook.core.service.user;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import store.buzzbook.core.common.service.CacheEvictionService;
+import store.buzzbook.core.dto.user.UserInfo;
+
+/**
+ * 회원 정보 캐시
+ * 회원 아이디로 포인트를 뺀 회원 정보를, 로그인 아이디로 회원 아이디를 캐시합니다.
+ * 로그인 아이디는 바뀌지 않으므로 회원 정보가 바뀌면 회원 아이디 한 키만 모든 노드에서 지우면 되고, 트랜잭션 안에서 지우면 커밋 뒤에 반영됩니다.
+ * 포인트는 자주 바뀌므로 캐시하지 않고 조회할 때마다 잔액 행에서 읽습니다.
+ */
+@Component
+public class UserInfoCache {
+	public static final String USER_INFO_CACHE = "userInfo";
+	public static final String USER_ID_CACHE = "userIdByLoginId";
+
+	private final Cache userInfoCache;
+	private final Cache userIdCache;
+	private final CacheEvictionService cacheEvictionService;
+
+	public UserInfoCache(CacheManager cacheManager, CacheEvictionService cacheEvictionService) {
+		this.userInfoCache = cacheManager.getCache(USER_INFO_CACHE);
+		this.userIdCache = cacheManager.getCache(USER_ID_CACHE);
+		this.cacheEvictionService = cacheEvictionService;
+	}
+
+	public Optional<UserInfo> get(Long userId) {
+		return Optional.ofNullable(userInfoCache.get(userId, UserInfo.class));
+	}
+
+	public Optional<UserInfo> get(String loginId) {
+		return Optional.ofNullable(userIdCache.get(loginId, Long.class)).flatMap(this::get);
+	}
+
+	/**
+	 * 회원 정보를 포인트를 빼고 캐시합니다.
+	 *
+	 * @param userInfo 회원 정보
+	 */
+	public void put(UserInfo userInfo) {
+		userInfoCache.put(userInfo.id(), userInfo.withPoint(null));
+		userIdCache.put(userInfo.loginId(), userInfo.id());
+	}
+
+	public void evict(Long userId) {
+		cacheEvictionService.evict(USER_INFO_CACHE, List.of(userId));
+	}
+
+	public void evict(Collection<Long> userIds) {
+		cacheEvictionService.evict(USER_INFO_CACHE, userIds);
+	}
+}
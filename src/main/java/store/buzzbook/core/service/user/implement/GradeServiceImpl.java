@@ -7,6 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.user.GradeInfoResponse;
 import store.buzzbook.core.entity.user.Grade;
 import store.buzzbook.core.repository.user.GradeRepository;
@@ -19,6 +20,7 @@ import store.buzzbook.core.service.user.GradeService;
 public class GradeServiceImpl implements GradeService {
 	private final GradeRepository gradeRepository;
 	private final UserRepository userRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 
 	@Transactional
 	@Override
@@ -27,6 +29,7 @@ public class GradeServiceImpl implements GradeService {
 
 		if (!isExist) {
 			Grade savedGrade = gradeRepository.save(grade);
+			referenceDataRegistry.reloadAfterCommit();
 
 			log.debug("Grade 저장 : {}", savedGrade.getName());
 		}
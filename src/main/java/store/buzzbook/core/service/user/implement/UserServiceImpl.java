@@ -4,7 +4,6 @@ import static store.buzzbook.core.common.listener.PointPolicyListener.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.security.crypto.bcrypt.BCrypt;
@@ -21,6 +20,7 @@ import store.buzzbook.core.common.exception.user.PasswordIncorrectException;
 import store.buzzbook.core.common.exception.user.UnEncryptedPasswordException;
 import store.buzzbook.core.common.exception.user.UserAlreadyExistsException;
 import store.buzzbook.core.common.exception.user.UserNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.common.service.UserProducerService;
 import store.buzzbook.core.dto.coupon.CreateWelcomeCouponRequest;
 import store.buzzbook.core.dto.user.ChangePasswordRequest;
@@ -38,6 +38,7 @@ import store.buzzbook.core.entity.user.GradeLog;
 import store.buzzbook.core.entity.user.GradeName;
 import store.buzzbook.core.entity.user.User;
 import store.buzzbook.core.entity.user.UserStatus;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
 import store.buzzbook.core.repository.point.PointLogRepository;
 import store.buzzbook.core.repository.point.PointPolicyRepository;
 import store.buzzbook.core.repository.user.DeactivationRepository;
@@ -45,7 +46,9 @@ import store.buzzbook.core.repository.user.GradeLogRepository;
 import store.buzzbook.core.repository.user.GradeRepository;
 import store.buzzbook.core.repository.user.UserCouponRepository;
 import store.buzzbook.core.repository.user.UserRepository;
+import store.buzzbook.core.repository.user.UserRepositoryCustom.UserWithPoint;
 import store.buzzbook.core.service.product.ProductService;
+import store.buzzbook.core.service.user.UserInfoCache;
 import store.buzzbook.core.service.user.UserService;
 
 @Service
@@ -58,10 +61,13 @@ public class UserServiceImpl implements UserService {
 	private final GradeLogRepository gradeLogRepository;
 	private final UserProducerService userProducerService;
 	private final PointLogRepository pointLogRepository;
+	private final PointBalanceRepository pointBalanceRepository;
 	private final UserCouponRepository userCouponRepository;
 	private final CouponClient couponClient;
 	private final ProductService productService;
 	private final PointPolicyRepository pointPolicyRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
+	private final UserInfoCache userInfoCache;
 
 	@Transactional(readOnly = true)
 	@Override
@@ -80,33 +86,26 @@ public class UserServiceImpl implements UserService {
 	@Override
 	public UserInfo successLogin(String loginId) {
 		log.debug("최근 로그인 일자 업데이트 : {} ", loginId);
-		Optional<User> userOptional = userRepository.findByLoginId(loginId);
-
-		if (userOptional.isEmpty()) {
-			throw new UserNotFoundException(loginId);
-		}
+		UserWithPoint userWithPoint = userRepository.findWithPointByLoginId(loginId)
+			.orElseThrow(() -> new UserNotFoundException(loginId));
+		User user = userWithPoint.user();
 
-		if (userOptional.get().getStatus().equals(UserStatus.DORMANT)) {
+		if (user.getStatus().equals(UserStatus.DORMANT)) {
 			log.debug("로그인 실패. 휴면 계정입니다.");
 			throw new DormantUserException();
 		}
 
-		Optional<Grade> gradeOptional = userRepository.findGradeByLoginId(loginId);
-
-		if (gradeOptional.isEmpty()) {
-			throw new GradeNotFoundException(userOptional.get().getId());
+		Grade grade = getCurrentGrade(user);
+		if (user.getGrade() == null) {
+			user.changeGrade(grade);
 		}
 
-		userOptional.get().updateLastLoginAt();
-		User updatedUser = userRepository.save(userOptional.get());
-
-		PointLog pointLog = pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(updatedUser.getId());
-		int point = 0;
-		if (Objects.nonNull(pointLog)) {
-			point = pointLog.getBalance();
-		}
+		user.updateLastLoginAt();
+		userRepository.save(user);
 
-		return updatedUser.toUserInfo(gradeOptional.get(), point);
+		UserInfo userInfo = user.toUserInfo(grade, userWithPoint.point());
+		userInfoCache.put(userInfo);
+		return userInfo;
 	}
 
 	@Transactional
@@ -124,6 +123,7 @@ public class UserServiceImpl implements UserService {
 		}
 
 		User requestUser = registerUserRequest.toUser();
+		requestUser.changeGrade(grade);
 		User savedUser = userRepository.save(requestUser);
 
 		GradeLog gradeLog = GradeLog.builder()
@@ -140,7 +140,7 @@ public class UserServiceImpl implements UserService {
 			.createdAt(LocalDateTime.now())
 			.delta(pointPolicy.getPoint())
 			.inquiry(pointPolicy.getName())
-			.balance(pointPolicy.getPoint())
+			.balance(pointBalanceRepository.addBalance(savedUser.getId(), pointPolicy.getPoint()))
 			.build();
 
 		pointLogRepository.save(pointLog);
@@ -175,6 +175,7 @@ public class UserServiceImpl implements UserService {
 		userOptional.get().deactivate();
 
 		userRepository.save(userOptional.get());
+		userInfoCache.evict(userId);
 	}
 
 	@Transactional
@@ -209,52 +210,25 @@ public class UserServiceImpl implements UserService {
 
 		user.get().updateUserBy(updateUserRequest);
 		userRepository.save(user.get());
+		userInfoCache.evict(userId);
 	}
 
 	@Transactional(readOnly = true)
 	@Override
 	public UserInfo getUserInfoByUserId(Long userId) {
-		Optional<User> user = userRepository.findById(userId);
-
-		if (user.isEmpty()) {
-			throw new UserNotFoundException(userId);
-		}
-
-		Optional<Grade> grade = userRepository.findGradeByLoginId(user.get().getLoginId());
-
-		if (grade.isEmpty()) {
-			throw new GradeNotFoundException(userId);
-		}
+		UserInfo userInfo = userInfoCache.get(userId).orElseGet(() -> loadUserInfo(
+			userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId))));
 
-		PointLog pointLog = pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(user.get().getId());
-		int point = 0;
-
-		if (Objects.nonNull(pointLog)) {
-			point = pointLog.getBalance();
-		}
-
-		return user.get().toUserInfo(grade.get(), point);
+		return userInfo.withPoint(pointBalanceRepository.findBalance(userInfo.id()));
 	}
 
 	@Transactional(readOnly = true)
 	@Override
 	public UserInfo getUserInfoByLoginId(String loginId) {
-		User user = userRepository.findByLoginId(loginId).orElseThrow(() -> new UserNotFoundException(loginId));
-		Optional<Grade> gradeOptional = userRepository.findGradeByLoginId(loginId);
-
-		if (gradeOptional.isEmpty()) {
-			throw new GradeNotFoundException(user.getId());
-		}
-
-		PointLog pointLog = pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(user.getId());
-
-		int point = 0;
+		UserInfo userInfo = userInfoCache.get(loginId).orElseGet(() -> loadUserInfo(
+			userRepository.findByLoginId(loginId).orElseThrow(() -> new UserNotFoundException(loginId))));
 
-		if (Objects.nonNull(pointLog)) {
-			point = pointLog.getBalance();
-		}
-
-		return user.toUserInfo(gradeOptional.get(), point);
+		return userInfo.withPoint(pointBalanceRepository.findBalance(userInfo.id()));
 	}
 
 	@Override
@@ -289,6 +263,26 @@ public class UserServiceImpl implements UserService {
 		return userRepository.findUserRealBillsIn3Month();
 	}
 
+	/**
+	 * 포인트를 뺀 회원 정보를 만들어 캐시합니다.
+	 */
+	private UserInfo loadUserInfo(User user) {
+		UserInfo userInfo = user.toUserInfo(getCurrentGrade(user), null);
+		userInfoCache.put(userInfo);
+		return userInfo;
+	}
+
+	/**
+	 * 회원의 현재 등급. 등급 포인터가 없는 기존 회원은 등급 내역에서 찾습니다.
+	 */
+	private Grade getCurrentGrade(User user) {
+		Optional<Grade> grade = user.getGrade() == null
+			? userRepository.findGradeByLoginId(user.getLoginId())
+			: referenceDataRegistry.getGrade(user.getGrade().getId());
+
+		return grade.orElseThrow(() -> new GradeNotFoundException(user.getId()));
+	}
+
 	private boolean isPasswordEncrypted(String password) {
 		return password.startsWith("$2a$") || password.startsWith("$2b$") || password.startsWith("$2y$");
 	}
@@ -0,0 +1,179 @@
+package store.buzzbook.core.client.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.common.config.CouponClientConfig;
+import store.buzzbook.core.common.exception.order.CouponStatusNotUpdatedException;
+import store.buzzbook.core.entity.coupon.CouponStatus;
+
+@SpringJUnitConfig(classes = {CouponClientConfig.class, CouponGatewayClient.class,
+	CouponGatewayClientTest.RetryConfig.class})
+class CouponGatewayClientTest {
+	private static final HttpServer server = startServer();
+	private static final Queue<String> updateResponses = new ConcurrentLinkedQueue<>();
+	private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+	private static volatile String infoStatus = "available";
+	private static volatile long infoDelayMillis = 0;
+	private static volatile int updateCalls = 0;
+
+	@Autowired
+	private CouponGatewayClient couponGatewayClient;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Configuration
+	@EnableRetry
+	static class RetryConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("api.gateway.host", () -> "localhost");
+		registry.add("api.gateway.port", () -> server.getAddress().getPort());
+		registry.add("coupon.client.read-timeout-millis", () -> 300);
+		registry.add("coupon.client.retry.delay-millis", () -> 10);
+	}
+
+	private static HttpServer startServer() {
+		try {
+			HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			httpServer.createContext("/api/coupons/info", exchange -> {
+				clientPorts.add(exchange.getRemoteAddress().getPort());
+				sleep(infoDelayMillis);
+				respond(exchange, "{\"couponCode\":\"code\",\"status\":\"" + infoStatus + "\"}");
+			});
+			httpServer.createContext("/api/coupons", exchange -> {
+				updateCalls++;
+				String status = updateResponses.poll();
+				respond(exchange, "{\"id\":1,\"status\":\"" + (status == null ? "used" : status) + "\"}");
+			});
+			httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+			httpServer.start();
+			return httpServer;
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void respond(HttpExchange exchange, String body) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		exchange.getResponseBody().write(bytes);
+		exchange.close();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@AfterAll
+	static void stopServer() {
+		server.stop(0);
+	}
+
+	@BeforeEach
+	void setUp() {
+		updateResponses.clear();
+		clientPorts.clear();
+		infoStatus = "available";
+		infoDelayMillis = 0;
+		updateCalls = 0;
+	}
+
+	private HttpHeaders headers() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Content-Type", "application/json");
+		return headers;
+	}
+
+	@Test
+	@DisplayName("쿠폰 상태 조회는 연결을 재사용하고 엔드포인트별 응답 시간을 기록")
+	void testGetStatusReusesConnection() {
+		for (int i = 0; i < 10; i++) {
+			assertEquals(CouponStatus.AVAILABLE, couponGatewayClient.getStatus("code", headers()));
+		}
+
+		assertEquals(1, clientPorts.size());
+		assertTrue(meterRegistry.get("coupon.client.requests")
+			.tags("endpoint", "info", "outcome", "success").timer().count() >= 10);
+	}
+
+	@Test
+	@DisplayName("가상 스레드에서 쿠폰 상태 조회")
+	void testGetStatusAsync() {
+		infoStatus = "used";
+
+		assertEquals(CouponStatus.USED,
+			CouponGatewayClient.join(couponGatewayClient.getStatusAsync("code", headers())));
+	}
+
+	@Test
+	@DisplayName("응답 시간을 넘기면 타임아웃")
+	void testReadTimeout() {
+		infoDelayMillis = 1000;
+
+		assertThrows(ResourceAccessException.class, () -> couponGatewayClient.getStatus("code", headers()));
+	}
+
+	@Test
+	@DisplayName("쿠폰 상태가 바뀌지 않으면 다시 시도")
+	void testUpdateStatusRetries() {
+		updateResponses.add("available");
+		updateResponses.add("available");
+
+		assertEquals(CouponStatus.USED,
+			couponGatewayClient.updateStatus("code", CouponStatus.USED, headers()).status());
+		assertEquals(3, updateCalls);
+	}
+
+	@Test
+	@DisplayName("재시도 횟수를 넘기면 예외")
+	void testUpdateStatusGivesUp() {
+		for (int i = 0; i < 3; i++) {
+			updateResponses.add("available");
+		}
+
+		assertThrows(CouponStatusNotUpdatedException.class,
+			() -> couponGatewayClient.updateStatus("code", CouponStatus.USED, headers()));
+		assertEquals(3, updateCalls);
+	}
+}
@@ -0,0 +1,119 @@
+package store.buzzbook.core.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static store.buzzbook.core.common.config.RabbitmqConfig.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.common.config.CacheConfig;
+import store.buzzbook.core.common.dto.CacheEvictMessage;
+import store.buzzbook.core.common.service.impl.CacheEvictionServiceImpl;
+import store.buzzbook.core.dto.order.ReadOrderResponse;
+import store.buzzbook.core.dto.user.UserInfo;
+import store.buzzbook.core.service.order.OrderResponseLoader;
+import store.buzzbook.core.service.user.UserInfoCache;
+
+@ExtendWith(MockitoExtension.class)
+class CacheEvictionServiceTest {
+
+	@Mock
+	private RabbitTemplate rabbitTemplate;
+
+	private CacheManager cacheManager;
+	private SimpleMeterRegistry meterRegistry;
+	private CacheEvictionService cacheEvictionService;
+	private UserInfo userInfo;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		cacheManager = new CacheConfig().cacheManager();
+		meterRegistry = new SimpleMeterRegistry();
+		cacheEvictionService = new CacheEvictionServiceImpl(cacheManager, rabbitTemplate, meterRegistry);
+		userInfo = UserInfo.builder().id(1L).loginId("test").build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("이 노드의 캐시에서 지우고 키를 문자열로 다른 노드에 알림")
+	void testEvict() {
+		Cache cache = cacheManager.getCache(UserInfoCache.USER_INFO_CACHE);
+		cache.put(1L, userInfo);
+		cache.put(2L, userInfo);
+
+		cacheEvictionService.evict(UserInfoCache.USER_INFO_CACHE, Arrays.asList(1L, null, 1L));
+
+		assertNull(cache.get(1L));
+		assertNotNull(cache.get(2L));
+		verify(rabbitTemplate).convertAndSend(CACHE_EVICT_EXCHANGE_NAME, "",
+			new CacheEvictMessage(UserInfoCache.USER_INFO_CACHE, List.of("1")));
+		assertEquals(1, meterRegistry.counter("cache.evict.publish", "result", "published").count());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서는 커밋 뒤에 알림")
+	void testEvictPublishesAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		cacheEvictionService.evict(OrderResponseLoader.READ_ORDER_CACHE, List.of("order-1"));
+
+		verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(rabbitTemplate).convertAndSend(CACHE_EVICT_EXCHANGE_NAME, "",
+			new CacheEvictMessage(OrderResponseLoader.READ_ORDER_CACHE, List.of("order-1")));
+	}
+
+	@Test
+	@DisplayName("알리지 못해도 예외를 던지지 않고 실패를 기록함")
+	void testEvictPublishFailure() {
+		doThrow(new AmqpConnectException(new RuntimeException("down"))).when(rabbitTemplate)
+			.convertAndSend(anyString(), anyString(), any(Object.class));
+
+		assertDoesNotThrow(() -> cacheEvictionService.evict(OrderResponseLoader.READ_ORDER_CACHE, List.of("order-1")));
+
+		assertEquals(1, meterRegistry.counter("cache.evict.publish", "result", "failed").count());
+	}
+
+	@Test
+	@DisplayName("다른 노드가 보낸 삭제를 캐시의 키 타입으로 바꿔 반영함")
+	void testConsume() {
+		Cache userInfos = cacheManager.getCache(UserInfoCache.USER_INFO_CACHE);
+		userInfos.put(1L, userInfo);
+		userInfos.put(2L, userInfo);
+		Cache orders = cacheManager.getCache(OrderResponseLoader.READ_ORDER_CACHE);
+		orders.put("order-1", new ReadOrderResponse());
+
+		cacheEvictionService.consume(new CacheEvictMessage(UserInfoCache.USER_INFO_CACHE, List.of("1")));
+		cacheEvictionService.consume(new CacheEvictMessage(OrderResponseLoader.READ_ORDER_CACHE, List.of("order-1")));
+		cacheEvictionService.consume(new CacheEvictMessage("unknown", List.of("1")));
+
+		assertNull(userInfos.get(1L));
+		assertNotNull(userInfos.get(2L));
+		assertNull(orders.get("order-1"));
+	}
+}
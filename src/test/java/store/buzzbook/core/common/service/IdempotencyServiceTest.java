@@ -0,0 +1,132 @@
+package store.buzzbook.core.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.exception.order.IdempotencyConflictException;
+import store.buzzbook.core.common.service.impl.IdempotencyServiceImpl;
+import store.buzzbook.core.entity.order.IdempotencyRecord;
+import store.buzzbook.core.repository.order.IdempotencyRecordRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceTest {
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private IdempotencyService idempotencyService;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyService = new IdempotencyServiceImpl(idempotencyRecordRepository, new ObjectMapper(),
+			transactionManager, 100, 60, 24);
+	}
+
+	@AfterEach
+	void tearDown() {
+		idempotencyRecordRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("같은 키로 동시에 들어온 요청은 한 번만 처리")
+	void testConcurrentDuplicates() throws Exception {
+		int threads = 16;
+		AtomicInteger invoked = new AtomicInteger();
+		AtomicInteger conflicts = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		List<Future<String>> futures = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			Callable<String> task = () -> {
+				start.await();
+				try {
+					return idempotencyService.execute("order:concurrent", String.class, () -> {
+						invoked.incrementAndGet();
+						return "created";
+					});
+				} catch (IdempotencyConflictException e) {
+					conflicts.incrementAndGet();
+					return null;
+				}
+			};
+			futures.add(executor.submit(task));
+		}
+		start.countDown();
+
+		for (Future<String> future : futures) {
+			String result = future.get();
+			if (result != null) {
+				assertEquals("created", result);
+			}
+		}
+		executor.shutdown();
+
+		assertEquals(1, invoked.get());
+		assertTrue(conflicts.get() < threads);
+		assertEquals(IdempotencyRecord.Status.COMPLETED,
+			idempotencyRecordRepository.findByIdempotencyKey("order:concurrent").orElseThrow().getStatus());
+	}
+
+	@Test
+	@DisplayName("완료된 키는 저장된 응답을 돌려줌")
+	void testReplay() {
+		AtomicInteger invoked = new AtomicInteger();
+
+		assertEquals("first", idempotencyService.execute("order:replay", String.class, () -> {
+			invoked.incrementAndGet();
+			return "first";
+		}));
+
+		// 메모리 캐시가 없는 다른 인스턴스도 DB에서 응답을 찾음
+		IdempotencyService other = new IdempotencyServiceImpl(idempotencyRecordRepository, new ObjectMapper(),
+			transactionManager, 100, 60, 24);
+		assertEquals("first", other.execute("order:replay", String.class, () -> {
+			invoked.incrementAndGet();
+			return "second";
+		}));
+		assertEquals("first", idempotencyService.execute("order:replay", String.class, () -> "third"));
+		assertEquals(1, invoked.get());
+	}
+
+	@Test
+	@DisplayName("작업이 실패하면 키를 해제해 재시도 가능")
+	void testFailureReleasesKey() {
+		assertThrows(IllegalStateException.class, () -> idempotencyService.execute("order:failure", String.class,
+			() -> {
+				throw new IllegalStateException();
+			}));
+
+		assertTrue(idempotencyRecordRepository.findByIdempotencyKey("order:failure").isEmpty());
+		assertEquals("retried", idempotencyService.execute("order:failure", String.class, () -> "retried"));
+	}
+}
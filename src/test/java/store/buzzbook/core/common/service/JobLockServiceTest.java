@@ -0,0 +1,113 @@
+package store.buzzbook.core.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.service.impl.JobLockServiceImpl;
+import store.buzzbook.core.repository.common.JobLockRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobLockServiceTest {
+	private static final String JOB = "test-job";
+
+	@Autowired
+	private JobLockRepository jobLockRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private JobLockService first;
+	private JobLockService second;
+
+	@BeforeEach
+	void setUp() {
+		first = new JobLockServiceImpl(jobLockRepository, transactionManager);
+		second = new JobLockServiceImpl(jobLockRepository, transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jobLockRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("동시에 잠금을 잡으면 한 실행만 잡음")
+	void testOnlyOneServerLocks() throws Exception {
+		List<JobLockService> servers = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			servers.add(new JobLockServiceImpl(jobLockRepository, transactionManager));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(servers.size());
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Optional<String>>> futures = new ArrayList<>();
+		try {
+			for (JobLockService server : servers) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return server.tryLock(JOB, Duration.ofMinutes(10));
+				}));
+			}
+			start.countDown();
+			int locked = 0;
+			for (Future<Optional<String>> future : futures) {
+				locked += future.get().isPresent() ? 1 : 0;
+			}
+			assertEquals(1, locked);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("같은 서버라도 살아 있는 잠금은 다시 잡지 못함")
+	void testSameServerCannotLockTwice() {
+		Optional<String> token = first.tryLock(JOB, Duration.ofMinutes(10));
+
+		assertTrue(token.isPresent());
+		assertTrue(first.tryLock(JOB, Duration.ofMinutes(10)).isEmpty());
+
+		first.unlock(JOB, token.get());
+		assertTrue(first.tryLock(JOB, Duration.ofMinutes(10)).isPresent());
+	}
+
+	@Test
+	@DisplayName("잡은 토큰으로만 잠금을 늘리고 반납하며, 만료돼 가져간 잠금은 예전 토큰으로 건드리지 못함")
+	void testRenewReleaseAndExpire() {
+		String expired = first.tryLock(JOB, Duration.ofMillis(-1)).orElseThrow();
+		String token = second.tryLock(JOB, Duration.ofMinutes(10)).orElseThrow();
+
+		assertFalse(first.renew(JOB, expired, Duration.ofMinutes(10)));
+		first.unlock(JOB, expired);
+		assertTrue(first.tryLock(JOB, Duration.ofMinutes(10)).isEmpty());
+
+		assertTrue(second.renew(JOB, token, Duration.ofMinutes(10)));
+		second.unlock(JOB, token);
+		assertTrue(first.tryLock(JOB, Duration.ofMinutes(10)).isPresent());
+	}
+}
@@ -0,0 +1,114 @@
+package store.buzzbook.core.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.common.service.impl.ReferenceDataRegistryImpl;
+import store.buzzbook.core.entity.order.DeliveryPolicy;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.order.Wrapping;
+import store.buzzbook.core.entity.point.PointPolicy;
+import store.buzzbook.core.entity.user.Grade;
+import store.buzzbook.core.entity.user.GradeName;
+import store.buzzbook.core.repository.order.DeliveryPolicyRepository;
+import store.buzzbook.core.repository.order.OrderStatusRepository;
+import store.buzzbook.core.repository.order.WrappingRepository;
+import store.buzzbook.core.repository.point.PointPolicyRepository;
+import store.buzzbook.core.repository.user.GradeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+	@Mock
+	private OrderStatusRepository orderStatusRepository;
+
+	@Mock
+	private WrappingRepository wrappingRepository;
+
+	@Mock
+	private DeliveryPolicyRepository deliveryPolicyRepository;
+
+	@Mock
+	private PointPolicyRepository pointPolicyRepository;
+
+	@Mock
+	private GradeRepository gradeRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ReferenceDataRegistry referenceDataRegistry;
+
+	private OrderStatus paid;
+	private Wrapping unpackaged;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		referenceDataRegistry = new ReferenceDataRegistryImpl(orderStatusRepository, wrappingRepository,
+			deliveryPolicyRepository, pointPolicyRepository, gradeRepository, meterRegistry);
+
+		paid = OrderStatus.builder().id(10).name("PAID").updateAt(LocalDateTime.now()).build();
+		unpackaged = Wrapping.builder().id(1).paper("없음").price(0).deleted(false).build();
+
+		when(orderStatusRepository.findAll()).thenReturn(List.of(paid));
+		when(wrappingRepository.findAll()).thenReturn(List.of(unpackaged));
+		when(deliveryPolicyRepository.findAll()).thenReturn(List.of(
+			DeliveryPolicy.builder().id(1).name("기본").standardPrice(30000).policyPrice(3000).build()));
+		when(pointPolicyRepository.findAll()).thenReturn(List.of(
+			PointPolicy.builder().id(1L).name("전체도서").rate(0.01).deleted(true).build(),
+			PointPolicy.builder().id(2L).name("전체도서").rate(0.05).deleted(false).build()));
+		when(gradeRepository.findAll()).thenReturn(List.of(
+			Grade.builder().id(1).name(GradeName.NORMAL).standard(0).benefit(0.01).build()));
+	}
+
+	@Test
+	@DisplayName("최초 조회 시 한 번만 적재하고 이후 조회는 스냅샷에서 처리")
+	void testLoadsOnceAndServesFromSnapshot() {
+		for (int i = 0; i < 100; i++) {
+			assertSame(paid, referenceDataRegistry.getOrderStatus("PAID"));
+			assertSame(unpackaged, referenceDataRegistry.getWrappingByPaper("없음"));
+			assertSame(unpackaged, referenceDataRegistry.getWrapping(1).orElseThrow());
+		}
+
+		assertEquals(0.05, referenceDataRegistry.getPointPolicy("전체도서").getRate());
+		assertTrue(referenceDataRegistry.getGrade(GradeName.NORMAL).isPresent());
+		assertTrue(referenceDataRegistry.getDeliveryPolicy(1).isPresent());
+		verify(orderStatusRepository, times(1)).findAll();
+		assertEquals(303, meterRegistry.counter("reference.data.lookup", "result", "hit").count());
+		assertEquals(1, meterRegistry.timer("reference.data.reload").count());
+	}
+
+	@Test
+	@DisplayName("변경 후 다시 적재하면 스냅샷 교체")
+	void testReloadSwapsSnapshot() {
+		assertSame(paid, referenceDataRegistry.getOrderStatus("PAID"));
+
+		OrderStatus shipped = OrderStatus.builder().id(11).name("SHIPPED").updateAt(LocalDateTime.now()).build();
+		when(orderStatusRepository.findAll()).thenReturn(List.of(paid, shipped));
+		referenceDataRegistry.reloadAfterCommit();
+
+		assertSame(shipped, referenceDataRegistry.getOrderStatus("SHIPPED"));
+		assertEquals(2, referenceDataRegistry.getOrderStatuses().size());
+		assertEquals(2, meterRegistry.timer("reference.data.reload").count());
+	}
+
+	@Test
+	@DisplayName("적재 직후 없는 이름은 다시 적재하지 않고 miss 집계")
+	void testMissWithinIntervalDoesNotReload() {
+		assertNull(referenceDataRegistry.getOrderStatus("UNKNOWN"));
+		assertNull(referenceDataRegistry.getOrderStatus("UNKNOWN"));
+
+		verify(orderStatusRepository, times(1)).findAll();
+		assertEquals(2, meterRegistry.counter("reference.data.lookup", "result", "miss").count());
+	}
+}
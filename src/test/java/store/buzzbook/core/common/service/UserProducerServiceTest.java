@@ -0,0 +1,89 @@
+package store.buzzbook.core.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static store.buzzbook.core.common.config.RabbitmqConfig.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import store.buzzbook.core.common.service.impl.UserProducerServiceImpl;
+import store.buzzbook.core.dto.coupon.CreateBirthdayCouponRequest;
+
+@ExtendWith(MockitoExtension.class)
+class UserProducerServiceTest {
+
+	@Mock
+	private RabbitTemplate rabbitTemplate;
+
+	@Mock
+	private RabbitOperations operations;
+
+	private UserProducerService userProducerService;
+
+	@BeforeEach
+	void setUp() {
+		userProducerService = new UserProducerServiceImpl(rabbitTemplate, 1000);
+		lenient().when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+			RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+			return callback.doInRabbit(operations);
+		});
+	}
+
+	@Test
+	@DisplayName("생일 쿠폰 발급 요청을 한 채널로 발행하고 발행 확인을 기다림")
+	void testSendBirthdayCouponRequests() {
+		List<CreateBirthdayCouponRequest> requests = List.of(
+			CreateBirthdayCouponRequest.builder().userId(1L).yearMonth("2024-08").build(),
+			CreateBirthdayCouponRequest.builder().userId(2L).yearMonth("2024-08").build());
+
+		userProducerService.sendBirthdayCouponRequests(requests);
+
+		verify(rabbitTemplate, times(1)).invoke(any());
+		for (CreateBirthdayCouponRequest request : requests) {
+			verify(operations).convertAndSend(REQUEST_EXCHANGE_NAME, BIRTHDAY_ROUTING_KEY, request);
+		}
+		verify(operations).waitForConfirmsOrDie(1000);
+	}
+
+	@Test
+	@DisplayName("발행 확인을 받지 못하면 예외")
+	void testSendBirthdayCouponRequestsWithoutConfirm() {
+		doThrow(new AmqpTimeoutException("timeout")).when(operations).waitForConfirmsOrDie(anyLong());
+		List<CreateBirthdayCouponRequest> requests = List.of(
+			CreateBirthdayCouponRequest.builder().userId(1L).yearMonth("2024-08").build());
+
+		assertThrows(AmqpTimeoutException.class, () -> userProducerService.sendBirthdayCouponRequests(requests));
+	}
+
+	@Test
+	@DisplayName("보낼 요청이 없으면 채널을 열지 않음")
+	void testSendEmptyBirthdayCouponRequests() {
+		userProducerService.sendBirthdayCouponRequests(List.of());
+
+		verify(rabbitTemplate, never()).invoke(any());
+	}
+
+	@Test
+	@DisplayName("생일 쿠폰 발급 요청 메시지에 쿠폰 서버가 중복을 거를 년월이 담김")
+	void testBirthdayCouponRequestCarriesYearMonth() {
+		Message message = new Jackson2JsonMessageConverter().toMessage(
+			CreateBirthdayCouponRequest.builder().userId(1L).yearMonth("2024-08").build(), new MessageProperties());
+
+		assertEquals("{\"userId\":1,\"yearMonth\":\"2024-08\"}", new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+}
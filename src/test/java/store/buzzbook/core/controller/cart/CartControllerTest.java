@@ -192,14 +192,14 @@ class CartControllerTest {
 	@Test
 	void testUpdateCartDetail() throws Exception {
 		int quantity = 2;
-		doNothing().when(cartService).updateCartDetail(cartDetail.getId(), quantity);
+		doNothing().when(cartService).updateCartDetail(anyString(), eq(cartDetail.getId()), eq(quantity));
 
 		mockMvc.perform(put("/api/cart/detail/" + cartDetail.getId())
 				.param("uuid", UuidUtil.uuidByteToString(uuid))
 				.param("quantity", String.valueOf(quantity)))
 			.andExpect(status().isOk());
 
-		verify(cartService, times(1)).updateCartDetail(anyLong(), anyInt());
+		verify(cartService, times(1)).updateCartDetail(anyString(), anyLong(), anyInt());
 	}
 
 	@Test
@@ -17,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import store.buzzbook.core.dto.cart.CartDetailResponse;
+import store.buzzbook.core.dto.coupon.BirthdayCouponDispatchResult;
 import store.buzzbook.core.dto.coupon.CreateUserCouponRequest;
 import store.buzzbook.core.dto.coupon.DownloadCouponRequest;
 import store.buzzbook.core.dto.coupon.OrderCouponDetailResponse;
@@ -82,6 +83,21 @@ class CouponControllerTest {
 			.andExpect(jsonPath("$[0].name").value(testUserInfo.name()));
 	}
 
+	@Test
+	@DisplayName("dispatch birthday coupons")
+	void dispatchBirthdayCoupons() throws Exception {
+		// given
+		when(couponService.dispatchBirthdayCoupons(5L)).thenReturn(
+			new BirthdayCouponDispatchResult(10, true, 2, 8L, 3));
+
+		// when & then
+		mockMvc.perform(post("/api/account/coupons/birthday").param("afterUserId", "5"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.completed").value(true))
+			.andExpect(jsonPath("$.users").value(2))
+			.andExpect(jsonPath("$.lastUserId").value(8));
+	}
+
 	@Test
 	@DisplayName("get order coupons")
 	void getOrderCoupons() throws Exception {
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -26,6 +27,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import store.buzzbook.core.common.exception.order.InvalidOrderStatusTransitionException;
+import store.buzzbook.core.common.service.IdempotencyService;
 import store.buzzbook.core.dto.order.*;
 import store.buzzbook.core.dto.point.PointLogResponse;
 import store.buzzbook.core.dto.product.CategoryResponse;
@@ -38,7 +41,11 @@ import store.buzzbook.core.entity.product.Product;
 import store.buzzbook.core.entity.user.User;
 import store.buzzbook.core.entity.user.UserStatus;
 import store.buzzbook.core.service.auth.AuthService;
+import store.buzzbook.core.service.order.MyOrderSummaryService;
+import store.buzzbook.core.service.order.OrderArchiveService;
+import store.buzzbook.core.service.order.OrderExportService;
 import store.buzzbook.core.service.order.OrderService;
+import store.buzzbook.core.service.order.OrderStatusBulkService;
 import store.buzzbook.core.service.user.UserService;
 
 @WebMvcTest(OrderController.class)
@@ -56,6 +63,21 @@ class OrderControllerTest {
 	@MockBean
 	private UserService userService;
 
+	@MockBean
+	private IdempotencyService idempotencyService;
+
+	@MockBean
+	private MyOrderSummaryService myOrderSummaryService;
+
+	@MockBean
+	private OrderStatusBulkService orderStatusBulkService;
+
+	@MockBean
+	private OrderArchiveService orderArchiveService;
+
+	@MockBean
+	private OrderExportService orderExportService;
+
 	private UserInfo testUserInfo;
 	private UserInfo testUserInfo2;
 	private ReadOrdersRequest readOrdersRequest;
@@ -240,7 +262,7 @@ class OrderControllerTest {
 		user = new User(504L, null, "parkseol",
 			"01011111111", "parkseol", "parkseol.dev@gmail.com", "asdi2u34911!oj$@eI723",
 			LocalDate.parse("2024-06-28"), LocalDateTime.now(), LocalDateTime.now(), UserStatus.ACTIVE, LocalDateTime.now(),
-			true);
+			true, null, null);
 
 		pointLogResponse = new PointLogResponse(LocalDateTime.now(), "주문 시 포인트 적립", 30, 60446);
 
@@ -288,6 +310,22 @@ class OrderControllerTest {
 		verify(orderService).createOrder(any());
 	}
 
+	@Test
+	@DisplayName("주문 등록 - 멱등성 키")
+	void createOrder_idempotencyKey() throws Exception {
+		when(idempotencyService.execute(eq("order:guest:abc"), eq(ReadOrderResponse.class), any()))
+			.thenReturn(readOrderResponse);
+
+		mockMvc.perform(post("/api/orders/register")
+				.header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, "abc")
+				.content(objectMapper.writeValueAsString(createOrderRequest))
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk());
+
+		verify(idempotencyService).execute(eq("order:guest:abc"), eq(ReadOrderResponse.class), any());
+		verify(orderService, never()).createOrder(any());
+	}
+
 	@Test
 	@DisplayName("주문 등록 - 회원")
 	void createOrder() throws Exception {
@@ -330,6 +368,99 @@ class OrderControllerTest {
 		verify(orderService).updateOrderWithAdmin(any());
 	}
 
+	@Test
+	@DisplayName("주문 상태 일괄 수정 - 관리자")
+	void updateOrders_isAdmin() throws Exception {
+		UserInfo testUserInfo = mock(UserInfo.class);
+		UpdateOrdersRequest updateOrdersRequest = new UpdateOrdersRequest(List.of("order1", "order2"), "SHIPPING_OUT");
+
+		when(userService.getUserInfoByLoginId(anyString())).thenReturn(testUserInfo);
+		when(testUserInfo.isAdmin()).thenReturn(true);
+		when(orderStatusBulkService.updateOrders(any())).thenReturn(List.of(
+			new UpdateOrderStatusResult("order1", UpdateOrderStatusResult.Result.UPDATED),
+			new UpdateOrderStatusResult("order2", UpdateOrderStatusResult.Result.INVALID_TRANSITION)));
+
+		mockMvc.perform(put("/api/orders/bulk")
+				.content(objectMapper.writeValueAsString(updateOrdersRequest))
+				.contentType(MediaType.APPLICATION_JSON)
+				.requestAttr(AuthService.LOGIN_ID, "testLoginId"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[1].result").value("INVALID_TRANSITION"));
+
+		verify(orderStatusBulkService).updateOrders(any());
+	}
+
+	@Test
+	@DisplayName("주문 상태 일괄 수정 - 환불처럼 금액이 오가는 상태는 거절")
+	void updateOrders_moneyMovingTargetRejected() throws Exception {
+		UserInfo testUserInfo = mock(UserInfo.class);
+		UpdateOrdersRequest updateOrdersRequest = new UpdateOrdersRequest(List.of("order1"), "REFUND");
+
+		when(userService.getUserInfoByLoginId(anyString())).thenReturn(testUserInfo);
+		when(testUserInfo.isAdmin()).thenReturn(true);
+		when(orderStatusBulkService.updateOrders(any())).thenThrow(new InvalidOrderStatusTransitionException("REFUND"));
+
+		mockMvc.perform(put("/api/orders/bulk")
+				.content(objectMapper.writeValueAsString(updateOrdersRequest))
+				.contentType(MediaType.APPLICATION_JSON)
+				.requestAttr(AuthService.LOGIN_ID, "testLoginId"))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("내 주문 목록 읽기 모델 검사 - 관리자")
+	void checkMyOrderSummaries_isAdmin() throws Exception {
+		UserInfo testUserInfo = mock(UserInfo.class);
+
+		when(userService.getUserInfoByLoginId(anyString())).thenReturn(testUserInfo);
+		when(testUserInfo.isAdmin()).thenReturn(true);
+		when(myOrderSummaryService.check()).thenReturn(new MyOrderSummaryCheckResult(10, 1, 2));
+
+		mockMvc.perform(post("/api/orders/summaries/check")
+				.requestAttr(AuthService.LOGIN_ID, "testLoginId"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.checked").value(10))
+			.andExpect(jsonPath("$.stale").value(2));
+
+		verify(myOrderSummaryService).check();
+	}
+
+	@Test
+	@DisplayName("주문 보관 - 관리자")
+	void archiveOrders_isAdmin() throws Exception {
+		when(userService.getUserInfoByLoginId(anyString())).thenReturn(testUserInfo);
+		when(orderArchiveService.archive()).thenReturn(new OrderArchiveResult(3, 5, 4, 10, 1200.0));
+
+		mockMvc.perform(post("/api/orders/archive")
+				.requestAttr(AuthService.LOGIN_ID, "testLoginId"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.orders").value(3))
+			.andExpect(jsonPath("$.rowsPerSecond").value(1200.0));
+
+		verify(orderArchiveService).archive();
+	}
+
+	@Test
+	@DisplayName("주문 내보내기 - 관리자")
+	void exportOrders_isAdmin() throws Exception {
+		when(userService.getUserInfoByLoginId(anyString())).thenReturn(testUserInfo);
+		when(orderExportService.exportOrders(any(), any())).thenAnswer(invocation -> {
+			invocation.getArgument(1, OutputStream.class).write("id,order_str\r\n1,order1\r\n".getBytes());
+			return 1L;
+		});
+
+		mockMvc.perform(post("/api/orders/export")
+				.content("{\"format\":\"CSV\",\"orderStatusName\":\"PAID\"}")
+				.contentType(MediaType.APPLICATION_JSON)
+				.requestAttr(AuthService.LOGIN_ID, "testLoginId"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Disposition", "attachment; filename=\"orders.csv\""))
+			.andExpect(content().string("id,order_str\r\n1,order1\r\n"));
+
+		verify(orderExportService).exportOrders(argThat(request -> "PAID".equals(request.getOrderStatusName())),
+			any());
+	}
+
 	@Test
 	@DisplayName("주문 상세 상태 수정- 관리자")
 	void updateOrderDetail_isAdmin() throws Exception {
@@ -384,6 +515,22 @@ class OrderControllerTest {
 		verify(orderService).readOrder(any(), anyString());
 	}
 
+	@Test
+	@DisplayName("주문 조회 - 관리자")
+	void getOrder_isAdmin() throws Exception {
+		when(userService.getUserInfoByLoginId(anyString())).thenReturn(testUserInfo);
+		when(orderService.readOrderWithAdmin(any())).thenReturn(readOrderResponse);
+
+		mockMvc.perform(post("/api/orders/id")
+				.content(objectMapper.writeValueAsString(readOrdersRequest))
+				.contentType(MediaType.APPLICATION_JSON)
+				.requestAttr(AuthService.LOGIN_ID, "testLoginId"))
+			.andExpect(status().isOk());
+
+		verify(orderService).readOrderWithAdmin(any());
+		verify(orderService, never()).readOrder(any(), anyString());
+	}
+
 	@Test
 	@DisplayName("비회원 주문 조회")
 	void getOrderWithoutLogin() throws Exception {
@@ -1,9 +1,11 @@
 package store.buzzbook.core.controller.point;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -17,13 +19,22 @@ import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import store.buzzbook.core.dto.point.CreatePointCampaignRequest;
 import store.buzzbook.core.dto.point.CreatePointLogRequest;
 import store.buzzbook.core.dto.point.CreatePointPolicyRequest;
 import store.buzzbook.core.dto.point.DeletePointPolicyRequest;
+import store.buzzbook.core.dto.point.PointBalanceReconciliationResult;
+import store.buzzbook.core.dto.point.PointCampaignResponse;
+import store.buzzbook.core.dto.point.PointExpirationResult;
 import store.buzzbook.core.dto.point.PointPolicyResponse;
 import store.buzzbook.core.dto.point.UpdatePointPolicyRequest;
+import store.buzzbook.core.entity.point.PointCampaign;
 import store.buzzbook.core.entity.point.PointLog;
+import store.buzzbook.core.entity.user.UserStatus;
 import store.buzzbook.core.service.auth.AuthService;
+import store.buzzbook.core.service.point.PointBalanceReconciliationService;
+import store.buzzbook.core.service.point.PointCampaignService;
+import store.buzzbook.core.service.point.PointExpirationService;
 import store.buzzbook.core.service.point.PointService;
 
 @WebMvcTest(PointController.class)
@@ -38,6 +49,15 @@ class PointControllerTest {
 	@MockBean
 	private PointService pointService;
 
+	@MockBean
+	private PointBalanceReconciliationService pointBalanceReconciliationService;
+
+	@MockBean
+	private PointCampaignService pointCampaignService;
+
+	@MockBean
+	private PointExpirationService pointExpirationService;
+
 	@Test
 	@DisplayName("get point policies")
 	void getPointPolicies() throws Exception {
@@ -141,4 +161,80 @@ class PointControllerTest {
 				.content(objectMapper.writeValueAsString(request)))
 			.andExpect(status().isOk());
 	}
+
+	@Test
+	@DisplayName("reconcile point balances")
+	void reconcileBalances() throws Exception {
+		// given
+		when(pointBalanceReconciliationService.reconcile()).thenReturn(
+			new PointBalanceReconciliationResult(10, 2, 1, 0, 5));
+
+		// when & then
+		mockMvc.perform(post("/api/account/points/balances/reconcile"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.users").value(10))
+			.andExpect(jsonPath("$.corrected").value(1));
+	}
+
+	@Test
+	@DisplayName("expire points")
+	void expirePoints() throws Exception {
+		// given
+		when(pointExpirationService.expire()).thenReturn(
+			new PointExpirationResult(true, LocalDateTime.now().minusYears(1), 100, 7, 3500, 20));
+
+		// when & then
+		mockMvc.perform(post("/api/account/points/expirations"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.locked").value(true))
+			.andExpect(jsonPath("$.expiredPoints").value(3500));
+	}
+
+	@Test
+	@DisplayName("create point campaign")
+	void createPointCampaign() throws Exception {
+		// given
+		CreatePointCampaignRequest request = new CreatePointCampaignRequest("holiday", 1000, null, UserStatus.ACTIVE);
+		LocalDateTime now = LocalDateTime.now();
+		when(pointCampaignService.create(any())).thenReturn(new PointCampaignResponse(1L, "holiday", 1000,
+			PointCampaign.Status.RUNNING, 300000, 0, 0, now, now, null));
+
+		// when & then
+		mockMvc.perform(post("/api/account/points/campaigns")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.id").value(1))
+			.andExpect(jsonPath("$.targetUsers").value(300000));
+		verify(pointCampaignService).start(1L);
+	}
+
+	@Test
+	@DisplayName("create point campaign with invalid point")
+	void createPointCampaignWithInvalidPoint() throws Exception {
+		// given
+		CreatePointCampaignRequest request = new CreatePointCampaignRequest("holiday", 0, null, null);
+
+		// when & then
+		mockMvc.perform(post("/api/account/points/campaigns")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isBadRequest());
+		verify(pointCampaignService, never()).create(any());
+	}
+
+	@Test
+	@DisplayName("resume point campaign")
+	void resumePointCampaign() throws Exception {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		when(pointCampaignService.getCampaign(1L)).thenReturn(new PointCampaignResponse(1L, "holiday", 1000,
+			PointCampaign.Status.RUNNING, 300000, 120000, 120500, now, now, null));
+
+		// when & then
+		mockMvc.perform(post("/api/account/points/campaigns/1/resume"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.lastUserId").value(120500));
+		verify(pointCampaignService).start(1L);
+	}
 }
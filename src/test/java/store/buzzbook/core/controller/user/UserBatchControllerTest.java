@@ -3,6 +3,7 @@ package store.buzzbook.core.controller.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,10 +19,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import store.buzzbook.core.dto.user.GradeRecalculationResult;
 import store.buzzbook.core.dto.user.UserRealBill;
 import store.buzzbook.core.dto.user.UserRealBillInfo;
 import store.buzzbook.core.dto.user.UserRealBillInfoDetail;
 import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.service.user.GradeRecalculationService;
 import store.buzzbook.core.service.user.UserService;
 
 @WebMvcTest(UserBatchController.class)
@@ -35,6 +38,9 @@ class UserBatchControllerTest {
 	@MockBean
 	private UserService userService;
 
+	@MockBean
+	private GradeRecalculationService gradeRecalculationService;
+
 	private List<UserRealBill> userRealBills;
 	private String realBillListJson;
 
@@ -68,4 +74,20 @@ class UserBatchControllerTest {
 
 		Mockito.verify(userService, Mockito.times(1)).getUserRealBills();
 	}
+
+	@Test
+	@DisplayName("배치서버용 회원 등급 재산정 성공")
+	void testRecalculateGrades() throws Exception {
+		GradeRecalculationResult result = new GradeRecalculationResult(true, LocalDateTime.now().minusMonths(3), 10,
+			3, 5);
+		Mockito.when(gradeRecalculationService.recalculate()).thenReturn(result);
+
+		mockMvc.perform(post("/api/account/bills/grades")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.users").value(10))
+			.andExpect(jsonPath("$.changedUsers").value(3));
+
+		Mockito.verify(gradeRecalculationService, Mockito.times(1)).recalculate();
+	}
 }
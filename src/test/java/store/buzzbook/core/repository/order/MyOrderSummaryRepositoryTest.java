@@ -0,0 +1,69 @@
+package store.buzzbook.core.repository.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.entity.order.MyOrderSummary;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+class MyOrderSummaryRepositoryTest {
+
+	@Autowired
+	private MyOrderSummaryRepository myOrderSummaryRepository;
+
+	@BeforeEach
+	void setUp() {
+		myOrderSummaryRepository.saveAll(List.of(
+			summary(1L, "john", LocalDate.of(2024, 8, 1)),
+			summary(2L, "john", LocalDate.of(2024, 8, 3)),
+			summary(3L, "john", LocalDate.of(2024, 8, 3)),
+			summary(4L, "jane", LocalDate.of(2024, 8, 5)),
+			summary(5L, "john", LocalDate.of(2024, 8, 2))));
+	}
+
+	@Test
+	@DisplayName("회원의 주문만 희망 배송일, 주문 아이디 내림차순으로 조회")
+	void testFindAllByLoginId() {
+		Slice<MyOrderSummary> summaries = myOrderSummaryRepository
+			.findAllByLoginIdOrderByDesiredDeliveryDateDescOrderIdDesc("john", PageRequest.of(0, 3));
+
+		assertEquals(List.of(3L, 2L, 5L), summaries.map(MyOrderSummary::getOrderId).getContent());
+		assertTrue(summaries.hasNext());
+	}
+
+	@Test
+	@DisplayName("커서 이후의 주문 조회")
+	void testFindAllByLoginIdAfter() {
+		Slice<MyOrderSummary> summaries = myOrderSummaryRepository.findAllByLoginIdAfter("john",
+			LocalDate.of(2024, 8, 3), 3L, PageRequest.of(0, 3));
+
+		assertEquals(List.of(2L, 5L, 1L), summaries.map(MyOrderSummary::getOrderId).getContent());
+		assertFalse(summaries.hasNext());
+	}
+
+	private MyOrderSummary summary(long orderId, String loginId, LocalDate desiredDeliveryDate) {
+		return MyOrderSummary.builder()
+			.orderId(orderId)
+			.loginId(loginId)
+			.desiredDeliveryDate(desiredDeliveryDate)
+			.summary("{}")
+			.updatedAt(LocalDateTime.now())
+			.build();
+	}
+}
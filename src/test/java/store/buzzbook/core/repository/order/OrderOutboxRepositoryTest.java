@@ -0,0 +1,103 @@
+package store.buzzbook.core.repository.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.entity.order.OrderOutbox;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+class OrderOutboxRepositoryTest {
+
+	@Autowired
+	private OrderOutboxRepository orderOutboxRepository;
+
+	private OrderOutbox pending;
+	private OrderOutbox stale;
+	private OrderOutbox recent;
+
+	@BeforeEach
+	void setUp() {
+		LocalDateTime now = LocalDateTime.now();
+		pending = orderOutboxRepository.save(OrderOutbox.builder().orderId(1L).type(OrderOutbox.Type.EARN_POINT)
+			.status(OrderOutbox.Status.PENDING).createdAt(now).build());
+		stale = orderOutboxRepository.save(OrderOutbox.builder().orderId(1L).type(OrderOutbox.Type.USE_COUPON)
+			.status(OrderOutbox.Status.PUBLISHED).createdAt(now).publishedAt(now.minusMinutes(10)).attempts(1)
+			.accessToken("Bearer access").build());
+		recent = orderOutboxRepository.save(OrderOutbox.builder().orderId(2L).type(OrderOutbox.Type.NOTIFY)
+			.status(OrderOutbox.Status.PUBLISHED).createdAt(now).publishedAt(now).build());
+	}
+
+	@Test
+	@DisplayName("발행 대상은 미발행 건과 오래 처리되지 않은 발행 건")
+	void testFindRelayTargets() {
+		List<OrderOutbox> targets = orderOutboxRepository.findRelayTargets(OrderOutbox.Status.PENDING,
+			OrderOutbox.Status.PUBLISHED, LocalDateTime.now().minusMinutes(5), PageRequest.of(0, 10));
+
+		assertEquals(List.of(pending.getId(), stale.getId()), targets.stream().map(OrderOutbox::getId).toList());
+	}
+
+	@Test
+	@DisplayName("처리 완료 표시는 한 번만 성공")
+	void testMarkDoneOnce() {
+		assertEquals(1, orderOutboxRepository.markDone(recent.getId(), OrderOutbox.Status.DONE));
+		assertEquals(0, orderOutboxRepository.markDone(recent.getId(), OrderOutbox.Status.DONE));
+	}
+
+	@Test
+	@DisplayName("처리 완료로 바꾸면 저장한 토큰을 지움")
+	void testMarkDoneClearsToken() {
+		assertEquals(Optional.of("Bearer access"), orderOutboxRepository.findAccessTokenById(stale.getId()));
+
+		orderOutboxRepository.markDone(stale.getId(), OrderOutbox.Status.DONE);
+
+		assertEquals(Optional.empty(), orderOutboxRepository.findAccessTokenById(stale.getId()));
+	}
+
+	@Test
+	@DisplayName("발행할 때마다 발행 횟수가 오르고, 실패로 바꾸면 발행 대상에서 빠지고 토큰을 지움")
+	void testAttemptsAndMarkFailed() {
+		orderOutboxRepository.markPublished(List.of(stale.getId()), OrderOutbox.Status.PUBLISHED,
+			OrderOutbox.Status.DONE, LocalDateTime.now().minusMinutes(10));
+		assertEquals(2, orderOutboxRepository.findById(stale.getId()).orElseThrow().getAttempts());
+
+		assertEquals(1, orderOutboxRepository.markFailed(List.of(pending.getId(), stale.getId()),
+			OrderOutbox.Status.PUBLISHED, OrderOutbox.Status.FAILED));
+
+		OrderOutbox failed = orderOutboxRepository.findById(stale.getId()).orElseThrow();
+		assertEquals(OrderOutbox.Status.FAILED, failed.getStatus());
+		assertNull(failed.getAccessToken());
+		assertEquals(List.of(pending.getId()), orderOutboxRepository.findRelayTargets(OrderOutbox.Status.PENDING,
+				OrderOutbox.Status.PUBLISHED, LocalDateTime.now().minusMinutes(5), PageRequest.of(0, 10))
+			.stream().map(OrderOutbox::getId).toList());
+	}
+
+	@Test
+	@DisplayName("처리 완료된 건은 발행 상태로 되돌리지 않음")
+	void testMarkPublishedSkipsDone() {
+		orderOutboxRepository.markDone(stale.getId(), OrderOutbox.Status.DONE);
+
+		int updated = orderOutboxRepository.markPublished(List.of(pending.getId(), stale.getId()),
+			OrderOutbox.Status.PUBLISHED, OrderOutbox.Status.DONE, LocalDateTime.now());
+
+		assertEquals(1, updated);
+		assertEquals(OrderOutbox.Status.DONE, orderOutboxRepository.findById(stale.getId()).orElseThrow().getStatus());
+		assertEquals(List.of(pending.getId()),
+			orderOutboxRepository.findAllByOrderIdAndStatusNotOrderById(1L, OrderOutbox.Status.DONE)
+				.stream().map(OrderOutbox::getId).toList());
+	}
+}
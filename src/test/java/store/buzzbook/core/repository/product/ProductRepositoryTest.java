@@ -0,0 +1,119 @@
+package store.buzzbook.core.repository.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.exception.order.ProductOutOfStockException;
+import store.buzzbook.core.entity.product.Category;
+import store.buzzbook.core.entity.product.Product;
+import store.buzzbook.core.service.product.StockService;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductRepositoryTest {
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	private Product product;
+
+	@BeforeEach
+	void setUp() {
+		Category category = categoryRepository.save(Category.builder().name("test").build());
+		product = productRepository.save(Product.builder()
+			.productName("testBook")
+			.stock(100)
+			.price(10000)
+			.score(10)
+			.forwardDate(LocalDate.now())
+			.stockStatus(Product.StockStatus.SALE)
+			.category(category)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("재고가 부족하면 차감하지 않고, 0이 되면 품절 상태로 바꿈")
+	void testDecreaseStock() {
+		assertEquals(0, productRepository.decreaseStock(product.getId(), 101));
+		assertEquals(1, productRepository.decreaseStock(product.getId(), 100));
+
+		Product result = productRepository.findById(product.getId()).orElseThrow();
+		assertEquals(0, result.getStock());
+		assertEquals(Product.StockStatus.OUT_OF_STOCK, result.getStockStatus());
+	}
+
+	@Test
+	@DisplayName("한 상품에 동시에 주문이 몰려도 재고보다 많이 팔리지 않음")
+	void testConcurrentDecreaseDoesNotOversell() throws Exception {
+		int threads = 16;
+		int attemptsPerThread = 10;
+		StockService stockService = new StockService(productRepository, true, 5000);
+
+		AtomicInteger sold = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int j = 0; j < attemptsPerThread; j++) {
+						try {
+							stockService.decreaseStocks(Map.of(product.getId(), 1));
+							sold.incrementAndGet();
+						} catch (ProductOutOfStockException e) {
+							rejected.incrementAndGet();
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(100, sold.get());
+		assertEquals(threads * attemptsPerThread - 100, rejected.get());
+		assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStock());
+		assertTrue(stockService.isSoldOut(product.getId()));
+	}
+}
@@ -0,0 +1,65 @@
+package store.buzzbook.core.repository.user;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserBirthMonthRepositoryTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void tearDown() {
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("엔티티를 거치지 않고 넣거나 바꾼 회원도 생일의 월로 찾음")
+	void testBirthMonthFromBirthday() {
+		insertUser(1L, "2000-03-15");
+		insertUser(2L, "1999-03-01");
+		insertUser(3L, "2000-04-01");
+		jdbcTemplate.update("UPDATE `user` SET status = 'WITHDRAW' WHERE id = 2");
+
+		assertEquals(List.of(1L), userRepository.findUserIdsByBirthMonth(3, 0, 10));
+		assertEquals(List.of(3L), userRepository.findUserIdsByBirthMonth(4, 0, 10));
+
+		jdbcTemplate.update("UPDATE `user` SET birthday = '2000-04-20' WHERE id = 1");
+
+		assertEquals(List.of(1L, 3L), userRepository.findUserIdsByBirthMonth(4, 0, 10));
+		assertEquals(List.of(3L), userRepository.findUserIdsByBirthMonth(4, 1L, 10));
+		assertEquals(4, userRepository.findById(3L).orElseThrow().getBirthMonth());
+	}
+
+	private void insertUser(long userId, String birthday) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.update("INSERT INTO `user` (id, login_id, contact_number, name, email, password, birthday, "
+				+ "created_at, status, modify_at, is_admin) VALUES (?, ?, '010-0000-1111', 'test', ?, 'password', ?, ?, "
+				+ "'ACTIVE', ?, false)", userId, "birth" + userId, "birth" + userId + "@nhn.com", birthday, now, now);
+	}
+}
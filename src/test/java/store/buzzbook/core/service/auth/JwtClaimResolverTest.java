@@ -0,0 +1,180 @@
+package store.buzzbook.core.service.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.client.auth.AuthClient;
+import store.buzzbook.core.common.exception.auth.AuthorizeFailException;
+
+@ExtendWith(MockitoExtension.class)
+class JwtClaimResolverTest {
+	private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+	private static final Instant NOW = Instant.parse("2026-10-17T00:00:00Z");
+
+	@Mock
+	private AuthClient authClient;
+
+	private SimpleMeterRegistry meterRegistry;
+	private JwtKeySet keySet;
+	private JwtClaimResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		keySet = new JwtKeySet("k1:" + Base64.getEncoder().encodeToString(SECRET));
+		resolver = new JwtClaimResolver(authClient, keySet, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC),
+			Duration.ofSeconds(30), 100);
+	}
+
+	@Test
+	void resolveVerifiesKnownKeyWithoutRemoteCall() throws Exception {
+		String token = "Bearer " + sign("k1", SECRET, NOW.plusSeconds(600));
+
+		Map<String, Object> claims = resolver.resolve(token, "Bearer refresh");
+
+		assertThat(claims).containsEntry(AuthService.USER_ID, 1)
+			.containsEntry(AuthService.LOGIN_ID, "user1")
+			.containsEntry(AuthService.ROLE, "USER");
+		verifyNoInteractions(authClient);
+		assertThat(meterRegistry.counter(JwtClaimResolver.SOURCE_COUNTER, "source", "local").count()).isEqualTo(1);
+	}
+
+	@Test
+	void resolveRejectsTamperedSignature() throws Exception {
+		String token = sign("k1", "another-secret-another-secret-00".getBytes(StandardCharsets.UTF_8),
+			NOW.plusSeconds(600));
+
+		assertThatThrownBy(() -> resolver.resolve(token, null)).isInstanceOf(AuthorizeFailException.class);
+		verifyNoInteractions(authClient);
+	}
+
+	@Test
+	void resolveFallsBackToRemoteForUnknownKeyAndCachesResult() throws Exception {
+		String token = sign("k2", SECRET, NOW.plusSeconds(600));
+		when(authClient.getUserInfo(token, null)).thenReturn(ResponseEntity.ok(userInfo()));
+
+		Map<String, Object> first = resolver.resolve(token, null);
+		first.put("mutated", true);
+		Map<String, Object> second = resolver.resolve(token, null);
+
+		assertThat(second).doesNotContainKey("mutated").containsEntry(AuthService.USER_ID, 1);
+		verify(authClient, times(1)).getUserInfo(token, null);
+		assertThat(meterRegistry.counter(JwtClaimResolver.LOOKUP_COUNTER, "result", "hit").count()).isEqualTo(1);
+		assertThat(meterRegistry.counter(JwtClaimResolver.LOOKUP_COUNTER, "result", "miss").count()).isEqualTo(1);
+		assertThat(meterRegistry.timer(JwtClaimResolver.REMOTE_TIMER, "outcome", "success").count()).isEqualTo(1);
+	}
+
+	@Test
+	void resolveFallsBackToRemoteAfterKeyRotation() throws Exception {
+		String token = sign("k1", SECRET, NOW.plusSeconds(600));
+		keySet.rotate("k2:" + Base64.getEncoder().encodeToString(SECRET));
+		when(authClient.getUserInfo(token, null)).thenReturn(ResponseEntity.ok(userInfo()));
+
+		resolver.resolve(token, null);
+
+		verify(authClient).getUserInfo(token, null);
+	}
+
+	@Test
+	void resolveDoesNotCacheRejectedToken() {
+		when(authClient.getUserInfo("token", null)).thenReturn(
+			ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(AuthService.ERROR, "expired",
+				AuthService.MESSAGE, "token expired")));
+
+		assertThatThrownBy(() -> resolver.resolve("token", null)).isInstanceOf(AuthorizeFailException.class);
+		assertThatThrownBy(() -> resolver.resolve("token", null)).isInstanceOf(AuthorizeFailException.class);
+
+		verify(authClient, times(2)).getUserInfo("token", null);
+		assertThat(meterRegistry.timer(JwtClaimResolver.REMOTE_TIMER, "outcome", "failure").count()).isEqualTo(2);
+	}
+
+	@Test
+	void resolveEvictsLeastRecentlyUsedTokenWhenFull() {
+		resolver = new JwtClaimResolver(authClient, keySet, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC),
+			Duration.ofSeconds(30), 2);
+		when(authClient.getUserInfo(anyString(), isNull())).thenReturn(ResponseEntity.ok(userInfo()));
+
+		resolver.resolve("token1", null);
+		resolver.resolve("token2", null);
+		resolver.resolve("token1", null);
+		resolver.resolve("token3", null);
+		resolver.resolve("token1", null);
+		resolver.resolve("token2", null);
+
+		verify(authClient, times(1)).getUserInfo("token1", null);
+		verify(authClient, times(2)).getUserInfo("token2", null);
+		verify(authClient, times(1)).getUserInfo("token3", null);
+	}
+
+	@Test
+	void resolveSharesSingleRemoteCallAcrossConcurrentRequests() throws Exception {
+		CountDownLatch called = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(authClient.getUserInfo(eq("token"), any())).thenAnswer(invocation -> {
+			called.countDown();
+			release.await();
+			return ResponseEntity.ok(userInfo());
+		});
+
+		List<Future<Map<String, Object>>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			results.add(executor.submit(() -> resolver.resolve("token", "refresh")));
+			called.await();
+			for (int i = 0; i < 7; i++) {
+				results.add(executor.submit(() -> resolver.resolve("token", "refresh")));
+			}
+			Thread.sleep(100);
+			release.countDown();
+
+			for (Future<Map<String, Object>> result : results) {
+				assertThat(result.get()).containsEntry(AuthService.LOGIN_ID, "user1");
+			}
+		}
+
+		verify(authClient, times(1)).getUserInfo("token", "refresh");
+	}
+
+	private static Map<String, Object> userInfo() {
+		return Map.of(AuthService.USER_ID, 1, AuthService.LOGIN_ID, "user1", AuthService.ROLE, "USER");
+	}
+
+	private static String sign(String kid, byte[] secret, Instant expiresAt) throws Exception {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString(
+			("{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + kid + "\"}").getBytes(StandardCharsets.UTF_8));
+		String payload = encoder.encodeToString(("{\"userId\":1,\"loginId\":\"user1\",\"role\":\"USER\",\"exp\":"
+			+ expiresAt.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+		byte[] signature = mac.doFinal((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+		return header + "." + payload + "." + encoder.encodeToString(signature);
+	}
+}
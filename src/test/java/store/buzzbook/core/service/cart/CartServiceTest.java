@@ -17,6 +17,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import store.buzzbook.core.common.exception.cart.CartNotExistsException;
 import store.buzzbook.core.common.exception.cart.NotEnoughProductStockException;
@@ -48,6 +49,8 @@ public class CartServiceTest {
 	private ProductRepository productRepository;
 	@Mock
 	private CartDetailRepository cartDetailRepository;
+	@Mock
+	private GuestCartStore guestCartStore;
 
 	@InjectMocks
 	private CartServiceImpl cartService;
@@ -429,12 +432,87 @@ public class CartServiceTest {
 	@Test
 	@DisplayName("비회원 카트 생성 성공")
 	void testCreateCartWithoutUserId() {
-		Mockito.when(cartRepository.save(Mockito.any(Cart.class))).thenAnswer(i -> i.getArguments()[0]);
+		Mockito.when(guestCartStore.create()).thenReturn(uuid);
 
 		String result = cartService.createCart();
 
-		Assertions.assertNotNull(result);
-		Mockito.verify(cartRepository, Mockito.times(1)).save(Mockito.any(Cart.class));
+		Assertions.assertEquals(UuidUtil.uuidByteToString(uuid), result);
+		Mockito.verify(cartRepository, Mockito.never()).save(Mockito.any(Cart.class));
+	}
+
+	@Test
+	@DisplayName("비회원 카트는 메모리 저장소에서 가져오고 재고 없는 상품은 뺀다")
+	void testGetCartByUuIdGuestCart() {
+		Product soldOut = Product.builder().productName("soldOut").stock(0).price(5000).category(category).build();
+		ReflectionTestUtils.setField(soldOut, "id", 3);
+		ReflectionTestUtils.setField(product, "id", 2);
+		Mockito.when(guestCartStore.find(Mockito.any()))
+			.thenReturn(Optional.of(new GuestCartStore.Lines(new int[] {2, 3}, new int[] {4, 1})));
+		Mockito.when(productRepository.findAllById(List.of(2, 3))).thenReturn(List.of(product, soldOut));
+
+		List<CartDetailResponse> response = cartService.getCartByUuId(UuidUtil.uuidByteToString(uuid));
+
+		Assertions.assertEquals(1, response.size());
+		Assertions.assertEquals(2, response.getFirst().getId());
+		Assertions.assertEquals(4, response.getFirst().getQuantity());
+		Mockito.verify(guestCartStore, Mockito.times(1)).remove(Mockito.any(), Mockito.eq(3));
+		Mockito.verify(cartRepository, Mockito.never()).findCartDetailByUuid(Mockito.any());
+	}
+
+	@Test
+	@DisplayName("비회원 카트 상세 생성은 메모리 저장소에 담는다")
+	void testCreateCartDetailGuestCart() {
+		Mockito.when(guestCartStore.find(Mockito.any()))
+			.thenReturn(Optional.of(new GuestCartStore.Lines(new int[0], new int[0])));
+		Mockito.when(productRepository.findById(2)).thenReturn(Optional.of(product));
+
+		cartService.createCartDetail(UuidUtil.uuidByteToString(uuid), createCartDetailRequest);
+
+		Mockito.verify(guestCartStore, Mockito.times(1)).add(Mockito.any(), Mockito.eq(2), Mockito.eq(1));
+		Mockito.verify(cartRepository, Mockito.never()).findCartByUuid(Mockito.any());
+		Mockito.verify(cartDetailRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	@DisplayName("비회원 카트 상세 삭제는 뺀 내용으로 응답한다")
+	void testDeleteCartDetailGuestCart() {
+		ReflectionTestUtils.setField(product, "id", 2);
+		Mockito.when(guestCartStore.find(Mockito.any()))
+			.thenReturn(Optional.of(new GuestCartStore.Lines(new int[] {2, 3}, new int[] {4, 1})));
+		Mockito.when(productRepository.findAllById(List.of(2))).thenReturn(List.of(product));
+
+		List<CartDetailResponse> response = cartService.deleteCartDetail(UuidUtil.uuidByteToString(uuid), 3L);
+
+		Assertions.assertEquals(1, response.size());
+		Assertions.assertEquals(2, response.getFirst().getId());
+		Mockito.verify(guestCartStore, Mockito.times(1)).remove(Mockito.any(), Mockito.eq(3));
+		Mockito.verify(guestCartStore, Mockito.times(1)).find(Mockito.any());
+		Mockito.verify(cartDetailRepository, Mockito.never()).deleteById(Mockito.any());
+	}
+
+	@Test
+	@DisplayName("비회원 카트 상세 수량 변경 중 재고 부족")
+	void testUpdateCartDetailGuestCartStockNotEnough() {
+		Mockito.when(guestCartStore.find(Mockito.any()))
+			.thenReturn(Optional.of(new GuestCartStore.Lines(new int[] {2}, new int[] {1})));
+		Mockito.when(productRepository.findById(2)).thenReturn(Optional.of(product));
+
+		Assertions.assertThrows(NotEnoughProductStockException.class,
+			() -> cartService.updateCartDetail(UuidUtil.uuidByteToString(uuid), 2L, 15));
+
+		Mockito.verify(guestCartStore, Mockito.never())
+			.changeQuantity(Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+	}
+
+	@Test
+	@DisplayName("회원 카트 상세 수량 변경은 DB 상세를 바꾼다")
+	void testUpdateCartDetailMemberCart() {
+		Mockito.when(cartDetailRepository.findById(cartDetail.getId())).thenReturn(Optional.of(cartDetail));
+
+		cartService.updateCartDetail(UuidUtil.uuidByteToString(uuid), cartDetail.getId(), 5);
+
+		Mockito.verify(cartDetailRepository, Mockito.times(1)).save(cartDetail);
+		Assertions.assertEquals(5, cartDetail.getQuantity());
 	}
 
 	@Test
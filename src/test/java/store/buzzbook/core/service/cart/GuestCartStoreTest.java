@@ -0,0 +1,318 @@
+package store.buzzbook.core.service.cart;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.exception.cart.CartConflictException;
+import store.buzzbook.core.common.util.UuidUtil;
+import store.buzzbook.core.entity.product.Category;
+import store.buzzbook.core.entity.product.Product;
+import store.buzzbook.core.repository.product.CategoryRepository;
+import store.buzzbook.core.repository.product.ProductRepository;
+import store.buzzbook.core.repository.user.CartRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GuestCartStoreTest {
+
+	@Autowired
+	private CartRepository cartRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private CartRepository repository;
+	private SimpleMeterRegistry meterRegistry;
+	private MutableClock clock;
+	private int first;
+	private int second;
+	private int third;
+
+	@BeforeEach
+	void setUp() {
+		// 저장 충돌과 호출 횟수를 확인할 수 있도록 실제 저장소에 위임하는 목으로 감쌈
+		repository = mock(CartRepository.class, AdditionalAnswers.delegatesTo(cartRepository));
+		meterRegistry = new SimpleMeterRegistry();
+		clock = new MutableClock(Instant.parse("2026-10-17T00:00:00Z"));
+
+		Category category = categoryRepository.save(Category.builder().name("소설").build());
+		first = saveProduct("book1", category);
+		second = saveProduct("book2", category);
+		third = saveProduct("book3", category);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM cart_detail");
+		jdbcTemplate.update("DELETE FROM cart");
+		jdbcTemplate.update("DELETE FROM `user`");
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("새 비회원 장바구니는 행을 바로 만들고, 담은 상품도 바꿀 때마다 DB에 바로 저장됨")
+	void testWriteThrough() {
+		GuestCartStore store = store(100, Duration.ofMinutes(30));
+		byte[] uuid = store.create();
+		store.add(uuid, first, 2);
+		store.add(uuid, second, 1);
+		store.add(uuid, first, 3);
+
+		assertTrue(store.contains(uuid));
+		assertEquals(Map.of(first, 5, second, 1), savedLines(uuid));
+		assertEquals(3L, versionOf(uuid));
+
+		store.remove(uuid, first);
+		store.changeQuantity(uuid, second, 4);
+		// 없는 상품을 빼면 저장하지 않음
+		store.remove(uuid, third);
+
+		assertEquals(Map.of(second, 4), savedLines(uuid));
+		assertEquals(5L, versionOf(uuid));
+		verify(repository, times(5)).saveGuestCart(anyLong(), anyLong(), any(), any());
+		verify(repository, never()).findGuestCart(any());
+		assertEquals(1, count("cart"));
+		assertEquals(5, meterRegistry.counter(GuestCartStore.WRITE_COUNTER, "result", "success").count());
+	}
+
+	@Test
+	@DisplayName("한 서버가 바꾼 내용은 주기를 기다리지 않고 다른 서버에서 바로 보임")
+	void testNoStaleReadAcrossServers() {
+		GuestCartStore server = store(100, Duration.ofMinutes(30));
+		GuestCartStore other = store(100, Duration.ofMinutes(30));
+		byte[] uuid = server.create();
+		server.add(uuid, first, 1);
+
+		// 만든 서버가 아니어도 장바구니를 찾음
+		assertArrayEquals(new int[] {first}, other.find(uuid).orElseThrow().productIds());
+		assertTrue(other.contains(uuid));
+
+		server.add(uuid, second, 2);
+
+		assertEquals(Map.of(first, 1, second, 2), toMap(other.find(uuid).orElseThrow()));
+		assertEquals(1, meterRegistry.counter(GuestCartStore.LOOKUP_COUNTER, "result", "stale").count());
+
+		other.remove(uuid, first);
+
+		assertEquals(Map.of(second, 2), toMap(server.find(uuid).orElseThrow()));
+		// 바뀌지 않았으면 버전만 확인하고 메모리의 내용을 씀
+		assertEquals(Map.of(second, 2), toMap(server.find(uuid).orElseThrow()));
+		assertEquals(1, meterRegistry.counter(GuestCartStore.LOOKUP_COUNTER, "result", "hit").count());
+	}
+
+	@Test
+	@DisplayName("다른 서버가 먼저 저장했으면 DB 내용 위에 변경을 다시 적용해 저장")
+	void testConcurrentServers() {
+		GuestCartStore server = store(100, Duration.ofMinutes(30));
+		GuestCartStore other = store(100, Duration.ofMinutes(30));
+		byte[] uuid = server.create();
+		server.add(uuid, first, 1);
+		other.find(uuid);
+
+		other.add(uuid, second, 1);
+		server.add(uuid, third, 1);
+
+		assertEquals(Map.of(first, 1, second, 1, third, 1), savedLines(uuid));
+		assertEquals(3L, versionOf(uuid));
+		assertEquals(1, meterRegistry.counter(GuestCartStore.WRITE_COUNTER, "result", "conflict").count());
+		assertEquals(3, other.find(uuid).orElseThrow().size());
+	}
+
+	@Test
+	@DisplayName("계속 겹쳐 저장하지 못하면 예외를 던지고 장바구니는 바꾸지 않음")
+	void testWriteConflictExhausted() {
+		GuestCartStore store = store(100, Duration.ofMinutes(30));
+		byte[] uuid = store.create();
+		doReturn(false).when(repository).saveGuestCart(anyLong(), anyLong(), any(), any());
+
+		assertThrows(CartConflictException.class, () -> store.add(uuid, first, 1));
+
+		assertEquals(Map.of(), savedLines(uuid));
+		verify(repository, times(3)).saveGuestCart(anyLong(), anyLong(), any(), any());
+		assertEquals(1, meterRegistry.counter(GuestCartStore.WRITE_COUNTER, "result", "failure").count());
+	}
+
+	@Test
+	@DisplayName("용량을 넘거나 오래 쓰이지 않은 장바구니는 메모리에서 내리고 다시 찾으면 DB에서 올림")
+	void testEviction() {
+		GuestCartStore store = store(1, Duration.ofMinutes(30));
+		byte[] firstCart = store.create();
+		store.add(firstCart, third, 1);
+		byte[] secondCart = store.create();
+
+		assertFalse(store.contains(firstCart));
+		assertEquals(Map.of(third, 1), savedLines(firstCart));
+
+		clock.advance(Duration.ofMinutes(31));
+		store.evictIdle();
+
+		assertEquals(0, store.size());
+		assertEquals(2, count("cart"));
+		assertArrayEquals(new int[] {third}, store.find(firstCart).orElseThrow().productIds());
+		assertTrue(store.find(secondCart).isPresent());
+	}
+
+	@Test
+	@DisplayName("회원 장바구니와 없는 장바구니는 비회원 저장소에서 다루지 않음")
+	void testMemberCartNotLoaded() {
+		insertUser(1L);
+		byte[] member = UuidUtil.createUuidToByte();
+		jdbcTemplate.update("INSERT INTO cart (user_id, `uuid`, version) VALUES (1, ?, 0)", (Object)member);
+		GuestCartStore store = store(100, Duration.ofMinutes(30));
+
+		assertTrue(store.find(member).isEmpty());
+		assertTrue(store.find(UuidUtil.createUuidToByte()).isEmpty());
+		assertEquals(0, store.size());
+
+		// 메모리에 올라온 뒤 회원 장바구니가 되면 더는 찾지 않음
+		byte[] uuid = store.create();
+		insertUser(2L);
+		jdbcTemplate.update("UPDATE cart SET user_id = 2 WHERE `uuid` = ?", (Object)uuid);
+
+		assertTrue(store.find(uuid).isEmpty());
+		assertFalse(store.contains(uuid));
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 바꾼 내용은 커밋된 뒤에만 저장되고 롤백되면 버림")
+	void testChangeAfterCommit() {
+		GuestCartStore store = store(100, Duration.ofMinutes(30));
+		byte[] uuid = store.create();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			store.add(uuid, first, 1);
+			status.setRollbackOnly();
+		});
+
+		assertEquals(0, store.find(uuid).orElseThrow().size());
+		assertEquals(Map.of(), savedLines(uuid));
+
+		transactionTemplate.executeWithoutResult(status -> {
+			store.add(uuid, second, 1);
+			assertEquals(0, store.find(uuid).orElseThrow().size());
+		});
+
+		assertArrayEquals(new int[] {second}, store.find(uuid).orElseThrow().productIds());
+		assertEquals(Map.of(second, 1), savedLines(uuid));
+	}
+
+	private GuestCartStore store(int maxCarts, Duration idle) {
+		return new GuestCartStore(repository, transactionManager, meterRegistry, clock, 1, maxCarts, idle);
+	}
+
+	private int saveProduct(String name, Category category) {
+		return productRepository.save(Product.builder()
+			.productName(name)
+			.stock(100)
+			.price(10000)
+			.score(10)
+			.forwardDate(LocalDate.now())
+			.stockStatus(Product.StockStatus.SALE)
+			.category(category)
+			.build()).getId();
+	}
+
+	private void insertUser(long userId) {
+		jdbcTemplate.update("INSERT INTO `user` (id, login_id, contact_number, name, email, password, birthday, "
+				+ "created_at, status, modify_at, is_admin) VALUES (?, ?, '010-0000-1111', 'test', ?, 'password', "
+				+ "'2000-01-01', ?, 'ACTIVE', ?, false)", userId, "cartuser" + userId, "cart" + userId + "@nhn.com",
+			Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+	}
+
+	private Map<Integer, Integer> toMap(GuestCartStore.Lines lines) {
+		Map<Integer, Integer> map = new HashMap<>();
+		for (int i = 0; i < lines.size(); i++) {
+			map.put(lines.productIds()[i], lines.quantities()[i]);
+		}
+		return map;
+	}
+
+	private int count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+	private long versionOf(byte[] uuid) {
+		return jdbcTemplate.queryForObject("SELECT version FROM cart WHERE `uuid` = ?", Long.class, (Object)uuid);
+	}
+
+	private Map<Integer, Integer> savedLines(byte[] uuid) {
+		Map<Integer, Integer> lines = new HashMap<>();
+		jdbcTemplate.query("SELECT d.product_id, d.quantity FROM cart_detail d JOIN cart c ON c.id = d.cart_id "
+				+ "WHERE c.`uuid` = ?",
+			rs -> {
+				lines.put(rs.getInt("product_id"), rs.getInt("quantity"));
+			}, (Object)uuid);
+		return lines;
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
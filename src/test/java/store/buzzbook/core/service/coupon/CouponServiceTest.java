@@ -1,10 +1,12 @@
 package store.buzzbook.core.service.coupon;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -13,9 +15,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import feign.FeignException;
 import feign.Request;
@@ -24,10 +29,13 @@ import store.buzzbook.core.client.auth.CouponClient;
 import store.buzzbook.core.common.exception.coupon.UserCouponAlreadyExistsException;
 import store.buzzbook.core.common.exception.coupon.UserCouponNotFoundException;
 import store.buzzbook.core.common.exception.user.UserNotFoundException;
+import store.buzzbook.core.common.service.UserProducerService;
 import store.buzzbook.core.dto.cart.CartDetailResponse;
+import store.buzzbook.core.dto.coupon.BirthdayCouponDispatchResult;
 import store.buzzbook.core.dto.coupon.CouponPolicyResponse;
 import store.buzzbook.core.dto.coupon.CouponResponse;
 import store.buzzbook.core.dto.coupon.CouponTypeResponse;
+import store.buzzbook.core.dto.coupon.CreateBirthdayCouponRequest;
 import store.buzzbook.core.dto.coupon.CreateCouponResponse;
 import store.buzzbook.core.dto.coupon.CreateUserCouponRequest;
 import store.buzzbook.core.dto.coupon.DownloadCouponRequest;
@@ -53,6 +61,9 @@ class CouponServiceTest {
 	@Mock
 	private CouponClient couponClient;
 
+	@Mock
+	private UserProducerService userProducerService;
+
 	@InjectMocks
 	private CouponServiceImpl couponService;
 
@@ -352,4 +363,54 @@ class CouponServiceTest {
 		verify(userRepository, times(1)).findUsersByBirthdayInCurrentMonth();
 		assertEquals(userInfos.size(), 1);
 	}
+
+	@Test
+	@DisplayName("dispatch birthday coupons page by page")
+	@SuppressWarnings("unchecked")
+	void dispatchBirthdayCoupons() {
+		// given
+		ReflectionTestUtils.setField(couponService, "birthdayPageSize", 2);
+		int month = LocalDate.now().getMonthValue();
+		when(userRepository.findUserIdsByBirthMonth(month, 0L, 2)).thenReturn(List.of(3L, 5L));
+		when(userRepository.findUserIdsByBirthMonth(month, 5L, 2)).thenReturn(List.of(8L));
+		when(userRepository.findUserIdsByBirthMonth(month, 8L, 2)).thenReturn(List.of());
+
+		// when
+		BirthdayCouponDispatchResult result = couponService.dispatchBirthdayCoupons(0L);
+
+		// then
+		ArgumentCaptor<List<CreateBirthdayCouponRequest>> captor = ArgumentCaptor.forClass(List.class);
+		verify(userProducerService, times(2)).sendBirthdayCouponRequests(captor.capture());
+		assertEquals(List.of(3L, 5L), captor.getAllValues().getFirst().stream()
+			.map(CreateBirthdayCouponRequest::userId).toList());
+		assertEquals(List.of(YearMonth.now().toString()), captor.getAllValues().stream()
+			.flatMap(List::stream)
+			.map(CreateBirthdayCouponRequest::yearMonth)
+			.distinct()
+			.toList());
+		assertTrue(result.completed());
+		assertEquals(3, result.users());
+		assertEquals(8L, result.lastUserId());
+	}
+
+	@Test
+	@DisplayName("stop dispatching birthday coupons when publisher confirm fails")
+	void dispatchBirthdayCouponsStopsOnConfirmFailure() {
+		// given
+		ReflectionTestUtils.setField(couponService, "birthdayPageSize", 2);
+		int month = LocalDate.now().getMonthValue();
+		when(userRepository.findUserIdsByBirthMonth(month, 0L, 2)).thenReturn(List.of(3L, 5L));
+		when(userRepository.findUserIdsByBirthMonth(month, 5L, 2)).thenReturn(List.of(8L));
+		doNothing().doThrow(new AmqpTimeoutException("timeout"))
+			.when(userProducerService).sendBirthdayCouponRequests(anyList());
+
+		// when
+		BirthdayCouponDispatchResult result = couponService.dispatchBirthdayCoupons(0L);
+
+		// then
+		assertFalse(result.completed());
+		assertEquals(2, result.users());
+		assertEquals(5L, result.lastUserId());
+		verify(userRepository, never()).findUserIdsByBirthMonth(month, 8L, 2);
+	}
 }
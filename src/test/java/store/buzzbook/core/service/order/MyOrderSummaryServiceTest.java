@@ -0,0 +1,151 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import store.buzzbook.core.dto.order.MyOrderSummaryCheckResult;
+import store.buzzbook.core.dto.order.OrderCursor;
+import store.buzzbook.core.dto.order.ReadOrderDetailProjectionResponse;
+import store.buzzbook.core.dto.order.ReadOrdersRequest;
+import store.buzzbook.core.dto.order.ReadOrdersResponse;
+import store.buzzbook.core.entity.order.MyOrderSummary;
+import store.buzzbook.core.repository.order.MyOrderSummaryRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MyOrderSummaryServiceTest {
+
+	@Mock
+	private MyOrderSummaryRepository myOrderSummaryRepository;
+
+	@Mock
+	private OrderRepository orderRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private MyOrderSummaryService myOrderSummaryService;
+
+	@BeforeEach
+	void setUp() {
+		myOrderSummaryService = new MyOrderSummaryService(myOrderSummaryRepository, orderRepository, objectMapper,
+			transactionManager, 2);
+	}
+
+	@Test
+	@DisplayName("주문이 바뀌면 목록 응답을 직렬화해 읽기 모델에 저장")
+	@SuppressWarnings("unchecked")
+	void testRefreshCreatesSummary() throws Exception {
+		ReadOrdersResponse response = response(1L, "john", 30000);
+		when(myOrderSummaryRepository.findAllById(List.of(1L))).thenReturn(List.of());
+		when(orderRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(response));
+
+		myOrderSummaryService.refresh(1L);
+
+		ArgumentCaptor<List<MyOrderSummary>> captor = ArgumentCaptor.forClass(List.class);
+		verify(myOrderSummaryRepository).saveAll(captor.capture());
+		MyOrderSummary saved = captor.getValue().getFirst();
+		assertEquals("john", saved.getLoginId());
+		assertEquals(objectMapper.writeValueAsString(response), saved.getSummary());
+	}
+
+	@Test
+	@DisplayName("비회원 주문은 읽기 모델에서 제거")
+	void testRefreshRemovesGuestOrder() {
+		when(myOrderSummaryRepository.findAllById(List.of(1L))).thenReturn(List.of(summary(1L, "{}")));
+		when(orderRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(response(1L, null, 30000)));
+
+		myOrderSummaryService.refresh(1L);
+
+		verify(myOrderSummaryRepository).deleteById(1L);
+	}
+
+	@Test
+	@DisplayName("커서로 조회하면 저장된 목록 응답을 그대로 반환")
+	void testReadMyOrdersWithCursor() throws Exception {
+		ReadOrdersResponse response = response(1L, "john", 30000);
+		String cursor = new OrderCursor(LocalDate.of(2024, 8, 15), 10L).encode();
+		when(myOrderSummaryRepository.findAllByLoginIdAfter("john", LocalDate.of(2024, 8, 15), 10L,
+			PageRequest.of(0, 10))).thenReturn(new SliceImpl<>(
+			List.of(summary(1L, objectMapper.writeValueAsString(response))), PageRequest.of(0, 10), false));
+
+		Slice<ReadOrdersResponse> responses = myOrderSummaryService.readMyOrders(
+			new ReadOrdersRequest(1, 10, cursor), "john", PageRequest.of(0, 10));
+
+		ReadOrdersResponse read = responses.getContent().getFirst();
+		assertEquals(1L, read.getId());
+		assertEquals(30000, read.getPrice());
+		assertEquals("책", read.getDetails().getFirst().getOrderDetailProductName());
+	}
+
+	@Test
+	@DisplayName("정합성 검사는 빠지거나 달라진 주문만 다시 만듦")
+	void testCheck() throws Exception {
+		ReadOrdersResponse same = response(1L, "john", 10000);
+		ReadOrdersResponse changed = response(2L, "john", 20000);
+		ReadOrdersResponse missing = response(3L, "john", 30000);
+		when(orderRepository.findMemberOrderIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+		when(orderRepository.findMemberOrderIdsAfter(2L, 2)).thenReturn(List.of(3L));
+		when(orderRepository.findMemberOrderIdsAfter(3L, 2)).thenReturn(List.of());
+		when(myOrderSummaryRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(
+			summary(1L, objectMapper.writeValueAsString(same)),
+			summary(2L, objectMapper.writeValueAsString(response(2L, "john", 25000)))));
+		when(orderRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(same, changed));
+		when(myOrderSummaryRepository.findAllById(List.of(3L))).thenReturn(List.of());
+		when(orderRepository.findAllByIdIn(List.of(3L))).thenReturn(List.of(missing));
+		when(myOrderSummaryRepository.findAllById(List.of(2L))).thenReturn(List.of());
+		when(orderRepository.findAllByIdIn(List.of(2L))).thenReturn(List.of(changed));
+
+		MyOrderSummaryCheckResult result = myOrderSummaryService.check();
+
+		assertEquals(new MyOrderSummaryCheckResult(3, 1, 1), result);
+		verify(orderRepository).findAllByIdIn(List.of(2L));
+		verify(orderRepository, times(2)).findAllByIdIn(List.of(3L));
+		verify(orderRepository, never()).findAllByIdIn(List.of(1L));
+	}
+
+	private ReadOrdersResponse response(long id, String loginId, int price) {
+		ReadOrderDetailProjectionResponse detail = new ReadOrderDetailProjectionResponse(10L, price, 1, "false",
+			LocalDateTime.of(2024, 8, 1, 10, 0), "PAID", "안함", "책", null);
+		return ReadOrdersResponse.builder()
+			.id(id)
+			.orderStr("order" + id)
+			.loginId(loginId)
+			.price(price)
+			.desiredDeliveryDate(LocalDate.of(2024, 8, 15))
+			.details(List.of(detail))
+			.orderStatus("PAID")
+			.build();
+	}
+
+	private MyOrderSummary summary(long orderId, String summary) {
+		return MyOrderSummary.builder()
+			.orderId(orderId)
+			.loginId("john")
+			.desiredDeliveryDate(LocalDate.of(2024, 8, 15))
+			.summary(summary)
+			.updatedAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -0,0 +1,274 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static store.buzzbook.core.common.listener.OrderStatusListener.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
+import store.buzzbook.core.dto.order.OrderArchiveResult;
+import store.buzzbook.core.dto.order.ReadOrderResponse;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderArchive;
+import store.buzzbook.core.entity.order.OrderDetail;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.entity.product.Category;
+import store.buzzbook.core.entity.product.Product;
+import store.buzzbook.core.entity.review.Review;
+import store.buzzbook.core.repository.order.OrderArchiveRepository;
+import store.buzzbook.core.repository.order.OrderDetailRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.order.OrderStatusRepository;
+import store.buzzbook.core.repository.payment.BillLogArchiveRepository;
+import store.buzzbook.core.repository.payment.BillLogRepository;
+import store.buzzbook.core.repository.product.CategoryRepository;
+import store.buzzbook.core.repository.product.ProductRepository;
+import store.buzzbook.core.repository.review.ReviewRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderArchiveServiceTest {
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderDetailRepository orderDetailRepository;
+
+	@Autowired
+	private OrderStatusRepository orderStatusRepository;
+
+	@Autowired
+	private OrderArchiveRepository orderArchiveRepository;
+
+	@Autowired
+	private BillLogRepository billLogRepository;
+
+	@Autowired
+	private BillLogArchiveRepository billLogArchiveRepository;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final ReferenceDataRegistry referenceDataRegistry = mock(ReferenceDataRegistry.class);
+	private final OrderResponseLoader orderResponseLoader = mock(OrderResponseLoader.class);
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, OrderStatus> statuses = new LinkedHashMap<>();
+	private final LocalDate old = LocalDate.now().minusDays(OrderService.BREAKAGE_REFUND_PERIOD + 31);
+
+	private Product product;
+
+	@BeforeEach
+	void setUp() {
+		for (String name : List.of(READY, WAITING_FOR_DEPOSIT, PAID, PARTIAL_CANCELED, CANCELED, SHIPPING_OUT, SHIPPED,
+			PARTIAL_REFUND, REFUND, BREAKAGE_REFUND)) {
+			statuses.put(name,
+				orderStatusRepository.save(OrderStatus.builder().name(name).updateAt(LocalDateTime.now()).build()));
+		}
+		when(referenceDataRegistry.getOrderStatus(anyString())).thenAnswer(
+			invocation -> statuses.get(invocation.getArgument(0, String.class)));
+		when(orderResponseLoader.toResponses(anyList())).thenAnswer(invocation -> responses(invocation.getArgument(0)));
+
+		Category category = categoryRepository.save(Category.builder().name("test").build());
+		product = productRepository.save(Product.builder()
+			.productName("testBook")
+			.stock(100)
+			.price(10000)
+			.score(10)
+			.forwardDate(LocalDate.now())
+			.stockStatus(Product.StockStatus.SALE)
+			.category(category)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		billLogArchiveRepository.deleteAll();
+		orderArchiveRepository.deleteAll();
+		reviewRepository.deleteAll();
+		jdbcTemplate.update("DELETE FROM order_detail_archive");
+		billLogRepository.deleteAll();
+		orderDetailRepository.deleteAll();
+		orderRepository.deleteAll();
+		orderStatusRepository.deleteAll();
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("파손 환불 기간과 여유 일수가 지난 종료 주문만 주문 상세, 결제 내역과 함께 보관")
+	void testArchiveOnlyEligibleOrders() throws Exception {
+		Order shipped = saveOrder("order-1", old, SHIPPED, 2);
+		saveOrder("order-2", old, PAID, 1);
+		saveOrder("order-3", LocalDate.now().minusDays(OrderService.BREAKAGE_REFUND_PERIOD + 29), SHIPPED, 1);
+		saveOrder("order-5", old, CANCELED, 0);
+		List<Long> archivedDetailIds = orderDetailRepository.findAllByOrder_Id(shipped.getId()).stream()
+			.map(OrderDetail::getId).toList();
+
+		OrderArchiveResult result = service(500).archive();
+
+		assertEquals(2, result.orders());
+		assertEquals(2, result.orderDetails());
+		assertEquals(1, result.billLogs());
+		assertEquals(List.of("order-2", "order-3"),
+			orderRepository.findAll(Sort.by("id")).stream().map(Order::getOrderStr).toList());
+		assertEquals(List.of("order-1", "order-5"),
+			orderArchiveRepository.findAll(Sort.by("orderId")).stream().map(OrderArchive::getOrderStr).toList());
+		assertEquals(List.of(shipped.getId()),
+			jdbcTemplate.queryForList("SELECT order_id FROM bill_log_archive", Long.class));
+		assertEquals(0, billLogRepository.count());
+		assertEquals(1, billLogArchiveRepository.findByOrderStr("order-1").size());
+		assertTrue(billLogArchiveRepository.findByUserIdAndOrderStr(1L, "order-1").isEmpty());
+		// 주문 상세는 원래 아이디 그대로 보관
+		assertEquals(archivedDetailIds, jdbcTemplate.queryForList(
+			"SELECT id FROM order_detail_archive WHERE order_id = ? ORDER BY id", Long.class, shipped.getId()));
+		assertEquals(2, orderDetailRepository.count());
+
+		String document = orderArchiveRepository.findByOrderStr("order-1").orElseThrow().getDocument();
+		ReadOrderResponse archived = objectMapper.readValue(document, ReadOrderResponse.class);
+		assertEquals("order-1", archived.getOrderStr());
+		assertEquals("user-order-1", archived.getLoginId());
+		verify(orderResponseLoader).evict(List.of("order-1", "order-5"));
+	}
+
+	@Test
+	@DisplayName("리뷰가 달린 주문도 보관하고, 리뷰는 보관 주문 상세를 참조하도록 옮김")
+	void testArchiveReviewedOrder() {
+		Order reviewed = saveOrder("order-1", old, REFUND, 2);
+		OrderDetail detail = orderDetailRepository.findAllByOrder_Id(reviewed.getId()).getFirst();
+		Review review = reviewRepository.save(new Review("good", null, 5, detail));
+
+		OrderArchiveResult result = service(500).archive();
+
+		assertEquals(1, result.orders());
+		assertEquals(2, result.orderDetails());
+		assertEquals(0, orderDetailRepository.count());
+		assertEquals(1, reviewRepository.count());
+		assertNull(jdbcTemplate.queryForObject("SELECT order_detail_id FROM review WHERE id = ?", Long.class,
+			review.getId()));
+		assertEquals(detail.getId(), jdbcTemplate.queryForObject(
+			"SELECT order_detail_archive_id FROM review WHERE id = ?", Long.class, review.getId()));
+		// 보관된 주문 상세의 리뷰도 상품과 주문 상세 아이디로 찾음
+		assertEquals(List.of(review.getId()), reviewRepository.findAllByOrderDetail_ProductId(product.getId()).stream()
+			.map(Review::getId).toList());
+		assertEquals(review.getId(), reviewRepository.findByOrderDetailId(detail.getId()).getId());
+		assertEquals(product.getId(), reviewRepository.findByOrderDetailId(detail.getId()).getArchivedOrderDetail()
+			.getProductId());
+	}
+
+	@Test
+	@DisplayName("중간에 실패해도 커밋된 청크는 남고 다시 실행하면 남은 주문부터 이어서 보관")
+	void testResumeAfterFailure() {
+		for (int i = 1; i <= 5; i++) {
+			saveOrder("order-" + i, old, SHIPPED, 1);
+		}
+		doAnswer(invocation -> responses(invocation.getArgument(0)))
+			.doThrow(new IllegalStateException("중단"))
+			.doAnswer(invocation -> responses(invocation.getArgument(0)))
+			.when(orderResponseLoader).toResponses(anyList());
+		OrderArchiveService orderArchiveService = service(2);
+
+		assertThrows(IllegalStateException.class, orderArchiveService::archive);
+		assertEquals(2, orderArchiveRepository.count());
+		assertEquals(3, orderRepository.count());
+
+		OrderArchiveResult result = orderArchiveService.archive();
+
+		assertEquals(3, result.orders());
+		assertEquals(5, orderArchiveRepository.count());
+		assertEquals(0, orderRepository.count());
+		assertEquals(0, orderArchiveService.archive().orders());
+	}
+
+	private OrderArchiveService service(int chunkSize) {
+		return new OrderArchiveService(orderRepository, orderArchiveRepository, orderResponseLoader,
+			referenceDataRegistry, objectMapper, transactionManager, 30, chunkSize);
+	}
+
+	private Order saveOrder(String orderStr, LocalDate desiredDeliveryDate, String status, int details) {
+		Order order = orderRepository.save(Order.builder()
+			.orderStr(orderStr)
+			.price(10000)
+			.address("address")
+			.addressDetail("detail")
+			.zipcode(12345)
+			.desiredDeliveryDate(desiredDeliveryDate)
+			.receiver("receiver")
+			.sender("sender")
+			.senderContactNumber("010-0000-0000")
+			.receiverContactNumber("010-0000-0000")
+			.orderStatus(statuses.get(status))
+			.build());
+		for (int i = 0; i < details; i++) {
+			orderDetailRepository.save(OrderDetail.builder()
+				.price(10000)
+				.quantity(1)
+				.wrap(false)
+				.orderStatus(statuses.get(status))
+				.product(product)
+				.order(order)
+				.createAt(LocalDateTime.now())
+				.updateAt(LocalDateTime.now())
+				.build());
+		}
+		if (details > 1) {
+			billLogRepository.save(BillLog.builder()
+				.payment("카드")
+				.price(1000)
+				.payAt(LocalDateTime.now())
+				.order(order)
+				.status(BillStatus.DONE)
+				.build());
+		}
+		return order;
+	}
+
+	private List<ReadOrderResponse> responses(List<Order> orders) {
+		return orders.stream()
+			.map(order -> ReadOrderResponse.builder().id(order.getId()).orderStr(order.getOrderStr())
+				.loginId("user-" + order.getOrderStr()).desiredDeliveryDate(order.getDesiredDeliveryDate().toString())
+				.details(List.of()).build())
+			.toList();
+	}
+}
@@ -0,0 +1,221 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.util.ExportWriter;
+import store.buzzbook.core.dto.order.ExportOrdersRequest;
+import store.buzzbook.core.dto.payment.ExportBillLogsRequest;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.entity.user.User;
+import store.buzzbook.core.entity.user.UserStatus;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.order.OrderStatusRepository;
+import store.buzzbook.core.repository.payment.BillLogRepository;
+import store.buzzbook.core.repository.user.UserRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderExportServiceTest {
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private BillLogRepository billLogRepository;
+
+	@Autowired
+	private OrderStatusRepository orderStatusRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private OrderExportService orderExportService;
+	private User user;
+	private OrderStatus paid;
+	private OrderStatus canceled;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.builder()
+			.loginId("parkseol")
+			.name("parkseol")
+			.email("parkseol.dev@gmail.com")
+			.contactNumber("010-0000-1111")
+			.birthday(LocalDate.of(2000, 1, 1))
+			.modifyAt(LocalDateTime.now().minusDays(1))
+			.createAt(LocalDateTime.now())
+			.password("encrytedsolongpassword123345")
+			.status(UserStatus.ACTIVE)
+			.build());
+		paid = orderStatusRepository.save(OrderStatus.builder().name("PAID").updateAt(LocalDateTime.now()).build());
+		canceled = orderStatusRepository.save(
+			OrderStatus.builder().name("CANCELED").updateAt(LocalDateTime.now()).build());
+
+		orderExportService = new OrderExportService(orderRepository, billLogRepository, objectMapper, 100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		billLogRepository.deleteAll();
+		orderRepository.deleteAll();
+		orderStatusRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("조건에 맞는 주문을 CSV로 내보내고 쉼표와 따옴표는 이스케이프")
+	void testExportOrdersCsv() {
+		Order first = saveOrder("order1", user, paid, LocalDate.of(2024, 8, 1), null);
+		Order second = saveOrder("order2", null, paid, LocalDate.of(2024, 8, 2), "A,\"B\"");
+		saveOrder("order3", user, canceled, LocalDate.of(2024, 8, 3), null);
+		saveOrder("order4", user, paid, LocalDate.of(2024, 9, 1), null);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long rows = orderExportService.exportOrders(new ExportOrdersRequest(null, LocalDate.of(2024, 8, 1),
+			LocalDate.of(2024, 8, 31), "PAID", null), out);
+
+		assertEquals(2, rows);
+		assertEquals(String.join("\r\n",
+			"id,order_str,login_id,order_status,price,delivery_rate,deducted_points,earned_points,"
+				+ "deducted_coupon_price,coupon_code,desired_delivery_date",
+			first.getId() + ",order1,parkseol,PAID,10000,3000,,,,,2024-08-01",
+			second.getId() + ",order2,,PAID,10000,3000,,,,\"A,\"\"B\"\"\",2024-08-02", ""),
+			out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("결제 내역을 로그인 아이디와 결제 상태로 걸러 NDJSON으로 내보내기")
+	void testExportBillLogsNdjson() throws Exception {
+		Order first = saveOrder("order1", user, paid, LocalDate.of(2024, 8, 1), null);
+		Order second = saveOrder("order2", null, paid, LocalDate.of(2024, 8, 2), null);
+		saveBillLog(first, BillStatus.DONE, LocalDateTime.of(2024, 8, 1, 10, 0));
+		saveBillLog(first, BillStatus.CANCELED, LocalDateTime.of(2024, 8, 1, 11, 0));
+		saveBillLog(second, BillStatus.DONE, LocalDateTime.of(2024, 8, 2, 10, 0));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long rows = orderExportService.exportBillLogs(new ExportBillLogsRequest(ExportWriter.Format.NDJSON, null, null,
+			BillStatus.DONE, "parkseol"), out);
+
+		assertEquals(1, rows);
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(1, lines.length);
+		JsonNode line = objectMapper.readTree(lines[0]);
+		assertEquals("order1", line.get("order_str").asText());
+		assertEquals("카드", line.get("payment").asText());
+		assertEquals(1000, line.get("price").asInt());
+		assertEquals("2024-08-01T10:00", line.get("pay_at").asText());
+		assertTrue(line.get("cancel_reason").isNull());
+	}
+
+	@Test
+	@DisplayName("행을 모아두지 않고 버퍼가 찰 때마다 스트림에 씀")
+	void testExportStreamsRows() {
+		int count = 1_000;
+		List<Order> orders = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			orders.add(order("order-" + i, user, paid, LocalDate.of(2024, 8, 1), null));
+		}
+		orderRepository.saveAll(orders);
+
+		CountingOutputStream out = new CountingOutputStream();
+		long rows = orderExportService.exportOrders(new ExportOrdersRequest(ExportWriter.Format.NDJSON, null, null,
+			null, "parkseol"), out);
+
+		assertEquals(count, rows);
+		assertEquals(count, out.newlines);
+		// 버퍼가 찰 때마다 내보내므로 끝에 한 번에 쓰지 않음
+		assertTrue(out.writes > 10);
+	}
+
+	private Order saveOrder(String orderStr, User user, OrderStatus status, LocalDate desiredDeliveryDate,
+		String couponCode) {
+		return orderRepository.save(order(orderStr, user, status, desiredDeliveryDate, couponCode));
+	}
+
+	private Order order(String orderStr, User user, OrderStatus status, LocalDate desiredDeliveryDate,
+		String couponCode) {
+		return Order.builder()
+			.orderStr(orderStr)
+			.user(user)
+			.price(10000)
+			.deliveryRate(3000)
+			.couponCode(couponCode)
+			.address("address")
+			.addressDetail("detail")
+			.zipcode(12345)
+			.desiredDeliveryDate(desiredDeliveryDate)
+			.receiver("receiver")
+			.sender("sender")
+			.senderContactNumber("010-0000-0000")
+			.receiverContactNumber("010-0000-0000")
+			.orderStatus(status)
+			.build();
+	}
+
+	private void saveBillLog(Order order, BillStatus status, LocalDateTime payAt) {
+		billLogRepository.save(BillLog.builder()
+			.payment("카드")
+			.price(1000)
+			.payAt(payAt)
+			.order(order)
+			.status(status)
+			.build());
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+		private long bytes;
+		private long writes;
+		private long newlines;
+
+		@Override
+		public void write(int b) {
+			bytes++;
+			writes++;
+			if (b == '\n') {
+				newlines++;
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			bytes += len;
+			writes++;
+			for (int i = off; i < off + len; i++) {
+				if (b[i] == '\n') {
+					newlines++;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.http.HttpHeaders;
+
+import store.buzzbook.core.client.auth.CouponGatewayClient;
+import store.buzzbook.core.common.exception.order.CouponStatusNotUpdatedException;
+import store.buzzbook.core.dto.order.OrderOutboxMessage;
+import store.buzzbook.core.entity.coupon.CouponStatus;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderOutbox;
+import store.buzzbook.core.entity.user.User;
+import store.buzzbook.core.repository.order.OrderOutboxRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.service.auth.AuthService;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxHandlerTest {
+
+	@Mock
+	private OrderOutboxRepository orderOutboxRepository;
+
+	@Mock
+	private OrderRepository orderRepository;
+
+	@Mock
+	private UserOrderProcessService userOrderProcessService;
+
+	@Mock
+	private CouponGatewayClient couponGatewayClient;
+
+	@Mock
+	private MyOrderSummaryService myOrderSummaryService;
+
+	@Mock
+	private OrderResponseLoader orderResponseLoader;
+
+	@InjectMocks
+	private OrderOutboxHandler orderOutboxHandler;
+
+	private Order order;
+
+	@BeforeEach
+	void setUp() {
+		User user = User.builder().id(7L).build();
+		order = Order.builder().id(1L).user(user).price(33000).deliveryRate(3000).couponCode("coupon").build();
+	}
+
+	@Test
+	@DisplayName("포인트 적립 메시지를 받으면 결제 금액 기준으로 적립")
+	void testConsumeEarnPoint() {
+		when(orderOutboxRepository.markDone(10L, OrderOutbox.Status.DONE)).thenReturn(1);
+		when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+		orderOutboxHandler.consume(new OrderOutboxMessage(10L, 1L, OrderOutbox.Type.EARN_POINT));
+
+		verify(userOrderProcessService).earnPoints(order, 7L, 30000);
+		verify(myOrderSummaryService).refresh(1L);
+	}
+
+	@Test
+	@DisplayName("이미 처리한 메시지를 다시 받으면 무시")
+	void testConsumeDuplicateIgnored() {
+		when(orderOutboxRepository.markDone(10L, OrderOutbox.Status.DONE)).thenReturn(0);
+
+		orderOutboxHandler.consume(new OrderOutboxMessage(10L, 1L, OrderOutbox.Type.EARN_POINT));
+
+		verifyNoInteractions(orderRepository, userOrderProcessService, couponGatewayClient);
+	}
+
+	@Test
+	@DisplayName("처리에 실패하면 다시 넣지 않고 거절")
+	void testConsumeFailureRejected() {
+		when(orderOutboxRepository.markDone(11L, OrderOutbox.Status.DONE)).thenReturn(1);
+		when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+		when(orderOutboxRepository.findAccessTokenById(11L)).thenReturn(Optional.of("Bearer access"));
+		when(couponGatewayClient.updateStatus(eq("coupon"), eq(CouponStatus.USED), any()))
+			.thenThrow(new CouponStatusNotUpdatedException());
+
+		assertThrows(AmqpRejectAndDontRequeueException.class,
+			() -> orderOutboxHandler.consume(new OrderOutboxMessage(11L, 1L, OrderOutbox.Type.USE_COUPON)));
+	}
+
+	@Test
+	@DisplayName("쿠폰 사용 처리는 결제 요청 때 저장한 액세스 토큰으로 호출")
+	void testConsumeUseCouponForwardsToken() {
+		when(orderOutboxRepository.markDone(11L, OrderOutbox.Status.DONE)).thenReturn(1);
+		when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+		when(orderOutboxRepository.findAccessTokenById(11L)).thenReturn(Optional.of("Bearer access"));
+
+		orderOutboxHandler.consume(new OrderOutboxMessage(11L, 1L, OrderOutbox.Type.USE_COUPON));
+
+		ArgumentCaptor<HttpHeaders> headers = ArgumentCaptor.forClass(HttpHeaders.class);
+		verify(couponGatewayClient).updateStatus(eq("coupon"), eq(CouponStatus.USED), headers.capture());
+		assertEquals("Bearer access", headers.getValue().getFirst(AuthService.TOKEN_HEADER));
+		assertNull(headers.getValue().getFirst(AuthService.REFRESH_HEADER));
+		assertEquals("application/json", headers.getValue().getFirst(HttpHeaders.CONTENT_TYPE));
+	}
+
+	@Test
+	@DisplayName("취소 전에 남은 후처리를 모두 반영")
+	void testDrain() {
+		OrderOutbox coupon = couponOutbox();
+		when(orderOutboxRepository.findAllByOrderIdAndStatusNotOrderById(1L, OrderOutbox.Status.DONE)).thenReturn(
+			List.of(OrderOutbox.builder().id(10L).orderId(1L).type(OrderOutbox.Type.EARN_POINT)
+					.status(OrderOutbox.Status.PUBLISHED).createdAt(LocalDateTime.now()).build(),
+				coupon));
+		when(orderOutboxRepository.markDone(anyLong(), eq(OrderOutbox.Status.DONE))).thenReturn(1);
+		when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+		orderOutboxHandler.drain(1L);
+
+		verify(userOrderProcessService).earnPoints(order, 7L, 30000);
+		ArgumentCaptor<HttpHeaders> headers = ArgumentCaptor.forClass(HttpHeaders.class);
+		verify(couponGatewayClient).updateStatus(eq("coupon"), eq(CouponStatus.USED), headers.capture());
+		assertEquals("Bearer access", headers.getValue().getFirst(AuthService.TOKEN_HEADER));
+	}
+
+	private OrderOutbox couponOutbox() {
+		return OrderOutbox.builder().id(11L).orderId(1L).type(OrderOutbox.Type.USE_COUPON)
+			.status(OrderOutbox.Status.PENDING).createdAt(LocalDateTime.now())
+			.accessToken("Bearer access").build();
+	}
+}
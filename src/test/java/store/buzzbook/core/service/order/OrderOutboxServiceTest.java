@@ -0,0 +1,128 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static store.buzzbook.core.common.config.RabbitmqConfig.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.http.HttpHeaders;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.dto.order.OrderOutboxMessage;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderOutbox;
+import store.buzzbook.core.repository.order.OrderOutboxRepository;
+import store.buzzbook.core.service.auth.AuthService;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxServiceTest {
+
+	@Mock
+	private OrderOutboxRepository orderOutboxRepository;
+
+	@Mock
+	private RabbitTemplate rabbitTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OrderOutboxService orderOutboxService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		orderOutboxService = new OrderOutboxService(orderOutboxRepository, rabbitTemplate, meterRegistry, 100, 300000,
+			3);
+	}
+
+	private OrderOutbox outbox(long id, OrderOutbox.Type type) {
+		return OrderOutbox.builder().id(id).orderId(1L).type(type).status(OrderOutbox.Status.PENDING)
+			.createdAt(LocalDateTime.now()).build();
+	}
+
+	@Test
+	@DisplayName("후처리 종류마다 미발행 상태로 기록")
+	@SuppressWarnings("unchecked")
+	void testAppend() {
+		orderOutboxService.append(Order.builder().id(1L).build(), OrderOutbox.Type.EARN_POINT,
+			OrderOutbox.Type.NOTIFY);
+
+		ArgumentCaptor<List<OrderOutbox>> captor = ArgumentCaptor.forClass(List.class);
+		verify(orderOutboxRepository).saveAll(captor.capture());
+		assertEquals(List.of(OrderOutbox.Type.EARN_POINT, OrderOutbox.Type.NOTIFY),
+			captor.getValue().stream().map(OrderOutbox::getType).toList());
+		assertTrue(captor.getValue().stream().allMatch(o -> o.getStatus() == OrderOutbox.Status.PENDING));
+	}
+
+	@Test
+	@DisplayName("쿠폰 사용 처리는 결제 요청의 액세스 토큰만 함께 기록")
+	@SuppressWarnings("unchecked")
+	void testAppendWithHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(AuthService.TOKEN_HEADER, "Bearer access");
+		headers.set(AuthService.REFRESH_HEADER, "Bearer refresh");
+
+		orderOutboxService.append(Order.builder().id(1L).build(), headers, OrderOutbox.Type.USE_COUPON);
+
+		ArgumentCaptor<List<OrderOutbox>> captor = ArgumentCaptor.forClass(List.class);
+		verify(orderOutboxRepository).saveAll(captor.capture());
+		assertEquals("Bearer access", captor.getValue().getFirst().getAccessToken());
+	}
+
+	@Test
+	@DisplayName("발행한 건만 발행 상태로 변경")
+	void testRelayStopsOnBrokerFailure() {
+		when(orderOutboxRepository.findRelayTargets(eq(OrderOutbox.Status.PENDING), eq(OrderOutbox.Status.PUBLISHED),
+			any(), any())).thenReturn(List.of(outbox(1L, OrderOutbox.Type.EARN_POINT),
+			outbox(2L, OrderOutbox.Type.USE_COUPON)));
+		doNothing().doThrow(new AmqpConnectException(new RuntimeException("down")))
+			.when(rabbitTemplate).convertAndSend(eq(ORDER_EVENT_EXCHANGE_NAME), eq(ORDER_EVENT_ROUTING_KEY),
+				any(OrderOutboxMessage.class));
+
+		assertEquals(1, orderOutboxService.relay());
+
+		verify(orderOutboxRepository).markPublished(eq(List.of(1L)), eq(OrderOutbox.Status.PUBLISHED),
+			eq(OrderOutbox.Status.DONE), any());
+	}
+
+	@Test
+	@DisplayName("최대 횟수만큼 발행한 건은 발행하지 않고 실패로 변경")
+	void testRelayFailsAfterMaxAttempts() {
+		OrderOutbox exhausted = OrderOutbox.builder().id(3L).orderId(1L).type(OrderOutbox.Type.USE_COUPON)
+			.status(OrderOutbox.Status.PUBLISHED).attempts(3).createdAt(LocalDateTime.now()).build();
+		when(orderOutboxRepository.findRelayTargets(any(), any(), any(), any())).thenReturn(
+			List.of(outbox(1L, OrderOutbox.Type.EARN_POINT), exhausted));
+		when(orderOutboxRepository.markFailed(List.of(3L), OrderOutbox.Status.PUBLISHED, OrderOutbox.Status.FAILED))
+			.thenReturn(1);
+
+		assertEquals(1, orderOutboxService.relay());
+
+		verify(rabbitTemplate, times(1)).convertAndSend(eq(ORDER_EVENT_EXCHANGE_NAME), eq(ORDER_EVENT_ROUTING_KEY),
+			eq(new OrderOutboxMessage(1L, 1L, OrderOutbox.Type.EARN_POINT)));
+		verify(orderOutboxRepository).markPublished(eq(List.of(1L)), eq(OrderOutbox.Status.PUBLISHED),
+			eq(OrderOutbox.Status.DONE), any());
+		assertEquals(1, meterRegistry.counter("order.outbox.failed").count());
+	}
+
+	@Test
+	@DisplayName("발행할 건이 없으면 상태를 변경하지 않음")
+	void testRelayNothing() {
+		when(orderOutboxRepository.findRelayTargets(any(), any(), any(), any())).thenReturn(List.of());
+
+		assertEquals(0, orderOutboxService.relay());
+
+		verify(orderOutboxRepository, never()).markPublished(any(), any(), any(), any());
+		verify(orderOutboxRepository, never()).markFailed(any(), any(), any());
+		verifyNoInteractions(rabbitTemplate);
+	}
+}
@@ -0,0 +1,160 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static store.buzzbook.core.common.listener.OrderStatusListener.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.common.exception.order.ProductOutOfStockException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
+import store.buzzbook.core.dto.payment.PayInfo;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderDetail;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.product.Product;
+import store.buzzbook.core.repository.payment.BillLogRepository;
+import store.buzzbook.core.service.product.StockService;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPipelineTest {
+	private static final int THREADS = 32;
+	private static final int ORDERS = 2000;
+
+	@Mock
+	private ReferenceDataRegistry referenceDataRegistry;
+
+	@Mock
+	private StockService stockService;
+
+	@Mock
+	private BillLogRepository billLogRepository;
+
+	@Mock
+	private RevenueRollupService revenueRollupService;
+
+	@Mock
+	private OrderOutboxService orderOutboxService;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OrderPipeline orderPipeline;
+	private NonUserOrderProcessService nonUserOrderProcessService;
+
+	private final Queue<Map<Integer, Integer>> reservations = new ConcurrentLinkedQueue<>();
+	private final Queue<BillLog> billLogs = new ConcurrentLinkedQueue<>();
+	private OrderStatus paid;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		orderPipeline = new OrderPipeline(meterRegistry);
+		nonUserOrderProcessService = new NonUserOrderProcessService(referenceDataRegistry, stockService,
+			billLogRepository, revenueRollupService, orderOutboxService);
+
+		paid = OrderStatus.builder().id(2).name(PAID).updateAt(LocalDateTime.now()).build();
+	}
+
+	private Order createOrder(int i) {
+		Product product = Product.builder().stock(1).productName("product" + i).price(i).build();
+		ReflectionTestUtils.setField(product, "id", i);
+
+		OrderDetail detail = OrderDetail.builder().price(i).quantity(1).product(product).build();
+		Order order = Order.builder().id(i).orderStr("order-" + i).price(i).details(List.of(detail)).build();
+		return order;
+	}
+
+	@Test
+	@DisplayName("동시에 여러 결제를 처리해도 요청끼리 결제 정보가 섞이지 않음")
+	void testConcurrentPaymentsDoNotLeak() throws Exception {
+		when(referenceDataRegistry.getOrderStatus(PAID)).thenReturn(paid);
+		doAnswer(invocation -> reservations.add(invocation.getArgument(0)))
+			.when(stockService).decreaseStocks(anyMap());
+		when(billLogRepository.save(any(BillLog.class))).thenAnswer(invocation -> {
+			BillLog billLog = invocation.getArgument(0);
+			Thread.yield();
+			billLogs.add(billLog);
+			return billLog;
+		});
+
+		List<OrderContext> contexts = new ArrayList<>();
+		for (int i = 1; i <= ORDERS; i++) {
+			contexts.add(new OrderContext(createOrder(i),
+				new PayInfo("order-" + i, i, PayInfo.PayType.간편결제, "key-" + i), null));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (OrderContext context : contexts) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					orderPipeline.execute(nonUserOrderProcessService, context);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(ORDERS, billLogs.size());
+		for (BillLog billLog : billLogs) {
+			String suffix = billLog.getOrder().getOrderStr().substring("order-".length());
+			assertEquals("key-" + suffix, billLog.getPaymentKey());
+			assertEquals(Integer.parseInt(suffix), billLog.getPrice());
+		}
+		for (OrderContext context : contexts) {
+			assertSame(paid, context.getOrder().getOrderStatus());
+			assertEquals(OrderStage.values().length, context.getStageNanos().size());
+		}
+		assertEquals(ORDERS, reservations.size());
+		assertEquals(ORDERS, reservations.stream().map(reservation -> reservation.keySet().iterator().next())
+			.distinct().count());
+		assertEquals(ORDERS, meterRegistry.get("order.pipeline.stage")
+			.tags("stage", "pay", "outcome", "success").timer().count());
+	}
+
+	@Test
+	@DisplayName("검증 단계가 실패하면 이후 단계를 실행하지 않음")
+	void testFailedStageStopsPipeline() {
+		Order order = createOrder(1);
+		when(stockService.isSoldOut(1)).thenReturn(true);
+
+		OrderContext context = new OrderContext(order, new PayInfo("order-1", 1, PayInfo.PayType.간편결제, "key-1"),
+			null);
+
+		assertThrows(ProductOutOfStockException.class,
+			() -> orderPipeline.execute(nonUserOrderProcessService, context));
+
+		verify(stockService, never()).decreaseStocks(anyMap());
+		verifyNoInteractions(billLogRepository, referenceDataRegistry, orderOutboxService);
+		assertEquals(Map.of(OrderStage.VALIDATE, context.getStageNanos().get(OrderStage.VALIDATE)),
+			context.getStageNanos());
+		assertEquals(1, meterRegistry.get("order.pipeline.stage")
+			.tags("stage", "validate", "outcome", "failure").timer().count());
+	}
+}
@@ -0,0 +1,181 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.common.config.CacheConfig;
+import store.buzzbook.core.common.config.RabbitmqConfig;
+import store.buzzbook.core.common.dto.CacheEvictMessage;
+import store.buzzbook.core.common.exception.order.OrderNotFoundException;
+import store.buzzbook.core.common.service.impl.CacheEvictionServiceImpl;
+import store.buzzbook.core.dto.order.ReadOrderResponse;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderArchive;
+import store.buzzbook.core.entity.order.OrderDetail;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.order.Wrapping;
+import store.buzzbook.core.entity.product.Category;
+import store.buzzbook.core.entity.product.Product;
+import store.buzzbook.core.repository.order.OrderArchiveRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.product.ProductRepository;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, JacksonAutoConfiguration.class, SimpleMeterRegistry.class,
+	CacheEvictionServiceImpl.class, OrderResponseLoader.class})
+class OrderResponseLoaderTest {
+
+	@MockBean
+	private OrderRepository orderRepository;
+
+	@MockBean
+	private ProductRepository productRepository;
+
+	@MockBean
+	private OrderArchiveRepository orderArchiveRepository;
+
+	@MockBean
+	private RabbitTemplate rabbitTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private OrderResponseLoader orderResponseLoader;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private Order order;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager.getCache(OrderResponseLoader.READ_ORDER_CACHE).clear();
+
+		OrderStatus paid = OrderStatus.builder().id(1).name("PAID").updateAt(LocalDateTime.now()).build();
+		Category category = new Category("소설", null, new ArrayList<>());
+		Product first = Product.builder().productName("첫 번째 책").price(10000).category(category).build();
+		Product second = Product.builder().productName("두 번째 책").price(20000).category(category).build();
+		ReflectionTestUtils.setField(first, "id", 1);
+		ReflectionTestUtils.setField(second, "id", 2);
+		Wrapping wrapping = Wrapping.builder().id(1).paper("안함").price(0).build();
+
+		List<OrderDetail> details = new ArrayList<>();
+		order = Order.builder().id(1L).orderStr("order1").price(30000).address("주소").addressDetail("상세 주소")
+			.desiredDeliveryDate(LocalDate.of(2024, 8, 15)).orderStatus(paid).orderEmail("guest@example.com")
+			.details(details).build();
+		details.add(detail(20L, second, wrapping, paid));
+		details.add(detail(10L, first, null, paid));
+	}
+
+	@Test
+	@DisplayName("주문 상세, 상품, 포장을 상품별 추가 조회 없이 응답으로 변환")
+	void testLoadWithoutPerDetailQueries() {
+		when(orderRepository.findWithDetailsByOrderStr("order1")).thenReturn(Optional.of(order));
+
+		ReadOrderResponse response = orderResponseLoader.load("order1");
+
+		assertEquals(List.of(10L, 20L), response.getDetails().stream().map(detail -> detail.getId()).toList());
+		assertEquals("첫 번째 책", response.getDetails().getFirst().getProductResponse().getProductName());
+		assertNull(response.getDetails().getFirst().getReadWrappingResponse());
+		assertEquals("안함", response.getDetails().get(1).getReadWrappingResponse().getPaper());
+		assertNull(response.getLoginId());
+		verify(productRepository).findAllWithTagsByIdIn(Set.of(1, 2));
+		verify(productRepository, never()).findById(anyInt());
+	}
+
+	@Test
+	@DisplayName("같은 주문은 캐시에서 반환하고 삭제된 주문만 다시 조회")
+	void testCacheAndTargetedEviction() {
+		Order other = Order.builder().id(2L).orderStr("order2").price(1000).address("주소").addressDetail("상세 주소")
+			.desiredDeliveryDate(LocalDate.of(2024, 8, 15)).orderStatus(order.getOrderStatus())
+			.details(new ArrayList<>()).build();
+		when(orderRepository.findWithDetailsByOrderStr("order1")).thenReturn(Optional.of(order));
+		when(orderRepository.findWithDetailsByOrderStr("order2")).thenReturn(Optional.of(other));
+
+		ReadOrderResponse cached = orderResponseLoader.load("order1");
+		orderResponseLoader.load("order2");
+		assertSame(cached, orderResponseLoader.load("order1"));
+
+		orderResponseLoader.evict("order1");
+		orderResponseLoader.load("order1");
+		orderResponseLoader.load("order2");
+
+		verify(orderRepository, times(2)).findWithDetailsByOrderStr("order1");
+		verify(orderRepository, times(1)).findWithDetailsByOrderStr("order2");
+		// 다른 노드도 같은 주문만 지우도록 알림
+		verify(rabbitTemplate).convertAndSend(RabbitmqConfig.CACHE_EVICT_EXCHANGE_NAME, "",
+			new CacheEvictMessage(OrderResponseLoader.READ_ORDER_CACHE, List.of("order1")));
+	}
+
+	@Test
+	@DisplayName("없는 주문은 캐시하지 않음")
+	void testMissingOrderNotCached() {
+		when(orderRepository.findWithDetailsByOrderStr("missing")).thenReturn(Optional.empty());
+
+		assertThrows(OrderNotFoundException.class, () -> orderResponseLoader.load("missing"));
+		assertThrows(OrderNotFoundException.class, () -> orderResponseLoader.load("missing"));
+
+		verify(orderRepository, times(2)).findWithDetailsByOrderStr("missing");
+		verify(orderArchiveRepository, times(2)).findByOrderStr("missing");
+	}
+
+	@Test
+	@DisplayName("운영 테이블에 없는 주문은 보관 테이블에서 조회")
+	void testLoadFallsThroughToArchive() throws Exception {
+		when(orderRepository.findWithDetailsByOrderStr("order1")).thenReturn(Optional.of(order));
+		String document = objectMapper.writeValueAsString(orderResponseLoader.load("order1"));
+		cacheManager.getCache(OrderResponseLoader.READ_ORDER_CACHE).clear();
+
+		when(orderRepository.findWithDetailsByOrderStr("order1")).thenReturn(Optional.empty());
+		when(orderArchiveRepository.findByOrderStr("order1")).thenReturn(Optional.of(OrderArchive.builder()
+			.orderId(1L).orderStr("order1").desiredDeliveryDate(LocalDate.of(2024, 8, 15)).document(document)
+			.archivedAt(LocalDateTime.now()).build()));
+
+		ReadOrderResponse response = orderResponseLoader.load("order1");
+
+		assertEquals("order1", response.getOrderStr());
+		assertEquals("guest@example.com", response.getOrderEmail());
+		assertEquals(List.of(10L, 20L), response.getDetails().stream().map(detail -> detail.getId()).toList());
+		assertEquals("안함", response.getDetails().get(1).getReadWrappingResponse().getPaper());
+		assertSame(response, orderResponseLoader.load("order1"));
+		verify(orderArchiveRepository, times(1)).findByOrderStr("order1");
+	}
+
+	@Test
+	@DisplayName("운영 테이블에 있는 주문은 보관 테이블을 조회하지 않음")
+	void testHotOrderSkipsArchive() {
+		when(orderRepository.findWithDetailsByOrderStr("order1")).thenReturn(Optional.of(order));
+
+		orderResponseLoader.load("order1");
+
+		verifyNoInteractions(orderArchiveRepository);
+	}
+
+	private OrderDetail detail(long id, Product product, Wrapping wrapping, OrderStatus orderStatus) {
+		return OrderDetail.builder().id(id).price(product.getPrice()).quantity(1).product(product).wrapping(wrapping)
+			.orderStatus(orderStatus).order(order).createAt(LocalDateTime.now()).updateAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -11,10 +11,14 @@ import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,13 +26,20 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import store.buzzbook.core.common.exception.order.InvalidOrderCursorException;
+import store.buzzbook.core.common.exception.order.OrderNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.order.CreateOrderDetailRequest;
 import store.buzzbook.core.dto.order.CreateOrderRequest;
+import store.buzzbook.core.dto.order.OrderCursor;
 import store.buzzbook.core.dto.order.ReadOrderDetailProjectionResponse;
 import store.buzzbook.core.dto.order.ReadOrderDetailResponse;
 import store.buzzbook.core.dto.order.ReadOrderResponse;
+import store.buzzbook.core.dto.order.ReadOrderRequest;
 import store.buzzbook.core.dto.order.ReadOrderStatusResponse;
+import store.buzzbook.core.dto.order.ReadOrderWithoutLoginRequest;
 import store.buzzbook.core.dto.order.ReadOrdersRequest;
 import store.buzzbook.core.dto.order.ReadOrdersResponse;
 import store.buzzbook.core.dto.order.ReadWrappingResponse;
@@ -95,6 +106,15 @@ class OrderServiceTest {
 	@Mock
 	private PointService pointService;
 
+	@Mock
+	private ReferenceDataRegistry referenceDataRegistry;
+
+	@Mock
+	private MyOrderSummaryService myOrderSummaryService;
+
+	@Mock
+	private OrderResponseLoader orderResponseLoader;
+
 	@InjectMocks
 	private OrderService orderService;
 
@@ -360,6 +380,129 @@ class OrderServiceTest {
 			.build();
 	}
 
+	@ParameterizedTest
+	@ValueSource(ints = {1, 5, 20})
+	@DisplayName("주문 생성 시 조회 쿼리 수는 주문 상세 수와 무관, 기준 데이터는 레지스트리에서 조회")
+	void testCreateOrderQueryCountIndependentOfLineItems(int lineItems) {
+		List<CreateOrderDetailRequest> requestDetails = new ArrayList<>();
+		List<Product> products = new ArrayList<>();
+		for (int i = 1; i <= lineItems; i++) {
+			Product lineProduct = Product.builder()
+				.stock(10)
+				.productName("상품" + i)
+				.price(1000 * i)
+				.forwardDate(LocalDate.now())
+				.stockStatus(Product.StockStatus.SALE)
+				.category(category)
+				.build();
+			ReflectionTestUtils.setField(lineProduct, "id", i);
+			products.add(lineProduct);
+
+			requestDetails.add(CreateOrderDetailRequest.builder()
+				.quantity(1)
+				.wrap(i % 2 == 0)
+				.orderStatus("PAID")
+				.wrappingId(i % 2 == 0 ? 1 : 0)
+				.productId(i)
+				.build());
+		}
+
+		CreateOrderRequest request = CreateOrderRequest.builder()
+			.orderStr("orderStr123")
+			.price(3000)
+			.address("123 Main St")
+			.addressDetail("Apt 4B")
+			.zipcode(12345)
+			.desiredDeliveryDate("2024-08-15")
+			.receiver("John Doe")
+			.loginId("parkseol")
+			.details(requestDetails)
+			.orderStatus("PAID")
+			.sender("Jane Smith")
+			.receiverContactNumber("01087654321")
+			.build();
+
+		when(userService.getUserInfoByLoginId("parkseol")).thenReturn(testUserInfo);
+		when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+		when(referenceDataRegistry.getOrderStatus("PAID")).thenReturn(orderStatus);
+		when(referenceDataRegistry.getWrappingByPaper(anyString())).thenReturn(wrapping2);
+		lenient().when(referenceDataRegistry.getWrapping(1)).thenReturn(Optional.of(wrapping));
+		when(productRepository.findAllWithTagsByIdIn(anyCollection())).thenReturn(products);
+		when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(orderDetailRepository.saveAllInBatch(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		ReadOrderResponse response = orderService.createOrder(request);
+
+		assertEquals(lineItems, response.getDetails().size());
+		verify(productRepository, times(1)).findAllWithTagsByIdIn(anyCollection());
+		verify(orderDetailRepository, times(1)).saveAllInBatch(anyList());
+		verifyNoInteractions(orderStatusRepository, wrappingRepository);
+		verify(productRepository, never()).findById(anyInt());
+		verify(orderDetailRepository, never()).save(any(OrderDetail.class));
+	}
+
+	@Test
+	@DisplayName("주문 목록 조회 시 다음 페이지 커서 반환")
+	void testReadOrdersReturnsNextCursor() {
+		ReadOrdersRequest request = new ReadOrdersRequest(1, 1);
+		Slice<ReadOrdersResponse> orderSlice = new SliceImpl<>(List.of(readOrdersResponse), PageRequest.of(0, 1), true);
+
+		when(orderRepository.findAll(any(ReadOrdersRequest.class), any(PageRequest.class))).thenReturn(orderSlice);
+
+		Map<String, Object> data = orderService.readOrders(request);
+
+		OrderCursor cursor = OrderCursor.decode((String)data.get("nextCursor"));
+		assertEquals(true, data.get("hasNext"));
+		assertEquals(readOrdersResponse.getDesiredDeliveryDate(), cursor.desiredDeliveryDate());
+		assertEquals(readOrdersResponse.getId(), cursor.id());
+	}
+
+	@Test
+	@DisplayName("커서로 내 주문 목록 조회 시 페이지 번호 무시, 마지막 페이지는 커서 없음")
+	void testReadMyOrdersWithCursor() {
+		String cursor = new OrderCursor(LocalDate.of(2024, 8, 15), 10L).encode();
+		ReadOrdersRequest request = new ReadOrdersRequest(10000, 10, cursor);
+		Slice<ReadOrdersResponse> orderSlice = new SliceImpl<>(List.of(readOrdersResponse), PageRequest.of(0, 10), false);
+
+		when(myOrderSummaryService.readMyOrders(request, "john.doe", PageRequest.of(0, 10))).thenReturn(orderSlice);
+
+		Map<String, Object> data = orderService.readMyOrders(request, "john.doe");
+
+		assertEquals(false, data.get("hasNext"));
+		assertNull(data.get("nextCursor"));
+	}
+
+	@Test
+	@DisplayName("비회원 주문 조회 시 이메일이 다르면 주문 없음")
+	void testReadOrderWithoutLoginEmailMismatch() {
+		ReadOrderResponse response = ReadOrderResponse.builder().orderStr("order1").orderEmail("guest@example.com")
+			.build();
+		when(orderResponseLoader.load("order1")).thenReturn(response);
+
+		assertSame(response, orderService.readOrderWithoutLogin(
+			new ReadOrderWithoutLoginRequest("order1", "guest@example.com")));
+		assertThrows(OrderNotFoundException.class, () -> orderService.readOrderWithoutLogin(
+			new ReadOrderWithoutLoginRequest("order1", "other@example.com")));
+	}
+
+	@Test
+	@DisplayName("회원 주문 조회 시 다른 회원의 주문이면 주문 없음")
+	void testReadOrderOtherUser() {
+		ReadOrderResponse response = ReadOrderResponse.builder().orderStr("order1").loginId("john.doe").build();
+		when(orderResponseLoader.load("order1")).thenReturn(response);
+
+		assertSame(response, orderService.readOrder(new ReadOrderRequest("order1"), "john.doe"));
+		assertThrows(OrderNotFoundException.class,
+			() -> orderService.readOrder(new ReadOrderRequest("order1"), "jane.doe"));
+		assertSame(response, orderService.readOrderWithAdmin(new ReadOrderRequest("order1")));
+	}
+
+	@Test
+	@DisplayName("잘못된 커서")
+	void testInvalidOrderCursor() {
+		assertThrows(InvalidOrderCursorException.class, () -> OrderCursor.decode("not-a-cursor"));
+	}
+
 	// @Test
 	// void testReadOrders() {
 	// 	ReadOrdersRequest request = new ReadOrdersRequest(1, 10);
@@ -0,0 +1,286 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static store.buzzbook.core.common.listener.OrderStatusListener.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.exception.order.InvalidOrderStatusTransitionException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
+import store.buzzbook.core.dto.order.UpdateOrderStatusResult;
+import store.buzzbook.core.dto.order.UpdateOrdersRequest;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderDetail;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.product.Category;
+import store.buzzbook.core.entity.product.Product;
+import store.buzzbook.core.repository.order.OrderDetailRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.order.OrderStatusRepository;
+import store.buzzbook.core.repository.product.CategoryRepository;
+import store.buzzbook.core.repository.product.ProductRepository;
+
+@Slf4j
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderStatusBulkServiceTest {
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderDetailRepository orderDetailRepository;
+
+	@Autowired
+	private OrderStatusRepository orderStatusRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final ReferenceDataRegistry referenceDataRegistry = mock(ReferenceDataRegistry.class);
+	private final MyOrderSummaryService myOrderSummaryService = mock(MyOrderSummaryService.class);
+	private final OrderResponseLoader orderResponseLoader = mock(OrderResponseLoader.class);
+	private final Map<String, OrderStatus> statuses = new LinkedHashMap<>();
+
+	private Product product;
+
+	@BeforeEach
+	void setUp() {
+		for (String name : List.of(READY, WAITING_FOR_DEPOSIT, PAID, PARTIAL_CANCELED, CANCELED, SHIPPING_OUT, SHIPPED,
+			PARTIAL_REFUND, REFUND, BREAKAGE_REFUND)) {
+			statuses.put(name,
+				orderStatusRepository.save(OrderStatus.builder().name(name).updateAt(LocalDateTime.now()).build()));
+		}
+		when(referenceDataRegistry.getOrderStatus(anyString())).thenAnswer(
+			invocation -> statuses.get(invocation.getArgument(0, String.class)));
+		when(referenceDataRegistry.getOrderStatuses()).thenReturn(new ArrayList<>(statuses.values()));
+
+		Category category = categoryRepository.save(Category.builder().name("test").build());
+		product = productRepository.save(Product.builder()
+			.productName("testBook")
+			.stock(100)
+			.price(10000)
+			.score(10)
+			.forwardDate(LocalDate.now())
+			.stockStatus(Product.StockStatus.SALE)
+			.category(category)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM order_detail");
+		jdbcTemplate.update("DELETE FROM `order`");
+		orderStatusRepository.deleteAll();
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("전이 규칙에 맞는 주문만 변경하고 주문별 결과 반환")
+	void testUpdateOrders() {
+		Order paid = saveOrder("paid", PAID, PAID, CANCELED);
+		Order shipped = saveOrder("shipped", SHIPPED, SHIPPED);
+		Order partial = saveOrder("partial", PARTIAL_CANCELED, PAID, PARTIAL_CANCELED);
+
+		List<UpdateOrderStatusResult> results = service(500).updateOrders(
+			new UpdateOrdersRequest(List.of("paid", "shipped", "missing", "partial"), SHIPPING_OUT));
+
+		assertEquals(List.of(
+			new UpdateOrderStatusResult("paid", UpdateOrderStatusResult.Result.UPDATED),
+			new UpdateOrderStatusResult("shipped", UpdateOrderStatusResult.Result.INVALID_TRANSITION),
+			new UpdateOrderStatusResult("missing", UpdateOrderStatusResult.Result.NOT_FOUND),
+			new UpdateOrderStatusResult("partial", UpdateOrderStatusResult.Result.UPDATED)), results);
+
+		assertEquals(SHIPPING_OUT, orderStatus(paid));
+		assertEquals(SHIPPED, orderStatus(shipped));
+		assertEquals(SHIPPING_OUT, orderStatus(partial));
+		// 취소된 주문 상세는 출고로 바뀌지 않음
+		assertEquals(List.of(SHIPPING_OUT, CANCELED), detailStatuses(paid));
+		assertEquals(List.of(SHIPPING_OUT, SHIPPING_OUT), detailStatuses(partial));
+		verify(orderResponseLoader).evict("paid");
+		verify(orderResponseLoader).evict("partial");
+		verify(orderResponseLoader, never()).evict("shipped");
+	}
+
+	@Test
+	@DisplayName("배송 처리 전이에 맞지 않는 주문은 변경하지 않음")
+	void testInvalidTransitionRejected() {
+		Order canceled = saveOrder("canceled", CANCELED, CANCELED);
+
+		List<UpdateOrderStatusResult> results = service(500).updateOrders(
+			new UpdateOrdersRequest(List.of("canceled"), SHIPPING_OUT));
+
+		assertEquals(UpdateOrderStatusResult.Result.INVALID_TRANSITION, results.getFirst().result());
+		assertEquals(CANCELED, orderStatus(canceled));
+		verify(myOrderSummaryService).refresh(Set.of());
+	}
+
+	@Test
+	@DisplayName("취소, 환불처럼 금액이 오가는 상태로는 일괄 변경하지 않음")
+	void testMoneyMovingTargetRejected() {
+		Order shipped = saveOrder("shipped", SHIPPED, SHIPPED);
+		OrderStatusBulkService orderStatusBulkService = service(500);
+
+		for (String target : List.of(CANCELED, PARTIAL_CANCELED, REFUND, PARTIAL_REFUND, BREAKAGE_REFUND, PAID)) {
+			assertThrows(InvalidOrderStatusTransitionException.class,
+				() -> orderStatusBulkService.updateOrders(new UpdateOrdersRequest(List.of("shipped"), target)));
+		}
+		assertEquals(SHIPPED, orderStatus(shipped));
+	}
+
+	@Test
+	@DisplayName("청크마다 나눠 변경해도 모든 주문에 반영")
+	void testUpdateOrdersInChunks() {
+		List<String> orderStrs = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			saveOrder("order-" + i, SHIPPING_OUT, SHIPPING_OUT);
+			orderStrs.add("order-" + i);
+		}
+
+		List<UpdateOrderStatusResult> results = service(2).updateOrders(new UpdateOrdersRequest(orderStrs, SHIPPED));
+
+		assertTrue(results.stream().allMatch(result -> result.result() == UpdateOrderStatusResult.Result.UPDATED));
+		assertTrue(orderRepository.findAll().stream()
+			.allMatch(order -> SHIPPED.equals(orderStatus(order))));
+		verify(myOrderSummaryService, times(3)).refresh(anyCollection());
+	}
+
+	/**
+	 * 1만 건 일괄 변경 처리량. 기본 테스트에서는 돌지 않으며 -Dbenchmark=true 로 돌립니다.
+	 */
+	@Test
+	@Tag("benchmark")
+	@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+	@DisplayName("1만 건 일괄 변경 처리량")
+	void benchmarkBulkThroughput() {
+		int count = 10_000;
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		int paidId = statuses.get(PAID).getId();
+		List<Object[]> orders = new ArrayList<>(count);
+		List<String> orderStrs = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			orders.add(new Object[] {"order-" + i, paidId});
+			orderStrs.add("order-" + i);
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO `order` (order_str, price, delivery_rate, address, address_detail, "
+			+ "zipcode, desired_delivery_date, receiver, sender, sender_contact_number, receiver_contact_number, "
+			+ "order_status_id) VALUES (?, 10000, 0, 'address', 'detail', 12345, CURRENT_DATE, 'receiver', "
+			+ "'sender', '010-0000-0000', '010-0000-0000', ?)", orders);
+		List<Object[]> details = new ArrayList<>(count * 2);
+		for (Long orderId : jdbcTemplate.queryForList("SELECT id FROM `order`", Long.class)) {
+			details.add(new Object[] {orderId, paidId, product.getId(), now, now});
+			details.add(new Object[] {orderId, paidId, product.getId(), now, now});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO order_detail (order_id, order_status_id, product_id, price, quantity, "
+			+ "wrap, create_at, update_at) VALUES (?, ?, ?, 10000, 1, false, ?, ?)", details);
+
+		long start = System.nanoTime();
+		List<UpdateOrderStatusResult> results = service(500).updateOrders(
+			new UpdateOrdersRequest(orderStrs, SHIPPING_OUT));
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		log.info("주문 상태 일괄 변경 처리량 {}건/초 ({}건, {}ms)", count * 1000L / Math.max(1, elapsedMillis), count,
+			elapsedMillis);
+		assertTrue(results.stream().allMatch(result -> result.result() == UpdateOrderStatusResult.Result.UPDATED));
+		int shippingOutId = statuses.get(SHIPPING_OUT).getId();
+		assertEquals(count, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM `order` WHERE order_status_id = ?", Integer.class, shippingOutId));
+		assertEquals(count * 2, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM order_detail WHERE order_status_id = ?", Integer.class, shippingOutId));
+		verify(myOrderSummaryService, times(count / 500)).refresh(anyCollection());
+	}
+
+	private OrderStatusBulkService service(int chunkSize) {
+		return new OrderStatusBulkService(orderRepository, referenceDataRegistry, myOrderSummaryService,
+			orderResponseLoader, transactionManager, chunkSize);
+	}
+
+	private Order saveOrder(String orderStr, String status, String... detailStatuses) {
+		Order order = orderRepository.save(Order.builder()
+			.orderStr(orderStr)
+			.price(10000)
+			.address("address")
+			.addressDetail("detail")
+			.zipcode(12345)
+			.desiredDeliveryDate(LocalDate.now())
+			.receiver("receiver")
+			.sender("sender")
+			.senderContactNumber("010-0000-0000")
+			.receiverContactNumber("010-0000-0000")
+			.orderStatus(statuses.get(status))
+			.build());
+		for (String detailStatus : detailStatuses) {
+			orderDetailRepository.save(OrderDetail.builder()
+				.price(10000)
+				.quantity(1)
+				.wrap(false)
+				.orderStatus(statuses.get(detailStatus))
+				.product(product)
+				.order(order)
+				.createAt(LocalDateTime.now())
+				.updateAt(LocalDateTime.now())
+				.build());
+		}
+		return order;
+	}
+
+	private String orderStatus(Order order) {
+		return orderRepository.findStatusesByOrderStrIn(List.of(order.getOrderStr())).stream()
+			.map(row -> nameOf(row.orderStatusId()))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private List<String> detailStatuses(Order order) {
+		return orderDetailRepository.findAll(Sort.by("id")).stream()
+			.filter(detail -> detail.getOrder().getId() == order.getId())
+			.map(detail -> nameOf(detail.getOrderStatus().getId()))
+			.toList();
+	}
+
+	private String nameOf(int statusId) {
+		return statuses.values().stream().filter(status -> status.getId() == statusId).findFirst().orElseThrow()
+			.getName();
+	}
+}
@@ -0,0 +1,296 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.exception.order.InvalidRevenuePeriodException;
+import store.buzzbook.core.dto.payment.CategoryRevenueResponse;
+import store.buzzbook.core.dto.payment.DailyRevenueResponse;
+import store.buzzbook.core.dto.payment.PaymentRevenueResponse;
+import store.buzzbook.core.dto.payment.RevenueBackfillResult;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderDetail;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.entity.product.Category;
+import store.buzzbook.core.entity.product.Product;
+import store.buzzbook.core.repository.order.OrderDetailRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.order.OrderStatusRepository;
+import store.buzzbook.core.repository.payment.BillLogRepository;
+import store.buzzbook.core.repository.payment.RevenueRollupRepository;
+import store.buzzbook.core.repository.product.CategoryRepository;
+import store.buzzbook.core.repository.product.ProductRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RevenueRollupServiceTest {
+	private static final List<String> PAYMENTS = List.of("신용카드", "간편결제", "POINT", "WELCOME-COUPON");
+
+	@Autowired
+	private RevenueRollupRepository revenueRollupRepository;
+
+	@Autowired
+	private BillLogRepository billLogRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderDetailRepository orderDetailRepository;
+
+	@Autowired
+	private OrderStatusRepository orderStatusRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private RevenueRollupRepository repository;
+	private RevenueRollupService revenueRollupService;
+	private OrderStatus orderStatus;
+	private Category novel;
+	private Category essay;
+	private Product novelBook;
+	private Product otherNovelBook;
+	private Product essayBook;
+	private int nextOrder = 1;
+
+	@BeforeEach
+	void setUp() {
+		// 호출 횟수를 확인할 수 있도록 실제 저장소에 위임하는 목으로 감쌈
+		repository = mock(RevenueRollupRepository.class, AdditionalAnswers.delegatesTo(revenueRollupRepository));
+		revenueRollupService = new RevenueRollupService(repository, transactionManager, 2, 4);
+
+		orderStatus = orderStatusRepository.save(
+			OrderStatus.builder().name("PAID").updateAt(LocalDateTime.now()).build());
+		novel = categoryRepository.save(Category.builder().name("소설").build());
+		essay = categoryRepository.save(Category.builder().name("에세이").build());
+		novelBook = saveProduct("novel1", novel);
+		otherNovelBook = saveProduct("novel2", novel);
+		essayBook = saveProduct("essay1", essay);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM revenue_daily_payment");
+		jdbcTemplate.update("DELETE FROM revenue_daily_category");
+		jdbcTemplate.update("DELETE FROM bill_log_archive");
+		billLogRepository.deleteAll();
+		orderDetailRepository.deleteAll();
+		orderRepository.deleteAll();
+		orderStatusRepository.deleteAll();
+		productRepository.deleteAll();
+		categoryRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("결제, 취소, 반품 내역을 결제 수단별, 카테고리별 일자 집계에 더함")
+	void testRecord() {
+		LocalDateTime payAt = LocalDateTime.of(2024, 8, 1, 10, 0);
+		Order order = saveOrder(detail(novelBook, 10000, 2), detail(essayBook, 5000, 1));
+
+		revenueRollupService.record(billLog(order, "신용카드", 20000, BillStatus.DONE, payAt));
+		revenueRollupService.record(billLog(order, "POINT", 3000, BillStatus.DONE, payAt));
+		revenueRollupService.record(billLog(order, "WELCOME-COUPON", 2000, BillStatus.DONE, payAt));
+		revenueRollupService.record(billLog(order, "신용카드", 20000, BillStatus.CANCELED, payAt.plusDays(1)));
+		revenueRollupService.record(billLog(order, "POINT", 3000, BillStatus.CANCELED, payAt.plusDays(1)));
+		revenueRollupService.record(billLog(order, "신용카드", 1000, BillStatus.BEFORE, payAt));
+
+		LocalDate first = payAt.toLocalDate();
+		assertEquals(List.of(
+				new DailyRevenueResponse(first, 25000, 0, 0, 25000),
+				new DailyRevenueResponse(first.plusDays(1), 0, 23000, 0, -23000)),
+			revenueRollupService.getDailyRevenues(first, first.plusDays(1)));
+		assertEquals(List.of(
+				new PaymentRevenueResponse("COUPON", 2000, 1, 0, 0, 0, 0, 2000),
+				new PaymentRevenueResponse("POINT", 3000, 1, 3000, 1, 0, 0, 0),
+				new PaymentRevenueResponse("신용카드", 20000, 1, 20000, 1, 0, 0, 0)),
+			revenueRollupService.getPaymentRevenues(first, first.plusDays(1)));
+		assertEquals(List.of(
+				new CategoryRevenueResponse(novel.getId(), "소설", 20000, 2, 0, 0, 0, 0, 20000),
+				new CategoryRevenueResponse(essay.getId(), "에세이", 5000, 1, 0, 0, 0, 0, 5000)),
+			revenueRollupService.getCategoryRevenues(first, first));
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안의 결제 내역은 커밋할 때 한 번에 더하고 롤백하면 버림")
+	void testRecordInTransaction() {
+		LocalDateTime payAt = LocalDateTime.of(2024, 8, 1, 10, 0);
+		Order order = saveOrder(detail(novelBook, 10000, 1));
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			revenueRollupService.record(billLog(order, "신용카드", 10000, BillStatus.DONE, payAt));
+			status.setRollbackOnly();
+		});
+		assertEquals(0, countPayments());
+
+		transactionTemplate.executeWithoutResult(status -> {
+			revenueRollupService.record(billLog(order, "신용카드", 10000, BillStatus.DONE, payAt));
+			revenueRollupService.record(billLog(order, "신용카드", 10000, BillStatus.DONE, payAt));
+			assertEquals(0, countPayments());
+		});
+
+		verify(repository, times(1)).addPayments(anyList());
+		assertEquals(List.of(new PaymentRevenueResponse("신용카드", 20000, 2, 0, 0, 0, 0, 20000)),
+			revenueRollupService.getPaymentRevenues(payAt.toLocalDate(), payAt.toLocalDate()));
+	}
+
+	@Test
+	@DisplayName("재구성한 집계가 결제 내역을 쌓으며 더한 집계와 같음")
+	void testBackfillMatchesIncrementalRollups() {
+		Random random = new Random(16);
+		LocalDate startDate = LocalDate.now().minusDays(10);
+		List<BillStatus> statuses = List.of(BillStatus.DONE, BillStatus.DONE, BillStatus.CANCELED, BillStatus.REFUND);
+		List<Product> products = List.of(novelBook, otherNovelBook, essayBook);
+		for (int i = 0; i < 100; i++) {
+			Product product = products.get(random.nextInt(products.size()));
+			OrderDetail detail = detail(product, 1000 * (1 + random.nextInt(20)), 1 + random.nextInt(3));
+			Order order = saveOrder(detail);
+			LocalDateTime payAt = startDate.plusDays(random.nextInt(10)).atTime(random.nextInt(24), 0);
+			BillStatus status = statuses.get(random.nextInt(statuses.size()));
+			String payment = PAYMENTS.get(random.nextInt(PAYMENTS.size()));
+			revenueRollupService.record(billLogRepository.save(
+				billLog(order, payment, detail.getPrice() * detail.getQuantity(), status, payAt)));
+		}
+		LocalDate endDate = startDate.plusDays(9);
+		List<DailyRevenueResponse> daily = revenueRollupService.getDailyRevenues(startDate, endDate);
+		List<PaymentRevenueResponse> payments = revenueRollupService.getPaymentRevenues(startDate, endDate);
+		List<CategoryRevenueResponse> categories = revenueRollupService.getCategoryRevenues(startDate, endDate);
+
+		jdbcTemplate.update("UPDATE revenue_daily_payment SET paid_amount = 0");
+		jdbcTemplate.update("DELETE FROM revenue_daily_category");
+		RevenueBackfillResult result = revenueRollupService.backfill(startDate, LocalDate.now());
+
+		assertEquals(endDate, result.endDate());
+		assertEquals(5, result.chunks());
+		assertEquals(daily, revenueRollupService.getDailyRevenues(startDate, endDate));
+		assertEquals(payments, revenueRollupService.getPaymentRevenues(startDate, endDate));
+		assertEquals(categories, revenueRollupService.getCategoryRevenues(startDate, endDate));
+	}
+
+	@Test
+	@DisplayName("보관된 결제 내역도 결제 수단별로 다시 세고, 보관된 날의 카테고리 집계는 그대로 둠")
+	void testBackfillIncludesArchivedBillLogs() {
+		LocalDate archivedDate = LocalDate.now().minusDays(40);
+		Order order = saveOrder(detail(novelBook, 10000, 1));
+		BillLog billLog = billLog(order, "신용카드", 10000, BillStatus.DONE, archivedDate.atTime(9, 0));
+		jdbcTemplate.update("INSERT INTO bill_log_archive (id, payment, price, pay_at, order_id, status, archived_at) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?)", 1L, billLog.getPayment(), billLog.getPrice(),
+			Timestamp.valueOf(billLog.getPayAt()), order.getId(), billLog.getStatus().name(),
+			Timestamp.valueOf(LocalDateTime.now()));
+		revenueRollupService.record(billLog);
+		jdbcTemplate.update("DELETE FROM revenue_daily_payment");
+
+		revenueRollupService.backfill(archivedDate, archivedDate);
+
+		assertEquals(List.of(new PaymentRevenueResponse("신용카드", 10000, 1, 0, 0, 0, 0, 10000)),
+			revenueRollupService.getPaymentRevenues(archivedDate, archivedDate));
+		assertEquals(List.of(new CategoryRevenueResponse(novel.getId(), "소설", 10000, 1, 0, 0, 0, 0, 10000)),
+			revenueRollupService.getCategoryRevenues(archivedDate, archivedDate));
+	}
+
+	@Test
+	@DisplayName("시작일이 종료일보다 늦으면 조회하지 않음")
+	void testInvalidPeriod() {
+		LocalDate today = LocalDate.now();
+
+		assertThrows(InvalidRevenuePeriodException.class,
+			() -> revenueRollupService.getDailyRevenues(today, today.minusDays(1)));
+		assertThrows(InvalidRevenuePeriodException.class,
+			() -> revenueRollupService.backfill(today, today));
+		verify(repository, never()).findDailyRevenues(any(), any());
+	}
+
+	private int countPayments() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revenue_daily_payment", Integer.class);
+	}
+
+	private Product saveProduct(String name, Category category) {
+		return productRepository.save(Product.builder()
+			.productName(name)
+			.stock(100)
+			.price(10000)
+			.score(10)
+			.forwardDate(LocalDate.now())
+			.stockStatus(Product.StockStatus.SALE)
+			.category(category)
+			.build());
+	}
+
+	private Order saveOrder(OrderDetail... details) {
+		Order order = orderRepository.save(Order.builder()
+			.orderStr("order-" + nextOrder++)
+			.price(10000)
+			.address("address")
+			.addressDetail("detail")
+			.zipcode(12345)
+			.desiredDeliveryDate(LocalDate.now())
+			.receiver("receiver")
+			.sender("sender")
+			.senderContactNumber("010-0000-0000")
+			.receiverContactNumber("010-0000-0000")
+			.orderStatus(orderStatus)
+			.details(new ArrayList<>())
+			.build());
+		for (OrderDetail detail : details) {
+			order.getDetails().add(orderDetailRepository.save(OrderDetail.builder()
+				.price(detail.getPrice())
+				.quantity(detail.getQuantity())
+				.wrap(false)
+				.orderStatus(orderStatus)
+				.product(detail.getProduct())
+				.order(order)
+				.createAt(LocalDateTime.now())
+				.updateAt(LocalDateTime.now())
+				.build()));
+		}
+		return order;
+	}
+
+	private OrderDetail detail(Product product, int price, int quantity) {
+		return OrderDetail.builder().price(price).quantity(quantity).product(product).build();
+	}
+
+	private BillLog billLog(Order order, String payment, int price, BillStatus status, LocalDateTime payAt) {
+		return BillLog.builder().order(order).payment(payment).price(price).status(status).payAt(payAt).build();
+	}
+}
@@ -0,0 +1,162 @@
+package store.buzzbook.core.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import store.buzzbook.core.client.payment.LocalSettlementFeed;
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.exception.order.InvalidSettlementFileException;
+import store.buzzbook.core.dto.payment.SettlementReconciliationResult;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.entity.payment.SettlementReconciliation;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.order.OrderStatusRepository;
+import store.buzzbook.core.repository.payment.BillLogRepository;
+import store.buzzbook.core.repository.payment.SettlementReconciliationRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SettlementReconciliationServiceTest {
+
+	@Autowired
+	private SettlementReconciliationRepository settlementReconciliationRepository;
+
+	@Autowired
+	private BillLogRepository billLogRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderStatusRepository orderStatusRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Order order;
+
+	@BeforeEach
+	void setUp() {
+		OrderStatus paid = orderStatusRepository.save(
+			OrderStatus.builder().name("PAID").updateAt(LocalDateTime.now()).build());
+		order = orderRepository.save(Order.builder()
+			.orderStr("order1")
+			.price(10000)
+			.address("address")
+			.addressDetail("detail")
+			.zipcode(12345)
+			.desiredDeliveryDate(LocalDate.of(2024, 8, 3))
+			.receiver("receiver")
+			.sender("sender")
+			.senderContactNumber("010-0000-0000")
+			.receiverContactNumber("010-0000-0000")
+			.orderStatus(paid)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM settlement_mismatch");
+		jdbcTemplate.update("DELETE FROM settlement_entry");
+		settlementReconciliationRepository.deleteAll();
+		billLogRepository.deleteAll();
+		orderRepository.deleteAll();
+		orderStatusRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("금액, 상태가 다르거나 한쪽에만 있는 PG 결제만 불일치로 기록")
+	void testReconcile() {
+		LocalDateTime payAt = LocalDateTime.of(2024, 8, 1, 10, 0);
+		saveBillLog("신용카드", 10000, payAt, BillStatus.DONE, "tviva20240801100000matched");
+		saveBillLog("POINT", 2000, payAt, BillStatus.DONE, "tviva20240801100000matched");
+		saveBillLog("간편결제", 14000, payAt, BillStatus.DONE, "tviva20240801110000amount");
+		saveBillLog("신용카드", 20000, payAt, BillStatus.DONE, "tviva20240801120000status");
+		saveBillLog("신용카드", 20000, payAt.plusHours(1), BillStatus.CANCELED, "tviva20240801120000status");
+		saveBillLog("신용카드", 30000, payAt, BillStatus.DONE, "tviva20240801140000canceled");
+		saveBillLog("신용카드", 30000, payAt.plusHours(1), BillStatus.CANCELED, "tviva20240801140000canceled");
+		saveBillLog("신용카드", 8000, payAt, BillStatus.DONE, "tviva20240801150000unsettled");
+		// 다음 날 승인된 결제는 이 정산일의 대사 대상이 아님
+		saveBillLog("신용카드", 9000, payAt.plusDays(1), BillStatus.DONE, "tviva20240802100000nextday");
+
+		SettlementReconciliationResult result = service(2).reconcile(LocalDate.of(2024, 8, 1));
+
+		assertEquals(5, result.settlementRows());
+		assertEquals(2, result.matched());
+		assertEquals(4, result.mismatched());
+		Map<String, String> mismatches = jdbcTemplate.queryForList(
+				"SELECT payment_key, type FROM settlement_mismatch WHERE reconciliation_id = ?",
+				result.reconciliationId()).stream()
+			.collect(Collectors.toMap(row -> (String)row.get("payment_key"), row -> String.valueOf(row.get("type"))));
+		assertEquals(Map.of(
+			"tviva20240801110000amount", "AMOUNT_MISMATCH",
+			"tviva20240801120000status", "STATUS_MISMATCH",
+			"tviva20240801130000missing", "MISSING_IN_BILL_LOG",
+			"tviva20240801150000unsettled", "MISSING_IN_SETTLEMENT"), mismatches);
+		assertEquals(14000L, jdbcTemplate.queryForObject("SELECT bill_approved_amount FROM settlement_mismatch "
+			+ "WHERE payment_key = 'tviva20240801110000amount'", Long.class));
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM settlement_entry", Integer.class));
+
+		SettlementReconciliation reconciliation = settlementReconciliationRepository.findById(
+			result.reconciliationId()).orElseThrow();
+		assertEquals(SettlementReconciliation.Status.COMPLETED, reconciliation.getStatus());
+		assertEquals(4, reconciliation.getMismatched());
+	}
+
+	@Test
+	@DisplayName("정산 파일이 잘못되면 실행을 실패로 남기고 적재 테이블을 비움")
+	void testInvalidFileFailsRun() {
+		SettlementReconciliationService service = service(2);
+
+		assertThrows(InvalidSettlementFileException.class, () -> service.reconcile(LocalDate.of(2024, 8, 2)));
+
+		SettlementReconciliation reconciliation = settlementReconciliationRepository.findAll().getFirst();
+		assertEquals(SettlementReconciliation.Status.FAILED, reconciliation.getStatus());
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM settlement_entry", Integer.class));
+	}
+
+	private SettlementReconciliationService service(int chunkSize) {
+		return new SettlementReconciliationService(
+			new LocalSettlementFeed(new DefaultResourceLoader(), "classpath:settlement/"),
+			settlementReconciliationRepository, transactionManager, chunkSize);
+	}
+
+	private void saveBillLog(String payment, int price, LocalDateTime payAt, BillStatus status, String paymentKey) {
+		billLogRepository.save(BillLog.builder()
+			.payment(payment)
+			.price(price)
+			.payAt(payAt)
+			.order(order)
+			.status(status)
+			.paymentKey(paymentKey)
+			.build());
+	}
+}
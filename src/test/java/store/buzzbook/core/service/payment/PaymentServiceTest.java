@@ -1,4 +1,135 @@
 package store.buzzbook.core.service.payment;
 
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import store.buzzbook.core.common.exception.order.OrderNotFoundException;
+import store.buzzbook.core.dto.order.ReadOrderResponse;
+import store.buzzbook.core.dto.order.ReadOrderWithBillLogsResponse;
+import store.buzzbook.core.dto.payment.ReadBillLogWithoutOrderResponse;
+import store.buzzbook.core.dto.payment.ReadBillLogsRequest;
+import store.buzzbook.core.entity.payment.BillLogArchive;
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.payment.BillLogArchiveRepository;
+import store.buzzbook.core.repository.payment.BillLogRepository;
+import store.buzzbook.core.service.order.OrderResponseLoader;
+import store.buzzbook.core.service.order.PaymentService;
+
+@ExtendWith(MockitoExtension.class)
 public class PaymentServiceTest {
+
+	@Mock
+	private OrderRepository orderRepository;
+
+	@Mock
+	private BillLogRepository billLogRepository;
+
+	@Mock
+	private BillLogArchiveRepository billLogArchiveRepository;
+
+	@Mock
+	private OrderResponseLoader orderResponseLoader;
+
+	@InjectMocks
+	private PaymentService paymentService;
+
+	@Test
+	@DisplayName("결제 내역 조회 시 마지막 주문 아이디를 다음 페이지 커서로 반환")
+	void testReadBillLogsReturnsNextCursor() {
+		ReadBillLogsRequest request = new ReadBillLogsRequest(1, 2, null,
+			LocalDateTime.of(2024, 7, 1, 0, 0), LocalDateTime.of(2024, 8, 1, 0, 0), BillStatus.DONE);
+		List<ReadOrderWithBillLogsResponse> orders = List.of(
+			ReadOrderWithBillLogsResponse.builder().orderId(20L).build(),
+			ReadOrderWithBillLogsResponse.builder().orderId(13L).build());
+
+		when(orderRepository.readOrdersWithBillLogs(request, PageRequest.of(0, 2)))
+			.thenReturn(new SliceImpl<>(orders, PageRequest.of(0, 2), true));
+
+		Map<String, Object> data = paymentService.readBillLogs(request);
+
+		assertEquals(orders, data.get("responseData"));
+		assertEquals(true, data.get("hasNext"));
+		assertEquals(13L, data.get("nextCursor"));
+	}
+
+	@Test
+	@DisplayName("커서로 결제 내역 조회 시 페이지 번호 무시")
+	void testReadBillLogsWithCursor() {
+		ReadBillLogsRequest request = new ReadBillLogsRequest(5000, 2, 13L, null, null, null);
+
+		when(orderRepository.readOrdersWithBillLogs(eq(request), eq(PageRequest.of(0, 2))))
+			.thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 2), false));
+
+		Map<String, Object> data = paymentService.readBillLogs(request);
+
+		assertEquals(false, data.get("hasNext"));
+		assertNull(data.get("nextCursor"));
+	}
+
+	@Test
+	@DisplayName("운영 테이블에 결제 내역이 없으면 보관된 결제 내역을 조회")
+	void testReadBillLogWithoutOrderFallsBackToArchive() {
+		when(billLogRepository.findByOrder_OrderStr("order-1")).thenReturn(List.of());
+		when(billLogArchiveRepository.findByOrderStr("order-1")).thenReturn(List.of(archivedBillLog("key-1")));
+		when(billLogRepository.findByUserIdAndOrderStr(1L, "order-1")).thenReturn(List.of());
+		when(billLogArchiveRepository.findByUserIdAndOrderStr(1L, "order-1"))
+			.thenReturn(List.of(archivedBillLog("key-1")));
+
+		assertEquals(List.of("key-1"), paymentService.readBillLogWithoutOrderWithAdmin("order-1").stream()
+			.map(ReadBillLogWithoutOrderResponse::getPaymentKey).toList());
+		assertEquals(1, paymentService.readBillLogWithoutOrderWithoutLogin("order-1").size());
+		assertEquals(1, paymentService.readBillLogWithoutOrder(1L, "order-1").size());
+		assertEquals("key-1", paymentService.getPaymentKey("order-1", 1L));
+	}
+
+	@Test
+	@DisplayName("보관된 결제 내역에도 없으면 주문 없음 예외")
+	void testGetPaymentKeyNotFound() {
+		when(billLogRepository.findByOrder_OrderStrAndOrder_User_Id("order-1", 1L)).thenReturn(List.of());
+		when(billLogArchiveRepository.findByUserIdAndOrderStr(1L, "order-1")).thenReturn(List.of());
+
+		assertThrows(OrderNotFoundException.class, () -> paymentService.getPaymentKey("order-1", 1L));
+	}
+
+	@Test
+	@DisplayName("비회원의 보관된 결제 내역은 보관된 주문의 이메일이 같을 때만 PaymentKey 반환")
+	void testGetPaymentKeyWithoutLoginFromArchive() {
+		when(billLogRepository.findByOrder_OrderStrAndOrder_OrderEmail(eq("order-1"), anyString()))
+			.thenReturn(List.of());
+		when(orderResponseLoader.load("order-1"))
+			.thenReturn(ReadOrderResponse.builder().orderStr("order-1").orderEmail("guest@nhn.com").build());
+		when(billLogArchiveRepository.findByOrderStr("order-1")).thenReturn(List.of(archivedBillLog("key-1")));
+
+		assertEquals("key-1", paymentService.getPaymentKeyWithoutLogin("order-1", "guest@nhn.com"));
+		assertThrows(OrderNotFoundException.class,
+			() -> paymentService.getPaymentKeyWithoutLogin("order-1", "other@nhn.com"));
+	}
+
+	private BillLogArchive archivedBillLog(String paymentKey) {
+		return BillLogArchive.builder()
+			.id(1L)
+			.payment("간편결제")
+			.price(1000)
+			.payAt(LocalDateTime.now())
+			.orderId(1L)
+			.status(BillStatus.DONE)
+			.paymentKey(paymentKey)
+			.archivedAt(LocalDateTime.now())
+			.build();
+	}
 }
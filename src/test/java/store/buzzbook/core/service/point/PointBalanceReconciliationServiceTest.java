@@ -0,0 +1,238 @@
+package store.buzzbook.core.service.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.exception.order.OutOfPointsException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
+import store.buzzbook.core.dto.point.PointBalanceReconciliationResult;
+import store.buzzbook.core.entity.point.PointLog;
+import store.buzzbook.core.entity.user.User;
+import store.buzzbook.core.entity.user.UserStatus;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
+import store.buzzbook.core.repository.point.PointLogRepository;
+import store.buzzbook.core.repository.point.PointPolicyRepository;
+import store.buzzbook.core.repository.user.UserRepository;
+import store.buzzbook.core.service.point.impl.PointServiceImpl;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointBalanceReconciliationServiceTest {
+	private static final int THREADS = 8;
+	private static final int WRITES = 200;
+
+	@Autowired
+	private PointBalanceRepository pointBalanceRepository;
+
+	@Autowired
+	private PointLogRepository pointLogRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private int nextUser = 1;
+
+	@AfterEach
+	void tearDown() {
+		pointLogRepository.deleteAll();
+		pointBalanceRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("같은 회원의 포인트를 동시에 바꿔도 변동이 빠지지 않고 마지막 내역과 잔액이 같음")
+	void testConcurrentDeltasAreNotLost() throws Exception {
+		User user = saveUser();
+		savePointLog(user, 1000, 1000);
+		PointServiceImpl pointService = new PointServiceImpl(mock(PointPolicyRepository.class), pointLogRepository,
+			pointBalanceRepository, userRepository, mock(ReferenceDataRegistry.class));
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < WRITES; i++) {
+				int delta = i % 2 == 0 ? 10 : -3;
+				futures.add(executor.submit(() -> {
+					start.await();
+					return transactionTemplate.execute(
+						status -> pointService.createPointLogWithDelta(user.getId(), "test", delta));
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		int expected = 1000 + WRITES / 2 * (10 - 3);
+		assertEquals(expected, pointService.getUserPoint(user.getId()));
+		assertEquals(expected, jdbcTemplate.queryForObject(
+			"SELECT balance FROM point_log ORDER BY id DESC LIMIT 1", Integer.class));
+		// 내역마다 직전 내역의 잔액에 자기 변동량을 더한 잔액이 남아야 함
+		int running = 0;
+		for (Map<String, Object> row : jdbcTemplate.queryForList("SELECT delta, balance FROM point_log ORDER BY id")) {
+			running += (Integer)row.get("delta");
+			assertEquals(running, row.get("balance"));
+		}
+		assertEquals(WRITES - 1L, pointBalanceRepository.findById(user.getId()).orElseThrow().getVersion());
+	}
+
+	@Test
+	@DisplayName("같은 회원이 동시에 포인트를 써도 잔액보다 많이 쓰지 않음")
+	void testConcurrentUsesDoNotOverspend() throws Exception {
+		User user = saveUser();
+		// 잔액 행이 없는 회원도 마지막 내역의 잔액으로 행을 만들고 뺌
+		savePointLog(user, 1000, 1000);
+		PointServiceImpl pointService = new PointServiceImpl(mock(PointPolicyRepository.class), pointLogRepository,
+			pointBalanceRepository, userRepository, mock(ReferenceDataRegistry.class));
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < 20; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return transactionTemplate.execute(status -> pointService.usePoints(user.getId(), "test", 100));
+				}));
+			}
+			start.countDown();
+			int outOfPoints = 0;
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					assertInstanceOf(OutOfPointsException.class, e.getCause());
+					outOfPoints++;
+				}
+			}
+			assertEquals(10, outOfPoints);
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(0, pointService.getUserPoint(user.getId()));
+		assertEquals(11, pointLogRepository.count());
+		assertEquals(0, jdbcTemplate.queryForObject(
+			"SELECT balance FROM point_log ORDER BY id DESC LIMIT 1", Integer.class));
+	}
+
+	@Test
+	@DisplayName("잔액 행이 없으면 만들고, 마지막 내역과 다르면 읽은 버전일 때만 고침")
+	void testReconcile() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			users.add(saveUser());
+		}
+		savePointLog(users.get(0), 100, 100);
+		savePointLog(users.get(1), 200, 200);
+		savePointLog(users.get(2), 300, 300);
+		insertBalance(users.get(0), 100, 3);
+		insertBalance(users.get(1), 150, 1);
+
+		PointBalanceReconciliationResult result = new PointBalanceReconciliationService(pointBalanceRepository,
+			transactionManager, 2).reconcile();
+
+		assertEquals(5, result.users());
+		assertEquals(3, result.seeded());
+		assertEquals(1, result.corrected());
+		assertEquals(0, result.skipped());
+		assertEquals(List.of(100, 200, 300, 0, 0), jdbcTemplate.queryForList(
+			"SELECT balance FROM point_balance ORDER BY user_id", Integer.class));
+		assertEquals(2L, pointBalanceRepository.findById(users.get(1).getId()).orElseThrow().getVersion());
+		assertEquals(3L, pointBalanceRepository.findById(users.get(0).getId()).orElseThrow().getVersion());
+	}
+
+	@Test
+	@DisplayName("대사 중 잔액이 바뀌었으면 고치지 않고 넘김")
+	void testReconcileSkipsChangedBalance() {
+		User user = saveUser();
+		savePointLog(user, 100, 100);
+		insertBalance(user, 90, 0);
+		PointBalanceRepository repository = mock(PointBalanceRepository.class,
+			AdditionalAnswers.delegatesTo(pointBalanceRepository));
+		doAnswer(invocation -> {
+			jdbcTemplate.update("UPDATE point_balance SET balance = 100, version = version + 1 WHERE user_id = ?",
+				user.getId());
+			return 0;
+		}).when(repository).correctBalance(user.getId(), 100, 0L);
+
+		PointBalanceReconciliationResult result = new PointBalanceReconciliationService(repository,
+			transactionManager, 10).reconcile();
+
+		assertEquals(0, result.corrected());
+		assertEquals(1, result.skipped());
+	}
+
+	private User saveUser() {
+		int number = nextUser++;
+		return userRepository.save(User.builder()
+			.loginId("pointuser" + number)
+			.name("test")
+			.email("point" + number + "@nhn.com")
+			.contactNumber("010-0000-1111")
+			.birthday(LocalDate.of(2000, 1, 1))
+			.modifyAt(LocalDateTime.now().minusDays(1))
+			.createAt(LocalDateTime.now())
+			.password("encrytedsolongpassword123345")
+			.status(UserStatus.ACTIVE)
+			.build());
+	}
+
+	private void savePointLog(User user, int delta, int balance) {
+		pointLogRepository.save(PointLog.builder()
+			.user(user)
+			.createdAt(LocalDateTime.now())
+			.inquiry("test")
+			.delta(delta)
+			.balance(balance)
+			.build());
+	}
+
+	private void insertBalance(User user, int balance, long version) {
+		// 버전이 붙은 엔티티는 저장할 때 버전이 덮이므로 행을 직접 넣음
+		jdbcTemplate.update("INSERT INTO point_balance (user_id, balance, version, updated_at) "
+			+ "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", user.getId(), balance, version);
+	}
+}
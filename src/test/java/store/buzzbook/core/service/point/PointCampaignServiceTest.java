@@ -0,0 +1,251 @@
+package store.buzzbook.core.service.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.dto.point.CreatePointCampaignRequest;
+import store.buzzbook.core.dto.point.PointCampaignResponse;
+import store.buzzbook.core.dto.point.PointCampaignRunResult;
+import store.buzzbook.core.entity.point.PointCampaign;
+import store.buzzbook.core.entity.user.UserStatus;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
+import store.buzzbook.core.repository.point.PointCampaignRepository;
+import store.buzzbook.core.repository.point.PointLogRepository;
+
+@Slf4j
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointCampaignServiceTest {
+	private static final int CHUNK_SIZE = 10;
+
+	@Autowired
+	private PointCampaignRepository pointCampaignRepository;
+
+	@Autowired
+	private PointBalanceRepository pointBalanceRepository;
+
+	@Autowired
+	private PointLogRepository pointLogRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private PointCampaignRepository campaignRepository;
+	private PointCampaignService pointCampaignService;
+
+	@BeforeEach
+	void setUp() {
+		// 실패와 다른 서버의 선점을 흉내 낼 수 있도록 실제 저장소에 위임하는 목으로 감쌈
+		campaignRepository = mock(PointCampaignRepository.class, AdditionalAnswers.delegatesTo(pointCampaignRepository));
+		pointCampaignService = new PointCampaignService(campaignRepository, pointBalanceRepository, transactionManager,
+			CHUNK_SIZE, 5);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointCampaignService.shutdown();
+		jdbcTemplate.update("DELETE FROM point_campaign_target");
+		jdbcTemplate.update("DELETE FROM point_campaign");
+		jdbcTemplate.update("DELETE FROM point_log");
+		jdbcTemplate.update("DELETE FROM point_balance");
+		jdbcTemplate.update("DELETE FROM `user`");
+	}
+
+	@Test
+	@DisplayName("회원 상태로 만든 캠페인은 만들 때의 마지막 회원까지 상태가 맞는 회원에게 한 번씩 지급")
+	void testGrantByUserStatus() {
+		insertUsers(1, 30);
+		jdbcTemplate.update("UPDATE `user` SET status = 'DORMANT' WHERE MOD(id, 10) = 0");
+		// 잔액 행이 있는 회원, 포인트 내역만 있는 회원
+		insertPointLog(1L, 100, 100);
+		pointBalanceRepository.addBalance(1L, 0);
+		insertPointLog(3L, 300, 300);
+
+		PointCampaignResponse campaign = pointCampaignService.create(
+			new CreatePointCampaignRequest("holiday", 500, null, UserStatus.ACTIVE));
+		insertUsers(31, 40);
+		PointCampaignRunResult result = pointCampaignService.run(campaign.id());
+
+		assertEquals(27, campaign.targetUsers());
+		assertEquals(27, result.grantedUsers());
+		assertEquals(3, result.chunks());
+		assertTrue(result.done());
+		assertEquals(600, balanceOf(1L));
+		assertEquals(500, balanceOf(2L));
+		assertEquals(800, balanceOf(3L));
+		assertNull(balanceOf(10L));
+		assertNull(balanceOf(31L));
+		assertEquals(27, jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM point_log WHERE inquiry = 'holiday' AND delta = 500", Integer.class));
+		assertEquals(800, jdbcTemplate.queryForObject(
+			"SELECT balance FROM point_log WHERE user_id = 3 ORDER BY id DESC LIMIT 1", Integer.class));
+
+		PointCampaign done = pointCampaignRepository.findById(campaign.id()).orElseThrow();
+		assertEquals(PointCampaign.Status.DONE, done.getStatus());
+		assertEquals(27, done.getGrantedUsers());
+		assertEquals(29, done.getLastUserId());
+		assertNotNull(done.getFinishedAt());
+	}
+
+	@Test
+	@DisplayName("회원 아이디 목록으로 만든 캠페인은 중복과 없는 회원을 빼고 지급")
+	void testGrantListedUsers() {
+		insertUsers(1, 10);
+
+		PointCampaignResponse campaign = pointCampaignService.create(
+			new CreatePointCampaignRequest("event", 100, List.of(7L, 3L, 3L, 99L, 5L), null));
+		PointCampaignRunResult result = pointCampaignService.run(campaign.id());
+
+		assertEquals(3, campaign.targetUsers());
+		assertEquals(3, result.grantedUsers());
+		assertEquals(List.of(3L, 5L, 7L), jdbcTemplate.queryForList(
+			"SELECT user_id FROM point_log ORDER BY user_id", Long.class));
+		assertEquals(List.of(100, 100, 100), jdbcTemplate.queryForList(
+			"SELECT balance FROM point_balance ORDER BY user_id", Integer.class));
+	}
+
+	@Test
+	@DisplayName("지급 중 실패하면 지급한 청크까지만 남고, 다시 실행하면 다음 청크부터 한 번씩 지급")
+	void testResumeAfterFailure() {
+		insertUsers(1, 35);
+		PointCampaignResponse campaign = pointCampaignService.create(
+			new CreatePointCampaignRequest("resume", 10, null, null));
+		doAnswer(invocation -> {
+			List<Long> userIds = new ArrayList<>(invocation.getArgument(0));
+			if (userIds.getFirst() == 21L) {
+				throw new IllegalStateException("down");
+			}
+			return pointCampaignRepository.insertPointLogs(userIds, invocation.getArgument(1),
+				invocation.getArgument(2), invocation.getArgument(3));
+		}).when(campaignRepository).insertPointLogs(anyCollection(), anyString(), anyInt(), any());
+
+		assertThrows(IllegalStateException.class, () -> pointCampaignService.run(campaign.id()));
+		PointCampaign stalled = pointCampaignRepository.findById(campaign.id()).orElseThrow();
+		assertEquals(PointCampaign.Status.RUNNING, stalled.getStatus());
+		assertEquals(20, stalled.getLastUserId());
+		assertEquals(20, pointLogRepository.count());
+		assertEquals(20, pointBalanceRepository.count());
+
+		reset(campaignRepository);
+		PointCampaignRunResult result = pointCampaignService.run(campaign.id());
+
+		assertEquals(15, result.grantedUsers());
+		assertTrue(result.done());
+		assertEquals(35, pointLogRepository.count());
+		assertEquals(List.of(10), jdbcTemplate.queryForList("SELECT DISTINCT balance FROM point_balance",
+			Integer.class));
+	}
+
+	@Test
+	@DisplayName("다른 서버가 청크 진행을 먼저 넘겼으면 지급하지 않고 멈춤")
+	void testStopWhenClaimedByOtherServer() {
+		insertUsers(1, 10);
+		PointCampaignResponse campaign = pointCampaignService.create(
+			new CreatePointCampaignRequest("claimed", 10, null, null));
+		jdbcTemplate.update("UPDATE point_campaign SET last_user_id = 5 WHERE id = ?", campaign.id());
+		doReturn(0).when(campaignRepository).claimChunk(anyLong(), anyLong(), anyLong(), anyInt());
+
+		PointCampaignRunResult result = pointCampaignService.run(campaign.id());
+
+		assertFalse(result.done());
+		assertEquals(0, result.grantedUsers());
+		assertEquals(0, pointLogRepository.count());
+	}
+
+	@Test
+	@DisplayName("종료하면 백그라운드 지급이 멈출 때까지 기다리고, 남은 청크는 다시 실행할 때 지급")
+	void testShutdownStopsBackgroundGrant() {
+		insertUsers(1, 35);
+		PointCampaignResponse campaign = pointCampaignService.create(
+			new CreatePointCampaignRequest("shutdown", 10, null, null));
+
+		pointCampaignService.start(campaign.id());
+		pointCampaignService.shutdown();
+
+		PointCampaign stopped = pointCampaignRepository.findById(campaign.id()).orElseThrow();
+		assertEquals(stopped.getGrantedUsers(), pointLogRepository.count());
+		assertThrows(RuntimeException.class, () -> pointCampaignService.start(campaign.id()));
+
+		PointCampaignRunResult result = pointCampaignService.run(campaign.id());
+
+		assertTrue(result.done());
+		assertEquals(35, pointLogRepository.count());
+	}
+
+	/**
+	 * 5만 명 지급 처리량. 기본 테스트에서는 돌지 않으며 -Dbenchmark=true 로 돌립니다.
+	 */
+	@Test
+	@Tag("benchmark")
+	@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+	@DisplayName("5만 명 지급 처리량")
+	void benchmarkThroughput() {
+		insertUsers(1, 50_000);
+		PointCampaignService service = new PointCampaignService(pointCampaignRepository, pointBalanceRepository,
+			transactionManager, 1000, 5);
+		PointCampaignResponse campaign = service.create(
+			new CreatePointCampaignRequest("benchmark", 1000, null, UserStatus.ACTIVE));
+
+		PointCampaignRunResult result = service.run(campaign.id());
+		service.shutdown();
+
+		log.info("포인트 캠페인 처리량 {}명/분 ({}명, {}ms)", Math.round(result.usersPerMinute()), result.grantedUsers(),
+			result.elapsedMillis());
+		assertEquals(50_000, result.grantedUsers());
+		assertTrue(result.usersPerMinute() >= 50_000);
+		assertEquals(50_000, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_log", Integer.class));
+	}
+
+	private void insertUsers(long from, long to) {
+		List<Object[]> args = new ArrayList<>();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+		for (long id = from; id <= to; id++) {
+			args.add(new Object[] {id, "campaign" + id, "user" + id + "@nhn.com", now, now});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO `user` (id, login_id, contact_number, name, email, password, birthday, "
+			+ "created_at, status, modify_at, is_admin) VALUES (?, ?, '010-0000-1111', 'test', ?, 'password', "
+			+ "'2000-01-01', ?, 'ACTIVE', ?, false)", args);
+	}
+
+	private void insertPointLog(long userId, int delta, int balance) {
+		jdbcTemplate.update("INSERT INTO point_log (user_id, created_at, inquiry, delta, balance) "
+			+ "VALUES (?, ?, 'test', ?, ?)", userId, Timestamp.valueOf(LocalDateTime.now()), delta, balance);
+	}
+
+	private Integer balanceOf(long userId) {
+		List<Integer> balances = jdbcTemplate.queryForList("SELECT balance FROM point_balance WHERE user_id = ?",
+			Integer.class, userId);
+		return balances.isEmpty() ? null : balances.getFirst();
+	}
+}
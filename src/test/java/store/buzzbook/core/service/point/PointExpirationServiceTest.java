@@ -0,0 +1,219 @@
+package store.buzzbook.core.service.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.service.JobLockService;
+import store.buzzbook.core.common.service.impl.JobLockServiceImpl;
+import store.buzzbook.core.dto.point.PointExpirationResult;
+import store.buzzbook.core.repository.common.JobLockRepository;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
+import store.buzzbook.core.repository.point.PointLogRepository;
+import store.buzzbook.core.repository.user.UserRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointExpirationServiceTest {
+	private static final LocalDateTime EARNED_BEFORE = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+	@Autowired
+	private PointBalanceRepository pointBalanceRepository;
+
+	@Autowired
+	private PointLogRepository pointLogRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JobLockRepository jobLockRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private JobLockService jobLockService;
+	private PointExpirationService pointExpirationService;
+
+	@BeforeEach
+	void setUp() {
+		jobLockService = new JobLockServiceImpl(jobLockRepository, transactionManager);
+		pointExpirationService = new PointExpirationService(pointBalanceRepository, pointLogRepository,
+			jobLockService, transactionManager, 365, 100, 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jobLockRepository.deleteAll();
+		pointLogRepository.deleteAll();
+		pointBalanceRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("먼저 적립한 포인트부터 사용한 것으로 보고 기준 시각 이전 적립분 중 남은 포인트만 소멸")
+	void testExpireFifo() {
+		// 100(만료) + 50(만료) 적립, 120 사용 -> 만료 대상 중 30 남음, 이후 적립 200 은 유지
+		insertHistory(1L, new int[] {100, 50, -120, 200}, new int[] {-400, -380, -100, 10});
+		// 만료 대상을 모두 사용
+		insertHistory(2L, new int[] {100, -100, 300}, new int[] {-400, -300, 10});
+		// 이후 적립 뒤에 사용해도 사용분은 만료 대상부터 차감돼 만료 대상 중 30 남음
+		insertHistory(3L, new int[] {80, 40, -50}, new int[] {-400, 10, 20});
+
+		PointExpirationResult result = pointExpirationService.expire(EARNED_BEFORE);
+
+		assertTrue(result.locked());
+		assertEquals(2, result.expiredUsers());
+		assertEquals(60, result.expiredPoints());
+		assertEquals(200, balanceOf(1L));
+		assertEquals(300, balanceOf(2L));
+		assertEquals(40, balanceOf(3L));
+		assertEquals(List.of(-30, 200), lastLog(1L));
+		assertEquals(List.of(-30, 40), lastLog(3L));
+		// 끝나면 잠금을 반납해 바로 다시 잡을 수 있음
+		assertTrue(jobLockService.tryLock(PointExpirationService.LOCK_NAME, Duration.ofMinutes(10)).isPresent());
+	}
+
+	@Test
+	@DisplayName("무작위 내역에서 회원별 FIFO 계산과 소멸량이 같고, 다시 돌려도 더 소멸하지 않음")
+	void testExpireMatchesFifoAndIsIdempotent() {
+		Random random = new Random(42);
+		Map<Long, Integer> expected = new HashMap<>();
+		for (long userId = 1; userId <= 250; userId++) {
+			int count = 1 + random.nextInt(12);
+			int[] deltas = new int[count];
+			int[] days = new int[count];
+			int balance = 0;
+			int day = -500;
+			for (int i = 0; i < count; i++) {
+				day += random.nextInt(80);
+				days[i] = day;
+				if (balance > 0 && random.nextInt(3) == 0) {
+					deltas[i] = -(1 + random.nextInt(balance));
+				} else {
+					deltas[i] = 1 + random.nextInt(1000);
+				}
+				balance += deltas[i];
+			}
+			insertHistory(userId, deltas, days);
+			expected.put(userId, fifoExpiring(deltas, days));
+		}
+
+		PointExpirationResult result = pointExpirationService.expire(EARNED_BEFORE);
+
+		Map<Long, Integer> actual = new HashMap<>();
+		for (Map<String, Object> row : jdbcTemplate.queryForList(
+			"SELECT user_id, delta FROM point_log WHERE inquiry = ?", PointExpirationService.EXPIRATION_INQUIRY)) {
+			actual.put((Long)row.get("user_id"), -(Integer)row.get("delta"));
+		}
+		expected.values().removeIf(amount -> amount == 0);
+		assertEquals(expected, actual);
+		assertEquals(expected.values().stream().mapToLong(Integer::longValue).sum(), result.expiredPoints());
+		// 잔액은 마지막 포인트 내역의 잔액과 같아야 함
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_balance b WHERE b.balance <> "
+			+ "(SELECT l.balance FROM point_log l WHERE l.user_id = b.user_id ORDER BY l.id DESC LIMIT 1)",
+			Integer.class));
+
+		PointExpirationResult again = pointExpirationService.expire(EARNED_BEFORE);
+		assertEquals(0, again.expiredUsers());
+	}
+
+	@Test
+	@DisplayName("다른 실행이 잠금을 잡고 있으면 소멸하지 않고 그 잠금도 건드리지 않음")
+	void testSkipWhenLockedByOtherServer() {
+		insertHistory(1L, new int[] {100}, new int[] {-400});
+		String token = new JobLockServiceImpl(jobLockRepository, transactionManager)
+			.tryLock(PointExpirationService.LOCK_NAME, Duration.ofMinutes(10)).orElseThrow();
+
+		PointExpirationResult result = pointExpirationService.expire(EARNED_BEFORE);
+
+		assertFalse(result.locked());
+		assertEquals(100, balanceOf(1L));
+		assertEquals(token, jobLockRepository.findById(PointExpirationService.LOCK_NAME).orElseThrow().getOwner());
+		assertTrue(jobLockService.tryLock(PointExpirationService.LOCK_NAME, Duration.ofMinutes(10)).isEmpty());
+	}
+
+	/**
+	 * 적립분을 큐에 쌓고 사용분을 앞에서부터 차감해 기준 시각 이전 적립분 중 남은 포인트를 구합니다.
+	 */
+	private int fifoExpiring(int[] deltas, int[] days) {
+		Deque<int[]> earnings = new ArrayDeque<>();
+		for (int i = 0; i < deltas.length; i++) {
+			if (deltas[i] > 0) {
+				earnings.addLast(new int[] {deltas[i], days[i]});
+				continue;
+			}
+			int used = -deltas[i];
+			while (used > 0) {
+				int[] earning = earnings.peekFirst();
+				int take = Math.min(used, earning[0]);
+				earning[0] -= take;
+				used -= take;
+				if (earning[0] == 0) {
+					earnings.pollFirst();
+				}
+			}
+		}
+		return earnings.stream().filter(earning -> earning[1] < 0).mapToInt(earning -> earning[0]).sum();
+	}
+
+	/**
+	 * @param days 기준 시각으로부터 며칠 뒤에 남긴 내역인지
+	 */
+	private void insertHistory(long userId, int[] deltas, int[] days) {
+		Timestamp joined = Timestamp.valueOf(EARNED_BEFORE.minusYears(2));
+		jdbcTemplate.update("INSERT INTO `user` (id, login_id, contact_number, name, email, password, birthday, "
+			+ "created_at, status, modify_at, is_admin) VALUES (?, ?, '010-0000-1111', 'test', ?, 'password', "
+			+ "'2000-01-01', ?, 'ACTIVE', ?, false)", userId, "expiration" + userId, "user" + userId + "@nhn.com",
+			joined, joined);
+		int balance = 0;
+		for (int i = 0; i < deltas.length; i++) {
+			balance += deltas[i];
+			jdbcTemplate.update("INSERT INTO point_log (user_id, created_at, inquiry, delta, balance) "
+					+ "VALUES (?, ?, 'test', ?, ?)", userId, Timestamp.valueOf(EARNED_BEFORE.plusDays(days[i])),
+				deltas[i], balance);
+		}
+		jdbcTemplate.update("INSERT INTO point_balance (user_id, balance, version, updated_at) "
+			+ "VALUES (?, ?, 0, CURRENT_TIMESTAMP)", userId, balance);
+	}
+
+	private int balanceOf(long userId) {
+		return jdbcTemplate.queryForObject("SELECT balance FROM point_balance WHERE user_id = ?", Integer.class,
+			userId);
+	}
+
+	private List<Integer> lastLog(long userId) {
+		Map<String, Object> row = jdbcTemplate.queryForMap("SELECT delta, balance FROM point_log WHERE user_id = ? "
+			+ "ORDER BY id DESC LIMIT 1", userId);
+		return List.of((Integer)row.get("delta"), (Integer)row.get("balance"));
+	}
+}
@@ -20,7 +20,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import store.buzzbook.core.common.exception.order.OutOfPointsException;
 import store.buzzbook.core.common.exception.user.UserNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.point.CreatePointPolicyRequest;
 import store.buzzbook.core.dto.point.DeletePointPolicyRequest;
 import store.buzzbook.core.dto.point.PointLogResponse;
@@ -29,6 +31,7 @@ import store.buzzbook.core.dto.point.UpdatePointPolicyRequest;
 import store.buzzbook.core.entity.point.PointLog;
 import store.buzzbook.core.entity.point.PointPolicy;
 import store.buzzbook.core.entity.user.User;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
 import store.buzzbook.core.repository.point.PointLogRepository;
 import store.buzzbook.core.repository.point.PointPolicyRepository;
 import store.buzzbook.core.repository.user.UserRepository;
@@ -43,9 +46,15 @@ class PointServiceTest {
 	@Mock
 	private PointLogRepository pointLogRepository;
 
+	@Mock
+	private PointBalanceRepository pointBalanceRepository;
+
 	@Mock
 	UserRepository userRepository;
 
+	@Mock
+	private ReferenceDataRegistry referenceDataRegistry;
+
 	@InjectMocks
 	private PointServiceImpl pointService;
 
@@ -108,15 +117,14 @@ class PointServiceTest {
 	@DisplayName("get user point")
 	void getUserPoint() {
 		// given
-		when(pointLogRepository.existsByUserId(anyLong())).thenReturn(true);
-		when(pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(anyLong())).thenReturn(testPointLog);
+		when(pointBalanceRepository.findBalance(anyLong())).thenReturn(testPointLog.getBalance());
 
 		// when
 		int testPoint = pointService.getUserPoint(1L);
 
 		// then
-		verify(pointLogRepository, times(1)).existsByUserId(anyLong());
-		verify(pointLogRepository, times(1)).findFirstByUserIdOrderByCreatedAtDesc(anyLong());
+		verify(pointBalanceRepository, times(1)).findBalance(anyLong());
+		verifyNoInteractions(pointLogRepository);
 		assertEquals(testPointLog.getBalance(), testPoint);
 	}
 
@@ -124,13 +132,13 @@ class PointServiceTest {
 	@DisplayName("get user point with user not exists")
 	void getUserNotExists() {
 		// given
-		when(pointLogRepository.existsByUserId(anyLong())).thenReturn(false);
+		when(pointBalanceRepository.findBalance(anyLong())).thenReturn(0);
 
 		// when
 		int testPoint = pointService.getUserPoint(1L);
 
 		// then
-		verify(pointLogRepository, times(1)).existsByUserId(anyLong());
+		verify(pointBalanceRepository, times(1)).findBalance(anyLong());
 		assertEquals(0, testPoint);
 	}
 
@@ -197,7 +205,7 @@ class PointServiceTest {
 		long userId = 1L;
 		User user = User.builder().id(userId).name("test").build();
 		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-		when(pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(userId)).thenReturn(null);
+		when(pointBalanceRepository.addBalance(userId, 10)).thenReturn(10);
 		when(pointLogRepository.save(any(PointLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		// when
@@ -215,16 +223,8 @@ class PointServiceTest {
 		// given
 		long userId = 1L;
 		User user = User.builder().id(userId).name("test").build();
-		PointLog lastPointLog = PointLog.builder()
-			.user(user)
-			.createdAt(LocalDateTime.now().minusDays(1))
-			.inquiry("test")
-			.delta(20)
-			.balance(20)
-			.build();
-
 		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-		when(pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(userId)).thenReturn(lastPointLog);
+		when(pointBalanceRepository.addBalance(userId, 10)).thenReturn(30);
 		when(pointLogRepository.save(any(PointLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		// when
@@ -237,4 +237,31 @@ class PointServiceTest {
 		assertThat(result.getBalance()).isEqualTo(30);
 	}
 
+	@Test
+	@DisplayName("잔액이 충분하면 포인트를 쓰고 쓴 뒤의 잔액으로 내역을 남김")
+	void testUsePoints() {
+		long userId = 1L;
+		User user = User.builder().id(userId).name("test").build();
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+		when(pointBalanceRepository.deductBalance(userId, 300)).thenReturn(Optional.of(700));
+		when(pointLogRepository.save(any(PointLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		PointLog result = pointService.usePoints(userId, "test", 300);
+
+		assertThat(result.getDelta()).isEqualTo(-300);
+		assertThat(result.getBalance()).isEqualTo(700);
+	}
+
+	@Test
+	@DisplayName("잔액이 모자라면 포인트를 쓰지 않고 내역도 남기지 않음")
+	void testUsePoints_OutOfPoints() {
+		long userId = 1L;
+		User user = User.builder().id(userId).name("test").build();
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+		when(pointBalanceRepository.deductBalance(userId, 300)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> pointService.usePoints(userId, "test", 300))
+			.isInstanceOf(OutOfPointsException.class);
+		verify(pointLogRepository, never()).save(any(PointLog.class));
+	}
 }
@@ -90,7 +90,8 @@ class ProductDetailServiceTest {
 			"test",
 			5,
 			LocalDateTime.now(),
-			testOrderDetail
+			testOrderDetail,
+			null
 		);
 
 		testReviewResponse = ReviewResponse.builder()
@@ -0,0 +1,83 @@
+package store.buzzbook.core.service.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import store.buzzbook.core.common.exception.order.ProductOutOfStockException;
+import store.buzzbook.core.repository.product.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StockServiceTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Test
+	@DisplayName("여러 상품은 상품 아이디 순서로 재고 차감")
+	void testDecreaseStocksInProductIdOrder() {
+		StockService stockService = new StockService(productRepository, true, 5000);
+		Map<Integer, Integer> quantities = new LinkedHashMap<>();
+		quantities.put(30, 1);
+		quantities.put(10, 2);
+		quantities.put(20, 3);
+
+		when(productRepository.decreaseStock(anyInt(), anyInt())).thenReturn(1);
+
+		stockService.decreaseStocks(quantities);
+
+		InOrder inOrder = inOrder(productRepository);
+		inOrder.verify(productRepository).decreaseStock(10, 2);
+		inOrder.verify(productRepository).decreaseStock(20, 3);
+		inOrder.verify(productRepository).decreaseStock(30, 1);
+	}
+
+	@Test
+	@DisplayName("품절이 확인된 상품은 DB를 거치지 않고 거절")
+	void testSoldOutPrecheckSkipsDatabase() {
+		StockService stockService = new StockService(productRepository, true, 5000);
+
+		when(productRepository.decreaseStock(1, 1)).thenReturn(0);
+
+		assertThrows(ProductOutOfStockException.class, () -> stockService.decreaseStocks(Map.of(1, 1)));
+		assertTrue(stockService.isSoldOut(1));
+		assertThrows(ProductOutOfStockException.class, () -> stockService.decreaseStocks(Map.of(1, 1)));
+
+		verify(productRepository, times(1)).decreaseStock(1, 1);
+	}
+
+	@Test
+	@DisplayName("재고가 늘어나면 품절 기록 삭제")
+	void testIncreaseStockClearsSoldOut() {
+		StockService stockService = new StockService(productRepository, true, 5000);
+
+		when(productRepository.decreaseStock(1, 1)).thenReturn(0);
+		when(productRepository.increaseStock(1, 2)).thenReturn(1);
+
+		assertThrows(ProductOutOfStockException.class, () -> stockService.decreaseStocks(Map.of(1, 1)));
+		stockService.increaseStock(1, 2);
+
+		assertFalse(stockService.isSoldOut(1));
+	}
+
+	@Test
+	@DisplayName("사전 확인을 끄면 품절을 기록하지 않음")
+	void testSoldOutPrecheckDisabled() {
+		StockService stockService = new StockService(productRepository, false, 5000);
+
+		when(productRepository.decreaseStock(1, 1)).thenReturn(0);
+
+		assertThrows(ProductOutOfStockException.class, () -> stockService.decreaseStocks(Map.of(1, 1)));
+		assertFalse(stockService.isSoldOut(1));
+	}
+}
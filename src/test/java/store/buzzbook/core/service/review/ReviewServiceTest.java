@@ -138,7 +138,7 @@ class ReviewServiceTest {
 	@Test
 	@DisplayName("getReview")
 	void testGetReview() {
-		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail);
+		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail, null);
 		when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
 		when(orderDetail.getOrder()).thenReturn(order);
 		when(order.getUser()).thenReturn(testUser);
@@ -167,7 +167,7 @@ class ReviewServiceTest {
 	@Test
 	@DisplayName("getReviewByOrderDetailId")
 	void testGetReviewByOrderDetailId() {
-		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail);
+		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail, null);
 		when(reviewRepository.findByOrderDetailId(orderDetailId)).thenReturn(testReview);
 		when(orderDetail.getOrder()).thenReturn(order);
 		when(orderDetail.getProduct()).thenReturn(product);
@@ -283,7 +283,7 @@ class ReviewServiceTest {
 	@DisplayName("update review")
 	void testUpdateReview() {
 		LocalDateTime timestamp = LocalDateTime.now();
-		Review updateTestReview = new Review(2, "리뷰 수정 내용", null, 10, timestamp, orderDetail1);
+		Review updateTestReview = new Review(2, "리뷰 수정 내용", null, 10, timestamp, orderDetail1, null);
 		ReviewRequest updateReq = new ReviewRequest("수정 할 내용", 1, 321L);
 		when(orderDetail1.getId()).thenReturn(321L);
 		when(orderDetail1.getProduct()).thenReturn(product);
@@ -313,8 +313,8 @@ class ReviewServiceTest {
 	@DisplayName("constructorReviewResponse - with user data")
 	void testConstructorReviewResponse() {
 		User testUser1 = new User(123L, List.of(), "로그인 아이디", "연락처", "이름", "이메일주소", "비밀번호", LocalDate.now(),
-			LocalDateTime.now(), LocalDateTime.now(), UserStatus.ACTIVE, LocalDateTime.now(), false);
-		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail);
+			LocalDateTime.now(), LocalDateTime.now(), UserStatus.ACTIVE, LocalDateTime.now(), false, null, null);
+		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail, null);
 
 		when(orderDetail.getProduct()).thenReturn(product);
 		when(product.getId()).thenReturn(productId);
@@ -337,7 +337,7 @@ class ReviewServiceTest {
 
 		List<String> pathList = List.of("/test path1", "/test path2", "/test third path");
 
-		Review testReview = new Review(2, testContent, paths, testScore, reviewCreateAt, orderDetail);
+		Review testReview = new Review(2, testContent, paths, testScore, reviewCreateAt, orderDetail, null);
 
 		when(testUser.getId()).thenReturn(1L);
 		when(testUser.getName()).thenReturn("test user");
@@ -356,7 +356,7 @@ class ReviewServiceTest {
 	@Test
 	@DisplayName("constructorReviewResponse - only review data")
 	void testConstructorReviewResponseOnlyReview() {
-		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail);
+		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail, null);
 		when(orderDetail.getOrder()).thenReturn(order);
 		when(orderDetail.getProduct()).thenReturn(product);
 		when(product.getId()).thenReturn(productId);
@@ -373,7 +373,7 @@ class ReviewServiceTest {
 	@Test
 	@DisplayName("constructorReviewResponse - only review data - not found user")
 	void testConstructorReviewResponseNoUser() {
-		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail);
+		Review testReview = new Review(2, testContent, null, testScore, reviewCreateAt, orderDetail, null);
 		when(orderDetail.getOrder()).thenReturn(order);
 		when(order.getUser()).thenReturn(testUser);
 		when(testUser.getId()).thenReturn(1L);
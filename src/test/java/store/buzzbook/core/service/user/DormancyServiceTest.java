@@ -0,0 +1,148 @@
+package store.buzzbook.core.service.user;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.service.JobLockService;
+import store.buzzbook.core.common.service.impl.JobLockServiceImpl;
+import store.buzzbook.core.dto.user.DormancyResult;
+import store.buzzbook.core.repository.common.JobLockRepository;
+import store.buzzbook.core.repository.user.UserRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DormancyServiceTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JobLockRepository jobLockRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UserRepository repository;
+	private JobLockService jobLockService;
+	private SimpleMeterRegistry meterRegistry;
+	private DormancyService dormancyService;
+	private LocalDateTime inactiveBefore;
+
+	@BeforeEach
+	void setUp() {
+		// 읽은 뒤의 로그인을 흉내 낼 수 있도록 실제 저장소에 위임하는 목으로 감쌈
+		repository = mock(UserRepository.class, AdditionalAnswers.delegatesTo(userRepository));
+		jobLockService = new JobLockServiceImpl(jobLockRepository, transactionManager);
+		meterRegistry = new SimpleMeterRegistry();
+		dormancyService = new DormancyService(repository, jobLockService, transactionManager, meterRegistry, 365, 2,
+			10);
+		inactiveBefore = LocalDateTime.now().minusYears(1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jobLockRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("기준 시각 전에 마지막으로 로그인했거나 로그인 없이 가입한 활성 회원만 휴면으로 바꿈")
+	void testSweep() {
+		LocalDateTime old = inactiveBefore.minusDays(10);
+		// 같은 마지막 로그인 일시가 청크 경계에 걸쳐도 빠지지 않아야 함
+		insertUser(1L, "ACTIVE", old, old);
+		insertUser(2L, "ACTIVE", old, old);
+		insertUser(3L, "ACTIVE", old, old);
+		insertUser(4L, "ACTIVE", old.plusDays(1), old);
+		insertUser(5L, "ACTIVE", LocalDateTime.now().minusDays(1), old);
+		insertUser(6L, "WITHDRAW", old, old);
+		insertUser(7L, "ACTIVE", null, old);
+		insertUser(8L, "ACTIVE", null, LocalDateTime.now().minusDays(1));
+
+		DormancyResult result = dormancyService.sweep(inactiveBefore);
+
+		assertTrue(result.locked());
+		assertEquals(5, result.scanned());
+		assertEquals(5, result.dormantUsers());
+		assertEquals(List.of(1L, 2L, 3L, 4L, 7L), jdbcTemplate.queryForList(
+			"SELECT id FROM `user` WHERE status = 'DORMANT' ORDER BY id", Long.class));
+		assertEquals("WITHDRAW", jdbcTemplate.queryForObject("SELECT status FROM `user` WHERE id = 6", String.class));
+		assertEquals(5, meterRegistry.counter("user.dormancy.users", "result", "dormant").count());
+		assertEquals(1, meterRegistry.timer("user.dormancy.run").count());
+		// 끝나면 잠금을 반납해 바로 다시 잡을 수 있음
+		assertTrue(jobLockService.tryLock(DormancyService.LOCK_NAME, Duration.ofMinutes(10)).isPresent());
+	}
+
+	@Test
+	@DisplayName("읽은 뒤 로그인한 회원은 휴면으로 바꾸지 않음")
+	void testSweepSkipsUserLoggedInAfterRead() {
+		LocalDateTime old = inactiveBefore.minusDays(10);
+		insertUser(1L, "ACTIVE", old, old);
+		insertUser(2L, "ACTIVE", old, old);
+		doAnswer(invocation -> {
+			jdbcTemplate.update("UPDATE `user` SET last_login_at = ? WHERE id = 2",
+				Timestamp.valueOf(LocalDateTime.now()));
+			return userRepository.markDormant(invocation.getArgument(0), invocation.getArgument(1));
+		}).when(repository).markDormant(anyList(), any());
+
+		DormancyResult result = dormancyService.sweep(inactiveBefore);
+
+		assertEquals(2, result.scanned());
+		assertEquals(1, result.dormantUsers());
+		assertEquals("ACTIVE", jdbcTemplate.queryForObject("SELECT status FROM `user` WHERE id = 2", String.class));
+	}
+
+	@Test
+	@DisplayName("다른 실행이 작업 잠금을 잡고 있으면 휴면 전환하지 않음")
+	void testSweepSkipsWhenLocked() {
+		LocalDateTime old = inactiveBefore.minusDays(10);
+		insertUser(1L, "ACTIVE", old, old);
+		JobLockService other = new JobLockServiceImpl(jobLockRepository, transactionManager);
+		String token = other.tryLock(DormancyService.LOCK_NAME, Duration.ofMinutes(10)).orElseThrow();
+
+		DormancyResult result = dormancyService.sweep(inactiveBefore);
+
+		assertFalse(result.locked());
+		verify(repository, never()).findDormancyCandidates(any(), any(), anyLong(), anyInt());
+		assertEquals("ACTIVE", jdbcTemplate.queryForObject("SELECT status FROM `user` WHERE id = 1", String.class));
+		// 잡고 있던 실행의 잠금은 그대로 남음
+		assertTrue(other.renew(DormancyService.LOCK_NAME, token, Duration.ofMinutes(10)));
+	}
+
+	private void insertUser(long userId, String status, LocalDateTime lastLoginAt, LocalDateTime createdAt) {
+		jdbcTemplate.update("INSERT INTO `user` (id, login_id, contact_number, name, email, password, birthday, "
+				+ "created_at, last_login_at, status, modify_at, is_admin) VALUES (?, ?, '010-0000-1111', 'test', ?, "
+				+ "'password', '2000-01-01', ?, ?, ?, ?, false)", userId, "dormancy" + userId,
+			"dormancy" + userId + "@nhn.com", Timestamp.valueOf(createdAt),
+			lastLoginAt == null ? null : Timestamp.valueOf(lastLoginAt), status, Timestamp.valueOf(createdAt));
+	}
+}
@@ -0,0 +1,261 @@
+package store.buzzbook.core.service.user;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import store.buzzbook.core.common.config.QuerydslConfig;
+import store.buzzbook.core.common.service.JobLockService;
+import store.buzzbook.core.common.service.impl.JobLockServiceImpl;
+import store.buzzbook.core.dto.user.GradeRecalculationResult;
+import store.buzzbook.core.entity.order.Order;
+import store.buzzbook.core.entity.order.OrderArchive;
+import store.buzzbook.core.entity.order.OrderStatus;
+import store.buzzbook.core.entity.payment.BillLog;
+import store.buzzbook.core.entity.payment.BillStatus;
+import store.buzzbook.core.entity.user.Grade;
+import store.buzzbook.core.entity.user.GradeName;
+import store.buzzbook.core.entity.user.User;
+import store.buzzbook.core.repository.common.JobLockRepository;
+import store.buzzbook.core.repository.order.OrderArchiveRepository;
+import store.buzzbook.core.repository.order.OrderRepository;
+import store.buzzbook.core.repository.order.OrderStatusRepository;
+import store.buzzbook.core.repository.payment.BillLogRepository;
+import store.buzzbook.core.repository.user.GradeLogRepository;
+import store.buzzbook.core.repository.user.GradeRepository;
+import store.buzzbook.core.repository.user.UserRepository;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GradeRecalculationServiceTest {
+
+	@Autowired
+	private GradeLogRepository gradeLogRepository;
+
+	@Autowired
+	private GradeRepository gradeRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private OrderStatusRepository orderStatusRepository;
+
+	@Autowired
+	private OrderArchiveRepository orderArchiveRepository;
+
+	@Autowired
+	private BillLogRepository billLogRepository;
+
+	@Autowired
+	private JobLockRepository jobLockRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final UserInfoCache userInfoCache = mock(UserInfoCache.class);
+	private GradeRecalculationService gradeRecalculationService;
+	private LocalDateTime paidFrom;
+	private OrderStatus orderStatus;
+	private int normal;
+	private int gold;
+	private int platinum;
+	private int nextOrder = 1;
+
+	@BeforeEach
+	void setUp() {
+		normal = saveGrade(GradeName.NORMAL, 0, 0.01);
+		platinum = saveGrade(GradeName.PLATINUM, 300000, 0.05);
+		gold = saveGrade(GradeName.GOLD, 100000, 0.03);
+		orderStatus = orderStatusRepository.save(
+			OrderStatus.builder().name("PAID").updateAt(LocalDateTime.now()).build());
+
+		gradeRecalculationService = new GradeRecalculationService(gradeLogRepository, gradeRepository,
+			new JobLockServiceImpl(jobLockRepository, transactionManager), userInfoCache, transactionManager, 3, 2,
+			10);
+		paidFrom = LocalDateTime.now().minusMonths(3);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM bill_log_archive");
+		jobLockRepository.deleteAll();
+		orderArchiveRepository.deleteAll();
+		billLogRepository.deleteAll();
+		orderRepository.deleteAll();
+		orderStatusRepository.deleteAll();
+		gradeLogRepository.deleteAll();
+		userRepository.deleteAll();
+		gradeRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("주문별 순결제 금액에서 배송비를 빼고 보관분까지 더해, 등급이 바뀐 회원만 등급 내역을 남김")
+	void testRecalculate() {
+		for (long userId = 1; userId <= 5; userId++) {
+			insertUser(userId, userId == 4 ? "WITHDRAW" : "ACTIVE");
+			insertGradeLog(userId, normal);
+		}
+		// 1: 120,000 결제 - 배송비 3,000 → GOLD
+		saveBill(saveOrder(1L, 3000), BillStatus.DONE, 123000, "간편결제", 1);
+		// 2: 350,000 결제 후 60,000 부분 취소 → GOLD, 보관 주문 20,000 더해 310,000 → PLATINUM
+		Order partial = saveOrder(2L, 0);
+		saveBill(partial, BillStatus.DONE, 350000, "신용카드", 1);
+		saveBill(partial, BillStatus.PARTIAL_CANCELED, 60000, "신용카드", 1);
+		long archived = saveArchivedOrder(1000L, 2L, 0);
+		insertArchivedBill(1000L, archived, BillStatus.DONE, 20000, "POINT", 1);
+		// 3: 기간 전 결제와 쿠폰 결제는 빼고, 전액 반품은 배송비를 빼도 음수로 두지 않음 → NORMAL 그대로
+		saveBill(saveOrder(3L, 3000), BillStatus.DONE, 500000, "간편결제", 4);
+		saveBill(saveOrder(3L, 3000), BillStatus.DONE, 200000, "COUPON-CODE", 1);
+		Order refunded = saveOrder(3L, 3000);
+		saveBill(refunded, BillStatus.DONE, 10000, "POINT", 1);
+		saveBill(refunded, BillStatus.REFUND, 10000, "POINT", 1);
+		// 5: 지난번 GOLD 였지만 결제가 없어 NORMAL
+		insertGradeLog(5L, gold);
+		// 6: 등급 포인터가 없던 회원은 포인터를 채움
+		insertUser(6L, "ACTIVE");
+
+		GradeRecalculationResult result = gradeRecalculationService.recalculate(paidFrom);
+
+		assertTrue(result.locked());
+		assertEquals(5, result.users());
+		assertEquals(4, result.changedUsers());
+		assertEquals(Map.of(1L, gold, 2L, platinum, 3L, normal, 4L, normal, 5L, normal, 6L, normal),
+			currentGradeIds());
+		assertEquals(10, gradeLogRepository.count());
+		verify(userInfoCache).evict(List.of(1L, 2L));
+		verify(userInfoCache).evict(List.of(5L));
+		verify(userInfoCache).evict(List.of(6L));
+	}
+
+	@Test
+	@DisplayName("다시 돌려도 등급이 그대로면 등급 내역을 남기지 않음")
+	void testRecalculateIsIdempotent() {
+		insertUser(1L, "ACTIVE");
+		insertGradeLog(1L, normal);
+		saveBill(saveOrder(1L, 0), BillStatus.DONE, 100000, "간편결제", 1);
+
+		assertEquals(1, gradeRecalculationService.recalculate(paidFrom).changedUsers());
+		assertEquals(0, gradeRecalculationService.recalculate(paidFrom).changedUsers());
+		assertEquals(gold, currentGradeIds().get(1L));
+	}
+
+	@Test
+	@DisplayName("다른 실행이 작업 잠금을 잡고 있으면 재산정하지 않고, 끝난 실행은 잠금을 반납함")
+	void testRecalculateSkipsWhenLocked() {
+		insertUser(1L, "ACTIVE");
+		insertGradeLog(1L, normal);
+		saveBill(saveOrder(1L, 0), BillStatus.DONE, 100000, "간편결제", 1);
+		JobLockService otherServer = new JobLockServiceImpl(jobLockRepository, transactionManager);
+		String token = otherServer.tryLock(GradeRecalculationService.LOCK_NAME, Duration.ofMinutes(10))
+			.orElseThrow();
+
+		GradeRecalculationResult result = gradeRecalculationService.recalculate(paidFrom);
+
+		assertFalse(result.locked());
+		assertEquals(normal, currentGradeIds().get(1L));
+		assertEquals(token, jobLockRepository.findById(GradeRecalculationService.LOCK_NAME).orElseThrow().getOwner());
+
+		otherServer.unlock(GradeRecalculationService.LOCK_NAME, token);
+		assertTrue(gradeRecalculationService.recalculate(paidFrom).locked());
+		assertTrue(otherServer.tryLock(GradeRecalculationService.LOCK_NAME, Duration.ofMinutes(10)).isPresent());
+	}
+
+	private Map<Long, Integer> currentGradeIds() {
+		return gradeLogRepository.findCurrentGradeIds(0, Long.MAX_VALUE);
+	}
+
+	private int saveGrade(GradeName name, int standard, double benefit) {
+		return gradeRepository.save(Grade.builder().name(name).standard(standard).benefit(benefit).build()).getId();
+	}
+
+	private void insertUser(long userId, String status) {
+		Timestamp joined = Timestamp.valueOf(LocalDateTime.now().minusYears(1));
+		jdbcTemplate.update("INSERT INTO `user` (id, login_id, contact_number, name, email, password, birthday, "
+			+ "created_at, status, modify_at, is_admin) VALUES (?, ?, '010-0000-1111', 'test', ?, 'password', "
+			+ "'2000-01-01', ?, ?, ?, false)", userId, "graded" + userId, "user" + userId + "@nhn.com", joined,
+			status, joined);
+	}
+
+	private void insertGradeLog(long userId, int gradeId) {
+		jdbcTemplate.update("INSERT INTO grade_log (change_at, grade_id, user_id) VALUES (?, ?, ?)",
+			Timestamp.valueOf(LocalDateTime.now().minusMonths(1)), gradeId, userId);
+		jdbcTemplate.update("UPDATE `user` SET grade_id = ? WHERE id = ?", gradeId, userId);
+	}
+
+	private Order saveOrder(long userId, int deliveryRate) {
+		return orderRepository.save(Order.builder()
+			.orderStr("order-" + nextOrder++)
+			.price(10000)
+			.address("address")
+			.addressDetail("detail")
+			.zipcode(12345)
+			.desiredDeliveryDate(LocalDate.now())
+			.receiver("receiver")
+			.user(User.builder().id(userId).build())
+			.sender("sender")
+			.senderContactNumber("010-0000-0000")
+			.receiverContactNumber("010-0000-0000")
+			.deliveryRate(deliveryRate)
+			.orderStatus(orderStatus)
+			.build());
+	}
+
+	private long saveArchivedOrder(long orderId, long userId, int deliveryRate) {
+		return orderArchiveRepository.save(OrderArchive.builder()
+			.orderId(orderId)
+			.orderStr("archived-" + orderId)
+			.userId(userId)
+			.deliveryRate(deliveryRate)
+			.desiredDeliveryDate(LocalDate.now().minusYears(1))
+			.document("{}")
+			.archivedAt(LocalDateTime.now())
+			.build()).getOrderId();
+	}
+
+	private void saveBill(Order order, BillStatus status, int price, String payment, int monthsAgo) {
+		billLogRepository.save(BillLog.builder()
+			.order(order)
+			.status(status)
+			.price(price)
+			.payment(payment)
+			.payAt(LocalDateTime.now().minusMonths(monthsAgo))
+			.build());
+	}
+
+	private void insertArchivedBill(long billId, long orderId, BillStatus status, int price, String payment,
+		int monthsAgo) {
+		jdbcTemplate.update("INSERT INTO bill_log_archive (id, order_id, status, price, payment, pay_at, archived_at) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?)", billId, orderId, status.name(), price, payment,
+			Timestamp.valueOf(LocalDateTime.now().minusMonths(monthsAgo)), Timestamp.valueOf(LocalDateTime.now()));
+	}
+}
@@ -11,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.dto.user.GradeInfoResponse;
 import store.buzzbook.core.entity.user.Grade;
 import store.buzzbook.core.entity.user.GradeName;
@@ -26,6 +27,9 @@ public class GradeServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private ReferenceDataRegistry referenceDataRegistry;
+
 	@InjectMocks
 	private GradeServiceImpl gradeService;
 
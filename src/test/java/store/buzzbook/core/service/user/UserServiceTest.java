@@ -27,6 +27,7 @@ import store.buzzbook.core.common.exception.user.PasswordIncorrectException;
 import store.buzzbook.core.common.exception.user.UnEncryptedPasswordException;
 import store.buzzbook.core.common.exception.user.UserAlreadyExistsException;
 import store.buzzbook.core.common.exception.user.UserNotFoundException;
+import store.buzzbook.core.common.service.ReferenceDataRegistry;
 import store.buzzbook.core.common.service.UserProducerService;
 import store.buzzbook.core.dto.user.ChangePasswordRequest;
 import store.buzzbook.core.dto.user.DeactivateUserRequest;
@@ -44,12 +45,14 @@ import store.buzzbook.core.entity.user.Grade;
 import store.buzzbook.core.entity.user.GradeName;
 import store.buzzbook.core.entity.user.User;
 import store.buzzbook.core.entity.user.UserStatus;
+import store.buzzbook.core.repository.point.PointBalanceRepository;
 import store.buzzbook.core.repository.point.PointLogRepository;
 import store.buzzbook.core.repository.point.PointPolicyRepository;
 import store.buzzbook.core.repository.user.DeactivationRepository;
 import store.buzzbook.core.repository.user.GradeLogRepository;
 import store.buzzbook.core.repository.user.GradeRepository;
 import store.buzzbook.core.repository.user.UserRepository;
+import store.buzzbook.core.repository.user.UserRepositoryCustom.UserWithPoint;
 import store.buzzbook.core.service.user.implement.UserServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,7 +70,13 @@ class UserServiceTest {
 	@Spy
 	private PointLogRepository pointLogRepository;
 	@Mock
+	private PointBalanceRepository pointBalanceRepository;
+	@Mock
 	private PointPolicyRepository pointPolicyRepository;
+	@Mock
+	private ReferenceDataRegistry referenceDataRegistry;
+	@Mock
+	private UserInfoCache userInfoCache;
 	@Spy
 	private User user;
 
@@ -219,12 +228,12 @@ class UserServiceTest {
 	@Test
 	@DisplayName("로그인 성공 처리")
 	void testSuccessLogin() {
-		Mockito.when(userRepository.findByLoginId(Mockito.anyString())).thenAnswer(
+		Mockito.when(userRepository.findWithPointByLoginId(Mockito.anyString())).thenAnswer(
 			invocation -> {
 				String loginId = (String)invocation.getArguments()[0];
 
 				if (loginId.equals(registerUserRequest.loginId())) {
-					return Optional.of(convertToUser(registerUserRequest));
+					return Optional.of(new UserWithPoint(convertToUser(registerUserRequest), 0));
 				}
 
 				return Optional.empty();
@@ -259,12 +268,12 @@ class UserServiceTest {
 	@Test
 	@DisplayName("로그인 성공 처리 중 회원 찾기 실패")
 	void testSuccessLoginShouldThrowUserNotFoundException() {
-		Mockito.when(userRepository.findByLoginId(Mockito.anyString())).thenAnswer(
+		Mockito.when(userRepository.findWithPointByLoginId(Mockito.anyString())).thenAnswer(
 			invocation -> {
 				String loginId = (String)invocation.getArguments()[0];
 
 				if (loginId.equals("registerUserRequest.loginId()")) {
-					return Optional.of(convertToUser(registerUserRequest));
+					return Optional.of(new UserWithPoint(convertToUser(registerUserRequest), 0));
 				}
 
 				return Optional.empty();
@@ -291,12 +300,12 @@ class UserServiceTest {
 			.isAdmin(false)
 			.build();
 
-		Mockito.when(userRepository.findByLoginId(Mockito.anyString())).thenAnswer(
+		Mockito.when(userRepository.findWithPointByLoginId(Mockito.anyString())).thenAnswer(
 			invocation -> {
 				String loginId = (String)invocation.getArguments()[0];
 
 				if (loginId.equals(dormantUser.getLoginId())) {
-					return Optional.of(dormantUser);
+					return Optional.of(new UserWithPoint(dormantUser, 0));
 				}
 
 				return Optional.empty();
@@ -311,12 +320,12 @@ class UserServiceTest {
 	@Test
 	@DisplayName("로그인 성공 처리 중 포인트로그 추가")
 	void testSuccessLoginWithPointLog() {
-		Mockito.when(userRepository.findByLoginId(Mockito.anyString())).thenAnswer(
+		Mockito.when(userRepository.findWithPointByLoginId(Mockito.anyString())).thenAnswer(
 			invocation -> {
 				String loginId = (String)invocation.getArguments()[0];
 
 				if (loginId.equals(registerUserRequest.loginId())) {
-					return Optional.of(convertToUser(registerUserRequest));
+					return Optional.of(new UserWithPoint(convertToUser(registerUserRequest), 100));
 				}
 
 				return Optional.empty();
@@ -342,8 +351,6 @@ class UserServiceTest {
 			.inquiry("출석")
 			.balance(100).build();
 
-		Mockito.when(pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(Mockito.anyLong())).thenReturn(pointLog);
-
 		UserInfo result = userService.successLogin(user.getLoginId());
 
 		Assertions.assertNotNull(result);
@@ -354,12 +361,12 @@ class UserServiceTest {
 	@Test
 	@DisplayName("로그인 성공 처리 중 등급 찾기 실패")
 	void testSuccessLoginShouldThrowGradeNotFoundException() {
-		Mockito.when(userRepository.findByLoginId(Mockito.anyString())).thenAnswer(
+		Mockito.when(userRepository.findWithPointByLoginId(Mockito.anyString())).thenAnswer(
 			invocation -> {
 				String loginId = (String)invocation.getArguments()[0];
 
 				if (loginId.equals(registerUserRequest.loginId())) {
-					return Optional.of(convertToUser(registerUserRequest));
+					return Optional.of(new UserWithPoint(convertToUser(registerUserRequest), 0));
 				}
 
 				return Optional.empty();
@@ -591,7 +598,7 @@ class UserServiceTest {
 			.inquiry("출석")
 			.balance(100).build();
 
-		Mockito.when(pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(Mockito.anyLong())).thenReturn(pointLog);
+		Mockito.when(pointBalanceRepository.findBalance(Mockito.anyLong())).thenReturn(pointLog.getBalance());
 
 		UserInfo result = userService.getUserInfoByUserId(user.getId());
 		Assertions.assertNotNull(result);
@@ -636,7 +643,7 @@ class UserServiceTest {
 			}
 		);
 
-		Mockito.when(pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(Mockito.anyLong())).thenReturn(null);
+		Mockito.when(pointBalanceRepository.findBalance(Mockito.anyLong())).thenReturn(0);
 
 		UserInfo result = userService.getUserInfoByUserId(user.getId());
 		Assertions.assertNotNull(result);
@@ -728,7 +735,7 @@ class UserServiceTest {
 			.inquiry("출석")
 			.balance(100).build();
 
-		Mockito.when(pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(Mockito.anyLong())).thenReturn(pointLog);
+		Mockito.when(pointBalanceRepository.findBalance(Mockito.anyLong())).thenReturn(pointLog.getBalance());
 
 		UserInfo result = userService.getUserInfoByLoginId(user.getLoginId());
 		Assertions.assertNotNull(result);
@@ -773,7 +780,7 @@ class UserServiceTest {
 			}
 		);
 
-		Mockito.when(pointLogRepository.findFirstByUserIdOrderByCreatedAtDesc(Mockito.anyLong())).thenReturn(null);
+		Mockito.when(pointBalanceRepository.findBalance(Mockito.anyLong())).thenReturn(0);
 
 		UserInfo result = userService.getUserInfoByLoginId(user.getLoginId());
 		Assertions.assertNotNull(result);
@@ -842,6 +849,50 @@ class UserServiceTest {
 			() -> userService.getUserInfoByLoginId(user.getLoginId()));
 	}
 
+	@Test
+	@DisplayName("등급 포인터가 있으면 등급 내역을 읽지 않고 로그인 후 회원 정보를 캐시")
+	void testSuccessLoginWithGradePointer() {
+		User gradedUser = convertToUser(registerUserRequest);
+		gradedUser.changeGrade(grade);
+		Mockito.when(userRepository.findWithPointByLoginId(registerUserRequest.loginId()))
+			.thenReturn(Optional.of(new UserWithPoint(gradedUser, 300)));
+		Mockito.when(referenceDataRegistry.getGrade(grade.getId())).thenReturn(Optional.of(grade));
+
+		UserInfo result = userService.successLogin(registerUserRequest.loginId());
+
+		Assertions.assertEquals(grade.getName().name(), result.grade().name());
+		Assertions.assertEquals(300, result.point());
+		Assertions.assertNotNull(gradedUser.getLastLoginAt());
+		Mockito.verify(userRepository, Mockito.never()).findGradeByLoginId(Mockito.any());
+		Mockito.verify(pointBalanceRepository, Mockito.never()).findBalance(Mockito.anyLong());
+		Mockito.verify(userInfoCache).put(result);
+	}
+
+	@Test
+	@DisplayName("캐시된 회원 정보가 있으면 포인트만 읽음")
+	void testGetUserInfoByLoginIdFromCache() {
+		UserInfo cached = user.toUserInfo(grade, null);
+		Mockito.when(userInfoCache.get(user.getLoginId())).thenReturn(Optional.of(cached));
+		Mockito.when(pointBalanceRepository.findBalance(user.getId())).thenReturn(500);
+
+		UserInfo result = userService.getUserInfoByLoginId(user.getLoginId());
+
+		Assertions.assertEquals(cached.withPoint(500), result);
+		Mockito.verify(userRepository, Mockito.never()).findByLoginId(Mockito.any());
+		Mockito.verify(userRepository, Mockito.never()).findGradeByLoginId(Mockito.any());
+	}
+
+	@Test
+	@DisplayName("계정 수정 후 캐시된 회원 정보를 지움")
+	void testUpdateUserInfoEvictsCache() {
+		Mockito.when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+		userService.updateUserInfo(user.getId(),
+			new UpdateUserRequest("changed", "010-1111-2222", "changed@nhn.com"));
+
+		Mockito.verify(userInfoCache).evict(user.getId());
+	}
+
 	@Test
 	@DisplayName("비밀번호 변경 성공")
 	void testUpdatePassword() {